@@ -0,0 +1,100 @@
+package cyclops.async;
+
+import com.oath.cyclops.react.threads.ExecutorProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latency of a FutureStream pipeline whose stages block, simulating I/O with a fixed pause per task, for each
+ * Executor backend at increasing MaxActive limits.
+ *
+ * The platform thread pools are sized to the available processors (forkJoin) or to maxActive (fixed). The virtual
+ * backend starts a virtual thread per task (on JVMs without virtual threads it falls back to a cached thread pool),
+ * so only MaxActive limits the blocking tasks in flight.
+ */
+@State(Scope.Benchmark)
+public class BlockingIOFutureStream {
+
+    static final int TASKS = 1000;
+    static final long IO_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"forkJoin","fixed","virtual"})
+    String executor;
+
+    @Param({"10","100","1000"})
+    int maxActive;
+
+    Executor tasks;
+    LazyReact react;
+
+    @Setup
+    public void setup(){
+        switch(executor){
+            case "forkJoin":
+                tasks = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                break;
+            case "fixed":
+                tasks = Executors.newFixedThreadPool(maxActive);
+                break;
+            case "virtual":
+                tasks = ExecutorProvider.virtualThreads().create(maxActive);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown executor " + executor);
+        }
+        react = new LazyReact(maxActive,tasks);
+    }
+
+    @TearDown
+    public void tearDown(){
+        if(tasks instanceof ExecutorService)
+            ((ExecutorService)tasks).shutdownNow();
+    }
+
+    private static Integer io(Integer value){
+        LockSupport.parkNanos(IO_NANOS);
+        return value;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void singleBlockingStage(Blackhole bh){
+        bh.consume(react.range(0,TASKS)
+                        .map(BlockingIOFutureStream::io)
+                        .toList());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void threeBlockingStages(Blackhole bh){
+        bh.consume(react.range(0,TASKS)
+                        .map(BlockingIOFutureStream::io)
+                        .map(i->i*2)
+                        .map(BlockingIOFutureStream::io)
+                        .map(BlockingIOFutureStream::io)
+                        .reduce(0,Integer::sum));
+    }
+}
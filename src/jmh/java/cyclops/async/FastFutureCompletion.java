@@ -0,0 +1,81 @@
+package cyclops.async;
+
+import com.oath.cyclops.internal.react.async.future.FastFuture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency percentiles (SampleTime) of joining a future that is completed on another thread, with more joining threads
+ * than cores so waiting threads compete with the completing threads for CPU. CompletableFuture is the baseline.
+ *
+ * The completing pool is sized to the available processors, and every benchmark thread hands it one task and joins
+ * the result.
+ */
+@State(Scope.Benchmark)
+public class FastFutureCompletion {
+
+    ExecutorService completers;
+
+    @Setup
+    public void setup(){
+        completers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown(){
+        completers.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    @Threads(16)
+    public Integer fastFutureJoin(){
+        FastFuture<Integer> future = new FastFuture<>();
+        completers.execute(()->future.set(42));
+        return future.join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    @Threads(16)
+    public Integer completableFutureJoin(){
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        completers.execute(()->future.complete(42));
+        return future.join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    @Threads(16)
+    public Integer fastFutureAlreadyComplete(){
+        return FastFuture.completedFuture(42).join();
+    }
+}
@@ -0,0 +1,150 @@
+package cyclops.async;
+
+import cyclops.async.adapters.MulticastRingBuffer;
+import cyclops.async.adapters.Queue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips of a batch of elements through each of the QueueFactories variants, offering and reading one element
+ * at a time (offer / get) against the batch APIs (offerAll / drainTo).
+ *
+ * Every benchmark writes a whole batch and then reads it back on the same thread, so the bounded queues never fill
+ * and no WaitStrategy ever waits. The multicast ring buffer has a single subscriber.
+ */
+@State(Scope.Thread)
+public class QueueBatchThroughput {
+
+    static final int CAPACITY = 1024;
+
+    @Param({"1","16","256"})
+    int batch;
+
+    @Param({"boundedQueue","unboundedQueue","unboundedNonBlockingQueue","boundedNonBlockingQueue","singleWriterboundedNonBlockingQueue","multicastRingBuffer"})
+    String type;
+
+    List<Integer> values;
+    List<Integer> drained;
+    Channel channel;
+
+    @Setup
+    public void setup(){
+        values = new ArrayList<>(batch);
+        for(int i=0;i<batch;i++){
+            values.add(i);
+        }
+        drained = new ArrayList<>(batch);
+        channel = channel(type);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void perElement(Blackhole bh){
+        for(Integer next : values){
+            channel.offer(next);
+        }
+        Queue<Integer> queue = channel.consumer();
+        for(int i=0;i<batch;i++){
+            bh.consume(queue.get());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void batched(Blackhole bh){
+        channel.offerAll(values);
+        drained.clear();
+        channel.consumer().drainTo(drained,batch);
+        bh.consume(drained);
+    }
+
+    /**
+     * The write side of each variant, with the async.Queue that reads what was written
+     */
+    interface Channel {
+        boolean offer(Integer value);
+        int offerAll(List<Integer> values);
+        Queue<Integer> consumer();
+    }
+
+    static Channel channel(String type){
+        switch(type){
+            case "boundedQueue":
+                return new QueueChannel(QueueFactories.<Integer>boundedQueue(CAPACITY).build());
+            case "unboundedQueue":
+                return new QueueChannel(QueueFactories.<Integer>unboundedQueue().build());
+            case "unboundedNonBlockingQueue":
+                return new QueueChannel(QueueFactories.<Integer>unboundedNonBlockingQueue().build());
+            case "boundedNonBlockingQueue":
+                return new QueueChannel(QueueFactories.<Integer>boundedNonBlockingQueue(CAPACITY).build());
+            case "singleWriterboundedNonBlockingQueue":
+                return new QueueChannel(QueueFactories.<Integer>singleWriterboundedNonBlockingQueue(CAPACITY).build());
+            case "multicastRingBuffer":
+                return new RingChannel(QueueFactories.multicastRingBuffer(CAPACITY));
+        }
+        throw new IllegalArgumentException("Unknown queue type " + type);
+    }
+
+    static class QueueChannel implements Channel {
+        final Queue<Integer> queue;
+
+        QueueChannel(Queue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        public boolean offer(Integer value){
+            return queue.offer(value);
+        }
+        public int offerAll(List<Integer> values){
+            return queue.offerAll(values);
+        }
+        public Queue<Integer> consumer(){
+            return queue;
+        }
+    }
+
+    static class RingChannel implements Channel {
+        final MulticastRingBuffer<Integer> ring;
+        final Queue<Integer> subscriber;
+
+        RingChannel(MulticastRingBuffer<Integer> ring) {
+            this.ring = ring;
+            this.subscriber = ring.build();
+        }
+
+        public boolean offer(Integer value){
+            return ring.offer(value);
+        }
+        public int offerAll(List<Integer> values){
+            int count = 0;
+            for(Integer next : values){
+                if(ring.offer(next))
+                    count++;
+            }
+            return count;
+        }
+        public Queue<Integer> consumer(){
+            return subscriber;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package cyclops.async;
+
+import cyclops.async.adapters.Queue;
+import cyclops.async.wait.WaitStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Round trip latency (SampleTime) of handing an element to an echo thread and back through a pair of async.Queues,
+ * for each WaitStrategy, with the CPU used by the echo thread while it waits printed at the end of each iteration.
+ *
+ * With a pause between round trips the echo thread spends most of its time waiting for data, which shows the CPU
+ * each strategy burns while idle. The pause is part of the measured time, so compare latencies within a pause value.
+ * direct blocks in a LinkedBlockingQueue, every other strategy waits on a ConcurrentLinkedQueue.
+ */
+@State(Scope.Thread)
+public class WaitStrategyLatency {
+
+    @Param({"direct","noWaitRetry","spin","yield","exponentialBackOff","adaptive","signalling"})
+    String strategy;
+
+    @Param({"0","50000"})
+    long pauseNanos;
+
+    Queue<Integer> requests;
+    Queue<Integer> responses;
+    Thread echo;
+
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    long cpuStart;
+    long wallStart;
+
+    @Setup
+    public void setup(){
+        requests = queue(strategy);
+        responses = queue(strategy);
+        echo = new Thread(()->requests.stream().forEach(responses::offer));
+        echo.setDaemon(true);
+        echo.start();
+    }
+
+    private static Queue<Integer> queue(String strategy){
+        if("direct".equals(strategy))
+            return new Queue<>(new LinkedBlockingQueue<>());
+        WaitStrategy<Integer> wait = strategy(strategy);
+        return new Queue<>(new ConcurrentLinkedQueue<>(),wait,wait);
+    }
+
+    private static WaitStrategy<Integer> strategy(String strategy){
+        switch(strategy){
+            case "noWaitRetry":
+                return WaitStrategy.noWaitRetry();
+            case "spin":
+                return WaitStrategy.spinWait();
+            case "yield":
+                return WaitStrategy.yieldWait();
+            case "exponentialBackOff":
+                return WaitStrategy.exponentialBackOff();
+            case "adaptive":
+                return WaitStrategy.adaptive();
+            case "signalling":
+                return WaitStrategy.signalling();
+            default:
+                throw new IllegalArgumentException("Unknown strategy " + strategy);
+        }
+    }
+
+    @TearDown
+    public void tearDown(){
+        requests.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startCpu(){
+        cpuStart = threads.getThreadCpuTime(echo.getId());
+        wallStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportCpu(){
+        long cpu = threads.getThreadCpuTime(echo.getId()) - cpuStart;
+        long wall = System.nanoTime() - wallStart;
+        System.out.printf("%n%s pause %dns : echo thread CPU %.1f%% of one core%n", strategy, pauseNanos, 100.0 * cpu / wall);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public Integer roundTrip(){
+        if(pauseNanos>0)
+            LockSupport.parkNanos(pauseNanos);
+        requests.offer(42);
+        return responses.get();
+    }
+}
@@ -0,0 +1,110 @@
+package cyclops.control;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and evaluating Eval pipelines: short map chains (the common case), deep left nested flatMap chains
+ * and Eval.tailRec loops. Run with -prof gc to compare allocation per evaluation.
+ */
+@State(Scope.Benchmark)
+public class EvalChains {
+
+    @Param({"10","1000","100000"})
+    int depth;
+
+    Eval<Integer> laterMaps;
+
+    @Setup
+    public void setup(){
+        Eval<Integer> eval = Eval.later(()->0);
+        for(int i=0;i<depth;i++){
+            eval = eval.map(x->x+1);
+        }
+        laterMaps = eval;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void alwaysMapChain(Blackhole bh){
+        Eval<Integer> eval = Eval.always(()->0);
+        for(int i=0;i<depth;i++){
+            eval = eval.map(x->x+1);
+        }
+        bh.consume(eval.get());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void laterMapChain(Blackhole bh){
+        Eval<Integer> eval = Eval.later(()->0);
+        for(int i=0;i<depth;i++){
+            eval = eval.map(x->x+1);
+        }
+        bh.consume(eval.get());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void laterMemoizedRead(Blackhole bh){
+        bh.consume(laterMaps.get());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void flatMapChain(Blackhole bh){
+        Eval<Integer> eval = Eval.now(0);
+        for(int i=0;i<depth;i++){
+            eval = eval.flatMap(x->Eval.now(x+1));
+        }
+        bh.consume(eval.get());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void tailRec(Blackhole bh){
+        bh.consume(Eval.tailRec(0,i->Eval.now(i<depth ? Either.left(i+1) : Either.right(i))).get());
+    }
+}
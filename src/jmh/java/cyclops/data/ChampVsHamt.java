@@ -0,0 +1,190 @@
+package cyclops.data;
+
+import cyclops.data.base.CHAMP;
+import cyclops.data.base.HAMT;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup, iteration, equality and insertion for the CHAMP node layout that backs HashMap and HashSet, against the
+ * previous HAMT node layout. Run main to print the JOL deep size of each trie (keys and values excluded), or run the
+ * benchmarks with the gc profiler (-prof gc) to compare bytes allocated per insertion.
+ */
+@State(Scope.Benchmark)
+public class ChampVsHamt {
+
+    @Param({"32","10000","1000000"})
+    int size;
+
+    Integer[] keys;
+    HAMT.Node<Integer,Integer> hamt;
+    HAMT.Node<Integer,Integer> hamtCopy;
+    CHAMP.Node<Integer,Integer> champ;
+    CHAMP.Node<Integer,Integer> champCopy;
+
+    @Setup
+    public void setup(){
+        keys = new Integer[size];
+        for(int i=0;i<size;i++){
+            keys[i] = i*31;
+        }
+        hamt = hamt(keys);
+        hamtCopy = hamt(keys);
+        champ = champ(keys);
+        champCopy = champ(keys);
+    }
+
+    static HAMT.Node<Integer,Integer> hamt(Integer[] keys){
+        HAMT.Node<Integer,Integer> node = HAMT.empty();
+        for(Integer next : keys){
+            node = node.put(next,next);
+        }
+        return node;
+    }
+
+    static CHAMP.Node<Integer,Integer> champ(Integer[] keys){
+        CHAMP.Node<Integer,Integer> node = CHAMP.empty();
+        for(Integer next : keys){
+            node = node.put(next,next);
+        }
+        return node;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hamtLookup(Blackhole bh){
+        for(Integer next : keys){
+            bh.consume(hamt.getOrElse(next,null));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champLookup(Blackhole bh){
+        for(Integer next : keys){
+            bh.consume(champ.getOrElse(next,null));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hamtIterate(Blackhole bh){
+        HAMT.NodeSpliterator<Integer,Integer> it = new HAMT.NodeSpliterator<>(hamt);
+        while(it.hasNext()){
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champIterate(Blackhole bh){
+        CHAMP.NodeSpliterator<Integer,Integer> it = new CHAMP.NodeSpliterator<>(champ);
+        while(it.hasNext()){
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hamtEquals(Blackhole bh){
+        bh.consume(hamt.equals(hamtCopy));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champEquals(Blackhole bh){
+        bh.consume(champ.equals(champCopy));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hamtPut(Blackhole bh){
+        bh.consume(hamt.put(-1,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champPut(Blackhole bh){
+        bh.consume(champ.put(-1,-1));
+    }
+
+    public static void main(String[] args){
+        for(int size : new int[]{32,10_000,1_000_000}){
+            Integer[] keys = new Integer[size];
+            for(int i=0;i<size;i++){
+                keys[i] = i*31;
+            }
+            GraphLayout elements = GraphLayout.parseInstance((Object[])keys);
+            long hamt = GraphLayout.parseInstance(hamt(keys)).subtract(elements).totalSize();
+            long champ = GraphLayout.parseInstance(champ(keys)).subtract(elements).totalSize();
+            System.out.println(String.format("%,10d entries : HAMT %,12d bytes, CHAMP %,12d bytes",size,hamt,champ));
+        }
+    }
+}
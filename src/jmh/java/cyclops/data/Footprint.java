@@ -0,0 +1,141 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Memory footprint of the persistent data types.
+ *
+ * Run the benchmarks with the gc profiler (-prof gc) and compare gc.alloc.rate.norm for bytes allocated per instance,
+ * or run main to print the JOL object sizes of a single instance (shallow) and the full object graph reachable from it (deep).
+ * Elements are shared Integers and are excluded from the deep size, the unboxed values of the primitive vectors are included.
+ */
+@State(Scope.Benchmark)
+public class Footprint {
+
+    static final Integer[] ELEMENTS = new Integer[32];
+    static {
+        for(int i=0;i<ELEMENTS.length;i++){
+            ELEMENTS[i]=i;
+        }
+    }
+
+    Vector<Integer> vector;
+    IntMap<Integer> intMap;
+    HashSet<Integer> hashSet;
+    HashMap<Integer,Integer> hashMap;
+
+    @Setup
+    public void setup(){
+        vector = Vector.of(ELEMENTS);
+        intMap = IntMap.of(ELEMENTS);
+        hashSet = HashSet.of(ELEMENTS);
+        hashMap = HashMap.empty();
+        for(Integer next : ELEMENTS){
+            hashMap = hashMap.put(next,next);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorPlus(Blackhole bh){
+        bh.consume(vector.plus(ELEMENTS[0]));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorPlusHashCode(Blackhole bh){
+        bh.consume(vector.plus(ELEMENTS[0]).hashCode());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void intMapPlus(Blackhole bh){
+        bh.consume(intMap.plus(ELEMENTS[0]));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hashSetPlusHashCode(Blackhole bh){
+        bh.consume(hashSet.plus(-1).hashCode());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hashMapPutHashCode(Blackhole bh){
+        bh.consume(hashMap.put(-1,-1).hashCode());
+    }
+
+    public static void main(String[] args){
+        report("Vector (empty)",()->Vector.empty());
+        report("Vector (1)",()->Vector.of(ELEMENTS[0]));
+        report("Vector (32)",()->Vector.of(ELEMENTS));
+        report("IntVector (32)",()->IntVector.range(0,32));
+        report("LongVector (32)",()->LongVector.range(0,32));
+        report("DoubleVector (32)",()->DoubleVector.fromStream(java.util.stream.DoubleStream.generate(()->1d).limit(32)));
+        report("IntMap (1)",()->IntMap.of(ELEMENTS[0]));
+        report("IntMap (32)",()->IntMap.of(ELEMENTS));
+        report("Seq (32)",()->Seq.of(ELEMENTS));
+        report("LazySeq (32)",()->LazySeq.of(ELEMENTS));
+        report("BankersQueue (32)",()->BankersQueue.of(ELEMENTS));
+        report("HashSet (32)",()->HashSet.of(ELEMENTS));
+        report("HashMap (32)",()->HashMap.fromStream(java.util.stream.Stream.of(ELEMENTS).map(i->cyclops.data.tuple.Tuple.tuple(i,i))));
+        report("TreeSet (32)",()->TreeSet.of(Comparators.naturalComparator(),ELEMENTS));
+        report("TrieSet (32)",()->TrieSet.of(ELEMENTS));
+    }
+
+    private static void report(String name, Supplier<Object> factory){
+        Object instance = factory.get();
+        instance.hashCode();
+        long shallow = ClassLayout.parseInstance(instance).instanceSize();
+        long deep = GraphLayout.parseInstance(instance)
+                               .subtract(GraphLayout.parseInstance((Object[])ELEMENTS))
+                               .totalSize();
+        System.out.println(String.format("%-20s shallow %5d bytes, deep %7d bytes",name,shallow,deep));
+    }
+}
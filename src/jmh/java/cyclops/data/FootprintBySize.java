@@ -0,0 +1,56 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deep memory footprint, in bytes per element, of each type covered by {@link SequenceOps}, {@link MapOps}
+ * and {@link SetOps}, built at increasing sizes with the same factories as the benchmarks.
+ *
+ * The element objects are shared by every type and are excluded. Sizes default to 10 .. 1M and can be passed as
+ * arguments (e.g. 10000000), but walking the object graph of a 10M element collection needs a large heap.
+ */
+public class FootprintBySize {
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length==0 ? new int[]{10,1_000,100_000,1_000_000} : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        for(int size : sizes){
+            Integer[] values = new Integer[size];
+            Map<Integer,Integer> source = new java.util.HashMap<>(size*2);
+            for(int i=0;i<size;i++){
+                values[i]=i;
+                source.put(values[i],values[i]);
+            }
+            List<Integer> evens = new ArrayList<>(size);
+            for(int i=0;i<size;i++){
+                evens.add(i*2);
+            }
+            for(String type : types(SequenceOps.class)){
+                report(type,size,SequenceOps.sequence(type).build(values).underlying(),values);
+            }
+            for(String type : types(MapOps.class)){
+                report(type,size,MapOps.map(type).build(source).underlying(),values);
+            }
+            for(String type : types(SetOps.class)){
+                report(type,size,SetOps.set(type).build(evens).underlying(),evens.toArray());
+            }
+        }
+    }
+
+    private static String[] types(Class<?> benchmark) throws NoSuchFieldException {
+        return benchmark.getDeclaredField("type").getAnnotation(Param.class).value();
+    }
+
+    private static void report(String name, int size, Object instance, Object[] elements){
+        instance.hashCode();
+        long deep = GraphLayout.parseInstance(instance)
+                               .subtract(GraphLayout.parseInstance(elements))
+                               .totalSize();
+        System.out.println(String.format("%-20s %9d elements %12d bytes %8.1f bytes/element",name,size,deep,(double)deep/size));
+    }
+}
@@ -0,0 +1,115 @@
+package cyclops.data;
+
+import cyclops.data.tuple.Tuple2;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a HashMap from a java.util.Map and merging two large HashMaps, comparing per-entry insertion against
+ * the bulk builder and the structural union / difference operations.
+ */
+@State(Scope.Benchmark)
+public class HashMapMerge {
+
+    @Param({"1000","100000","500000"})
+    int size;
+
+    Map<Integer,Integer> source;
+    HashMap<Integer,Integer> base;
+    HashMap<Integer,Integer> overrides;
+
+    @Setup
+    public void setup(){
+        source = new java.util.HashMap<>(size);
+        for(int i=0;i<size;i++){
+            source.put(i,i);
+        }
+        base = HashMap.fromMap(source);
+        java.util.Map<Integer,Integer> other = new java.util.HashMap<>(size);
+        for(int i=size/2;i<size+size/2;i++){
+            other.put(i,-i);
+        }
+        overrides = HashMap.fromMap(other);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void putPerEntry(Blackhole bh){
+        HashMap<Integer,Integer> map = HashMap.empty();
+        for(Map.Entry<Integer,Integer> next : source.entrySet()){
+            map = map.put(next.getKey(),next.getValue());
+        }
+        bh.consume(map);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void fromMap(Blackhole bh){
+        bh.consume(HashMap.fromMap(source));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void mergePerEntry(Blackhole bh){
+        HashMap<Integer,Integer> map = base;
+        for(Tuple2<Integer,Integer> next : overrides){
+            map = map.put(next._1(),next._2());
+        }
+        bh.consume(map);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void union(Blackhole bh){
+        bh.consume(base.union(overrides));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void difference(Blackhole bh){
+        bh.consume(base.difference(overrides));
+    }
+}
@@ -0,0 +1,281 @@
+package cyclops.data;
+
+import cyclops.data.tuple.Tuple;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Core operations on the persistent maps, against java.util.HashMap / TreeMap and the javaslang HashMap and TreeMap.
+ *
+ * Every benchmark works on a map of the parameterized size, built once per trial. Lookups and removals
+ * cycle through a fixed set of random keys that are present, and puts add a key that is absent. The JDK maps
+ * are updated in place, and any change is undone straight away so the size stays the same.
+ */
+@State(Scope.Benchmark)
+public class MapOps {
+
+    @Param({"10","1000","100000","10000000"})
+    int size;
+
+    @Param({"HashMap","TreeMap","TrieMap","java.util.HashMap","java.util.TreeMap","javaslang.HashMap","javaslang.TreeMap"})
+    String type;
+
+    Map<Integer,Integer> source;
+    Integer[] keys;
+    int next;
+    MapAdapter map;
+    MapAdapter copy;
+
+    @Setup
+    public void setup(){
+        source = new java.util.HashMap<>(size*2);
+        for(int i=0;i<size;i++){
+            source.put(i,i);
+        }
+        Random random = new Random(0);
+        keys = new Integer[1024];
+        for(int i=0;i<keys.length;i++){
+            keys[i]=random.nextInt(size);
+        }
+        map = map(type).build(source);
+        copy = map(type).build(source);
+    }
+
+    private Integer key(){
+        return keys[next++ & (keys.length-1)];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void put(Blackhole bh){
+        bh.consume(map.put(-1,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void get(Blackhole bh){
+        bh.consume(map.get(key()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void remove(Blackhole bh){
+        bh.consume(map.remove(key()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void iterate(Blackhole bh){
+        bh.consume(map.sum());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void build(Blackhole bh){
+        bh.consume(map.build(source));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void equalsHashCode(Blackhole bh){
+        bh.consume(map.underlying().equals(copy.underlying()));
+        bh.consume(map.underlying().hashCode());
+    }
+
+    /**
+     * The operations under test, implemented once per map type so each fork only ever sees one implementation.
+     */
+    interface MapAdapter {
+        MapAdapter build(Map<Integer,Integer> source);
+        Object put(Integer key, Integer value);
+        Integer get(Integer key);
+        Object remove(Integer key);
+        long sum();
+        Object underlying();
+    }
+
+    static MapAdapter map(String type){
+        Comparator<Integer> natural = Comparator.naturalOrder();
+        switch(type){
+            case "HashMap":
+                return new PersistentMapAdapter(HashMap::fromMap,HashMap.empty());
+            case "TreeMap":
+                return new PersistentMapAdapter(m->TreeMap.fromMap(natural,m),TreeMap.empty(natural));
+            case "TrieMap":
+                return new PersistentMapAdapter(m->TrieMap.fromStream(entries(m)),TrieMap.empty());
+            case "java.util.HashMap":
+                return new JdkMapAdapter(java.util.HashMap::new,new java.util.HashMap<>());
+            case "java.util.TreeMap":
+                return new JdkMapAdapter(java.util.TreeMap::new,new java.util.TreeMap<>());
+            case "javaslang.HashMap":
+                return new JavaslangMapAdapter(javaslang.collection.HashMap.empty(),javaslang.collection.HashMap.empty());
+            case "javaslang.TreeMap":
+                return new JavaslangMapAdapter(javaslang.collection.TreeMap.empty(),javaslang.collection.TreeMap.empty());
+        }
+        throw new IllegalArgumentException("Unknown map type " + type);
+    }
+
+    static Stream<cyclops.data.tuple.Tuple2<Integer,Integer>> entries(Map<Integer,Integer> source){
+        return source.entrySet().stream().map(e->Tuple.tuple(e.getKey(),e.getValue()));
+    }
+
+    static class PersistentMapAdapter implements MapAdapter {
+        final Function<Map<Integer,Integer>,ImmutableMap<Integer,Integer>> factory;
+        final ImmutableMap<Integer,Integer> map;
+
+        PersistentMapAdapter(Function<Map<Integer,Integer>,ImmutableMap<Integer,Integer>> factory, ImmutableMap<Integer,Integer> map) {
+            this.factory = factory;
+            this.map = map;
+        }
+
+        public MapAdapter build(Map<Integer,Integer> source){
+            return new PersistentMapAdapter(factory,factory.apply(source));
+        }
+        public Object put(Integer key, Integer value){
+            return map.put(key,value);
+        }
+        public Integer get(Integer key){
+            return map.getOrElse(key,null);
+        }
+        public Object remove(Integer key){
+            return map.remove(key);
+        }
+        public long sum(){
+            long sum = 0;
+            for(cyclops.data.tuple.Tuple2<Integer,Integer> next : map){
+                sum += next._2();
+            }
+            return sum;
+        }
+        public Object underlying(){
+            return map;
+        }
+    }
+
+    static class JdkMapAdapter implements MapAdapter {
+        final Function<Map<Integer,Integer>,Map<Integer,Integer>> factory;
+        final Map<Integer,Integer> map;
+
+        JdkMapAdapter(Function<Map<Integer,Integer>,Map<Integer,Integer>> factory, Map<Integer,Integer> map) {
+            this.factory = factory;
+            this.map = map;
+        }
+
+        public MapAdapter build(Map<Integer,Integer> source){
+            return new JdkMapAdapter(factory,factory.apply(source));
+        }
+        public Object put(Integer key, Integer value){
+            map.put(key,value);
+            return map.remove(key);
+        }
+        public Integer get(Integer key){
+            return map.get(key);
+        }
+        public Object remove(Integer key){
+            Integer value = map.remove(key);
+            return map.put(key,value);
+        }
+        public long sum(){
+            long sum = 0;
+            for(Integer next : map.values()){
+                sum += next;
+            }
+            return sum;
+        }
+        public Object underlying(){
+            return map;
+        }
+    }
+
+    static class JavaslangMapAdapter implements MapAdapter {
+        final javaslang.collection.Map<Integer,Integer> empty;
+        final javaslang.collection.Map<Integer,Integer> map;
+
+        JavaslangMapAdapter(javaslang.collection.Map<Integer,Integer> empty, javaslang.collection.Map<Integer,Integer> map) {
+            this.empty = empty;
+            this.map = map;
+        }
+
+        public MapAdapter build(Map<Integer,Integer> source){
+            javaslang.collection.Map<Integer,Integer> result = empty;
+            for(Map.Entry<Integer,Integer> next : source.entrySet()){
+                result = result.put(next.getKey(),next.getValue());
+            }
+            return new JavaslangMapAdapter(empty,result);
+        }
+        public Object put(Integer key, Integer value){
+            return map.put(key,value);
+        }
+        public Integer get(Integer key){
+            return map.get(key).getOrElse((Integer)null);
+        }
+        public Object remove(Integer key){
+            return map.remove(key);
+        }
+        public long sum(){
+            long sum = 0;
+            for(javaslang.Tuple2<Integer,Integer> next : map){
+                sum += next._2;
+            }
+            return sum;
+        }
+        public Object underlying(){
+            return map;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splicing and slicing a Vector against an RRBVector. rrbSplicedGet measures lookups in an RRBVector built from many
+ * small concatenations (a relaxed, rather than fully packed, tree).
+ */
+@State(Scope.Benchmark)
+public class RRBVectorSplice {
+
+    @Param({"1000","100000","1000000"})
+    int size;
+
+    Vector<Integer> vector;
+    RRBVector<Integer> rrb;
+    RRBVector<Integer> spliced;
+
+    @Setup
+    public void setup(){
+        vector = Vector.range(0,size);
+        rrb = RRBVector.range(0,size);
+        spliced = RRBVector.empty();
+        for(int i=0;i<size;i+=37){
+            spliced = spliced.appendAll(RRBVector.range(i,Math.min(size,i+37)));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorConcat(Blackhole bh){
+        bh.consume(vector.appendAll(vector));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void rrbConcat(Blackhole bh){
+        bh.consume(rrb.appendAll(rrb));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorPrepend(Blackhole bh){
+        bh.consume(vector.prepend(-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void rrbPrepend(Blackhole bh){
+        bh.consume(rrb.prepend(-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorInsertAt(Blackhole bh){
+        bh.consume(vector.insertAt(size/2,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void rrbInsertAt(Blackhole bh){
+        bh.consume(rrb.insertAt(size/2,-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorRemoveAt(Blackhole bh){
+        bh.consume(vector.removeAt(size/2));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void rrbRemoveAt(Blackhole bh){
+        bh.consume(rrb.removeAt(size/2));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorSubList(Blackhole bh){
+        bh.consume(vector.subList(size/4,size/2));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void rrbSubList(Blackhole bh){
+        bh.consume(rrb.subList(size/4,size/2));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void vectorGet(Blackhole bh){
+        for(int i=0;i<size;i+=97){
+            bh.consume(vector.getOrElse(i,null));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void rrbGet(Blackhole bh){
+        for(int i=0;i<size;i+=97){
+            bh.consume(rrb.getOrElse(i,null));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void rrbSplicedGet(Blackhole bh){
+        for(int i=0;i<size;i+=97){
+            bh.consume(spliced.getOrElse(i,null));
+        }
+    }
+}
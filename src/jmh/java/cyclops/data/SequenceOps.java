@@ -0,0 +1,315 @@
+package cyclops.data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Core operations on the persistent sequences, against java.util.ArrayList and the javaslang Vector and List.
+ *
+ * Every benchmark works on a sequence of the parameterized size, built once per trial. Indexed operations
+ * cycle through a fixed set of random positions. The persistent types return a new version for each
+ * operation. ArrayList is updated in place, and any change is undone straight away so the size stays the same.
+ * Linear types (Seq, LazySeq, javaslang List) are expected to be slow for indexed operations at the larger sizes.
+ */
+@State(Scope.Benchmark)
+public class SequenceOps {
+
+    @Param({"10","1000","100000","10000000"})
+    int size;
+
+    @Param({"Vector","RRBVector","IntMap","Seq","LazySeq","BankersQueue","ArrayList","javaslang.Vector","javaslang.List"})
+    String type;
+
+    Integer[] values;
+    int[] positions;
+    int next;
+    Sequence sequence;
+    Sequence copy;
+
+    @Setup
+    public void setup(){
+        values = new Integer[size];
+        for(int i=0;i<size;i++){
+            values[i]=i;
+        }
+        Random random = new Random(0);
+        positions = new int[1024];
+        for(int i=0;i<positions.length;i++){
+            positions[i]=random.nextInt(size);
+        }
+        sequence = sequence(type).build(values);
+        copy = sequence(type).build(values);
+    }
+
+    private int position(){
+        return positions[next++ & (positions.length-1)];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void append(Blackhole bh){
+        bh.consume(sequence.append(-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void prepend(Blackhole bh){
+        bh.consume(sequence.prepend(-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void get(Blackhole bh){
+        bh.consume(sequence.get(position()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void update(Blackhole bh){
+        bh.consume(sequence.update(position(),-1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void iterate(Blackhole bh){
+        bh.consume(sequence.sum());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void build(Blackhole bh){
+        bh.consume(sequence.build(values));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void equalsHashCode(Blackhole bh){
+        bh.consume(sequence.underlying().equals(copy.underlying()));
+        bh.consume(sequence.underlying().hashCode());
+    }
+
+    /**
+     * The operations under test, implemented once per sequence type so each fork only ever sees one implementation.
+     */
+    interface Sequence {
+        Sequence build(Integer[] values);
+        Object append(Integer value);
+        Object prepend(Integer value);
+        Integer get(int pos);
+        Object update(int pos, Integer value);
+        Object underlying();
+
+        default long sum(){
+            long sum = 0;
+            for(Object next : (Iterable<?>)underlying()){
+                sum += (Integer)next;
+            }
+            return sum;
+        }
+    }
+
+    static Sequence sequence(String type){
+        switch(type){
+            case "Vector":
+                return new PersistentSequence(Vector::of,Vector.empty());
+            case "RRBVector":
+                return new PersistentSequence(RRBVector::of,RRBVector.empty());
+            case "IntMap":
+                return new PersistentSequence(IntMap::of,IntMap.empty());
+            case "Seq":
+                return new PersistentSequence(Seq::of,Seq.empty());
+            case "LazySeq":
+                return new PersistentSequence(values->{
+                    LazySeq<Integer> seq = LazySeq.of(values);
+                    seq.size();
+                    return seq;
+                },LazySeq.empty());
+            case "BankersQueue":
+                return new QueueSequence(BankersQueue.empty());
+            case "ArrayList":
+                return new JdkSequence(new ArrayList<>());
+            case "javaslang.Vector":
+                return new JavaslangSequence(javaslang.collection.Vector.empty());
+            case "javaslang.List":
+                return new JavaslangSequence(javaslang.collection.List.empty());
+        }
+        throw new IllegalArgumentException("Unknown sequence type " + type);
+    }
+
+    static class PersistentSequence implements Sequence {
+        final Function<Integer[],ImmutableList<Integer>> factory;
+        final ImmutableList<Integer> list;
+
+        PersistentSequence(Function<Integer[],ImmutableList<Integer>> factory, ImmutableList<Integer> list) {
+            this.factory = factory;
+            this.list = list;
+        }
+
+        public Sequence build(Integer[] values){
+            return new PersistentSequence(factory,factory.apply(values));
+        }
+        public Object append(Integer value){
+            return list.append(value);
+        }
+        public Object prepend(Integer value){
+            return list.prepend(value);
+        }
+        public Integer get(int pos){
+            return list.getOrElse(pos,null);
+        }
+        public Object update(int pos, Integer value){
+            return list.updateAt(pos,value);
+        }
+        public Object underlying(){
+            return list;
+        }
+    }
+
+    static class QueueSequence implements Sequence {
+        final BankersQueue<Integer> queue;
+
+        QueueSequence(BankersQueue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        public Sequence build(Integer[] values){
+            return new QueueSequence(BankersQueue.of(values));
+        }
+        public Object append(Integer value){
+            return queue.enqueue(value);
+        }
+        public Object prepend(Integer value){
+            return queue.prepend(value);
+        }
+        public Integer get(int pos){
+            return queue.getOrElse(pos,null);
+        }
+        public Object update(int pos, Integer value){
+            return queue.updateAt(pos,value);
+        }
+        public Object underlying(){
+            return queue;
+        }
+    }
+
+    static class JdkSequence implements Sequence {
+        final ArrayList<Integer> list;
+
+        JdkSequence(ArrayList<Integer> list) {
+            this.list = list;
+        }
+
+        public Sequence build(Integer[] values){
+            return new JdkSequence(new ArrayList<>(Arrays.asList(values)));
+        }
+        public Object append(Integer value){
+            list.add(value);
+            return list.remove(list.size()-1);
+        }
+        public Object prepend(Integer value){
+            list.add(0,value);
+            return list.remove(0);
+        }
+        public Integer get(int pos){
+            return list.get(pos);
+        }
+        public Object update(int pos, Integer value){
+            Integer old = list.set(pos,value);
+            return list.set(pos,old);
+        }
+        public Object underlying(){
+            return list;
+        }
+    }
+
+    static class JavaslangSequence implements Sequence {
+        final javaslang.collection.Seq<Integer> seq;
+
+        JavaslangSequence(javaslang.collection.Seq<Integer> seq) {
+            this.seq = seq;
+        }
+
+        public Sequence build(Integer[] values){
+            if(seq instanceof javaslang.collection.List)
+                return new JavaslangSequence(javaslang.collection.List.ofAll(Arrays.asList(values)));
+            return new JavaslangSequence(javaslang.collection.Vector.ofAll(Arrays.asList(values)));
+        }
+        public Object append(Integer value){
+            return seq.append(value);
+        }
+        public Object prepend(Integer value){
+            return seq.prepend(value);
+        }
+        public Integer get(int pos){
+            return seq.get(pos);
+        }
+        public Object update(int pos, Integer value){
+            return seq.update(pos,value);
+        }
+        public Object underlying(){
+            return seq;
+        }
+    }
+}
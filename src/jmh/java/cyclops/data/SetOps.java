@@ -0,0 +1,292 @@
+package cyclops.data;
+
+import cyclops.typeclasses.Enumeration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Core operations on the persistent sets, against java.util.HashSet / TreeSet and the javaslang HashSet and TreeSet.
+ *
+ * Every benchmark works on a set of the parameterized size, built once per trial from the even numbers in a
+ * random order. Values are never adjacent, so each value in a DIET is its own interval. Lookups and removals
+ * cycle through a fixed set of random values that are present, and adds insert a value that is absent.
+ * The JDK sets are updated in place, and any change is undone straight away so the size stays the same.
+ */
+@State(Scope.Benchmark)
+public class SetOps {
+
+    @Param({"10","1000","100000","10000000"})
+    int size;
+
+    @Param({"HashSet","TreeSet","TrieSet","DIET","java.util.HashSet","java.util.TreeSet","javaslang.HashSet","javaslang.TreeSet"})
+    String type;
+
+    List<Integer> values;
+    Integer[] lookups;
+    int next;
+    SetAdapter set;
+    SetAdapter copy;
+
+    @Setup
+    public void setup(){
+        Integer[] evens = new Integer[size];
+        for(int i=0;i<size;i++){
+            evens[i]=i*2;
+        }
+        values = Arrays.asList(evens);
+        Random random = new Random(0);
+        Collections.shuffle(values,random);
+        lookups = new Integer[1024];
+        for(int i=0;i<lookups.length;i++){
+            lookups[i]=values.get(random.nextInt(size));
+        }
+        set = set(type).build(values);
+        copy = set(type).build(values);
+    }
+
+    private Integer lookup(){
+        return lookups[next++ & (lookups.length-1)];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void add(Blackhole bh){
+        bh.consume(set.add(-3));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void contains(Blackhole bh){
+        bh.consume(set.contains(lookup()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void remove(Blackhole bh){
+        bh.consume(set.remove(lookup()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void iterate(Blackhole bh){
+        long sum = 0;
+        for(Integer next : set.underlying()){
+            sum += next;
+        }
+        bh.consume(sum);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void build(Blackhole bh){
+        bh.consume(set.build(values));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void equalsHashCode(Blackhole bh){
+        bh.consume(set.underlying().equals(copy.underlying()));
+        bh.consume(set.underlying().hashCode());
+    }
+
+    /**
+     * The operations under test, implemented once per set type so each fork only ever sees one implementation.
+     */
+    interface SetAdapter {
+        SetAdapter build(List<Integer> values);
+        Object add(Integer value);
+        boolean contains(Integer value);
+        Object remove(Integer value);
+        Iterable<Integer> underlying();
+    }
+
+    static SetAdapter set(String type){
+        Comparator<Integer> natural = Comparator.naturalOrder();
+        switch(type){
+            case "HashSet":
+                return new PersistentSetAdapter(HashSet::fromIterable,HashSet.empty());
+            case "TreeSet":
+                return new PersistentSetAdapter(v->TreeSet.fromIterable(v,natural),TreeSet.empty(natural));
+            case "TrieSet":
+                return new PersistentSetAdapter(TrieSet::fromIterable,TrieSet.empty());
+            case "DIET":
+                return new DietAdapter(DIET.empty());
+            case "java.util.HashSet":
+                return new JdkSetAdapter(java.util.HashSet::new,new java.util.HashSet<>());
+            case "java.util.TreeSet":
+                return new JdkSetAdapter(java.util.TreeSet::new,new java.util.TreeSet<>());
+            case "javaslang.HashSet":
+                return new JavaslangSetAdapter(javaslang.collection.HashSet::ofAll,javaslang.collection.HashSet.empty());
+            case "javaslang.TreeSet":
+                return new JavaslangSetAdapter(javaslang.collection.TreeSet::ofAll,javaslang.collection.TreeSet.empty());
+        }
+        throw new IllegalArgumentException("Unknown set type " + type);
+    }
+
+    static class PersistentSetAdapter implements SetAdapter {
+        final Function<List<Integer>,ImmutableSet<Integer>> factory;
+        final ImmutableSet<Integer> set;
+
+        PersistentSetAdapter(Function<List<Integer>,ImmutableSet<Integer>> factory, ImmutableSet<Integer> set) {
+            this.factory = factory;
+            this.set = set;
+        }
+
+        public SetAdapter build(List<Integer> values){
+            return new PersistentSetAdapter(factory,factory.apply(values));
+        }
+        public Object add(Integer value){
+            return set.add(value);
+        }
+        public boolean contains(Integer value){
+            return set.containsValue(value);
+        }
+        public Object remove(Integer value){
+            return set.removeValue(value);
+        }
+        public Iterable<Integer> underlying(){
+            return set;
+        }
+    }
+
+    static class DietAdapter implements SetAdapter {
+        final DIET<Integer> diet;
+
+        DietAdapter(DIET<Integer> diet) {
+            this.diet = diet;
+        }
+
+        public SetAdapter build(List<Integer> values){
+            Enumeration<Integer> ints = Enumeration.ints();
+            Comparator<Integer> natural = Comparator.naturalOrder();
+            DIET<Integer> result = DIET.empty();
+            for(Integer next : values){
+                result = result.add(next,ints,natural);
+            }
+            return new DietAdapter(result);
+        }
+        public Object add(Integer value){
+            return diet.add(value,Enumeration.ints(),Comparator.naturalOrder());
+        }
+        public boolean contains(Integer value){
+            return diet.contains(value);
+        }
+        public Object remove(Integer value){
+            return diet.remove(value);
+        }
+        public Iterable<Integer> underlying(){
+            return diet;
+        }
+    }
+
+    static class JdkSetAdapter implements SetAdapter {
+        final Function<List<Integer>,Set<Integer>> factory;
+        final Set<Integer> set;
+
+        JdkSetAdapter(Function<List<Integer>,Set<Integer>> factory, Set<Integer> set) {
+            this.factory = factory;
+            this.set = set;
+        }
+
+        public SetAdapter build(List<Integer> values){
+            return new JdkSetAdapter(factory,factory.apply(values));
+        }
+        public Object add(Integer value){
+            set.add(value);
+            return set.remove(value);
+        }
+        public boolean contains(Integer value){
+            return set.contains(value);
+        }
+        public Object remove(Integer value){
+            set.remove(value);
+            return set.add(value);
+        }
+        public Iterable<Integer> underlying(){
+            return set;
+        }
+    }
+
+    static class JavaslangSetAdapter implements SetAdapter {
+        final Function<List<Integer>,javaslang.collection.Set<Integer>> factory;
+        final javaslang.collection.Set<Integer> set;
+
+        JavaslangSetAdapter(Function<List<Integer>,javaslang.collection.Set<Integer>> factory, javaslang.collection.Set<Integer> set) {
+            this.factory = factory;
+            this.set = set;
+        }
+
+        public SetAdapter build(List<Integer> values){
+            return new JavaslangSetAdapter(factory,factory.apply(values));
+        }
+        public Object add(Integer value){
+            return set.add(value);
+        }
+        public boolean contains(Integer value){
+            return set.contains(value);
+        }
+        public Object remove(Integer value){
+            return set.remove(value);
+        }
+        public Iterable<Integer> underlying(){
+            return set;
+        }
+    }
+}
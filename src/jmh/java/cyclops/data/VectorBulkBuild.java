@@ -0,0 +1,107 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class VectorBulkBuild {
+
+    @Param({"1000","100000","1000000"})
+    int size;
+
+    List<Integer> source;
+    Vector<Integer> half;
+
+    @Setup
+    public void setup(){
+        source = new ArrayList<>(size);
+        for(int i=0;i<size;i++){
+            source.add(i);
+        }
+        half = Vector.fromIterable(source.subList(0,size/2));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void plusPerElement(Blackhole bh){
+        Vector<Integer> vec = Vector.empty();
+        for(Integer next : source){
+            vec = vec.plus(next);
+        }
+        bh.consume(vec);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void fromIterable(Blackhole bh){
+        bh.consume(Vector.fromIterable(source));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void fromStream(Blackhole bh){
+        bh.consume(Vector.fromStream(ReactiveSeq.range(0,size)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void appendAllPerElement(Blackhole bh){
+        Vector<Integer> vec = half;
+        for(Integer next : source.subList(size/2,size)){
+            vec = vec.plus(next);
+        }
+        bh.consume(vec);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void appendAll(Blackhole bh){
+        bh.consume(half.appendAll(source.subList(size/2,size)));
+    }
+
+}
@@ -0,0 +1,49 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedupe of a Stream with many distinct values : an exact HashSet (distinct) vs a fixed size Bloom filter
+ * (distinctApproximately)
+ */
+@State(Scope.Benchmark)
+public class Distinct {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void distinct(Blackhole bh){
+        ReactiveSeq.range(0,1_000_000)
+                   .map(i -> i % 500_000)
+                   .distinct()
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void distinctApproximately(Blackhole bh){
+        ReactiveSeq.range(0,1_000_000)
+                   .map(i -> i % 500_000)
+                   .distinctApproximately(500_000,0.01)
+                   .forEach(bh::consume);
+    }
+}
@@ -0,0 +1,90 @@
+package cyclops.reactiveSeq;
+
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies of a Stream zipped together and a Stream split and consumed in order : a single shared pass (duplicate,
+ * splitAt) vs a buffering copier per pass (duplicate with a buffer factory)
+ */
+@State(Scope.Benchmark)
+public class Duplicate {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void duplicateZip(Blackhole bh){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,100_000)
+                                                                             .map(i -> i * 2)
+                                                                             .duplicate();
+        copies._1().zip(copies._2(),(a,b) -> a + b)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void duplicateZipBufferFactory(Blackhole bh){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,100_000)
+                                                                             .map(i -> i * 2)
+                                                                             .duplicate(() -> new ArrayDeque<>());
+        copies._1().zip(copies._2(),(a,b) -> a + b)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void splitAtInOrder(Blackhole bh){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> split = Spouts.range(0,100_000)
+                                                                        .map(i -> i * 2)
+                                                                        .splitAt(50_000);
+        split._1().forEach(bh::consume);
+        split._2().forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void splitAtBufferFactory(Blackhole bh){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = Spouts.range(0,100_000)
+                                                                         .map(i -> i * 2)
+                                                                         .duplicate(() -> new ArrayDeque<>());
+        copies._1().limit(50_000).forEach(bh::consume);
+        copies._2().skip(50_000).forEach(bh::consume);
+    }
+}
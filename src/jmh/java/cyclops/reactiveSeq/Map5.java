@@ -1,6 +1,7 @@
 package cyclops.reactiveSeq;
 
 import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -78,4 +79,67 @@ public class Map5 {
   }
  }
 
-}
\ No newline at end of file
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMap(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.of(1, 2, 3)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void streamMapFilterMap(Blackhole bh){
+  for(int k=0;k<100;k++) {
+   bh.consume(Stream.of(1, 2, 3)
+           .map(i -> i * 2)
+           .filter(i -> i > 2)
+           .map(i -> i * 2)
+           .filter(i -> i > 4)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMapFilterMap(Blackhole bh){
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.of(1, 2, 3)
+           .map(i -> i * 2)
+           .filter(i -> i > 2)
+           .map(i -> i * 2)
+           .filter(i -> i > 4)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+}
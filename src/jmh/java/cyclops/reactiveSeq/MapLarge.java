@@ -1,6 +1,7 @@
 package cyclops.reactiveSeq;
 
 import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -49,5 +50,83 @@ public class MapLarge {
 
  }
 
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMapLarge(Blackhole bh) {
+
+   Spouts.iterate(1,i->i+1)
+           .limit(10000)
+           .map(i -> i * 2)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void streamMapFilterMapLarge(Blackhole bh){
+
+   Stream.iterate(1,i->i+1)
+           .limit(10000)
+           .map(i -> i * 2)
+           .filter(i -> i % 3 != 0)
+           .map(i -> i + 1)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMapFilterMapLarge(Blackhole bh) {
+
+   Spouts.iterate(1,i->i+1)
+           .limit(10000)
+           .map(i -> i * 2)
+           .filter(i -> i % 3 != 0)
+           .map(i -> i + 1)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsRangeMapFilterMapLarge(Blackhole bh) {
+
+   Spouts.range(0,100_000)
+           .skip(10)
+           .limit(10000)
+           .map(i -> i * 2)
+           .filter(i -> i % 3 != 0)
+           .map(i -> i + 1)
+           .forEach(bh::consume);
 
-}
\ No newline at end of file
+ }
+}
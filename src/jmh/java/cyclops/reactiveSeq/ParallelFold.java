@@ -0,0 +1,132 @@
+package cyclops.reactiveSeq;
+
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Parallel execution of ReactiveSeq (foldParallel) against parallel java.util.stream, for sized splittable sources
+ * (array, range, Vector) and an unsized source that is handed off in batches.
+ */
+@State(Scope.Benchmark)
+public class ParallelFold {
+
+    static final int SIZE = 1_000_000;
+
+    Integer[] array;
+    Vector<Integer> vector;
+
+    @Setup
+    public void setup(){
+        array = IntStream.range(0,SIZE).boxed().toArray(Integer[]::new);
+        vector = Vector.of(array);
+    }
+
+    private static long work(Stream<Integer> s){
+        return s.mapToLong(i -> (long)i * i % 7).sum();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void streamArray(Blackhole bh){
+        bh.consume(work(Arrays.stream(array).parallel()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void reactiveSeqArray(Blackhole bh){
+        bh.consume(ReactiveSeq.of(array).foldParallel(ParallelFold::work));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void streamRange(Blackhole bh){
+        bh.consume(work(IntStream.range(0,SIZE).boxed().parallel()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void reactiveSeqRange(Blackhole bh){
+        bh.consume(ReactiveSeq.range(0,SIZE).foldParallel(ParallelFold::work));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void reactiveSeqVector(Blackhole bh){
+        bh.consume(vector.stream().foldParallel(ParallelFold::work));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void streamUnsized(Blackhole bh){
+        bh.consume(work(Stream.iterate(0, i -> i + 1).limit(SIZE).parallel()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void reactiveSeqUnsized(Blackhole bh){
+        bh.consume(ReactiveSeq.iterate(0, i -> i + 1).limit(SIZE).foldParallel(ParallelFold::work));
+    }
+}
@@ -0,0 +1,153 @@
+package cyclops.reactiveSeq;
+
+import cyclops.companion.Monoids;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving sum over a large window : summing a copy of each window (sliding) vs a view of each window (slidingView)
+ * vs an incrementally maintained total (slidingReduce), and a moving max and 99th percentile recomputed for each window
+ * vs maintained incrementally (slidingMax, slidingQuantile)
+ */
+@State(Scope.Benchmark)
+public class Sliding {
+
+    @Param({"10","1000"})
+    int windowSize;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void sliding(Blackhole bh){
+        ReactiveSeq.range(0,100_000)
+                   .sliding(windowSize,1)
+                   .map(w -> w.stream().mapToInt(i -> i).sum())
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void slidingView(Blackhole bh){
+        ReactiveSeq.range(0,100_000)
+                   .slidingView(windowSize,1,w -> w.stream().mapToInt(i -> i).sum())
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void slidingReduce(Blackhole bh){
+        ReactiveSeq.range(0,100_000)
+                   .slidingReduce(windowSize,1,Monoids.intSum)
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void slidingReduceSpouts(Blackhole bh){
+        Spouts.range(0,100_000)
+              .slidingReduce(windowSize,1,Monoids.intSum)
+              .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void slidingMaxByWindow(Blackhole bh){
+        ReactiveSeq.range(0,100_000)
+                   .sliding(windowSize,1)
+                   .map(w -> w.stream().max(Comparator.naturalOrder()).get())
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void slidingMax(Blackhole bh){
+        ReactiveSeq.range(0,100_000)
+                   .slidingMax(windowSize,1,Comparator.naturalOrder())
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void slidingQuantileBySort(Blackhole bh){
+        ReactiveSeq.range(0,100_000)
+                   .sliding(windowSize,1)
+                   .map(w -> w.sorted().getOrElse((int) (0.99 * (w.size() - 1)), -1))
+                   .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void slidingQuantile(Blackhole bh){
+        ReactiveSeq.range(0,100_000)
+                   .slidingQuantile(windowSize,1,i -> i,0.99,0.01)
+                   .forEach(bh::consume);
+    }
+}
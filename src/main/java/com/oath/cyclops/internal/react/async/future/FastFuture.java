@@ -3,13 +3,15 @@ package com.oath.cyclops.internal.react.async.future;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.oath.cyclops.internal.react.exceptions.SimpleReactCompletionException;
+import cyclops.async.wait.WaitStrategy;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -24,78 +26,155 @@ import lombok.Getter;
  * 4. For post-hoc event listeners : single writer (simple-react Stream adds event listeners) : single reader (only one thread can read event listeners -
  * 						lazy the thread that sets the result / error and eventually done,
  * 							or if done already set - the calling thread can execute post-hoc events)
+ * 5. The outcome (a result, or an error wrapped as a Failure) is a single volatile field, which is UNSET until the future is done,
+ *    and is written before any listener is called (a failure is passed to the onComplete / essential callbacks and onFail
+ *    directly, and published once they have run). Threads waiting for the outcome spin briefly and then park, and are
+ *    unparked by the completing thread, unless a WaitStrategy has been set for joins (see setWaitStrategy).
  */
-@AllArgsConstructor
 public class FastFuture<T> {
 
-    @Getter
-    private volatile boolean done = false;
+    private static final AtomicReferenceFieldUpdater<FastFuture, Waiter> WAITERS = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                         Waiter.class,
+                                                                                                                         "waiters");
+    private static final AtomicReferenceFieldUpdater<FastFuture, Listener> LISTENERS = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                             Listener.class,
+                                                                                                                             "listeners");
+    private static final Listener FIRED = new Listener(null, null);
+    private static final AtomicIntegerFieldUpdater<FastFuture> COUNT = AtomicIntegerFieldUpdater.newUpdater(FastFuture.class, "count");
+    private static final int SPINS = Runtime.getRuntime()
+                                            .availableProcessors() > 1 ? 128 : 0;
+    private static volatile WaitStrategy<Object> joinWait;
+
     private volatile Consumer<OnComplete> forXOf;
     private volatile Consumer<OnComplete> essential;
-    @Getter
-    private volatile boolean completedExceptionally = false;
-    private final AtomicReference result = new AtomicReference(
-                                                               UNSET);
-    private final AtomicReference exception = new AtomicReference(
-                                                                  UNSET);
+    private volatile Object outcome = UNSET;
+    private volatile Waiter waiters;
+    private volatile Listener listeners;
     private final Consumer<FastFuture<T>> doFinally;
     private static UnSet UNSET = new UnSet();
 
     static class UnSet {
     }
 
-    @Getter
-    private final FinalPipeline pipeline;
+    private static final class Failure {
+        final Throwable exception;
 
-    private final AtomicInteger count = new AtomicInteger(
-                                                          0);
-    private final AtomicInteger max = new AtomicInteger(
-                                                        0);
+        Failure(final Throwable exception) {
+            this.exception = exception;
+        }
+    }
 
-    public FastFuture() {
-        max.set(0);
-        this.doFinally = null;
-        this.pipeline = null;
+    private static final class Waiter {
+        final Thread thread = Thread.currentThread();
+        Waiter next;
     }
 
-    private T result() {
-        Object res = UNSET;
-        while ((res = result.get()) == UNSET) {
-            Thread.yield();
+    private static final class Listener {
+        final Consumer<OnComplete> fn;
+        final Listener next;
+
+        Listener(final Consumer<OnComplete> fn, final Listener next) {
+            this.fn = fn;
+            this.next = next;
         }
-        return (T) res;
     }
 
-    private Throwable exception() {
-        Object result = UNSET;
-        while ((result = exception.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (Throwable) result;
+    @Getter
+    private final FinalPipeline pipeline;
+
+    private volatile int count;
+    private volatile int max;
+
+    public FastFuture() {
+        this.doFinally = null;
+        this.pipeline = null;
     }
 
     public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally) {
-        this.max.set(0);
         this.pipeline = pipeline;
         this.doFinally = doFinally;
 
     }
 
     public FastFuture(final FinalPipeline pipeline, final int max) {
-        this.max.set(max);
+        this.max = max;
         this.pipeline = pipeline;
         this.doFinally = null;
     }
 
-    public void await() {
+    public boolean isDone() {
+        return outcome != UNSET;
+    }
+
+    public boolean isCompletedExceptionally() {
+        return outcome instanceof Failure;
+    }
+
+    /**
+     * Use the provided WaitStrategy for threads waiting for any FastFuture to complete. The strategy is signalled each
+     * time a FastFuture completes. Set to null (the default) to spin briefly and then park each waiting thread until the
+     * future it waits on is completed.
+     *
+     * @param strategy WaitStrategy for joins, or null for the default
+     */
+    public static void setWaitStrategy(final WaitStrategy<Object> strategy) {
+        joinWait = strategy;
+    }
 
-        long spin = 1;
-        while (!done) {
-            LockSupport.parkNanos(spin++);
+    /**
+     * @return WaitStrategy for joins, or null if threads park until the future they wait on is completed
+     */
+    public static WaitStrategy<Object> getWaitStrategy() {
+        return joinWait;
+    }
+
+    public void await() {
+        if (isDone())
+            return;
+        final WaitStrategy<Object> wait = joinWait;
+        if (wait != null) {
+            try {
+                wait.take(() -> isDone() ? this : null);
+                return;
+            } catch (final InterruptedException e) {
+                //wait uninterruptibly below, and restore the interrupt when done
+                Thread.currentThread()
+                      .interrupt();
+            }
         }
+        for (int i = 0; i < SPINS; i++) {
+            if (isDone())
+                return;
+        }
+        final Waiter waiter = new Waiter();
+        Waiter head;
+        do {
+            head = waiters;
+            waiter.next = head;
+        } while (!WAITERS.compareAndSet(this, head, waiter));
+
+        boolean interrupted = false;
+        while (!isDone()) {
+            LockSupport.park(this);
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted)
+            Thread.currentThread()
+                  .interrupt();
 
     }
 
+    private void releaseWaiters() {
+        final WaitStrategy<Object> wait = joinWait;
+        if (wait != null)
+            wait.signal();
+        Waiter next = WAITERS.getAndSet(this, null);
+        while (next != null) {
+            LockSupport.unpark(next.thread);
+            next = next.next;
+        }
+    }
+
     /**
      * Join which can be called exactly once!
      *
@@ -104,14 +183,12 @@ public class FastFuture<T> {
     public T join() {
 
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
-            if (completedExceptionally)
+            await();
+            final Object outcome = this.outcome;
+            if (outcome instanceof Failure)
                 throw new SimpleReactCompletionException(
-                                                         exception());
-            return result();
+                                                         ((Failure) outcome).exception);
+            return (T) outcome;
         } finally {
             markComplete();
         }
@@ -124,8 +201,8 @@ public class FastFuture<T> {
 
     public static <T> FastFuture<T> completedFuture(final T value) {
         final FastFuture<T> f = new FastFuture();
-        f.result.lazySet(value);
-        f.done = true;
+        LISTENERS.lazySet(f, FIRED);
+        f.outcome = value;
         return f;
     }
 
@@ -164,21 +241,22 @@ public class FastFuture<T> {
 
             } catch (final Throwable e) {
                 finalError = e;
-                this.exception.lazySet(e);
             }
         }
         this.completeExceptionally(finalError);
 
-        throw (RuntimeException) exception();
+        throw (RuntimeException) finalError;
     }
 
     private FastFuture<T> completeExceptionally(final Throwable t) {
-        exception.lazySet(t);
-        completedExceptionally = true;
-        handleOnComplete(true);
+        final Failure failure = new Failure(
+                                            t);
+        handleOnComplete(failure);
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
-        done = true;
+        outcome = failure;
+        releaseWaiters();
+        fireListeners();
         return this;
     }
 
@@ -210,7 +288,7 @@ public class FastFuture<T> {
             next.onComplete(v -> {
                 if (!count.compareAndSet(0, 1))
                     return;
-                if (allOf.count.incrementAndGet() == allOf.max.get()) {
+                if (COUNT.incrementAndGet(allOf) == allOf.max) {
                     onComplete.run();
                 }
 
@@ -229,7 +307,7 @@ public class FastFuture<T> {
             next.onComplete(v -> {
                 if (!count.compareAndSet(0, 1))
                     return;
-                if (xOf.count.incrementAndGet() >= xOf.max.get()) {
+                if (COUNT.incrementAndGet(xOf) >= xOf.max) {
 
                     onComplete.run();
 
@@ -246,8 +324,7 @@ public class FastFuture<T> {
 
         for (final FastFuture next : futures) {
             next.onComplete(v -> {
-                anyOf.result.lazySet(true);
-                anyOf.done();
+                anyOf.done(true);
 
             });
         }
@@ -261,8 +338,7 @@ public class FastFuture<T> {
             final Object use = result;
 
             if (pipeline == null || pipeline.functions.length == 0) {
-                this.result.lazySet(use);
-                done();
+                done(use);
                 return;
             }
             final Function op = pipeline.functions[0];
@@ -298,8 +374,7 @@ public class FastFuture<T> {
                 return;
             }
 
-            this.result.lazySet(current);
-            done();
+            done(current);
 
         } catch (final Throwable t) {
             if (t instanceof CompletedException) {
@@ -313,24 +388,24 @@ public class FastFuture<T> {
 
     }
 
-    private boolean done() {
-        this.completedExceptionally = false;
-        this.done = true;
-        handleOnComplete(true);
+    private boolean done(final Object result) {
+        this.outcome = result;
+        releaseWaiters();
+        handleOnComplete(result);
+        fireListeners();
 
         return true;
 
     }
 
     public void clearFast() {
-        result.set(UNSET);
-        exception.set(UNSET);
+        outcome = UNSET;
+        waiters = null;
+        listeners = null;
         this.forXOf = null;
         this.essential = null;
-        this.count.set(0);
-        this.max.set(0);
-        this.completedExceptionally = false;
-        this.done = false;
+        this.count = 0;
+        this.max = 0;
     }
 
     /**
@@ -339,8 +414,9 @@ public class FastFuture<T> {
      */
     public void essential(final Consumer<OnComplete> fn) {
         this.essential = fn; //set - could also be called on a separate thread
-        if (done) { //can be called again
-            fn.accept(buildOnComplete());
+        final Object outcome = this.outcome;
+        if (outcome != UNSET) { //can be called again
+            fn.accept(buildOnComplete(outcome));
         }
     }
 
@@ -352,25 +428,51 @@ public class FastFuture<T> {
 
         this.forXOf = fn; //set - could also be called on a separate thread
 
-        if (done) { //can be called again
-            fn.accept(buildOnComplete());
+        final Object outcome = this.outcome;
+        if (outcome != UNSET) { //can be called again
+            fn.accept(buildOnComplete(outcome));
+        }
+    }
+
+    /**
+     * Called exactly once on complete. Unlike onComplete, listeners don't replace each other : every listener added
+     * is called (in no particular order), either by the completing thread or immediately if already complete.
+     *
+     */
+    public void addListener(final Consumer<OnComplete> fn) {
+        Listener head;
+        do {
+            head = listeners;
+            if (head == FIRED) {
+                fn.accept(buildOnComplete(outcome));
+                return;
+            }
+        } while (!LISTENERS.compareAndSet(this, head, new Listener(fn, head)));
+    }
+
+    private void fireListeners() {
+        Listener next = LISTENERS.getAndSet(this, FIRED);
+        while (next != null && next != FIRED) {
+            next.fn.accept(buildOnComplete(outcome));
+            next = next.next;
         }
     }
 
-    private void handleOnComplete(final boolean force) {
+    private void handleOnComplete(final Object outcome) {
         if (forXOf != null)
-            forXOf.accept(buildOnComplete());
+            forXOf.accept(buildOnComplete(outcome));
 
         if (this.essential != null)
-            this.essential.accept(buildOnComplete());
+            this.essential.accept(buildOnComplete(outcome));
 
     }
 
-    private OnComplete buildOnComplete() {
-        final OnComplete c = new OnComplete(
-                                            !completedExceptionally && done ? result() : null, completedExceptionally ? exception() : null,
-                                            this.completedExceptionally);
-        return c;
+    private static OnComplete buildOnComplete(final Object outcome) {
+        if (outcome instanceof Failure)
+            return new OnComplete(
+                                  null, ((Failure) outcome).exception, true);
+        return new OnComplete(
+                              outcome == UNSET ? null : outcome, null, false);
     }
 
     @AllArgsConstructor
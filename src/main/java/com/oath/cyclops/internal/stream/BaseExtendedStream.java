@@ -2,7 +2,10 @@ package com.oath.cyclops.internal.stream;
 
 import com.oath.cyclops.types.Unwrapable;
 import com.oath.cyclops.types.anyM.AnyMSeq;
+import com.oath.cyclops.internal.stream.window.TimedWindow;
+import com.oath.cyclops.types.stream.BloomFilter;
 import com.oath.cyclops.types.stream.HeadAndTail;
+import com.oath.cyclops.types.stream.SlidingWindow;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.collections.mutable.ListX;
 import cyclops.companion.Streams;
@@ -316,15 +319,66 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
 
 
 
+    /**
+     * Close handlers registered on this Stream, shared with the Streams derived from it
+     */
+    private volatile CloseHandlers closeHandlers;
+
+    /**
+     * Share the close handlers of this Stream with a Stream derived from it
+     */
+    <S extends ReactiveSeq<?>> S closeWith(final S derived) {
+        final CloseHandlers handlers = closeHandlers;
+        if (handlers != null && derived instanceof BaseExtendedStream) {
+            final BaseExtendedStream<?> stream = (BaseExtendedStream<?>) derived;
+            if (stream.closeHandlers == null)
+                stream.closeHandlers = handlers;
+        }
+        return derived;
+    }
+
     @Override
     public ReactiveSeq<T> onClose(final Runnable closeHandler) {
-
+        CloseHandlers handlers = closeHandlers;
+        if (handlers == null)
+            closeHandlers = handlers = new CloseHandlers();
+        handlers.add(closeHandler);
         return this;
     }
 
     @Override
     public void close() {
+        final CloseHandlers handlers = closeHandlers;
+        if (handlers != null)
+            handlers.run();
+    }
+
+    /**
+     * Handlers that have not run yet, each is run by the first close (of any Stream sharing them) after it was added
+     */
+    private static final class CloseHandlers {
+        private Runnable pending;
+
+        synchronized void add(final Runnable closeHandler) {
+            final Runnable previous = pending;
+            pending = previous == null ? closeHandler : () -> {
+                try {
+                    previous.run();
+                } finally {
+                    closeHandler.run();
+                }
+            };
+        }
 
+        void run() {
+            final Runnable handler;
+            synchronized (this) {
+                handler = pending;
+                pending = null;
+            }
+            if (handler != null)
+                handler.run();
+        }
     }
     @Override
     public ReactiveSeq<T> xPer(final int x, final long time, final TimeUnit t) {
@@ -353,6 +407,19 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
         return createSeq(unwrapStream().sorted());
     }
 
+    @Override
+    public <R> ReactiveSeq<R> slidingByTime(final long span, final ToLongFunction<? super T> timestamp,
+                                            final Supplier<? extends SlidingWindow<T, ? extends R>> window) {
+        Supplier<Function<? super T, ? extends R>> lazy = () -> new TimedWindow<T, R>(window.get(), span, timestamp);
+        return mapLazyFn(lazy);
+    }
+
+    @Override
+    public ReactiveSeq<T> distinctApproximately(final long expectedDistinct, final double falsePositiveRate) {
+        Supplier<Predicate<? super T>> lazy = () -> new BloomFilter(expectedDistinct, falsePositiveRate)::add;
+        return filterLazyPredicate(lazy);
+    }
+
     public  abstract <R> ReactiveSeq<R> mapLazyFn(Supplier<Function<? super T, ? extends R>> fn);
     public abstract ReactiveSeq<T> filterLazyPredicate(final Supplier<Predicate<? super T>> fn);
     @Override
@@ -2,7 +2,10 @@ package com.oath.cyclops.internal.stream;
 
 
 import com.oath.cyclops.types.futurestream.Continuation;
+import com.oath.cyclops.internal.stream.fanout.FanOutBuffer;
+import com.oath.cyclops.types.stream.FanOutPolicy;
 import com.oath.cyclops.types.stream.HotStream;
+import com.oath.cyclops.types.stream.SlidingWindow;
 import com.oath.cyclops.util.ExceptionSoftener;
 import com.oath.cyclops.internal.adapters.StreamAdapter;
 import com.oath.cyclops.internal.stream.spliterators.push.*;
@@ -23,7 +26,6 @@ import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.experimental.Wither;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -54,15 +56,22 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Getter
     final Operator<T> source;
-    @Wither
     final Consumer<? super Throwable> defaultErrorHandler;
 
-    @Wither
     final Type async; //SYNC streams should switch to lazy Backpressured or No backpressure when zip or flatMapP are called
 
     public Type getType() {
         return async;
     }
+
+    public ReactiveStreamX<T> withDefaultErrorHandler(final Consumer<? super Throwable> defaultErrorHandler) {
+        return this.defaultErrorHandler == defaultErrorHandler ? this
+                : closeWith(new ReactiveStreamX<T>(source, defaultErrorHandler, async));
+    }
+
+    public ReactiveStreamX<T> withAsync(final Type async) {
+        return this.async == async ? this : closeWith(new ReactiveStreamX<T>(source, defaultErrorHandler, async));
+    }
     //zip can check the provided Stream settings for async usage
     //flatMapP should assume async
 
@@ -133,12 +142,24 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return new OperatorToIterable<>(source, this.defaultErrorHandler, async == BACKPRESSURE).iterator();
     }
 
+    private ReactiveSeq<T> createSeq(FanOutBuffer.Copy<T> copy) {
+        return copyOf(copy).onClose(copy::close);
+    }
+
+    /**
+     * A Stream over one of the copies of this Stream, which does not share its close handlers (closing one copy must
+     * not release what the others are still reading)
+     */
+    private ReactiveSeq<T> copyOf(Iterable<T> copy) {
+        return new ReactiveStreamX<T>(new IterableSourceOperator<>(copy), defaultErrorHandler, SYNC);
+    }
+
     <X> ReactiveStreamX<X> createSeq(Operator<X> stream) {
-        return new ReactiveStreamX<X>(stream, defaultErrorHandler, async);
+        return closeWith(new ReactiveStreamX<X>(stream, defaultErrorHandler, async));
     }
 
     <X> ReactiveStreamX<X> createSeq(Operator<X> stream, Type async) {
-        return new ReactiveStreamX<X>(stream, defaultErrorHandler, async);
+        return closeWith(new ReactiveStreamX<X>(stream, defaultErrorHandler, async));
     }
 
 
@@ -287,6 +308,11 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(new SlidingOperator<>(source, Function.identity(), windowSize, increment));
     }
 
+    @Override
+    public <R> ReactiveSeq<R> slidingWindow(final int windowSize, final int increment, final Supplier<? extends SlidingWindow<T, ? extends R>> window) {
+        return createSeq(new SlidingOperator<T,VectorX<T>,R>(source, window, windowSize, increment));
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingOperator<T, List<T>, ListX<T>>(source, () -> new ArrayList(groupSize), c -> ListX.fromIterable(c), groupSize));
@@ -388,7 +414,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
 
 
-        return createSeq(new MapOperator<T, R>(this.source, fn));
+        return createSeq(FusedOperator.map(this.source, fn));
     }
 
 
@@ -430,7 +456,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
-        return createSeq(new FilterOperator<T>(source, fn));
+        return createSeq(FusedOperator.filter(source, fn));
 
     }
 
@@ -474,8 +500,8 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         if (StreamAdapter.stream instanceof ReactiveSeq)
             return (ReactiveSeq) rStream;
         if (StreamAdapter.stream instanceof Iterable)
-            return new ReactiveStreamX<>(new IterableSourceOperator<>((Iterable<R>) rStream));
-        return new ReactiveStreamX<>(new SpliteratorToOperator<>(rStream.spliterator()));
+            return closeWith(new ReactiveStreamX<>(new IterableSourceOperator<>((Iterable<R>) rStream)));
+        return closeWith(new ReactiveStreamX<>(new SpliteratorToOperator<>(rStream.spliterator())));
     }
 
     @Override
@@ -1092,12 +1118,12 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public ReactiveSeq<T> limit(long num) {
-        return createSeq(new LimitOperator<>(source, num));
+        return createSeq(FusedOperator.limit(source, num));
     }
 
     @Override
     public ReactiveSeq<T> skip(long num) {
-        return createSeq(new SkipOperator<>(source, num));
+        return createSeq(FusedOperator.skip(source, num));
     }
 
     @Override
@@ -1114,13 +1140,14 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate() {
+        return duplicate(FanOutPolicy.onHeap());
+    }
 
-
-        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 2);
-        return Tuple.tuple(createSeq(new IterableSourceOperator<>(copy.get(0)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(1)), SYNC));
-
-
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> copy = FanOutBuffer.copies(() -> iterator(), 2, policy, this::close);
+        return Tuple.tuple(createSeq(copy.get(0)),
+                createSeq(copy.get(1)));
     }
 
     @Override
@@ -1128,8 +1155,8 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
 
         ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 2, bufferFactory);
-        return Tuple.tuple(createSeq(new IterableSourceOperator<>(copy.get(0)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(1)), SYNC));
+        return Tuple.tuple(copyOf(copy.get(0)),
+                copyOf(copy.get(1)));
 
 
     }
@@ -1137,13 +1164,14 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     @Override
     @SuppressWarnings("unchecked")
     public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate() {
+        return triplicate(FanOutPolicy.onHeap());
+    }
 
-
-        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 3);
-        return Tuple.tuple(createSeq(new IterableSourceOperator<>(copy.get(0)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(1)), SYNC), createSeq(new IterableSourceOperator<>(copy.get(2)), SYNC));
-
-
+    @Override
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> copy = FanOutBuffer.copies(() -> iterator(), 3, policy, this::close);
+        return Tuple.tuple(createSeq(copy.get(0)),
+                createSeq(copy.get(1)), createSeq(copy.get(2)));
     }
 
     @Override
@@ -1152,8 +1180,8 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
 
         ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 3, bufferFactory);
-        return Tuple.tuple(createSeq(new IterableSourceOperator<>(copy.get(0)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(1)), SYNC), createSeq(new IterableSourceOperator<>(copy.get(2)), SYNC));
+        return Tuple.tuple(copyOf(copy.get(0)),
+                copyOf(copy.get(1)), copyOf(copy.get(2)));
 
     }
 
@@ -1194,31 +1222,34 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
             return result;
 
         }
-        return Streams.toBufferingCopier(() -> iterator(), num, () -> new ArrayDeque<T>(100))
-                .map(ReactiveSeq::fromIterable);
+        return FanOutBuffer.copies(() -> iterator(), num, FanOutPolicy.<T>onHeap(), this::close)
+                .map(FanOutBuffer.Copy::stream);
     }
 
 
     @Override
     @SuppressWarnings("unchecked")
     public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate() {
-        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 4);
-        return Tuple.tuple(createSeq(new IterableSourceOperator<>(copy.get(0)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(1)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(2)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(3)), SYNC));
-
+        return quadruplicate(FanOutPolicy.onHeap());
+    }
 
+    @Override
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> copy = FanOutBuffer.copies(() -> iterator(), 4, policy, this::close);
+        return Tuple.tuple(createSeq(copy.get(0)),
+                createSeq(copy.get(1)),
+                createSeq(copy.get(2)),
+                createSeq(copy.get(3)));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(Supplier<Deque<T>> bufferFactory) {
         ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> iterator(), 4, bufferFactory);
-        return Tuple.tuple(createSeq(new IterableSourceOperator<>(copy.get(0)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(1)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(2)), SYNC),
-                createSeq(new IterableSourceOperator<>(copy.get(3)), SYNC));
+        return Tuple.tuple(copyOf(copy.get(0)),
+                copyOf(copy.get(1)),
+                copyOf(copy.get(2)),
+                copyOf(copy.get(3)));
     }
 
     @Override
@@ -1235,11 +1266,14 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(final int where) {
-        final Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> Tuple2 = duplicate();
-        return new Tuple2(
-                Tuple2._1().limit(where), Tuple2._2().skip(where));
-
+        return splitAt(where, FanOutPolicy.onHeap());
+    }
 
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(final int where, FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> split = FanOutBuffer.split(() -> iterator(), where, policy, this::close);
+        return Tuple.tuple(createSeq(split.get(0)),
+                createSeq(split.get(1)));
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.oath.cyclops.internal.stream.spliterators.push.ValueEmittingSpliterat
 import com.oath.cyclops.types.futurestream.Continuation;
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber;
 import com.oath.cyclops.types.reactive.ValueSubscriber;
+import com.oath.cyclops.types.stream.SlidingWindow;
 import com.oath.cyclops.internal.stream.publisher.PublisherIterable;
 import com.oath.cyclops.internal.stream.spliterators.*;
 import cyclops.async.QueueFactories;
@@ -177,6 +178,11 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return createSeq(new SlidingSpliterator<>(get(),Function.identity(), windowSize,increment), reversible);
     }
 
+    @Override
+    public <R> ReactiveSeq<R> slidingWindow(final int windowSize, final int increment, final Supplier<? extends SlidingWindow<T, ? extends R>> window) {
+        return createSeq(new SlidingSpliterator<T,R>(get(),window, windowSize,increment), reversible);
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingSpliterator<T,List<T>,ListX<T>>(get(),()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize), this.reversible);
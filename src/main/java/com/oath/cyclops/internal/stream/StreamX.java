@@ -1,8 +1,10 @@
 package com.oath.cyclops.internal.stream;
 
+import com.oath.cyclops.internal.stream.fanout.FanOutBuffer;
 import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.IteratableSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.oath.cyclops.types.stream.FanOutPolicy;
 import cyclops.companion.Streams;
 import cyclops.collections.mutable.ListX;
 import cyclops.control.Option;
@@ -45,14 +47,26 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
                 .flatMapI(i->i);
     }
 
+    private ReactiveSeq<T> createSeq(FanOutBuffer.Copy<T> copy) {
+        return copyOf(copy).onClose(copy::close);
+    }
+
+    /**
+     * A Stream over one of the copies of this Stream, which does not share its close handlers (closing one copy must
+     * not release what the others are still reading)
+     */
+    private ReactiveSeq<T> copyOf(Iterable<T> copy) {
+        return new StreamX<T>(new IteratableSpliterator<>(copy), Optional.empty());
+    }
+
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return closeWith(new StreamX<X>(stream,reversible));
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return closeWith(new StreamX<X>(stream,reversible));
     }
 
 
@@ -67,53 +81,61 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate() {
-        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> Spliterators.iterator(copy()), 2);
-
-        return Tuple.tuple(createSeq(new IteratableSpliterator<>(copy.get(0))),
-                createSeq(new IteratableSpliterator<>(copy.get(1))));
-
+        return duplicate(FanOutPolicy.onHeap());
+    }
 
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> copy = FanOutBuffer.copies(() -> Spliterators.iterator(copy()), 2, policy, this::close);
+        return Tuple.tuple(createSeq(copy.get(0)),
+                createSeq(copy.get(1)));
     }
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(Supplier<Deque<T>> bufferFactory) {
 
         ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> Spliterators.iterator(copy()), 2,bufferFactory);
 
-        return Tuple.tuple(createSeq(new IteratableSpliterator<>(copy.get(0))),
-                createSeq(new IteratableSpliterator<>(copy.get(1))));
+        return Tuple.tuple(copyOf(copy.get(0)),
+                copyOf(copy.get(1)));
 
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate() {
-        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> Spliterators.iterator(copy()), 3);
-
-        return Tuple.tuple(createSeq(new IteratableSpliterator<>(copy.get(0))),
-                createSeq(new IteratableSpliterator<>(copy.get(1))),
-                createSeq(new IteratableSpliterator<>(copy.get(2))));
-
+        return triplicate(FanOutPolicy.onHeap());
+    }
 
+    @Override
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> copy = FanOutBuffer.copies(() -> Spliterators.iterator(copy()), 3, policy, this::close);
+        return Tuple.tuple(createSeq(copy.get(0)),
+                createSeq(copy.get(1)),
+                createSeq(copy.get(2)));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate() {
-        ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> Spliterators.iterator(copy()), 4);
+        return quadruplicate(FanOutPolicy.onHeap());
+    }
 
-        return Tuple.tuple(createSeq(new IteratableSpliterator<>(copy.get(0))),
-                createSeq(new IteratableSpliterator<>(copy.get(1))),
-                createSeq(new IteratableSpliterator<>(copy.get(2))),
-                createSeq(new IteratableSpliterator<>(copy.get(3))));
+    @Override
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> copy = FanOutBuffer.copies(() -> Spliterators.iterator(copy()), 4, policy, this::close);
+        return Tuple.tuple(createSeq(copy.get(0)),
+                createSeq(copy.get(1)),
+                createSeq(copy.get(2)),
+                createSeq(copy.get(3)));
     }
     @Override
     @SuppressWarnings("unchecked")
     public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(Supplier<Deque<T>> bufferFactory) {
         ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> Spliterators.iterator(copy()), 3,bufferFactory);
 
-        return Tuple.tuple(createSeq(new IteratableSpliterator<>(copy.get(0))),
-                createSeq(new IteratableSpliterator<>(copy.get(1))),
-                createSeq(new IteratableSpliterator<>(copy.get(2))));
+        return Tuple.tuple(copyOf(copy.get(0)),
+                copyOf(copy.get(1)),
+                copyOf(copy.get(2)));
 
 
     }
@@ -123,10 +145,10 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
     public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(Supplier<Deque<T>> bufferFactory) {
         ListX<Iterable<T>> copy = Streams.toBufferingCopier(() -> Spliterators.iterator(copy()), 4,bufferFactory);
 
-        return Tuple.tuple(createSeq(new IteratableSpliterator<>(copy.get(0))),
-                createSeq(new IteratableSpliterator<>(copy.get(1))),
-                createSeq(new IteratableSpliterator<>(copy.get(2))),
-                createSeq(new IteratableSpliterator<>(copy.get(3))));
+        return Tuple.tuple(copyOf(copy.get(0)),
+                copyOf(copy.get(1)),
+                copyOf(copy.get(2)),
+                copyOf(copy.get(3)));
     }
 
     @Override
@@ -141,11 +163,14 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(final int where) {
-        final Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> Tuple2 = duplicate();
-        return new Tuple2(
-                Tuple2._1().limit(where), Tuple2._2().skip(where));
-
+        return splitAt(where, FanOutPolicy.onHeap());
+    }
 
+    @Override
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(final int where, FanOutPolicy<T> policy) {
+        ListX<FanOutBuffer.Copy<T>> split = FanOutBuffer.split(() -> Spliterators.iterator(copy()), where, policy, this::close);
+        return Tuple.tuple(createSeq(split.get(0)),
+                createSeq(split.get(1)));
     }
 
     @Override
@@ -0,0 +1,495 @@
+package com.oath.cyclops.internal.stream.fanout;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.oath.cyclops.internal.stream.spill.SpillFile;
+import com.oath.cyclops.internal.stream.spill.SpillFiles;
+import com.oath.cyclops.types.stream.FanOutPolicy;
+import cyclops.collections.mutable.ListX;
+import cyclops.reactive.ReactiveSeq;
+
+/**
+ * Shares a single pass over a source Iterator between a fixed number of cursors (the copies created by duplicate,
+ * triplicate, quadruplicate, splitAt or partition). Each cursor reads a range of positions of the source, and an
+ * element pulled from the source is only stored if another cursor still needs it, in a linked list of chunks that are
+ * released as the slowest cursor moves past them. A cursor that is alone in its part of the Stream (e.g. the suffix of
+ * a splitAt read after the prefix) reads straight from the source without any copying.
+ *
+ * How much may be stored is governed by a {@link FanOutPolicy} : past maxInMemory elements the cursor pulling from the
+ * source waits for a slower cursor being consumed on another thread, and then appends to a {@link SpillFile} if a
+ * Serializer is configured.
+ *
+ * Elements are kept for a cursor from the start of the pass, whether or not its Iterator has been requested yet, so
+ * copies consumed one after the other still share the pass. Requesting the Iterator of a copy a second time starts a
+ * new pass over a new Iterator from the source Supplier (so copies of a replayable Stream are themselves replayable),
+ * and the cursors of the previous pass that were never handed out are abandoned.
+ *
+ * Closing a copy stops keeping elements for it, the spill file of a pass is deleted once every cursor has finished or
+ * been closed (so a copy that is only read in part, e.g. with limit, should be closed along with the others). The
+ * Stream being copied is closed once every copy has been closed, not before.
+ *
+ * @param <T> Data type of elements in the Stream
+ */
+public class FanOutBuffer<T> {
+
+    private static final int CHUNK_SIZE = 256;
+    private static final int READ_BUFFER = 8192;
+    private static final int PULLED = 0;
+    private static final int WAITED = 1;
+    private static final int EXHAUSTED = 2;
+
+    private final Iterator<T> source;
+    private final FanOutPolicy<T> policy;
+    private final SpillFiles files;
+    private final List<Cursor> cursors;
+    private final ArrayDeque<Chunk> onHeap = new ArrayDeque<>();
+    private long inMemory;
+    private long tail;
+    private boolean done;
+    private T pulled;
+    private Chunk last;
+    private SpillFile<T> spill;
+    private int waiting;
+
+    FanOutBuffer(final Iterator<T> source, final long[] starts, final long[] ends, final FanOutPolicy<T> policy,
+                 final SpillFiles files) {
+        this.source = source;
+        this.policy = policy;
+        this.files = files;
+        this.cursors = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            cursors.add(new Cursor(starts[i], ends[i]));
+        }
+    }
+
+    /**
+     * @param source Supplier of Iterators over the Stream to copy
+     * @param copies Number of copies
+     * @param policy Limits on buffering
+     * @param onClose Run once every copy has been closed (e.g. to close the Stream being copied)
+     * @return Iterables that share a pass over the source where their Iterators are requested together
+     */
+    public static <T> ListX<Copy<T>> copies(final Supplier<? extends Iterator<T>> source, final int copies,
+                                                final FanOutPolicy<T> policy, final Runnable onClose) {
+        final long[] starts = new long[copies];
+        final long[] ends = new long[copies];
+        Arrays.fill(ends, Long.MAX_VALUE);
+        return new Passes<>(source, starts, ends, policy, onClose).iterables();
+    }
+
+    /**
+     * @param source Supplier of Iterators over the Stream to split
+     * @param where Position of the first element of the second Iterable
+     * @param policy Limits on buffering
+     * @param onClose Run once both Iterables have been closed (e.g. to close the Stream being split)
+     * @return The elements before where, and the elements from where onwards
+     */
+    public static <T> ListX<Copy<T>> split(final Supplier<? extends Iterator<T>> source, final long where,
+                                              final FanOutPolicy<T> policy, final Runnable onClose) {
+        final long at = Math.max(0, where);
+        return new Passes<>(source, new long[]{0, at}, new long[]{at, Long.MAX_VALUE}, policy, onClose).iterables();
+    }
+
+    /**
+     * Hand out the cursor at index, unless it has been handed out already
+     */
+    synchronized Iterator<T> join(final int index) {
+        final Cursor cursor = cursors.get(index);
+        if (cursor.joined)
+            return null;
+        cursor.joined = true;
+        return cursor;
+    }
+
+    /**
+     * Stop keeping elements for the cursors that have not been handed out
+     */
+    synchronized void abandon() {
+        for (final Cursor cursor : cursors) {
+            if (!cursor.joined && !cursor.finished)
+                finished(cursor);
+        }
+    }
+
+    /**
+     * Stop keeping elements for the cursor at index (its copy has been closed), it is not handed out afterwards
+     */
+    synchronized void close(final int index) {
+        final Cursor cursor = cursors.get(index);
+        cursor.joined = true;
+        if (!cursor.finished)
+            finished(cursor);
+        if (waiting > 0)
+            notifyAll();
+    }
+
+    private boolean needs(final Cursor cursor, final long position) {
+        return !cursor.finished && cursor.pos <= position && position < cursor.end;
+    }
+
+    /**
+     * Pull the next element from the source into pulled, storing it if a cursor other than reader needs it
+     *
+     * @return PULLED, EXHAUSTED if the source has no more elements, or WAITED if the reader waited for slower cursors
+     *         and should check its position again
+     */
+    private int pull(final Cursor reader) {
+        if (done)
+            return EXHAUSTED;
+        if (!awaitCapacity(reader))
+            return WAITED;
+        if (!source.hasNext()) {
+            done = true;
+            return EXHAUSTED;
+        }
+        pulled = source.next();
+        store(pulled, reader);
+        tail++;
+        return PULLED;
+    }
+
+    private void store(final T value, final Cursor reader) {
+        boolean needed = false;
+        for (final Cursor cursor : cursors) {
+            if (cursor != reader && needs(cursor, tail)) {
+                needed = true;
+                break;
+            }
+        }
+        if (!needed)
+            return;
+        long offset = -1;
+        if (policy.getSerializer() != null && inMemory >= policy.getMaxInMemory()) {
+            if (spill == null)
+                spill = files.create(policy.getDirectory(), policy.getSerializer());
+            offset = spill.append(value);
+            if (!appendable(true))
+                link(new Chunk(tail, null, offset));
+        } else {
+            if (!appendable(false)) {
+                link(new Chunk(tail, new Object[CHUNK_SIZE], -1));
+                onHeap.add(last);
+            }
+            last.items[last.size] = value;
+            inMemory++;
+        }
+        last.size++;
+        for (final Cursor cursor : cursors) {
+            if (cursor != reader && cursor.chunk == null && needs(cursor, tail)) {
+                cursor.chunk = last;
+                if (offset >= 0)
+                    cursor.seek(offset);
+            }
+        }
+    }
+
+    private boolean appendable(final boolean disk) {
+        return last != null && !last.sealed && last.start + last.size == tail && (last.items == null) == disk
+                && (disk || last.size < last.items.length);
+    }
+
+    private void link(final Chunk chunk) {
+        if (last != null)
+            last.next = chunk;
+        last = chunk;
+    }
+
+    /**
+     * Release the chunks on the heap that every cursor has moved past
+     */
+    private void release() {
+        long needed = tail;
+        for (final Cursor cursor : cursors) {
+            if (!cursor.finished && cursor.pos < cursor.end)
+                needed = Math.min(needed, cursor.hasLook ? cursor.pos + 1 : cursor.pos);
+        }
+        while (!onHeap.isEmpty() && onHeap.peek().start + onHeap.peek().size <= needed) {
+            final Chunk chunk = onHeap.poll();
+            chunk.sealed = true;
+            inMemory -= chunk.size;
+        }
+    }
+
+    /**
+     * Wait (up to the backpressure timeout) while the heap is full and the slowest cursor is consumed by another thread.
+     * A cursor that does not move for a whole timeout is not waited for again until it does.
+     *
+     * @return false if another cursor pulled from the source while waiting
+     */
+    private boolean awaitCapacity(final Cursor reader) {
+        release();
+        final long timeout = policy.getBackpressureNanos();
+        if (timeout <= 0 || inMemory < policy.getMaxInMemory())
+            return true;
+        final long from = tail;
+        final long deadline = System.nanoTime() + timeout;
+        Cursor first = null;
+        long firstPos = -1;
+        while (inMemory >= policy.getMaxInMemory()) {
+            final Cursor slowest = slowest(reader);
+            if (slowest == null || slowest.thread == null || slowest.thread == Thread.currentThread())
+                break;
+            if (first == null) {
+                first = slowest;
+                firstPos = slowest.pos;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                //e.g. a copy read in part on another thread and then dropped without being closed
+                if (slowest == first && slowest.pos == firstPos)
+                    slowest.stalledAt = firstPos;
+                break;
+            }
+            waiting++;
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                waiting--;
+            }
+            release();
+        }
+        return tail == from && !done;
+    }
+
+    private Cursor slowest(final Cursor reader) {
+        Cursor slowest = null;
+        for (final Cursor cursor : cursors) {
+            if (cursor != reader && !cursor.finished && cursor.pos < tail && cursor.pos < cursor.end
+                    && (slowest == null || cursor.pos < slowest.pos))
+                slowest = cursor;
+        }
+        return slowest == null || slowest.stalledAt == slowest.pos ? null : slowest;
+    }
+
+    private void finished(final Cursor finished) {
+        finished.finished = true;
+        finished.chunk = null;
+        finished.hasLook = false;
+        finished.look = null;
+        finished.reader = null;
+        for (final Cursor cursor : cursors) {
+            if (!cursor.finished)
+                return;
+        }
+        onHeap.clear();
+        inMemory = 0;
+        last = null;
+        if (spill != null) {
+            files.close(spill);
+            spill = null;
+        }
+    }
+
+    /**
+     * A run of consecutive stored elements, either on the heap (items) or in the spill file (from offset)
+     */
+    private static final class Chunk {
+        final long start;
+        final Object[] items;
+        final long offset;
+        int size;
+        boolean sealed;
+        Chunk next;
+
+        Chunk(final long start, final Object[] items, final long offset) {
+            this.start = start;
+            this.items = items;
+            this.offset = offset;
+        }
+    }
+
+    private final class Cursor implements Iterator<T> {
+        final long start;
+        final long end;
+        long pos;
+        boolean joined;
+        boolean finished;
+        boolean hasLook;
+        T look;
+        Chunk chunk;
+        SpillFile<T>.Reader reader;
+        Thread thread;
+        long stalledAt = -1;
+
+        Cursor(final long start, final long end) {
+            this.start = start;
+            this.end = end;
+            this.pos = start;
+        }
+
+        void seek(final long offset) {
+            if (reader == null)
+                reader = spill.reader(offset, READ_BUFFER);
+            else
+                reader.seek(offset);
+        }
+
+        @Override
+        public boolean hasNext() {
+            synchronized (FanOutBuffer.this) {
+                thread = Thread.currentThread();
+                if (hasLook)
+                    return true;
+                if (finished)
+                    return false;
+                while (pos < end) {
+                    if (pos < tail)
+                        return true;
+                    final long at = tail;
+                    final int pull = pull(this);
+                    if (pull == EXHAUSTED)
+                        break;
+                    if (pull == PULLED && at == pos) {
+                        look = pulled;
+                        pulled = null;
+                        hasLook = true;
+                        chunk = null;
+                        return true;
+                    }
+                }
+                pulled = null;
+                finished(this);
+                return false;
+            }
+        }
+
+        @Override
+        public T next() {
+            synchronized (FanOutBuffer.this) {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                final T value;
+                if (hasLook) {
+                    value = look;
+                    look = null;
+                    hasLook = false;
+                } else {
+                    value = stored();
+                }
+                pos++;
+                if (waiting > 0)
+                    FanOutBuffer.this.notifyAll();
+                return value;
+            }
+        }
+
+        private T stored() {
+            while (pos >= chunk.start + chunk.size) {
+                chunk = chunk.next;
+                if (chunk.items == null)
+                    seek(chunk.offset);
+            }
+            if (chunk.items == null)
+                return reader.next();
+            return (T) chunk.items[(int) (pos - chunk.start)];
+        }
+    }
+
+    /**
+     * One of the Iterables returned by {@link #copies} or {@link #split}
+     */
+    public static final class Copy<T> implements Iterable<T>, AutoCloseable {
+        private final Passes<T> passes;
+        private final int index;
+
+        private Copy(final Passes<T> passes, final int index) {
+            this.passes = passes;
+            this.index = index;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return passes.iterator(index);
+        }
+
+        /**
+         * @return A Stream over this copy that closes it when the Stream is closed
+         */
+        public ReactiveSeq<T> stream() {
+            return ReactiveSeq.fromIterable(this)
+                              .onClose(this::close);
+        }
+
+        /**
+         * Stop keeping elements for this copy
+         */
+        @Override
+        public void close() {
+            passes.close(index);
+        }
+    }
+
+    /**
+     * Starts a new pass over the source when a copy can not join the current one
+     */
+    private static final class Passes<T> {
+        private final Supplier<? extends Iterator<T>> source;
+        private final long[] starts;
+        private final long[] ends;
+        private final FanOutPolicy<T> policy;
+        private final Runnable onClose;
+        private final SpillFiles files = new SpillFiles();
+        private final boolean[] closed;
+        private FanOutBuffer<T> current;
+
+        Passes(final Supplier<? extends Iterator<T>> source, final long[] starts, final long[] ends,
+               final FanOutPolicy<T> policy, final Runnable onClose) {
+            this.source = source;
+            this.starts = starts;
+            this.ends = ends;
+            this.policy = policy;
+            this.onClose = onClose;
+            this.closed = new boolean[starts.length];
+        }
+
+        synchronized Iterator<T> iterator(final int index) {
+            closed[index] = false;
+            final Iterator<T> joined = current == null ? null : current.join(index);
+            if (joined != null)
+                return joined;
+            if (current != null)
+                current.abandon();
+            current = new FanOutBuffer<>(source.get(), starts, ends, policy, files);
+            return current.join(index);
+        }
+
+        /**
+         * Close the cursor at index in the current pass, once every copy has been closed (since it last started
+         * reading) the spill files left by earlier passes (whose cursors were abandoned part way through) are deleted
+         * too, onClose is run, and the next copy to start reading starts a new pass
+         */
+        synchronized void close(final int index) {
+            if (current != null)
+                current.close(index);
+            closed[index] = true;
+            for (final boolean c : closed) {
+                if (!c)
+                    return;
+            }
+            current = null;
+            try {
+                files.close();
+            } finally {
+                onClose.run();
+            }
+        }
+
+        ListX<Copy<T>> iterables() {
+            final List<Copy<T>> iterables = new ArrayList<>(starts.length);
+            for (int i = 0; i < starts.length; i++) {
+                iterables.add(new Copy<>(this, i));
+            }
+            return ListX.fromIterable(iterables);
+        }
+    }
+}
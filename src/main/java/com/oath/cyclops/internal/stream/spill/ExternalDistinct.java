@@ -0,0 +1,247 @@
+package com.oath.cyclops.internal.stream.spill;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import com.oath.cyclops.types.stream.SpillPolicy;
+
+/**
+ * Hash partitioned distinct : elements are emitted in encounter order while there are no more than maxInMemory
+ * distinct elements. Past that the elements already seen and every remaining element are split between partition
+ * files by hash, and each partition is deduped on its own once the source is exhausted (partitions that are still too
+ * large are split again with a different hash). Elements after the first maxInMemory distinct elements are therefore
+ * emitted grouped by partition, each in encounter order.
+ *
+ * @param <T> Data type of elements to dedupe
+ */
+public class ExternalDistinct<T> implements Iterator<T> {
+
+    private static final int READ_BUFFER = 1 << 15;
+    private static final int MAX_DEPTH = 8;
+
+    private final Iterator<T> source;
+    private final SpillPolicy<T> policy;
+    private final SpillFiles files;
+    private Set<T> seen = new HashSet<>();
+    private T next;
+    private boolean hasNext;
+    private List<Partition> partitions;
+    private int partition;
+    private Iterator<T> emitting = Collections.emptyIterator();
+
+    private ExternalDistinct(final Iterator<T> source, final SpillPolicy<T> policy, final SpillFiles files) {
+        this.source = source;
+        this.policy = policy;
+        this.files = files;
+    }
+
+    /**
+     * @param source Elements to dedupe
+     * @param policy Number of distinct elements to hold on the heap, partitions and serialization of partitions
+     * @param files Tracks the partition files, so they can be deleted if iteration stops early
+     * @return Distinct elements of source
+     */
+    public static <T> Iterator<T> distinct(final Iterator<T> source, final SpillPolicy<T> policy,
+                                           final SpillFiles files) {
+        return new ExternalDistinct<>(source, policy, files);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNext)
+            return true;
+        if (seen != null) {
+            while (source.hasNext()) {
+                final T value = source.next();
+                if (seen.contains(value))
+                    continue;
+                if (seen.size() < policy.getMaxInMemory()) {
+                    seen.add(value);
+                    return emit(value);
+                }
+                spill(value);
+                break;
+            }
+            seen = null;
+        }
+        while (!emitting.hasNext()) {
+            if (partitions == null || partition == partitions.size())
+                return false;
+            final Partition current = partitions.get(partition);
+            partitions.set(partition++, null);
+            emitting = dedupe(current, 0);
+        }
+        return emit(emitting.next());
+    }
+
+    private boolean emit(final T value) {
+        next = value;
+        hasNext = true;
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        final T value = next;
+        next = null;
+        hasNext = false;
+        return value;
+    }
+
+    /**
+     * Move the elements seen so far, value and the rest of the source into partition files
+     */
+    private void spill(final T value) {
+        partitions = partitions();
+        try {
+            for (final T emitted : seen) {
+                partitions.get(index(emitted, 0)).add(emitted, true);
+            }
+            seen = null;
+            partitions.get(index(value, 0)).add(value, false);
+            while (source.hasNext()) {
+                final T element = source.next();
+                partitions.get(index(element, 0)).add(element, false);
+            }
+        } catch (final RuntimeException | Error e) {
+            for (final Partition p : partitions) {
+                p.close();
+            }
+            throw e;
+        }
+    }
+
+    private List<Partition> partitions() {
+        final List<Partition> created = new ArrayList<>(policy.getPartitions());
+        for (int i = 0; i < policy.getPartitions(); i++) {
+            created.add(new Partition());
+        }
+        return created;
+    }
+
+    private int index(final T value, final int depth) {
+        int h = Objects.hashCode(value) ^ (depth * 0x9E3779B9);
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return Math.floorMod(h, policy.getPartitions());
+    }
+
+    /**
+     * @return The elements of the partition that have not been emitted already
+     */
+    private Iterator<T> dedupe(final Partition current, final int depth) {
+        if (current.count == 0)
+            return Collections.emptyIterator();
+        try {
+            final Set<T> emitted = new HashSet<>();
+            final List<T> fresh = new ArrayList<>();
+            final SpillFile<T>.Reader reader = current.reader();
+            long read = 0;
+            for (; read < current.emitted; read++) {
+                emitted.add(reader.next());
+            }
+            for (; read < current.count && emitted.size() <= policy.getMaxInMemory(); read++) {
+                final T value = reader.next();
+                if (emitted.add(value))
+                    fresh.add(value);
+            }
+            if (read == current.count || depth == MAX_DEPTH)
+                return finish(fresh, emitted, reader, read, current);
+            return split(current, depth);
+        } finally {
+            current.close();
+        }
+    }
+
+    /**
+     * Complete a partition on the heap (only when the depth limit is reached does this hold more than maxInMemory)
+     */
+    private Iterator<T> finish(final List<T> fresh, final Set<T> emitted, final SpillFile<T>.Reader reader, long read,
+                               final Partition current) {
+        for (; read < current.count; read++) {
+            final T value = reader.next();
+            if (emitted.add(value))
+                fresh.add(value);
+        }
+        return fresh.iterator();
+    }
+
+    /**
+     * Split a partition with too many distinct elements into partitions by a different hash, and dedupe those in turn
+     */
+    private Iterator<T> split(final Partition current, final int depth) {
+        final List<Partition> split = partitions();
+        try {
+            final SpillFile<T>.Reader reader = current.reader();
+            for (long read = 0; read < current.count; read++) {
+                final T value = reader.next();
+                split.get(index(value, depth + 1)).add(value, read < current.emitted);
+            }
+        } catch (final RuntimeException | Error e) {
+            for (final Partition p : split) {
+                p.close();
+            }
+            throw e;
+        }
+        final Iterator<Partition> remaining = split.iterator();
+        return new Iterator<T>() {
+            Iterator<T> active = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!active.hasNext() && remaining.hasNext()) {
+                    final Partition p = remaining.next();
+                    remaining.remove();
+                    active = dedupe(p, depth + 1);
+                }
+                return active.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return active.next();
+            }
+        };
+    }
+
+    /**
+     * A partition file : the elements already emitted first, followed by the elements still to dedupe
+     */
+    private final class Partition {
+        private SpillFile<T> file;
+        long emitted;
+        long count;
+
+        void add(final T value, final boolean wasEmitted) {
+            if (file == null)
+                file = files.create(policy.getDirectory(), policy.getSerializer());
+            file.append(value);
+            if (wasEmitted)
+                emitted++;
+            count++;
+        }
+
+        SpillFile<T>.Reader reader() {
+            return file.reader(0, READ_BUFFER);
+        }
+
+        void close() {
+            if (file != null)
+                files.close(file);
+            file = null;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.oath.cyclops.internal.stream.spill;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import com.oath.cyclops.types.stream.SpillPolicy;
+
+/**
+ * External merge sort : the source is read in runs of up to maxInMemory elements, each run is sorted on the heap and
+ * written to a {@link SpillFile}, and the runs are then merged, at most fanIn at a time (with intermediate merge
+ * passes if there are more runs than that). A source that fits in a single run is sorted on the heap without touching
+ * the disk. The sort is stable.
+ *
+ * @param <T> Data type of elements to sort
+ */
+public class ExternalSort<T> {
+
+    private static final int READ_BUFFER = 1 << 15;
+
+    private final Comparator<? super T> comparator;
+    private final SpillPolicy<T> policy;
+    private final SpillFiles files;
+
+    private ExternalSort(final Comparator<? super T> comparator, final SpillPolicy<T> policy, final SpillFiles files) {
+        this.comparator = comparator;
+        this.policy = policy;
+        this.files = files;
+    }
+
+    /**
+     * Read the source into sorted runs
+     *
+     * @param source Elements to sort
+     * @param comparator Order to sort into
+     * @param policy Run size, fan in and serialization of runs
+     * @param files Tracks the temporary files, so they can be deleted if iteration stops early
+     * @return The sorted elements, which can be iterated once (any temporary file is deleted when iteration completes)
+     */
+    public static <T> Iterable<T> sort(final Iterator<T> source, final Comparator<? super T> comparator,
+                                       final SpillPolicy<T> policy, final SpillFiles files) {
+        return new ExternalSort<T>(comparator, policy, files).runs(source);
+    }
+
+    private Iterable<T> runs(final Iterator<T> source) {
+        final List<T> run = new ArrayList<>();
+        SpillFile<T> file = null;
+        final List<Run> runs = new ArrayList<>();
+        try {
+            while (source.hasNext()) {
+                run.add(source.next());
+                if (run.size() == policy.getMaxInMemory() && source.hasNext()) {
+                    if (file == null)
+                        file = files.create(policy.getDirectory(), policy.getSerializer());
+                    runs.add(write(file, run));
+                    run.clear();
+                }
+            }
+            if (file == null) {
+                run.sort(comparator);
+                return run;
+            }
+            runs.add(write(file, run));
+            run.clear();
+            while (runs.size() > policy.getFanIn()) {
+                file = mergePass(file, runs);
+            }
+        } catch (final RuntimeException | Error e) {
+            if (file != null)
+                files.close(file);
+            throw e;
+        }
+        final SpillFile<T> merged = file;
+        return () -> new Merge(merged, runs);
+    }
+
+    private Run write(final SpillFile<T> file, final List<T> run) {
+        run.sort(comparator);
+        final long offset = file.end();
+        for (final T next : run) {
+            file.append(next);
+        }
+        return new Run(offset, run.size());
+    }
+
+    /**
+     * Merge groups of fanIn runs into a new file, replacing runs with the merged runs
+     */
+    private SpillFile<T> mergePass(final SpillFile<T> file, final List<Run> runs) {
+        final SpillFile<T> next = files.create(policy.getDirectory(), policy.getSerializer());
+        try {
+            final List<Run> merged = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i += policy.getFanIn()) {
+                final List<Run> group = runs.subList(i, Math.min(runs.size(), i + policy.getFanIn()));
+                final long offset = next.end();
+                long count = 0;
+                final Merge merge = new Merge(null, group);
+                merge.open(file);
+                while (merge.hasNext()) {
+                    next.append(merge.next());
+                    count++;
+                }
+                merged.add(new Run(offset, count));
+            }
+            runs.clear();
+            runs.addAll(merged);
+        } catch (final RuntimeException | Error e) {
+            files.close(next);
+            throw e;
+        } finally {
+            files.close(file);
+        }
+        return next;
+    }
+
+    private static final class Run {
+        final long offset;
+        final long count;
+
+        Run(final long offset, final long count) {
+            this.offset = offset;
+            this.count = count;
+        }
+    }
+
+    /**
+     * The head element of a run during a merge, ties between runs are broken by run index to keep the sort stable
+     */
+    private final class Head {
+        final int index;
+        final SpillFile<T>.Reader reader;
+        long remaining;
+        T value;
+
+        Head(final int index, final SpillFile<T>.Reader reader, final long remaining) {
+            this.index = index;
+            this.reader = reader;
+            this.remaining = remaining;
+        }
+
+        boolean advance() {
+            if (remaining == 0)
+                return false;
+            value = reader.next();
+            remaining--;
+            return true;
+        }
+    }
+
+    /**
+     * k-way merge of runs, closing file (if set) once the last element has been read
+     */
+    private final class Merge implements Iterator<T> {
+        private final SpillFile<T> file;
+        private final List<Run> runs;
+        private PriorityQueue<Head> heads;
+
+        Merge(final SpillFile<T> file, final List<Run> runs) {
+            this.file = file;
+            this.runs = runs;
+        }
+
+        void open(final SpillFile<T> from) {
+            heads = new PriorityQueue<>(Math.max(1, runs.size()), (a, b) -> {
+                final int order = comparator.compare(a.value, b.value);
+                return order != 0 ? order : Integer.compare(a.index, b.index);
+            });
+            for (int i = 0; i < runs.size(); i++) {
+                final Run run = runs.get(i);
+                final Head head = new Head(i, from.reader(run.offset, READ_BUFFER), run.count);
+                if (head.advance())
+                    heads.add(head);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (heads == null)
+                open(file);
+            if (heads.isEmpty()) {
+                if (file != null)
+                    files.close(file);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            final Head head = heads.poll();
+            final T value = head.value;
+            if (head.advance())
+                heads.add(head);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.oath.cyclops.internal.stream.spill;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.async.adapters.MappedLogQueue;
+
+/**
+ * An append only temporary file of length prefixed records, converted to and from bytes by a
+ * {@link MappedLogQueue.Serializer}. Writes are buffered and flushed when a {@link Reader} reaches data that has not
+ * been written yet, so records can be read back (from any number of Readers) while the file is still being appended
+ * to. The file is deleted on {@link #close()}.
+ *
+ * A SpillFile is not thread safe.
+ *
+ * @param <T> Data type of the records
+ */
+public class SpillFile<T> implements AutoCloseable {
+
+    private static final int WRITE_BUFFER = 1 << 16;
+
+    private final MappedLogQueue.Serializer<T> serializer;
+    private final File file;
+    private final RandomAccessFile raf;
+    private final FileChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER);
+    private long flushed;
+
+    /**
+     * @param directory Directory to create the file in, or null for the default temporary directory
+     * @param serializer Serializer for records
+     */
+    public SpillFile(final File directory, final MappedLogQueue.Serializer<T> serializer) {
+        this.serializer = serializer;
+        try {
+            this.file = File.createTempFile("cyclops-spill", ".tmp", directory);
+            this.raf = new RandomAccessFile(file, "rw");
+            this.channel = raf.getChannel();
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @param value Record to append
+     * @return Offset of the record, to read it back with {@link #reader(long, int)}
+     */
+    public long append(final T value) {
+        final byte[] bytes = serializer.serialize(value);
+        final long offset = end();
+        if (writeBuffer.remaining() < 4 + bytes.length) {
+            flush();
+            if (4 + bytes.length > writeBuffer.capacity()) {
+                final ByteBuffer large = ByteBuffer.allocate(4 + bytes.length);
+                large.putInt(bytes.length).put(bytes).flip();
+                write(large);
+                return offset;
+            }
+        }
+        writeBuffer.putInt(bytes.length).put(bytes);
+        return offset;
+    }
+
+    /**
+     * @return Offset at which the next record will be appended
+     */
+    public long end() {
+        return flushed + writeBuffer.position();
+    }
+
+    private void flush() {
+        writeBuffer.flip();
+        write(writeBuffer);
+        writeBuffer.clear();
+    }
+
+    private void write(final ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                flushed += channel.write(buffer, flushed);
+            }
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @param offset Offset of the first record to read
+     * @param bufferSize Number of bytes to read from the file at a time
+     * @return Reader for the records from offset onwards
+     */
+    public Reader reader(final long offset, final int bufferSize) {
+        return new Reader(offset, bufferSize);
+    }
+
+    /**
+     * Close and delete the file
+     */
+    @Override
+    public void close() {
+        try {
+            raf.close();
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Reads consecutive records from an offset, through its own read buffer
+     */
+    public final class Reader {
+        private final ByteBuffer buffer;
+        private long bufferStart;
+        private long position;
+
+        private Reader(final long position, final int bufferSize) {
+            this.buffer = ByteBuffer.allocate(bufferSize);
+            this.buffer.limit(0);
+            this.position = position;
+        }
+
+        /**
+         * @param offset Offset of the next record to read
+         */
+        public void seek(final long offset) {
+            position = offset;
+        }
+
+        /**
+         * @return Offset of the next record
+         */
+        public long position() {
+            return position;
+        }
+
+        /**
+         * @return Next record (the caller keeps track of how many records there are)
+         */
+        public T next() {
+            final byte[] length = new byte[4];
+            read(length);
+            final byte[] bytes = new byte[((length[0] & 0xff) << 24) | ((length[1] & 0xff) << 16)
+                    | ((length[2] & 0xff) << 8) | (length[3] & 0xff)];
+            read(bytes);
+            return serializer.deserialize(bytes);
+        }
+
+        private void read(final byte[] into) {
+            int read = 0;
+            while (read < into.length) {
+                if (position < bufferStart || position >= bufferStart + buffer.limit())
+                    fill();
+                final int index = (int) (position - bufferStart);
+                final int count = Math.min(into.length - read, buffer.limit() - index);
+                buffer.position(index);
+                buffer.get(into, read, count);
+                read += count;
+                position += count;
+            }
+        }
+
+        private void fill() {
+            if (position >= flushed)
+                flush();
+            buffer.clear();
+            bufferStart = position;
+            try {
+                while (buffer.hasRemaining() && bufferStart + buffer.position() < flushed) {
+                    if (channel.read(buffer, bufferStart + buffer.position()) < 0)
+                        break;
+                }
+            } catch (final IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.oath.cyclops.internal.stream.spill;
+
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cyclops.async.adapters.MappedLogQueue;
+
+/**
+ * The {@link SpillFile}s of a Stream that are still open. Files are normally closed as soon as they have been read to
+ * the end, a Stream that stops early (e.g. after limit or findFirst) releases the rest when it is closed.
+ */
+public class SpillFiles implements AutoCloseable {
+
+    private final Set<SpillFile<?>> open = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param directory Directory to create the file in, or null for the default temporary directory
+     * @param serializer Serializer for records
+     * @return A new SpillFile, open until it is passed to {@link #close(SpillFile)} or this is closed
+     */
+    public <T> SpillFile<T> create(final File directory, final MappedLogQueue.Serializer<T> serializer) {
+        final SpillFile<T> file = new SpillFile<>(directory, serializer);
+        open.add(file);
+        return file;
+    }
+
+    /**
+     * Close and delete file, if it is still open
+     */
+    public void close(final SpillFile<?> file) {
+        if (open.remove(file))
+            file.close();
+    }
+
+    /**
+     * Close and delete every file that is still open (files created afterwards are tracked as before)
+     */
+    @Override
+    public void close() {
+        RuntimeException error = null;
+        for (final SpillFile<?> file : open) {
+            try {
+                close(file);
+            } catch (final RuntimeException e) {
+                if (error == null)
+                    error = e;
+                else
+                    error.addSuppressed(e);
+            }
+        }
+        if (error != null)
+            throw error;
+    }
+}
@@ -0,0 +1,71 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Makes a Spliterator that can't split itself usable in parallel Streams, by handing off arrays of up to batchSize elements
+ * on each split
+ *
+ * @param <T> Data type of elements
+ */
+public class BatchingSpliterator<T> implements Spliterator<T> {
+
+    private static final int PASSED_ON = ORDERED | DISTINCT | NONNULL | IMMUTABLE | CONCURRENT;
+
+    private final Spliterator<T> source;
+    private final int batchSize;
+    private final int characteristics;
+    private long remaining;
+
+    public BatchingSpliterator(Spliterator<T> source, int batchSize) {
+        this.source = source;
+        this.batchSize = batchSize;
+        int sourceCharacteristics = source.characteristics();
+        this.characteristics = sourceCharacteristics & (PASSED_ON | SIZED);
+        this.remaining = (sourceCharacteristics & SIZED) != 0 ? source.estimateSize() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (source.tryAdvance(action)) {
+            remaining--;
+            return true;
+        }
+        remaining = 0;
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(action);
+        remaining = 0;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Object[] batch = new Object[batchSize];
+        int[] size = {0};
+        Consumer<T> collect = t -> batch[size[0]++] = t;
+        while (size[0] < batchSize && source.tryAdvance(collect)) {
+        }
+        if (size[0] == 0) {
+            remaining = 0;
+            return null;
+        }
+        if (remaining != Long.MAX_VALUE)
+            remaining = Math.max(0, remaining - size[0]);
+        return Spliterators.spliterator(batch, 0, size[0], (characteristics & PASSED_ON) | SIZED | SUBSIZED);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,69 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Sized Spliterator over an index addressable source, that splits in half
+ *
+ * @param <T> Data type of elements
+ */
+public class IndexedSpliterator<T> implements Spliterator<T> {
+
+    private final LongFunction<? extends T> elementAt;
+    private long index;
+    private final long end;
+
+    /**
+     * @param elementAt Element at the specified index
+     * @param start Index of the first element (inclusive)
+     * @param end Index after the last element (exclusive)
+     */
+    public IndexedSpliterator(LongFunction<? extends T> elementAt, long start, long end) {
+        this.elementAt = elementAt;
+        this.index = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (index < end) {
+            action.accept(elementAt.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        long i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(elementAt.apply(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long mid = (index + end) >>> 1;
+        if (mid <= index)
+            return null;
+        IndexedSpliterator<T> prefix = new IndexedSpliterator<>(elementAt, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
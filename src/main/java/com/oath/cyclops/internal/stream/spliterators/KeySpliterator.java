@@ -0,0 +1,71 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import cyclops.data.tuple.Tuple2;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the keys of a Spliterator of key / value pairs (such as the node walking Spliterators of the
+ * persistent maps, for the Sets built on them). It splits wherever the pair Spliterator splits.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class KeySpliterator<K,V> implements CopyableSpliterator<K> {
+
+    private final Spliterator<Tuple2<K,V>> source;
+    private final Comparator<? super K> comparator;
+
+    /**
+     * @param source Spliterator of key / value pairs
+     * @param comparator Order of the keys, if source is SORTED
+     */
+    public KeySpliterator(Spliterator<Tuple2<K,V>> source, Comparator<? super K> comparator) {
+        this.source = source;
+        this.comparator = comparator;
+    }
+
+    public KeySpliterator(Spliterator<Tuple2<K,V>> source) {
+        this(source,null);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super K> action) {
+        return source.tryAdvance(t->action.accept(t._1()));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super K> action) {
+        source.forEachRemaining(t->action.accept(t._1()));
+    }
+
+    @Override
+    public Spliterator<K> trySplit() {
+        Spliterator<Tuple2<K,V>> split = source.trySplit();
+        return split==null ? null : new KeySpliterator<>(split,comparator);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics();
+    }
+
+    @Override
+    public Comparator<? super K> getComparator() {
+        if(!hasCharacteristics(SORTED))
+            throw new IllegalStateException();
+        return comparator;
+    }
+
+    @Override
+    public Spliterator<K> copy() {
+        return new KeySpliterator<>(CopyableSpliterator.copy(source),comparator);
+    }
+}
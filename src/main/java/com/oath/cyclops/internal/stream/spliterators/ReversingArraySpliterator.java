@@ -2,13 +2,14 @@ package com.oath.cyclops.internal.stream.spliterators;
 
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
 import lombok.Getter;
 import lombok.Setter;
 
 //@AllArgsConstructor
-public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, Indexable<T> {
+public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, Indexable<T>, SplittableSpliterator<T> {
 
     private final Object[] array;
     private int max;
@@ -99,6 +100,14 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
         return this;
     }
 
+    @Override
+    public Spliterator<T> splittable() {
+        if (!reverse)
+            return Spliterators.spliterator(array, Math.max(index, 0), Math.max(index, max), ORDERED | IMMUTABLE);
+        final int from = index;
+        return new IndexedSpliterator<T>(i -> (T) array[from - (int) i], 0, from < max ? Math.max(0, from - start + 1) : 0);
+    }
+
     @Override
     public ReversableSpliterator<T> copy() {
 
@@ -3,6 +3,7 @@ package com.oath.cyclops.internal.stream.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
@@ -11,7 +12,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @AllArgsConstructor
-public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator<T> {
+public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator<T>, SplittableSpliterator<T> {
 
     private final List<T> list;
     private ListIterator<T> it;
@@ -74,6 +75,21 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     }
 
+    @Override
+    public Spliterator<T> splittable() {
+        if (!reverse) {
+            final int from = it.nextIndex();
+            if (list instanceof RandomAccess)
+                return new IndexedSpliterator<T>(i -> list.get(from + (int) i), 0, list.size() - from);
+            return list.subList(from, list.size()).spliterator();
+        }
+        if (list instanceof RandomAccess) {
+            final int from = it.previousIndex();
+            return new IndexedSpliterator<T>(i -> list.get(from - (int) i), 0, from + 1);
+        }
+        return null;
+    }
+
     @Override
     public Spliterator<T> trySplit() {
 
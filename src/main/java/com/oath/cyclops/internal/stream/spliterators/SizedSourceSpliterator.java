@@ -0,0 +1,82 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Replayable Spliterator over a sized collection, that traverses sequentially with the collection's own (fast sequential)
+ * Spliterator and provides a separate splittable Spliterator for parallel execution
+ *
+ * @param <T> Data type of elements
+ */
+public class SizedSourceSpliterator<T> implements CopyableSpliterator<T>, SplittableSpliterator<T> {
+
+    private final Supplier<? extends Spliterator<T>> sequential;
+    private final Supplier<? extends Spliterator<T>> splittable;
+    private final long size;
+    private final int characteristics;
+
+    private Spliterator<T> active;
+
+    /**
+     * @param sequential Creates a Spliterator for sequential traversal
+     * @param splittable Creates a sized Spliterator that splits evenly
+     * @param size Number of elements
+     * @param characteristics Characteristics of the source, in addition to SIZED
+     */
+    public SizedSourceSpliterator(Supplier<? extends Spliterator<T>> sequential, Supplier<? extends Spliterator<T>> splittable,
+                                  long size, int characteristics) {
+        this.sequential = sequential;
+        this.splittable = splittable;
+        this.size = size;
+        this.characteristics = characteristics;
+    }
+
+    private Spliterator<T> active() {
+        if (active == null)
+            active = sequential.get();
+        return active;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return active().tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        active().forEachRemaining(action);
+    }
+
+    /**
+     * Not split directly, use {@link #splittable()}
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    /**
+     * @return Splittable Spliterator over all elements, or null if traversal has already started
+     */
+    @Override
+    public Spliterator<T> splittable() {
+        return active == null ? splittable.get() : null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return active == null ? size : active.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return active == null ? characteristics | SIZED : characteristics;
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new SizedSourceSpliterator<>(sequential, splittable, size, characteristics);
+    }
+}
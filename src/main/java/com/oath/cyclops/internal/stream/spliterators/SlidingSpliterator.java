@@ -1,14 +1,15 @@
 package com.oath.cyclops.internal.stream.spliterators;
 
+import com.oath.cyclops.types.stream.SlidingWindow;
 import com.oath.cyclops.util.box.Mutable;
 import cyclops.collections.immutable.VectorX;
-import cyclops.data.Vector;
 
 
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Created by johnmcclean on 22/12/2016.
@@ -17,25 +18,29 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
                                 implements CopyableSpliterator<R>,ComposableFunction<R,T,SlidingSpliterator<T,?>> {
     private final Spliterator<T> source;
 
-    private final Function<? super VectorX<T>, ? extends R> finalizer;
+    private final Supplier<? extends SlidingWindow<T,? extends R>> windowFactory;
     private final int windowSize;
     private final int increment;
-    final Mutable<Vector<T>> list = Mutable.of(Vector.empty());
+    final SlidingWindow<T,? extends R> window;
     public SlidingSpliterator(final Spliterator<T> source,  Function<? super VectorX<T>, ? extends R> finalizer,
                                 int windowSize, int increment) {
+        this(source,()->SlidingWindow.<T>snapshots(windowSize).map(finalizer),windowSize,increment);
+    }
+    public SlidingSpliterator(final Spliterator<T> source,  Supplier<? extends SlidingWindow<T,? extends R>> windowFactory,
+                              int windowSize, int increment) {
         super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
 
         this.source = source;
 
         this.windowSize = windowSize;
-        this.finalizer=finalizer;
+        this.windowFactory=windowFactory;
         this.increment=increment;
-
+        this.window = windowFactory.get();
 
 
     }
     public <R2> SlidingSpliterator<T,?> compose(Function<? super R,? extends R2> fn){
-        return new SlidingSpliterator<T,R2>(CopyableSpliterator.copy(source),finalizer.andThen(fn), windowSize,increment);
+        return new SlidingSpliterator<T,R2>(CopyableSpliterator.copy(source),()->windowFactory.get().map(fn), windowSize,increment);
     }
 
     boolean sent = false;
@@ -46,15 +51,14 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         source.forEachRemaining(t->{
             if(data==false)
                  data = true;
-            list.mutate(var -> var.insertAt(Math.max(0, var.size()), t));
-            if(list.get().size()==windowSize){
+            window.add(t);
+            if(window.size()==windowSize){
 
-                action.accept(finalizer.apply(VectorX.fromIterable(list.get())));
+                action.accept(window.result());
                 sent = true;
 
-                for (int i = 0; i < increment && list.get()
-                        .size() > 0; i++)
-                list.mutate(var -> var.removeAt(0));
+                for (int i = 0; i < increment && window.size() > 0; i++)
+                    window.evict();
             }else{
 
                 sent =false;
@@ -63,42 +67,38 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
 
         });
         if(!sent && data){
-            action.accept(finalizer.apply(VectorX.fromIterable(list.get())));
+            action.accept(window.result());
         }
 
     }
     boolean canAdvance = true;
+    final Mutable<T> box = Mutable.of(null);
     @Override
     public boolean tryAdvance(Consumer<? super R> action) {
        if(!canAdvance)
            return false;
        data = false;
-        for (int i = 0; i < increment && list.get()
-                .size() > 0; i++)
-            list.mutate(var -> var.removeAt(0));
-        for (; list.get()
-                .size() < windowSize
+        for (int i = 0; i < increment && window.size() > 0; i++)
+            window.evict();
+        for (; window.size() < windowSize
                 && canAdvance;) {
-            Mutable<T> box = Mutable.of(null);
-            canAdvance = source.tryAdvance(t -> {
-                box.accept(t);
-
-            });
+            box.set(null);
+            canAdvance = source.tryAdvance(box);
             if (box.get()!=null) {
                 data =true;
-                list.mutate(var -> var.insertAt(Math.max(0, var.size()), box.get()));
+                window.add(box.get());
             }
 
         }
         if(data)
-            action.accept(finalizer.apply(VectorX.fromIterable(list.get())));
+            action.accept(window.result());
 
         return canAdvance;
     }
 
     @Override
     public Spliterator<R> copy() {
-        return new SlidingSpliterator<T, R>(CopyableSpliterator.copy(source),finalizer, windowSize,increment);
+        return new SlidingSpliterator<T, R>(CopyableSpliterator.copy(source),windowFactory, windowSize,increment);
     }
 
 
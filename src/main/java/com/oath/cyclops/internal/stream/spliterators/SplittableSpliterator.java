@@ -0,0 +1,40 @@
+package com.oath.cyclops.internal.stream.spliterators;
+
+import java.util.Spliterator;
+
+/**
+ * A source Spliterator that can create an independent, sized Spliterator over its remaining elements that splits evenly,
+ * for data parallel execution. The source Spliterator itself is left untouched, so it remains replayable.
+ *
+ * @param <T> Data type of elements
+ */
+public interface SplittableSpliterator<T> extends Spliterator<T> {
+
+    int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * @return Sized, splittable Spliterator over the remaining elements, or null if this source can't provide one
+     */
+    Spliterator<T> splittable();
+
+    /**
+     * Spliterator to feed a parallel Stream from the supplied source. Splittable sources are split directly, other sources
+     * are handed off in batches of batchSize elements.
+     *
+     * @param source Spliterator to parallelize
+     * @param batchSize Number of elements to hand off at a time from sources that can't be split
+     * @return Spliterator suitable for a parallel Stream
+     */
+    static <T> Spliterator<T> parallel(Spliterator<T> source, int batchSize){
+        if(source instanceof SplittableSpliterator){
+            Spliterator<T> split = ((SplittableSpliterator<T>)source).splittable();
+            if(split!=null)
+                return split;
+        }
+        return new BatchingSpliterator<>(source,batchSize);
+    }
+
+    static <T> Spliterator<T> parallel(Spliterator<T> source){
+        return parallel(source,DEFAULT_BATCH_SIZE);
+    }
+}
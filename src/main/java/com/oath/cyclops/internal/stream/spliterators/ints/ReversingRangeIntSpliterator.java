@@ -6,11 +6,14 @@ import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 
 import com.oath.cyclops.internal.stream.spliterators.Indexable;
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SplittableSpliterator;
 import lombok.Getter;
 import lombok.Setter;
 
-public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer> {
+public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer>,
+                                                       SplittableSpliterator<Integer> {
 
     private final int min;
     private final int max;
@@ -75,6 +78,17 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
         return this;
     }
 
+    @Override
+    public Spliterator<Integer> splittable() {
+        final int from = index;
+        if (!reverse) {
+            long count = from < max && from >= min ? ((long) max - from + step - 1) / step : 0;
+            return new IndexedSpliterator<Integer>(i -> (int) (from + i * step), 0, count);
+        }
+        long count = from > min && from <= max ? ((long) from - min + step - 1) / step : 0;
+        return new IndexedSpliterator<Integer>(i -> (int) (from - i * step), 0, count);
+    }
+
     @Override
     public ReversableSpliterator copy() {
         return new ReversingRangeIntSpliterator(
@@ -1,7 +1,9 @@
 package com.oath.cyclops.internal.stream.spliterators.longs;
 
 import com.oath.cyclops.internal.stream.spliterators.Indexable;
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SplittableSpliterator;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,7 +12,8 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 
-public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long> {
+public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long>,
+                                                        SplittableSpliterator<Long> {
 
     private final long min;
     private final long max;
@@ -75,6 +78,17 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
         return this;
     }
 
+    @Override
+    public Spliterator<Long> splittable() {
+        final long from = index;
+        if (!reverse) {
+            long count = from < max && from >= min ? ((long) max - from + step - 1) / step : 0;
+            return new IndexedSpliterator<Long>(i -> (long) (from + i * step), 0, count);
+        }
+        long count = from > min && from <= max ? ((long) from - min + step - 1) / step : 0;
+        return new IndexedSpliterator<Long>(i -> (long) (from - i * step), 0, count);
+    }
+
     @Override
     public ReversableSpliterator copy() {
         return new ReversingRangeLongSpliterator(
@@ -0,0 +1,153 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A single stage that applies a run of adjacent stateless map and filter stages, so a map().filter().map() chain
+ * subscribes to its source once rather than once per stage. The fused step returns FILTERED for elements that do not
+ * pass a filter.
+ *
+ * Use the static factory methods (map, filter, limit, skip) to extend a pipeline, they fuse the new stage with the
+ * last one where that is possible and otherwise create the standard operator.
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+    static final Object FILTERED = new Object();
+
+    final Function<? super T, ?> step;
+
+    FusedOperator(Operator<T> source, Function<? super T, ?> step){
+        super(source);
+        this.step = step;
+    }
+
+    public static <T,R> Operator<R> map(Operator<T> source, Function<? super T, ? extends R> mapper){
+        if(source instanceof MapOperator)
+            return ((MapOperator)source).compose(mapper);
+        if(source instanceof FilterOperator){
+            FilterOperator<T> filter = (FilterOperator<T>)source;
+            Predicate<? super T> predicate = filter.predicate;
+            return new FusedOperator<T,R>(filter.source, e -> predicate.test(e) ? mapper.apply(e) : FILTERED);
+        }
+        if(source instanceof FusedOperator){
+            FusedOperator<Object,T> fused = (FusedOperator<Object,T>)source;
+            Function<Object, ?> step = fused.step;
+            return new FusedOperator<Object,R>(fused.source, e -> {
+                Object next = step.apply(e);
+                return next == FILTERED ? FILTERED : mapper.apply((T)next);
+            });
+        }
+        return new MapOperator<>(source, mapper);
+    }
+
+    public static <T> Operator<T> filter(Operator<T> source, Predicate<? super T> predicate){
+        if(source instanceof FilterOperator){
+            FilterOperator<T> filter = (FilterOperator<T>)source;
+            Predicate<? super T> first = filter.predicate;
+            return new FilterOperator<T>(filter.source, e -> first.test(e) && predicate.test(e));
+        }
+        if(source instanceof MapOperator){
+            MapOperator<Object,T> map = (MapOperator<Object,T>)source;
+            Function<Object, ? extends T> mapper = map.mapper;
+            return new FusedOperator<Object,T>(map.source, e -> {
+                T next = mapper.apply(e);
+                return predicate.test(next) ? next : FILTERED;
+            });
+        }
+        if(source instanceof FusedOperator){
+            FusedOperator<Object,T> fused = (FusedOperator<Object,T>)source;
+            Function<Object, ?> step = fused.step;
+            return new FusedOperator<Object,T>(fused.source, e -> {
+                Object next = step.apply(e);
+                return next != FILTERED && predicate.test((T)next) ? next : FILTERED;
+            });
+        }
+        return new FilterOperator<T>(source, predicate);
+    }
+
+    /**
+     * limit directly after a range or another limit is applied to that stage rather than counting elements
+     */
+    public static <T> Operator<T> limit(Operator<T> source, long num){
+        if(num >= 0){
+            if(source instanceof RangeIntOperator){
+                RangeIntOperator range = (RangeIntOperator)source;
+                long size = (long)range.end - range.start;
+                return num >= size ? source : (Operator<T>)new RangeIntOperator(range.start, (int)(range.start + num));
+            }
+            if(source instanceof RangeLongOperator && ((RangeLongOperator)source).end - ((RangeLongOperator)source).start >= 0){
+                RangeLongOperator range = (RangeLongOperator)source;
+                long size = range.end - range.start;
+                return num >= size ? source : (Operator<T>)new RangeLongOperator(range.start, range.start + num);
+            }
+            if(source instanceof LimitOperator){
+                LimitOperator<T,?> limit = (LimitOperator<T,?>)source;
+                if(limit.limit >= 0)
+                    return new LimitOperator<>(limit.source, Math.min(limit.limit, num));
+            }
+        }
+        return new LimitOperator<>(source, num);
+    }
+
+    /**
+     * skip directly after a range or another skip is applied to that stage rather than counting elements
+     */
+    public static <T> Operator<T> skip(Operator<T> source, long num){
+        if(num >= 0){
+            if(source instanceof RangeIntOperator){
+                RangeIntOperator range = (RangeIntOperator)source;
+                long size = (long)range.end - range.start;
+                return (Operator<T>)new RangeIntOperator(num >= size ? range.end : (int)(range.start + num), range.end);
+            }
+            if(source instanceof RangeLongOperator && ((RangeLongOperator)source).end - ((RangeLongOperator)source).start >= 0){
+                RangeLongOperator range = (RangeLongOperator)source;
+                long size = range.end - range.start;
+                return (Operator<T>)new RangeLongOperator(num >= size ? range.end : range.start + num, range.end);
+            }
+            if(source instanceof SkipOperator){
+                SkipOperator<T,?> skip = (SkipOperator<T,?>)source;
+                if(skip.skip >= 0)
+                    return new SkipOperator<>(skip.source, skip.skip + num < 0 ? Long.MAX_VALUE : skip.skip + num);
+            }
+        }
+        return new SkipOperator<>(source, num);
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribe(e-> {
+                    try {
+                        Object next = step.apply(e);
+                        if(next != FILTERED)
+                            onNext.accept((R)next);
+                        else{
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        Object next = step.apply(e);
+                        if(next != FILTERED)
+                            onNext.accept((R)next);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -1,12 +1,12 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
-import com.oath.cyclops.util.box.Mutable;
+import com.oath.cyclops.types.stream.SlidingWindow;
 import cyclops.collections.immutable.VectorX;
-import cyclops.data.Vector;
 
 import java.util.Collection;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Created by johnmcclean on 12/01/2017.
@@ -16,16 +16,20 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
 
 
 
-    //@TODO Seq / list would be more efficent than a Vector
-    private final Function<? super VectorX<T>, ? extends R> finalizer;
+    private final Supplier<? extends SlidingWindow<T,? extends R>> windowFactory;
     private final int windowSize;
     private final int increment;
 
     public SlidingOperator(Operator<T> source,  Function<? super VectorX<T>, ? extends R> finalizer,
                            int windowSize, int increment){
+        this(source,()->SlidingWindow.<T>snapshots(windowSize).map(finalizer),windowSize,increment);
+    }
+
+    public SlidingOperator(Operator<T> source,  Supplier<? extends SlidingWindow<T,? extends R>> windowFactory,
+                           int windowSize, int increment){
         super(source);
 
-        this.finalizer = finalizer;
+        this.windowFactory = windowFactory;
         this.windowSize = windowSize;
         this.increment = increment;
 
@@ -62,19 +66,18 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                 super.cancel();
             }
         };
-        final Mutable<Vector<T>> list = Mutable.of(Vector.empty());
+        final SlidingWindow<T,? extends R> window = windowFactory.get();
         boolean[] sent = {false};
         upstream[0] = source.subscribe(e-> {
                     try {
-                        list.mutate(var -> var.insertAt(Math.max(0, var.size()),e));
-                        if(list.get().size()==windowSize) {
+                        window.add(e);
+                        if(window.size()==windowSize) {
 
-                            onNext.accept(finalizer.apply(VectorX.fromIterable(list.get())));
+                            onNext.accept(window.result());
                             sub.requested.decrementAndGet();
                             sent[0] = true;
-                            for (int i = 0; i < increment && list.get()
-                                    .size() > 0; i++)
-                                list.mutate(var -> var.removeAt(0));
+                            for (int i = 0; i < increment && window.size() > 0; i++)
+                                window.evict();
                         }else if(sub.isOpen){
                             upstream[0].request(1l);
                             sent[0]=false;
@@ -92,8 +95,8 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                     if(sub.isActive())
                         upstream[0].request(1);
                 },()->{
-                    if(!sent[0] && list.get().size()>0)
-                        onNext.accept(finalizer.apply(VectorX.fromIterable(list.get())));
+                    if(!sent[0] && window.size()>0)
+                        onNext.accept(window.result());
                     sub.requested.decrementAndGet();
                     onComplete.run();
                 });
@@ -102,18 +105,17 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        final Mutable<Vector<T>> list = Mutable.of(Vector.empty());
+        final SlidingWindow<T,? extends R> window = windowFactory.get();
         boolean[] sent = {false};
         source.subscribeAll(e-> {
                     try {
-                        list.mutate(var -> var.insertAt(Math.max(0, var.size()),e));
-                        if(list.get().size()==windowSize) {
+                        window.add(e);
+                        if(window.size()==windowSize) {
 
-                            onNext.accept(finalizer.apply(VectorX.fromIterable(list.get())));
+                            onNext.accept(window.result());
                             sent[0] = true;
-                            for (int i = 0; i < increment && list.get()
-                                    .size() > 0; i++)
-                                list.mutate(var -> var.removeAt(0));
+                            for (int i = 0; i < increment && window.size() > 0; i++)
+                                window.evict();
                         }else{
                             sent[0]=false;
                         }
@@ -125,8 +127,8 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                     }
                 }
                 ,onError,()->{
-                    if(!sent[0]  && list.get().size()>0)
-                        onNext.accept(finalizer.apply(VectorX.fromIterable(list.get())));
+                    if(!sent[0]  && window.size()>0)
+                        onNext.accept(window.result());
                     onCompleteDs.run();
                 });
     }
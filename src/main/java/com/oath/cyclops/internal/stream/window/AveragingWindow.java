@@ -0,0 +1,70 @@
+package com.oath.cyclops.internal.stream.window;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.ToDoubleFunction;
+
+import com.oath.cyclops.types.stream.SlidingWindow;
+
+/**
+ * A sliding window whose result is the mean of its elements (mapped to doubles). The sum is maintained with the same
+ * two stack scheme as {@link MonoidWindow} over primitive doubles, so each element is added at most three times and is
+ * never subtracted : unlike a running total, rounding error does not build up over the life of the Stream.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class AveragingWindow<T> implements SlidingWindow<T, Double> {
+
+    private final ToDoubleFunction<? super T> fn;
+    private double[] back;
+    private int backSize;
+    private double backTotal;
+    private double[] front;
+    private int frontSize;
+
+    public AveragingWindow(final int windowSize, final ToDoubleFunction<? super T> fn) {
+        this.fn = fn;
+        this.back = new double[Math.max(1, windowSize)];
+        this.front = new double[Math.max(1, windowSize)];
+    }
+
+    @Override
+    public void add(final T value) {
+        final double d = fn.applyAsDouble(value);
+        if (backSize == back.length)
+            back = Arrays.copyOf(back, back.length * 2);
+        back[backSize++] = d;
+        backTotal += d;
+    }
+
+    @Override
+    public void evict() {
+        if (frontSize == 0) {
+            if (backSize == 0)
+                throw new NoSuchElementException("Window is empty");
+            if (front.length < backSize)
+                front = new double[back.length];
+            double total = 0;
+            for (int i = backSize - 1; i >= 0; i--) {
+                total += back[i];
+                front[frontSize++] = total;
+            }
+            backSize = 0;
+            backTotal = 0;
+        }
+        frontSize--;
+    }
+
+    @Override
+    public int size() {
+        return frontSize + backSize;
+    }
+
+    @Override
+    public Double result() {
+        final int size = size();
+        if (size == 0)
+            return Double.NaN;
+        return ((frontSize == 0 ? 0 : front[frontSize - 1]) + backTotal) / size;
+    }
+}
@@ -0,0 +1,50 @@
+package com.oath.cyclops.internal.stream.window;
+
+import com.oath.cyclops.types.stream.SlidingWindow;
+import cyclops.function.Group;
+
+/**
+ * A sliding window that maintains a running total of its elements (oldest first) with a Group : each element is
+ * combined into the total as it enters the window and removed by combining the inverse of the oldest element from the
+ * left as it leaves. Add, evict and result are O(1).
+ *
+ * Floating point Groups (such as Groups.doubleSum) accumulate rounding error over long Streams, use a Monoid (see
+ * {@link MonoidWindow}) where that matters.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class GroupWindow<T> implements SlidingWindow<T, T> {
+
+    private final Group<T> group;
+    private final RingWindow<T> elements;
+    private T total;
+
+    public GroupWindow(final int windowSize, final Group<T> group) {
+        this.group = group;
+        this.elements = new RingWindow<>(windowSize);
+        this.total = group.zero();
+    }
+
+    @Override
+    public void add(final T value) {
+        elements.add(value);
+        total = group.apply(total, value);
+    }
+
+    @Override
+    public void evict() {
+        final T oldest = elements.get(0);
+        elements.evict();
+        total = elements.size() == 0 ? group.zero() : group.apply(group.invert(oldest), total);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public T result() {
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package com.oath.cyclops.internal.stream.window;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.oath.cyclops.types.stream.SlidingWindow;
+import cyclops.function.Monoid;
+
+/**
+ * A sliding window that maintains the combination of its elements (oldest first) with a Monoid, using two stacks : new
+ * elements are pushed onto the back stack with a running total, and when the oldest element must be evicted and the
+ * front stack is empty, the back stack is moved to the front as suffix totals. Each element is combined at most three
+ * times, so add, evict and result are amortized O(1) without needing an inverse.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class MonoidWindow<T> implements SlidingWindow<T, T> {
+
+    private final Monoid<T> monoid;
+    private Object[] back;
+    private int backSize;
+    private T backTotal;
+    private Object[] front;
+    private int frontSize;
+
+    public MonoidWindow(final int windowSize, final Monoid<T> monoid) {
+        this.monoid = monoid;
+        this.back = new Object[Math.max(1, windowSize)];
+        this.front = new Object[Math.max(1, windowSize)];
+        this.backTotal = monoid.zero();
+    }
+
+    @Override
+    public void add(final T value) {
+        if (backSize == back.length)
+            back = Arrays.copyOf(back, back.length * 2);
+        back[backSize++] = value;
+        backTotal = monoid.apply(backTotal, value);
+    }
+
+    @Override
+    public void evict() {
+        if (frontSize == 0) {
+            if (backSize == 0)
+                throw new NoSuchElementException("Window is empty");
+            transfer();
+        }
+        front[--frontSize] = null;
+    }
+
+    /**
+     * Move the back stack to the front, so the top of the front stack is the total of every element (oldest first)
+     */
+    private void transfer() {
+        if (front.length < backSize)
+            front = new Object[back.length];
+        T total = monoid.zero();
+        for (int i = backSize - 1; i >= 0; i--) {
+            total = monoid.apply((T) back[i], total);
+            front[frontSize++] = total;
+            back[i] = null;
+        }
+        backSize = 0;
+        backTotal = monoid.zero();
+    }
+
+    @Override
+    public int size() {
+        return frontSize + backSize;
+    }
+
+    @Override
+    public T result() {
+        if (frontSize == 0)
+            return backTotal;
+        return monoid.apply((T) front[frontSize - 1], backTotal);
+    }
+}
@@ -0,0 +1,84 @@
+package com.oath.cyclops.internal.stream.window;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import com.oath.cyclops.types.stream.SlidingWindow;
+
+/**
+ * A sliding window whose result is its smallest element according to a Comparator (use a reversed Comparator for the
+ * largest), maintained with a monotonic deque. An element is dropped from the back of the deque when a smaller element
+ * arrives after it, as it can never be the smallest in any later window, so the front of the deque is always the
+ * smallest element in the window. Each element enters and leaves the deque once, making add and evict amortized O(1).
+ *
+ * When several elements compare equal the most recent is retained.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class MonotonicWindow<T> implements SlidingWindow<T, T> {
+
+    private final Comparator<? super T> comparator;
+    private Object[] values;
+    private long[] positions;
+    private int mask;
+    private int head;
+    private int length;
+    private long added;
+    private long evicted;
+
+    public MonotonicWindow(final int windowSize, final Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, windowSize) - 1) << 1);
+        this.values = new Object[capacity];
+        this.positions = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void add(final T value) {
+        while (length > 0 && comparator.compare((T) values[(head + length - 1) & mask], value) >= 0) {
+            values[(head + --length) & mask] = null;
+        }
+        if (length == values.length)
+            grow();
+        final int index = (head + length) & mask;
+        values[index] = value;
+        positions[index] = added++;
+        length++;
+    }
+
+    private void grow() {
+        final Object[] nextValues = new Object[values.length * 2];
+        final long[] nextPositions = new long[values.length * 2];
+        for (int i = 0; i < length; i++) {
+            nextValues[i] = values[(head + i) & mask];
+            nextPositions[i] = positions[(head + i) & mask];
+        }
+        values = nextValues;
+        positions = nextPositions;
+        mask = nextValues.length - 1;
+        head = 0;
+    }
+
+    @Override
+    public void evict() {
+        if (evicted == added)
+            throw new NoSuchElementException("Window is empty");
+        if (positions[head] == evicted) {
+            values[head] = null;
+            head = (head + 1) & mask;
+            length--;
+        }
+        evicted++;
+    }
+
+    @Override
+    public int size() {
+        return (int) (added - evicted);
+    }
+
+    @Override
+    public T result() {
+        return length == 0 ? null : (T) values[head];
+    }
+}
@@ -0,0 +1,88 @@
+package com.oath.cyclops.internal.stream.window;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import com.oath.cyclops.types.stream.SlidingWindow;
+
+/**
+ * A sliding window held in a circular array, whose result is a read only view of the elements in the window (oldest
+ * first). Adding and evicting an element are O(1) and the view is never copied.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class RingWindow<T> implements SlidingWindow<T, List<T>> {
+
+    private Object[] elements;
+    private int mask;
+    private int head;
+    private int size;
+    private final List<T> view = new View();
+
+    public RingWindow(final int windowSize) {
+        final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, windowSize) - 1) << 1);
+        this.elements = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void add(final T value) {
+        if (size == elements.length)
+            grow();
+        elements[(head + size) & mask] = value;
+        size++;
+    }
+
+    private void grow() {
+        final Object[] next = new Object[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+            next[i] = elements[(head + i) & mask];
+        }
+        elements = next;
+        mask = next.length - 1;
+        head = 0;
+    }
+
+    @Override
+    public void evict() {
+        if (size == 0)
+            throw new NoSuchElementException("Window is empty");
+        elements[head] = null;
+        head = (head + 1) & mask;
+        size--;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index Position in the window, 0 is the oldest element
+     * @return Element at index
+     */
+    public T get(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " window size " + size);
+        return (T) elements[(head + index) & mask];
+    }
+
+    @Override
+    public List<T> result() {
+        return view;
+    }
+
+    private final class View extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(final int index) {
+            return RingWindow.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
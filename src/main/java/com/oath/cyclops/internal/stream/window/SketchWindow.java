@@ -0,0 +1,68 @@
+package com.oath.cyclops.internal.stream.window;
+
+import java.util.NoSuchElementException;
+import java.util.function.ToDoubleFunction;
+
+import com.oath.cyclops.types.stream.QuantileSketch;
+import com.oath.cyclops.types.stream.SlidingWindow;
+
+/**
+ * A sliding window that maintains a {@link QuantileSketch} of its elements (mapped to doubles). Elements are added to
+ * the sketch as they enter the window and removed as they leave, so add and evict are O(1). The result is the live
+ * sketch, which is only valid until the next element enters or leaves the window (copy it to retain it).
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class SketchWindow<T> implements SlidingWindow<T, QuantileSketch> {
+
+    private final ToDoubleFunction<? super T> fn;
+    private final QuantileSketch sketch;
+    private double[] values;
+    private int mask;
+    private int head;
+    private int size;
+
+    public SketchWindow(final int windowSize, final ToDoubleFunction<? super T> fn, final double relativeAccuracy) {
+        this.fn = fn;
+        this.sketch = new QuantileSketch(relativeAccuracy);
+        final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, windowSize) - 1) << 1);
+        this.values = new double[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void add(final T value) {
+        final double d = fn.applyAsDouble(value);
+        sketch.add(d);
+        if (size == values.length) {
+            final double[] next = new double[values.length * 2];
+            for (int i = 0; i < size; i++) {
+                next[i] = values[(head + i) & mask];
+            }
+            values = next;
+            mask = next.length - 1;
+            head = 0;
+        }
+        values[(head + size) & mask] = d;
+        size++;
+    }
+
+    @Override
+    public void evict() {
+        if (size == 0)
+            throw new NoSuchElementException("Window is empty");
+        sketch.remove(values[head]);
+        head = (head + 1) & mask;
+        size--;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public QuantileSketch result() {
+        return sketch;
+    }
+}
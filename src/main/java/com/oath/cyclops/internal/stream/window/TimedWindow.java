@@ -0,0 +1,61 @@
+package com.oath.cyclops.internal.stream.window;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import com.oath.cyclops.types.stream.SlidingWindow;
+
+/**
+ * Drives a SlidingWindow by time rather than by count : as each element arrives, elements whose timestamp is at least
+ * span older than it are evicted, the new element is added and the result for the window is returned. Timestamps are
+ * expected to be non decreasing, an element that arrives out of order is evicted when it reaches the front of the
+ * window.
+ *
+ * @param <T> Data type of elements in the window
+ * @param <R> Type of the value emitted for each window
+ */
+public class TimedWindow<T, R> implements Function<T, R> {
+
+    private final SlidingWindow<T, ? extends R> window;
+    private final long span;
+    private final ToLongFunction<? super T> timestamp;
+    private long[] times = new long[16];
+    private int mask = 15;
+    private int head;
+    private int size;
+
+    /**
+     * @param window Window to maintain
+     * @param span Age (in the units of timestamp) at which elements leave the window
+     * @param timestamp Time of each element
+     */
+    public TimedWindow(final SlidingWindow<T, ? extends R> window, final long span,
+                       final ToLongFunction<? super T> timestamp) {
+        this.window = window;
+        this.span = span;
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public R apply(final T value) {
+        final long now = timestamp.applyAsLong(value);
+        while (size > 0 && now - times[head] >= span) {
+            window.evict();
+            head = (head + 1) & mask;
+            size--;
+        }
+        if (size == times.length) {
+            final long[] next = new long[times.length * 2];
+            for (int i = 0; i < size; i++) {
+                next[i] = times[(head + i) & mask];
+            }
+            times = next;
+            mask = next.length - 1;
+            head = 0;
+        }
+        times[(head + size) & mask] = now;
+        size++;
+        window.add(value);
+        return window.result();
+    }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 
+import com.oath.cyclops.react.threads.ExecutorProvider;
 import lombok.Getter;
 
 public class ThreadPools {
@@ -35,6 +36,8 @@ public class ThreadPools {
 
     private static volatile boolean useCommon = true;
 
+    private static volatile ExecutorProvider executorProvider = ExecutorProvider.platform();
+
     /**
      * @return Standard Parallel Executor, uses the ForkJoin Common Pool is @see {@link ThreadPools#isUseCommon()} is true
      *         Otherwise a new Executor sized to the number of threads is used.
@@ -42,17 +45,15 @@ public class ThreadPools {
     public static Executor getStandard() {
         if (useCommon)
             return ForkJoinPool.commonPool();
-        return new ForkJoinPool(
-                                Runtime.getRuntime()
-                                       .availableProcessors());
+        return executorProvider.create(Runtime.getRuntime()
+                                              .availableProcessors());
     }
 
     public static Executor getSequential() {
         if (useCommon)
             return commonFreeThread;
         else
-            return new ForkJoinPool(
-                                    1);
+            return executorProvider.create(1);
     }
 
 
@@ -77,8 +78,7 @@ public class ThreadPools {
         if (useCommon)
             return commonLazyExecutor;
         else
-            return new ForkJoinPool(
-                                    1);
+            return executorProvider.create(1);
     }
 
     public static boolean isUseCommon() {
@@ -88,4 +88,22 @@ public class ThreadPools {
     public static void setUseCommon(final boolean useCommon) {
         ThreadPools.useCommon = useCommon;
     }
+
+    /**
+     * @return ExecutorProvider used to create new task Executors (by default platform threads)
+     */
+    public static ExecutorProvider getExecutorProvider() {
+        return executorProvider;
+    }
+
+    /**
+     * Set the ExecutorProvider used to create new task Executors, when the common pools are not in use
+     * and for the elastic ReactPools
+     *
+     * @see ExecutorProvider#virtualThreads()
+     * @param executorProvider ExecutorProvider to use
+     */
+    public static void setExecutorProvider(final ExecutorProvider executorProvider) {
+        ThreadPools.executorProvider = executorProvider;
+    }
 }
@@ -2,12 +2,15 @@ package com.oath.cyclops.react.collectors.lazy;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.types.futurestream.BlockingStream;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,6 +21,11 @@ import lombok.experimental.Wither;
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
  * parallelism.
  *
+ * Futures that are still running when accepted notify the collector as they complete (through a FastFuture listener,
+ * which callbacks registered later by other consumers of the future can't replace), so the collector never scans the
+ * futures in flight. Once more than maxActive are in flight, accept blocks until enough of them complete to
+ * bring the number in flight down to reduceTo.
+ *
  * @author johnmcclean
  *
  * @param <T> Result type
@@ -28,7 +36,12 @@ import lombok.experimental.Wither;
 public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
     private final Collection<FastFuture<T>> results;
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final Set<InFlight<T>> active = new LinkedHashSet<>();
+    private final Queue<InFlight<T>> completed = new ConcurrentLinkedQueue<>();
+    private final Semaphore completions = new Semaphore(0);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong throttleEvents = new AtomicLong();
+    private final AtomicLong throttledNanos = new AtomicLong();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -49,29 +62,75 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
+        collectCompleted();
+        if (t.isDone()) {
+            results.add(t);
+            return;
+        }
 
-        if (active.size() > maxActive.getMaxActive()) {
+        final InFlight<T> next = new InFlight<>(t);
+        active.add(next);
+        inFlight.lazySet(active.size());
+        t.addListener(c -> {
+            completed.offer(next);
+            completions.release();
+        });
 
-            while (active.size() > maxActive.getReduceTo()) {
+        if (active.size() > maxActive.getMaxActive())
+            throttle();
 
-                final List<FastFuture<T>> toRemove = active.stream()
-                                                           .filter(cf -> cf.isDone())
-                                                           .collect(Collectors.toList());
-                active.removeAll(toRemove);
-                results.addAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-                        promise.complete(true);
-                    } , active.toArray(new FastFuture[0]));
+    }
+
+    private void throttle() {
+        throttleEvents.incrementAndGet();
+        final long start = System.nanoTime();
+        final int reduceTo = Math.max(0, maxActive.getReduceTo());
+        while (active.size() > reduceTo) {
+            final int needed = active.size() - reduceTo;
+            completions.acquireUninterruptibly(needed);
+            moveCompleted(needed);
+        }
+        collectCompleted();
+        throttledNanos.addAndGet(System.nanoTime() - start);
+    }
 
-                    promise.join();
-                }
+    private void collectCompleted() {
+        final int available = completions.drainPermits();
+        if (available > 0)
+            moveCompleted(available);
+    }
 
-            }
+    /**
+     * Move completed futures to the results, once a permit has been taken for each of them
+     */
+    private void moveCompleted(final int count) {
+        for (int i = 0; i < count; i++) {
+            final InFlight<T> next = completed.poll();
+            if (active.remove(next))
+                results.add(next.future);
         }
+        inFlight.lazySet(active.size());
+    }
 
+    /**
+     * @return Number of accepted futures that had not completed when last checked
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return Number of times accept blocked because more than maxActive futures were in flight
+     */
+    public long getThrottleEvents() {
+        return throttleEvents.get();
+    }
+
+    /**
+     * @return Total time (in nanoseconds) accept has spent blocked waiting for futures to complete
+     */
+    public long getThrottledNanos() {
+        return throttledNanos.get();
     }
 
     /* (non-Javadoc)
@@ -81,10 +140,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     public void block(final Function<FastFuture<T>, T> safeJoin) {
         if (active.size() == 0)
             return;
-        active.stream()
-              .peek(f -> safeJoin.apply(f))
-              .forEach(a -> {
-              });
+        active.forEach(f -> safeJoin.apply(f.future));
 
     }
 
@@ -102,9 +158,22 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getAllResults() {
-        results.addAll(active);
+        collectCompleted();
+        active.forEach(f -> results.add(f.future));
         active.clear();
+        inFlight.lazySet(0);
         return results;
     }
 
+    /**
+     * An accepted future that had not completed, signalled to the collector once by its listener
+     */
+    private static final class InFlight<T> {
+        final FastFuture<T> future;
+
+        InFlight(final FastFuture<T> future) {
+            this.future = future;
+        }
+    }
+
 }
@@ -24,4 +24,17 @@ public class MaxActive {
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
 
+    /**
+     * Limit the number of Future tasks in flight, independently of the number of threads executing them (e.g. for
+     * blocking I/O on virtual threads). Once maxActive is exceeded, the Stream waits until the number in flight is
+     * reduced by 10% (as for {@link #IO}).
+     *
+     * @param maxActive Maximum number of active Future tasks
+     * @return MaxActive limit
+     */
+    public static MaxActive of(final int maxActive) {
+        return new MaxActive(
+                             maxActive, Math.max(1, maxActive - maxActive / 10));
+    }
+
 }
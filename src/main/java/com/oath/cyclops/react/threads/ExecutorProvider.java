@@ -0,0 +1,58 @@
+package com.oath.cyclops.react.threads;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Creates the task Executors used by the elastic ReactPools, ThreadPools (when the common pools are not in use) and
+ * the LazyReact / SimpleReact builders that accept an ExecutorProvider.
+ *
+ * <pre>
+ * {@code
+ *   //Blocking I/O on a virtual thread per task, where the JVM supports them
+ *   ThreadPools.setExecutorProvider(ExecutorProvider.virtualThreads());
+ *
+ *   new LazyReact(ExecutorProvider.virtualThreads(), 1000)
+ *                 .fromIterable(urls)
+ *                 .map(this::load)
+ *                 .forEach(this::save);
+ * }
+ * </pre>
+ *
+ */
+@FunctionalInterface
+public interface ExecutorProvider {
+
+    /**
+     * @param parallelism Number of tasks the Executor should be able to run concurrently (1 for sequential execution)
+     * @return New task Executor
+     */
+    Executor create(int parallelism);
+
+    /**
+     * @return Platform threads : a ForkJoinPool with the requested parallelism (its worker threads are daemon threads,
+     *         so unused Executors don't keep the JVM alive)
+     */
+    static ExecutorProvider platform() {
+        return parallelism -> new ForkJoinPool(
+                                               parallelism);
+    }
+
+    /**
+     * A new virtual thread per task (a single virtual thread for sequential execution), the number of tasks in flight
+     * is limited by MaxActive rather than by a number of threads. On JVMs without virtual threads (before Java 21) a
+     * cached pool of (daemon) platform threads is used instead.
+     *
+     * @return Virtual thread ExecutorProvider
+     */
+    static ExecutorProvider virtualThreads() {
+        return VirtualThreads::executor;
+    }
+
+    /**
+     * @return true if this JVM supports virtual threads
+     */
+    static boolean virtualThreadsSupported() {
+        return VirtualThreads.supported();
+    }
+}
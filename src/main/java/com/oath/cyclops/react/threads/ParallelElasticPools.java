@@ -1,24 +1,23 @@
 package com.oath.cyclops.react.threads;
 
-import java.util.concurrent.ForkJoinPool;
-
+import com.oath.cyclops.react.ThreadPools;
 import cyclops.async.LazyReact;
 import cyclops.async.SimpleReact;
 
 /**
  * A ReactPool of each type for parallel Streams
- * Thread pool will be sized to number of processors
+ * Thread pool will be sized to number of processors, and created by the configured ThreadPools#getExecutorProvider
  *
  * @author johnmcclean
  *
  */
 public class ParallelElasticPools {
-    public final static ReactPool<SimpleReact> simpleReact = ReactPool.elasticPool(() -> new SimpleReact(
-                                                                                                         new ForkJoinPool(
-                                                                                                                          Runtime.getRuntime()
-                                                                                                                                 .availableProcessors())));
-    public final static ReactPool<LazyReact> lazyReact = ReactPool.elasticPool(() -> new LazyReact(
-                                                                                                   new ForkJoinPool(
-                                                                                                                    Runtime.getRuntime()
-                                                                                                                           .availableProcessors())));
+    public final static ReactPool<SimpleReact> simpleReact = ReactPool.elasticPool(() -> ThreadPools.getExecutorProvider(),
+                                                                                   Runtime.getRuntime()
+                                                                                          .availableProcessors(),
+                                                                                   SimpleReact::new);
+    public final static ReactPool<LazyReact> lazyReact = ReactPool.elasticPool(() -> ThreadPools.getExecutorProvider(),
+                                                                               Runtime.getRuntime()
+                                                                                      .availableProcessors(),
+                                                                               LazyReact::new);
 }
@@ -2,6 +2,7 @@ package com.oath.cyclops.react.threads;
 
 import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.function.Function;
@@ -86,6 +87,33 @@ public class ReactPool<REACTOR extends ReactBuilder> {
 
     }
 
+    /**
+     * If all REACTORs are in use calling react will create a new REACTOR, with a new task Executor from the provided
+     * ExecutorProvider, to handle the extra demand.
+     *
+     * <pre>
+     * {@code
+     *   ReactPool<LazyReact> pool = ReactPool.elasticPool(ExecutorProvider.virtualThreads(), 1000, LazyReact::new);
+     * }
+     * </pre>
+     *
+     * @param provider Creates the task Executor for each new REACTOR
+     * @param parallelism Number of tasks each REACTOR's Executor should be able to run concurrently
+     * @param factory Creates a REACTOR from a task Executor
+     * @return ReactPool
+     */
+    public static <REACTOR extends ReactBuilder> ReactPool<REACTOR> elasticPool(final ExecutorProvider provider, final int parallelism,
+            final Function<? super Executor, ? extends REACTOR> factory) {
+        return elasticPool(() -> provider, parallelism, factory);
+    }
+
+    static <REACTOR extends ReactBuilder> ReactPool<REACTOR> elasticPool(final Supplier<ExecutorProvider> provider, final int parallelism,
+            final Function<? super Executor, ? extends REACTOR> factory) {
+        return new ReactPool<>(
+                               () -> factory.apply(provider.get()
+                                                           .create(parallelism)));
+    }
+
     /**
      * @return Synchronous pool requires consumers and producers of the ReactPool to be in sync
      */
@@ -1,20 +1,20 @@
 package com.oath.cyclops.react.threads;
 
-import java.util.concurrent.Executors;
-
+import com.oath.cyclops.react.ThreadPools;
 import cyclops.async.LazyReact;
 import cyclops.async.SimpleReact;
 
 /**
  *
  * A ReactPool of each type for sequential Streams
+ * New single threaded Executors are created by the configured ThreadPools#getExecutorProvider
  *
  * @author johnmcclean
  *
  */
 public class SequentialElasticPools {
-    public final static ReactPool<SimpleReact> simpleReact = ReactPool.elasticPool(() -> new SimpleReact(
-                                                                                                         Executors.newFixedThreadPool(1)));
-    public final static ReactPool<LazyReact> lazyReact = ReactPool.elasticPool(() -> new LazyReact(
-                                                                                                   Executors.newFixedThreadPool(1)));
+    public final static ReactPool<SimpleReact> simpleReact = ReactPool.elasticPool(() -> ThreadPools.getExecutorProvider(), 1,
+                                                                                   SimpleReact::new);
+    public final static ReactPool<LazyReact> lazyReact = ReactPool.elasticPool(() -> ThreadPools.getExecutorProvider(), 1,
+                                                                               LazyReact::new);
 }
@@ -0,0 +1,47 @@
+package com.oath.cyclops.react.threads;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runtime detection of virtual threads (Java 21+), looked up reflectively so this library still builds and runs on
+ * Java 8.
+ */
+class VirtualThreads {
+
+    private static final ThreadFactory factory = lookup();
+
+    private static ThreadFactory lookup() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual")
+                                               .invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                                        .getMethod("factory")
+                                        .invoke(builder);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    static boolean supported() {
+        return factory != null;
+    }
+
+    private static Thread daemon(final Runnable r) {
+        final Thread thread = Executors.defaultThreadFactory()
+                                       .newThread(r);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    static Executor executor(final int parallelism) {
+        if (factory == null)
+            return parallelism == 1 ? Executors.newSingleThreadExecutor(VirtualThreads::daemon)
+                    : Executors.newCachedThreadPool(VirtualThreads::daemon);
+        if (parallelism == 1)
+            return Executors.newSingleThreadExecutor(factory);
+        return r -> factory.newThread(r)
+                           .start();
+    }
+}
@@ -0,0 +1,110 @@
+package com.oath.cyclops.types.stream;
+
+import java.util.Objects;
+
+/**
+ * A Bloom filter over the hashCodes of the values added to it : a fixed size bit set that answers "possibly seen" or
+ * "definitely not seen", with a false positive rate close to the one it was sized for as long as no more than
+ * expectedInsertions distinct values are added. Memory use is fixed at creation (about 1.2 bytes per expected value
+ * for a 1% false positive rate) however many values are added.
+ *
+ * Values with the same hashCode are indistinguishable to the filter, so hashCode collisions add to the false positive
+ * rate.
+ *
+ * <pre>
+ * {@code
+ *  BloomFilter seen = new BloomFilter(1_000_000, 0.01);
+ *  ReactiveSeq.of(1,2,2,3).filter(seen::add);
+ *  //[1,2,3] (each distinct value dropped with a probability of about 1%)
+ * }
+ * </pre>
+ *
+ * A BloomFilter is not thread safe.
+ */
+public final class BloomFilter {
+
+    private static final long C1 = 0xff51afd7ed558ccdL;
+    private static final long C2 = 0xc4ceb9fe1a85ec53L;
+
+    private final long[] bits;
+    private final long size;
+    private final int hashes;
+
+    /**
+     * @param expectedInsertions Number of distinct values the filter is sized for
+     * @param falsePositiveRate Rate at which values never added are reported as seen, between 0 and 1 (exclusive)
+     */
+    public BloomFilter(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions < 1)
+            throw new IllegalArgumentException("expectedInsertions must be at least 1 but was " + expectedInsertions);
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1 but was " + falsePositiveRate);
+        final double ln2 = Math.log(2);
+        final long wanted = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (wanted + 63) / 64))];
+        this.size = bits.length * 64L;
+        this.hashes = Math.max(1, (int) Math.round((double) size / expectedInsertions * ln2));
+    }
+
+    /**
+     * @param value Value to add
+     * @return true if value had definitely not been added before, false if it possibly had
+     */
+    public boolean add(final Object value) {
+        final long hash = mix(Objects.hashCode(value));
+        final long step = mix(hash) | 1;
+        boolean added = false;
+        long combined = hash;
+        for (int i = 0; i < hashes; i++) {
+            final long index = (combined & Long.MAX_VALUE) % size;
+            final long mask = 1L << index;
+            final int word = (int) (index >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                added = true;
+            }
+            combined += step;
+        }
+        return added;
+    }
+
+    /**
+     * @param value Value to check
+     * @return false if value has definitely not been added, true if it possibly has
+     */
+    public boolean mightContain(final Object value) {
+        final long hash = mix(Objects.hashCode(value));
+        final long step = mix(hash) | 1;
+        long combined = hash;
+        for (int i = 0; i < hashes; i++) {
+            final long index = (combined & Long.MAX_VALUE) % size;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0)
+                return false;
+            combined += step;
+        }
+        return true;
+    }
+
+    /**
+     * @return Number of hash functions used for each value
+     */
+    public int hashes() {
+        return hashes;
+    }
+
+    /**
+     * @return Size of the filter in bits
+     */
+    public long size() {
+        return size;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= C1;
+        h ^= h >>> 33;
+        h *= C2;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,108 @@
+package com.oath.cyclops.types.stream;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import cyclops.async.adapters.MappedLogQueue;
+
+/**
+ * Controls how much a single pass fan-out (duplicate, triplicate, quadruplicate, splitAt, partition) may buffer for
+ * copies of a Stream that are consumed at different rates.
+ *
+ * Only the elements between the slowest and the fastest copy are retained. Once more than maxInMemory elements are
+ * retained a leading copy first waits (for up to the backpressure timeout) for a slower copy being consumed on another
+ * thread to catch up, and then writes further elements to a temporary spill file if a Serializer is configured, or
+ * keeps them on the heap if not.
+ *
+ * <pre>
+ * {@code
+ *  Tuple2<ReactiveSeq<Record>, ReactiveSeq<Record>> copies = records.duplicate(FanOutPolicy.spillToDisk(100_000, Serializer.java()));
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the Stream
+ */
+public final class FanOutPolicy<T> {
+
+    private static final FanOutPolicy ON_HEAP = new FanOutPolicy<>(Integer.MAX_VALUE, null, null, 0);
+
+    private final int maxInMemory;
+    private final MappedLogQueue.Serializer<T> serializer;
+    private final File directory;
+    private final long backpressureNanos;
+
+    private FanOutPolicy(final int maxInMemory, final MappedLogQueue.Serializer<T> serializer, final File directory,
+                         final long backpressureNanos) {
+        if (maxInMemory < 1)
+            throw new IllegalArgumentException("maxInMemory must be at least 1 but was " + maxInMemory);
+        this.maxInMemory = maxInMemory;
+        this.serializer = serializer;
+        this.directory = directory;
+        this.backpressureNanos = backpressureNanos;
+    }
+
+    /**
+     * @return Policy that buffers on the heap without limit
+     */
+    public static <T> FanOutPolicy<T> onHeap() {
+        return ON_HEAP;
+    }
+
+    /**
+     * @param maxInMemory Maximum number of elements to buffer on the heap
+     * @param serializer Serializer for elements written to the spill file
+     * @return Policy that writes elements to a temporary file once maxInMemory elements are buffered
+     */
+    public static <T> FanOutPolicy<T> spillToDisk(final int maxInMemory, final MappedLogQueue.Serializer<T> serializer) {
+        return new FanOutPolicy<>(maxInMemory, serializer, null, 0);
+    }
+
+    /**
+     * @param maxInMemory Number of buffered elements at which a leading copy waits for slower copies
+     * @param time Maximum time to wait for each element, after which the element is buffered anyway
+     * @param unit Time unit
+     * @return Policy that slows the leading copy to the rate of the slowest copy being consumed concurrently
+     */
+    public static <T> FanOutPolicy<T> backpressure(final int maxInMemory, final long time, final TimeUnit unit) {
+        return new FanOutPolicy<>(maxInMemory, null, null, unit.toNanos(time));
+    }
+
+    /**
+     * @param time Maximum time a leading copy waits for a slower copy (being consumed on another thread) before spilling
+     * @param unit Time unit
+     * @return Copy of this policy with backpressure
+     */
+    public FanOutPolicy<T> withBackpressure(final long time, final TimeUnit unit) {
+        return new FanOutPolicy<>(maxInMemory, serializer, directory, unit.toNanos(time));
+    }
+
+    /**
+     * @param directory Directory for spill files (the default temporary directory otherwise)
+     * @return Copy of this policy that spills to directory
+     */
+    public FanOutPolicy<T> withDirectory(final File directory) {
+        return new FanOutPolicy<>(maxInMemory, serializer, directory, backpressureNanos);
+    }
+
+    public int getMaxInMemory() {
+        return maxInMemory;
+    }
+
+    /**
+     * @return Serializer for spilled elements, or null if elements are never spilled
+     */
+    public MappedLogQueue.Serializer<T> getSerializer() {
+        return serializer;
+    }
+
+    /**
+     * @return Directory for spill files, or null for the default temporary directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    public long getBackpressureNanos() {
+        return backpressureNanos;
+    }
+}
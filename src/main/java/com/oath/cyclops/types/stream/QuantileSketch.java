@@ -0,0 +1,240 @@
+package com.oath.cyclops.types.stream;
+
+/**
+ * A mergeable sketch for approximate quantiles with a bounded relative error. Values are counted in logarithmically
+ * sized buckets (each bucket covers [gamma^(i-1), gamma^i) where gamma = (1 + accuracy) / (1 - accuracy)), so any
+ * quantile returned is within relativeAccuracy of a value at that rank, in space proportional to the log of the range
+ * of the values rather than to their number.
+ *
+ * Because the sketch is just a set of counts, sketches with the same accuracy can be merged by adding their counts,
+ * and values can be removed again by subtracting them, which lets a sliding window maintain a sketch in O(1) per
+ * element.
+ *
+ * <pre>
+ * {@code
+ *  QuantileSketch sketch = new QuantileSketch(0.01);
+ *  ReactiveSeq.range(1, 1001).forEach(sketch::add);
+ *  sketch.quantile(0.99);
+ *  //within 1% of 990
+ * }
+ * </pre>
+ *
+ * A QuantileSketch is not thread safe.
+ */
+public final class QuantileSketch {
+
+    /**
+     * Magnitudes smaller than this are counted as zero
+     */
+    private static final double MIN_MAGNITUDE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final Buckets positive;
+    private final Buckets negative;
+    private long zeroCount;
+    private long count;
+
+    /**
+     * @param relativeAccuracy Maximum relative error of a quantile, between 0 and 1 (exclusive), e.g. 0.01 for 1%
+     */
+    public QuantileSketch(final double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1))
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1 but was " + relativeAccuracy);
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.positive = new Buckets();
+        this.negative = new Buckets();
+    }
+
+    private QuantileSketch(final QuantileSketch copy) {
+        this.relativeAccuracy = copy.relativeAccuracy;
+        this.gamma = copy.gamma;
+        this.logGamma = copy.logGamma;
+        this.positive = copy.positive.copy();
+        this.negative = copy.negative.copy();
+        this.zeroCount = copy.zeroCount;
+        this.count = copy.count;
+    }
+
+    /**
+     * @param value Value to count
+     */
+    public void add(final double value) {
+        update(value, 1);
+    }
+
+    /**
+     * Remove a previously added value
+     *
+     * @param value Value to remove
+     */
+    public void remove(final double value) {
+        update(value, -1);
+    }
+
+    private void update(final double value, final long delta) {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            throw new IllegalArgumentException("Can not add " + value + " to a QuantileSketch");
+        if (value > MIN_MAGNITUDE)
+            positive.add(index(value), delta);
+        else if (value < -MIN_MAGNITUDE)
+            negative.add(index(-value), delta);
+        else
+            zeroCount += delta;
+        count += delta;
+    }
+
+    private int index(final double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double value(final int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /**
+     * Add the counts from another sketch to this one
+     *
+     * @param other Sketch created with the same relative accuracy
+     * @return This sketch
+     */
+    public QuantileSketch merge(final QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy)
+            throw new IllegalArgumentException("Can not merge sketches with relative accuracy " + relativeAccuracy
+                    + " and " + other.relativeAccuracy);
+        positive.addAll(other.positive);
+        negative.addAll(other.negative);
+        zeroCount += other.zeroCount;
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * @param quantile Quantile between 0 and 1 inclusive (0.5 for the median, 0.99 for the 99th percentile)
+     * @return Approximate value at that quantile, or NaN if the sketch is empty
+     */
+    public double quantile(final double quantile) {
+        if (quantile < 0 || quantile > 1)
+            throw new IllegalArgumentException("Quantile must be between 0 and 1 but was " + quantile);
+        if (count == 0)
+            return Double.NaN;
+        final long rank = (long) (quantile * (count - 1));
+        if (rank > count / 2)
+            return fromLargest(count - 1 - rank);
+        long seen = 0;
+        for (int i = negative.counts.length - 1; i >= 0; i--) {
+            seen += negative.counts[i];
+            if (seen > rank)
+                return -value(i + negative.offset);
+        }
+        seen += zeroCount;
+        if (seen > rank)
+            return 0;
+        for (int i = 0; i < positive.counts.length; i++) {
+            seen += positive.counts[i];
+            if (seen > rank)
+                return value(i + positive.offset);
+        }
+        return value(positive.counts.length - 1 + positive.offset);
+    }
+
+    /**
+     * Walk the buckets from the largest value down (quicker for upper quantiles)
+     *
+     * @param rank Number of values larger than the value to find
+     */
+    private double fromLargest(final long rank) {
+        long seen = 0;
+        for (int i = positive.counts.length - 1; i >= 0; i--) {
+            seen += positive.counts[i];
+            if (seen > rank)
+                return value(i + positive.offset);
+        }
+        seen += zeroCount;
+        if (seen > rank)
+            return 0;
+        for (int i = 0; i < negative.counts.length; i++) {
+            seen += negative.counts[i];
+            if (seen > rank)
+                return -value(i + negative.offset);
+        }
+        return -value(negative.counts.length - 1 + negative.offset);
+    }
+
+    /**
+     * @return Number of values in the sketch
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return Relative accuracy of this sketch
+     */
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * @return An independent copy of this sketch
+     */
+    public QuantileSketch copy() {
+        return new QuantileSketch(this);
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch[count=" + count + ", median=" + quantile(0.5) + "]";
+    }
+
+    /**
+     * Counts for a contiguous range of bucket indices, grown as needed in either direction
+     */
+    private static final class Buckets {
+        private long[] counts = new long[0];
+        private int offset;
+
+        Buckets copy() {
+            final Buckets copy = new Buckets();
+            copy.counts = counts.clone();
+            copy.offset = offset;
+            return copy;
+        }
+
+        void add(final int index, final long delta) {
+            ensure(index, index);
+            counts[index - offset] += delta;
+        }
+
+        void addAll(final Buckets other) {
+            if (other.counts.length == 0)
+                return;
+            ensure(other.offset, other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+
+        private void ensure(final int min, final int max) {
+            if (counts.length == 0) {
+                counts = new long[max - min + 1];
+                offset = min;
+                return;
+            }
+            final int currentMax = offset + counts.length - 1;
+            if (min >= offset && max <= currentMax)
+                return;
+            final int newMin = Math.min(min, offset);
+            final int newMax = Math.max(max, currentMax);
+            final int length = Math.max(newMax - newMin + 1, Math.min(counts.length * 2, 1 << 16));
+            final int start = min < offset ? newMax - length + 1 : newMin;
+            final long[] next = new long[length];
+            System.arraycopy(counts, 0, next, offset - start, counts.length);
+            counts = next;
+            offset = start;
+        }
+    }
+}
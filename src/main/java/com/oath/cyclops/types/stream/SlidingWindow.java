@@ -0,0 +1,163 @@
+package com.oath.cyclops.types.stream;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import com.oath.cyclops.internal.stream.window.AveragingWindow;
+import com.oath.cyclops.internal.stream.window.GroupWindow;
+import com.oath.cyclops.internal.stream.window.MonoidWindow;
+import com.oath.cyclops.internal.stream.window.MonotonicWindow;
+import com.oath.cyclops.internal.stream.window.RingWindow;
+import com.oath.cyclops.internal.stream.window.SketchWindow;
+import cyclops.collections.immutable.VectorX;
+import cyclops.function.Group;
+import cyclops.function.Monoid;
+
+/**
+ * The state of a sliding window over a Stream, updated one element at a time as elements enter (add) and leave
+ * (evict) the window, used by {@link cyclops.reactive.ReactiveSeq#slidingWindow(int, int, java.util.function.Supplier)}
+ * for count based windows and {@link cyclops.reactive.ReactiveSeq#slidingByTime(long, java.util.concurrent.TimeUnit,
+ * java.util.function.Supplier)} for time based windows (where windowSize is only the expected number of elements, windows
+ * grow as needed).
+ *
+ * Implementations keep add and evict O(1) (amortized), so the cost of a sliding operator does not grow with the size
+ * of the window. A window is used by a single Stream, from one thread at a time.
+ *
+ * @param <T> Data type of elements in the window
+ * @param <R> Type of the value emitted for each window
+ */
+public interface SlidingWindow<T, R> {
+
+    /**
+     * @param value Element entering the window
+     */
+    void add(T value);
+
+    /**
+     * Remove the oldest element from the window
+     */
+    void evict();
+
+    /**
+     * @return Number of elements in the window
+     */
+    int size();
+
+    /**
+     * @return Value emitted for the current window
+     */
+    R result();
+
+    /**
+     * @param fn Function to apply to each result
+     * @return SlidingWindow that emits the transformed results of this window
+     */
+    default <R2> SlidingWindow<T, R2> map(final Function<? super R, ? extends R2> fn) {
+        final SlidingWindow<T, R> host = this;
+        return new SlidingWindow<T, R2>() {
+            @Override
+            public void add(final T value) {
+                host.add(value);
+            }
+
+            @Override
+            public void evict() {
+                host.evict();
+            }
+
+            @Override
+            public int size() {
+                return host.size();
+            }
+
+            @Override
+            public R2 result() {
+                return fn.apply(host.result());
+            }
+        };
+    }
+
+    /**
+     * @param windowSize Maximum number of elements in the window
+     * @return Window that emits a copy of its elements for each window
+     */
+    static <T> SlidingWindow<T, VectorX<T>> snapshots(final int windowSize) {
+        return new RingWindow<T>(windowSize).map(VectorX::fromIterable);
+    }
+
+    /**
+     * @param windowSize Maximum number of elements in the window
+     * @return Window that emits a read only view of its elements, which is only valid until the next element enters
+     *         or leaves the window
+     */
+    static <T> SlidingWindow<T, List<T>> views(final int windowSize) {
+        return new RingWindow<>(windowSize);
+    }
+
+    /**
+     * If the Monoid is a {@link Group} the total is maintained by combining each new element and the inverse of each
+     * evicted element, otherwise with a pair of stacks of partial totals (both amortized O(1) per element).
+     *
+     * @param windowSize Maximum number of elements in the window
+     * @param monoid Monoid to combine the elements in the window, in order
+     * @return Window that emits the combination of its elements, maintained incrementally
+     */
+    static <T> SlidingWindow<T, T> reduce(final int windowSize, final Monoid<T> monoid) {
+        if (monoid instanceof Group)
+            return new GroupWindow<>(windowSize, (Group<T>) monoid);
+        return new MonoidWindow<>(windowSize, monoid);
+    }
+
+    /**
+     * @param windowSize Maximum number of elements in the window
+     * @param comparator Comparator to order the elements in the window
+     * @return Window that emits its smallest element
+     */
+    static <T> SlidingWindow<T, T> min(final int windowSize, final Comparator<? super T> comparator) {
+        return new MonotonicWindow<>(windowSize, comparator);
+    }
+
+    /**
+     * @param windowSize Maximum number of elements in the window
+     * @param comparator Comparator to order the elements in the window
+     * @return Window that emits its largest element
+     */
+    static <T> SlidingWindow<T, T> max(final int windowSize, final Comparator<? super T> comparator) {
+        return new MonotonicWindow<T>(windowSize, (a, b) -> comparator.compare(b, a));
+    }
+
+    /**
+     * @param windowSize Maximum number of elements in the window
+     * @param fn Value of each element
+     * @return Window that emits the mean value of its elements
+     */
+    static <T> SlidingWindow<T, Double> average(final int windowSize, final ToDoubleFunction<? super T> fn) {
+        return new AveragingWindow<>(windowSize, fn);
+    }
+
+    /**
+     * @param windowSize Maximum number of elements in the window
+     * @param fn Value of each element
+     * @param relativeAccuracy Relative accuracy of the sketch (e.g. 0.01 for 1%)
+     * @return Window that emits a QuantileSketch of its values, which is only valid until the next element enters or
+     *         leaves the window (use {@link QuantileSketch#copy()} to retain it)
+     */
+    static <T> SlidingWindow<T, QuantileSketch> sketch(final int windowSize, final ToDoubleFunction<? super T> fn,
+                                                       final double relativeAccuracy) {
+        return new SketchWindow<>(windowSize, fn, relativeAccuracy);
+    }
+
+    /**
+     * @param windowSize Maximum number of elements in the window
+     * @param fn Value of each element
+     * @param quantile Quantile to emit, between 0 and 1 (e.g. 0.99 for the 99th percentile)
+     * @param relativeAccuracy Relative accuracy of the quantile (e.g. 0.01 for 1%)
+     * @return Window that emits the approximate quantile of its values
+     */
+    static <T> SlidingWindow<T, Double> quantile(final int windowSize, final ToDoubleFunction<? super T> fn,
+                                                 final double quantile, final double relativeAccuracy) {
+        return sketch(windowSize, fn, relativeAccuracy).map(s -> s.quantile(quantile));
+    }
+}
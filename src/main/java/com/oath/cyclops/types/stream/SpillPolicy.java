@@ -0,0 +1,103 @@
+package com.oath.cyclops.types.stream;
+
+import java.io.File;
+
+import cyclops.async.adapters.MappedLogQueue;
+
+/**
+ * Controls how sorted and distinct use temporary files for Streams too large to hold on the heap.
+ *
+ * sorted sorts runs of up to maxInMemory elements on the heap, writes each run to disk and merges up to fanIn runs at a
+ * time. distinct keeps up to maxInMemory distinct elements on the heap, after that it splits the remaining elements
+ * between a number of partition files by hash and dedupes each partition separately.
+ *
+ * <pre>
+ * {@code
+ *  records.sorted(Comparator.comparing(Record::getId), SpillPolicy.of(1_000_000, Serializer.java()));
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the Stream
+ */
+public final class SpillPolicy<T> {
+
+    public static final int DEFAULT_FAN_IN = 64;
+    public static final int DEFAULT_PARTITIONS = 64;
+
+    private final int maxInMemory;
+    private final MappedLogQueue.Serializer<T> serializer;
+    private final File directory;
+    private final int fanIn;
+    private final int partitions;
+
+    private SpillPolicy(final int maxInMemory, final MappedLogQueue.Serializer<T> serializer, final File directory,
+                        final int fanIn, final int partitions) {
+        if (maxInMemory < 1)
+            throw new IllegalArgumentException("maxInMemory must be at least 1 but was " + maxInMemory);
+        if (fanIn < 2)
+            throw new IllegalArgumentException("fanIn must be at least 2 but was " + fanIn);
+        if (partitions < 2)
+            throw new IllegalArgumentException("partitions must be at least 2 but was " + partitions);
+        this.maxInMemory = maxInMemory;
+        this.serializer = serializer;
+        this.directory = directory;
+        this.fanIn = fanIn;
+        this.partitions = partitions;
+    }
+
+    /**
+     * @param maxInMemory Maximum number of elements to hold on the heap (the run size for sorted)
+     * @param serializer Serializer for elements written to temporary files
+     * @return Policy that spills to the default temporary directory
+     */
+    public static <T> SpillPolicy<T> of(final int maxInMemory, final MappedLogQueue.Serializer<T> serializer) {
+        return new SpillPolicy<>(maxInMemory, serializer, null, DEFAULT_FAN_IN, DEFAULT_PARTITIONS);
+    }
+
+    /**
+     * @param directory Directory for temporary files
+     * @return Copy of this policy that spills to directory
+     */
+    public SpillPolicy<T> withDirectory(final File directory) {
+        return new SpillPolicy<>(maxInMemory, serializer, directory, fanIn, partitions);
+    }
+
+    /**
+     * @param fanIn Maximum number of sorted runs to merge at once (each open run holds a read buffer)
+     * @return Copy of this policy with fanIn
+     */
+    public SpillPolicy<T> withFanIn(final int fanIn) {
+        return new SpillPolicy<>(maxInMemory, serializer, directory, fanIn, partitions);
+    }
+
+    /**
+     * @param partitions Number of partition files distinct splits elements between
+     * @return Copy of this policy with partitions
+     */
+    public SpillPolicy<T> withPartitions(final int partitions) {
+        return new SpillPolicy<>(maxInMemory, serializer, directory, fanIn, partitions);
+    }
+
+    public int getMaxInMemory() {
+        return maxInMemory;
+    }
+
+    public MappedLogQueue.Serializer<T> getSerializer() {
+        return serializer;
+    }
+
+    /**
+     * @return Directory for temporary files, or null for the default temporary directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+}
@@ -30,6 +30,7 @@ import com.oath.cyclops.internal.react.stream.ReactBuilder;
 import com.oath.cyclops.react.ThreadPools;
 import com.oath.cyclops.react.async.subscription.Subscription;
 import com.oath.cyclops.react.collectors.lazy.MaxActive;
+import com.oath.cyclops.react.threads.ExecutorProvider;
 import cyclops.function.Cacheable;
 
 
@@ -180,7 +181,7 @@ public class LazyReact implements ReactBuilder {
 
         this.executor = executor;
         async = true;
-        this.maxActive = MaxActive.IO;
+        this.maxActive = MaxActive.of(maxActive);
 
         streamOfFutures = false;
         poolingActive = false;
@@ -202,8 +203,7 @@ public class LazyReact implements ReactBuilder {
         executor = Executors.newFixedThreadPool(threadPoolSize);
 
         async = true;
-        maxActive = new MaxActive(
-                maxActiveTasks, threadPoolSize);
+        maxActive = MaxActive.of(maxActiveTasks);
 
         streamOfFutures = false;
         poolingActive = false;
@@ -212,6 +212,27 @@ public class LazyReact implements ReactBuilder {
         memoizeCache = null;
     }
 
+    /**
+     * LazyReact builder with a new TaskExecutor from the provided ExecutorProvider, able to run maxActiveTasks concurrently.
+     * Max concurrent tasks is determined by maxActiveTasks alone, so with virtual threads blocking I/O tasks are limited
+     * by MaxActive rather than by a thread count.
+     *
+     * <pre>
+     * {@code
+     *   new LazyReact(ExecutorProvider.virtualThreads(), 1000)
+     *                 .fromIterable(urls)
+     *                 .map(this::load)
+     *                 .forEach(this::save);
+     * }
+     * </pre>
+     *
+     * @param provider Creates the task Executor
+     * @param maxActiveTasks Max active Future Tasks
+     */
+    public LazyReact(final ExecutorProvider provider, final int maxActiveTasks) {
+        this(maxActiveTasks, provider.create(maxActiveTasks));
+    }
+
     /**
      * Construct a FutureStream containing a single Future
      *
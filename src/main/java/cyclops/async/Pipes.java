@@ -3,6 +3,8 @@ package cyclops.async;
 import com.oath.cyclops.react.threads.SequentialElasticPools;
 import com.oath.cyclops.types.reactive.ValueSubscriber;
 import cyclops.async.adapters.Adapter;
+import cyclops.async.adapters.Queue;
+import cyclops.async.wait.WaitStrategy;
 import com.oath.cyclops.util.box.LazyImmutable;
 import cyclops.collections.immutable.PersistentMapX;
 import cyclops.collections.mutable.ListX;
@@ -18,7 +20,10 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -27,6 +32,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Pipes : Stores and manages cyclops2-react Adapters for cross-thread communication
@@ -65,6 +74,9 @@ import java.util.concurrent.Executor;
  * }
  * </pre>
  *
+ * Registrations are held in a ConcurrentHashMap, so looking up a pipe never blocks and registering one only contends
+ * with updates to the same bin. Each pipe records {@link PipeMetrics} (depth, elements pushed, dropped and delivered).
+ *
  * @see Adapter
  *
  * @author johnmcclean
@@ -78,6 +90,7 @@ import java.util.concurrent.Executor;
 public class Pipes<K, V> {
 
     private final ConcurrentMap<K, Adapter<V>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, PipeMetrics> metrics = new ConcurrentHashMap<>();
 
     /**
      * @return Numer of registered adapters
@@ -109,7 +122,7 @@ public class Pipes<K, V> {
     public static <K, V> Pipes<K, V> of(final Map<K, Adapter<V>> registered) {
         Objects.requireNonNull(registered);
         final Pipes<K, V> pipes = new Pipes<>();
-        pipes.registered.putAll(registered);
+        registered.forEach(pipes::register);
         return pipes;
     }
 
@@ -137,8 +150,124 @@ public class Pipes<K, V> {
      * @param value Value to push to Adapter
      */
     public void push(final K key, final V value) {
-        Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.offer(value));
+        final Adapter<V> adapter = registered.get(key);
+        if (adapter == null)
+            return;
+        adapter.offer(value);
+        pushed(key, 1);
+    }
+
+    /**
+     * Push a single value into the Adapter identified by the supplied Key without waiting, if it exists. If the
+     * Adapter is a Queue that is full (e.g. one registered with {@link #register(Object, int)}) the value is dropped
+     * and counted in the pipe's {@link PipeMetrics#getDropped()}.
+     *
+     * @param key Adapter key
+     * @param value Value to push to Adapter
+     * @return true if the value was accepted
+     */
+    public boolean tryPush(final K key, final V value) {
+        final Adapter<V> adapter = registered.get(key);
+        if (adapter == null)
+            return false;
+        final boolean accepted = adapter.visit(q -> q.add(value), t -> t.tryOffer(value));
+        if (accepted)
+            pushed(key, 1);
+        else
+            dropped(key, 1);
+        return accepted;
+    }
+
+    /**
+     * Push every value into the Adapter identified by the supplied Key, if it exists, using the batched offerAll of
+     * the underlying Queue or Topic
+     *
+     * <pre>
+     * {@code
+     *     Pipes<String,Integer> pipes = Pipes.of();
+     *     pipes.register("numbers", 1000);
+     *     pipes.pushAll("numbers", Arrays.asList(1,2,3));
+     * }
+     * </pre>
+     *
+     * @param key Adapter key
+     * @param values Values to push to Adapter
+     * @return Number of values accepted, values that are not accepted (the Queue stayed full until the offer time
+     *         out) are counted as dropped
+     */
+    public int pushAll(final K key, final Iterable<? extends V> values) {
+        final Adapter<V> adapter = registered.get(key);
+        if (adapter == null)
+            return 0;
+        final Counted<V> counted = values instanceof Collection ? null : new Counted<>(values);
+        final Iterable<? extends V> batch = counted == null ? values : counted;
+        final int accepted = adapter.visit(q -> q.offerAll(batch), t -> t.offerAll(batch));
+        pushed(key, accepted);
+        final long total = counted == null ? ((Collection<?>) values).size() : counted.total();
+        final long rejected = total - accepted;
+        if (rejected > 0)
+            dropped(key, rejected);
+        return accepted;
+    }
+
+    /**
+     * A single pass over values that counts the elements handed out, so one-shot Iterables are only iterated once
+     */
+    private static final class Counted<V> implements Iterable<V> {
+        private final Iterator<? extends V> it;
+        private long count;
+
+        Counted(final Iterable<? extends V> values) {
+            this.it = values.iterator();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<V>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    final V next = it.next();
+                    count++;
+                    return next;
+                }
+            };
+        }
+
+        /**
+         * @return Number of values, counting (and consuming) any values not read by the offer
+         */
+        long total() {
+            while (it.hasNext()) {
+                it.next();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private void pushed(final K key, final long count) {
+        final PipeMetrics m = metrics.get(key);
+        if (m != null && count > 0)
+            m.pushed.add(count);
+    }
+
+    private void dropped(final K key, final long count) {
+        final PipeMetrics m = metrics.get(key);
+        if (m != null)
+            m.dropped.add(count);
+    }
+
+    /**
+     * @param key Adapter key
+     * @return Metrics for the pipe identified by the supplied key, if it is registered
+     */
+    public Option<PipeMetrics> metrics(final K key) {
+        return Option.ofNullable(metrics.get(key));
     }
 
     /**
@@ -561,31 +690,55 @@ public class Pipes<K, V> {
      *
      */
     public void register(final K key, final Adapter<V> adapter) {
+        metrics.put(key, new PipeMetrics(adapter));
         registered.put(key, adapter);
 
     }
 
+    /**
+     * Register a bounded, non-blocking Queue holding at most capacity elements for the supplied key. Once it is full
+     * {@link #push(Object, Object)} and {@link #pushAll(Object, Iterable)} wait for subscribers to catch up, and
+     * {@link #tryPush(Object, Object)} drops values.
+     *
+     * @param key Adapter identifier
+     * @param capacity Maximum number of elements buffered for this pipe
+     * @return Registered Queue
+     */
+    public Queue<V> register(final K key, final int capacity) {
+        final Queue<V> queue = QueueFactories.<V>boundedNonBlockingQueue(capacity, WaitStrategy.adaptive())
+                                             .build();
+        register(key, queue);
+        return queue;
+    }
+
     /**
      * Clear all managed Adapters (without closing them or performing any other operation on them)
      */
     public void clear() {
         registered.clear();
+        metrics.clear();
 
     }
 
     /**
-     * Subscribe synchronously to a pipe
+     * Subscribe synchronously to a pipe. Data is read only as the subscriber requests it, on the thread calling
+     * request (waiting for data if the pipe is empty), so unread data stays in the pipe's Adapter.
      *
      * @param key for registered simple-react async.Adapter
      * @param subscriber Reactive Streams reactiveSubscriber for data on this pipe
      */
     public void subscribeTo(final K key, final Subscriber<V> subscriber) {
-        registered.get(key)
-                  .stream()
-                  .subscribe(subscriber);
+        subscribe(key, subscriber, Runnable::run);
 
     }
 
+    private void subscribe(final K key, final Subscriber<V> subscriber, final Executor drainOn) {
+        final Adapter<V> adapter = registered.get(key);
+        final PipeSubscription<V> subscription = new PipeSubscription<>(adapter, adapter.stream(), subscriber, drainOn,
+                                                                         metrics.get(key));
+        subscriber.onSubscribe(subscription);
+    }
+
     /**
      *  Subscribe asynchronously to a pipe
      *
@@ -605,11 +758,13 @@ public class Pipes<K, V> {
      *  </pre>
      *
      *
+     * Data is read only as the subscriber requests it, on the supplied Executor.
+     *
      * @param key for registered simple-react async.Adapter
      * @param subscriber Reactive Streams reactiveSubscriber for data on this pipe
      */
     public void subscribeTo(final K key, final Subscriber<V> subscriber, final Executor subscribeOn) {
-        CompletableFuture.runAsync(() -> subscribeTo(key, subscriber), subscribeOn);
+        CompletableFuture.runAsync(() -> subscribe(key, subscriber, subscribeOn), subscribeOn);
 
     }
 
@@ -664,4 +819,157 @@ public class Pipes<K, V> {
 
     }
 
+    /**
+     * Counters for a single pipe, updated without locking by pushes to it and by subscriptions made with subscribeTo
+     */
+    public static final class PipeMetrics {
+        private final Adapter<?> adapter;
+        private final long registeredNanos = System.nanoTime();
+        private final LongAdder pushed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+
+        PipeMetrics(final Adapter<?> adapter) {
+            this.adapter = adapter;
+        }
+
+        /**
+         * @return Number of elements waiting in the pipe (for a Topic, waiting for its slowest subscriber)
+         */
+        public int getDepth() {
+            return adapter.visit(q -> q.size(), t -> t.backlog());
+        }
+
+        /**
+         * @return Number of elements pushed into the pipe via Pipes
+         */
+        public long getPushed() {
+            return pushed.sum();
+        }
+
+        /**
+         * @return Number of elements that could not be pushed into the pipe because it was full
+         */
+        public long getDropped() {
+            return dropped.sum();
+        }
+
+        /**
+         * @return Number of elements delivered to Subscribers connected with subscribeTo
+         */
+        public long getDelivered() {
+            return delivered.sum();
+        }
+
+        /**
+         * @return Average number of elements pushed per second since the pipe was registered
+         */
+        public double getThroughput() {
+            final long elapsed = Math.max(1, System.nanoTime() - registeredNanos);
+            return getPushed() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return "PipeMetrics[depth=" + getDepth() + ", pushed=" + getPushed() + ", dropped=" + getDropped() + ", delivered="
+                    + getDelivered() + "]";
+        }
+    }
+
+    /**
+     * Reads from a pipe only while the Subscriber has outstanding demand. Reads run on the drain Executor, and requests
+     * made while a read loop is running (e.g. from onNext) add to its demand rather than starting another loop.
+     */
+    private static final class PipeSubscription<V> implements Subscription {
+        private final Adapter<V> adapter;
+        private final ReactiveSeq<V> stream;
+        private final Subscriber<? super V> subscriber;
+        private final Executor drainOn;
+        private final PipeMetrics metrics;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Iterator<V> iterator;
+        private volatile boolean cancelled;
+
+        PipeSubscription(final Adapter<V> adapter, final ReactiveSeq<V> stream, final Subscriber<? super V> subscriber,
+                         final Executor drainOn, final PipeMetrics metrics) {
+            this.adapter = adapter;
+            this.stream = stream;
+            this.subscriber = subscriber;
+            this.drainOn = drainOn;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (cancelled)
+                return;
+            if (n < 1) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException(
+                        "3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0 but it was "
+                                + n));
+                return;
+            }
+            long current;
+            do {
+                current = requested.get();
+            } while (current != Long.MAX_VALUE && !requested.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+            if (wip.getAndIncrement() == 0)
+                drainOn.execute(this::drain);
+        }
+
+        private void drain() {
+            if (iterator == null)
+                iterator = stream.iterator();
+            int missed = 1;
+            for (;;) {
+                final long r = requested.get();
+                long emitted = 0;
+                while (emitted != r) {
+                    if (cancelled)
+                        return;
+                    final V next;
+                    try {
+                        if (!iterator.hasNext()) {
+                            finish();
+                            subscriber.onComplete();
+                            return;
+                        }
+                        next = iterator.next();
+                    } catch (final Throwable t) {
+                        finish();
+                        subscriber.onError(t);
+                        return;
+                    }
+                    if (cancelled)
+                        return;
+                    subscriber.onNext(next);
+                    if (metrics != null)
+                        metrics.delivered.increment();
+                    emitted++;
+                }
+                if (r != Long.MAX_VALUE)
+                    requested.addAndGet(-emitted);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled)
+                finish();
+        }
+
+        private void finish() {
+            cancelled = true;
+            adapter.visit(q -> null, t -> {
+                t.disconnect(stream);
+                return null;
+            });
+        }
+    }
+
 }
@@ -1,9 +1,13 @@
 package cyclops.async;
 
+import java.io.File;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 
+import cyclops.async.adapters.MappedLogQueue;
+import cyclops.async.adapters.MulticastRingBuffer;
+import cyclops.async.adapters.MulticastRingBuffer.SlowConsumerPolicy;
 import cyclops.async.adapters.Queue;
 import cyclops.async.adapters.QueueFactory;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
@@ -210,4 +214,76 @@ public class QueueFactories {
                                   new SynchronousQueue<>());
     }
 
+    /**
+     * Creates a factory for subscribers of a single shared ring buffer, for use as the factory of a multicast
+     * {@link cyclops.async.adapters.Topic}. Each element published to the Topic is written once, however many subscribers
+     * there are. Publishers wait (retrying) while the slowest subscriber is a full ring behind, and subscribers
+     * retry while there is no new data.
+     *
+     * <pre>
+     * {@code
+     *   Topic<String> topic = new Topic<>(QueueFactories.multicastRingBuffer(1024));
+     *   ReactiveSeq<String> first = topic.stream();
+     *   ReactiveSeq<String> second = topic.stream();
+     * }
+     * </pre>
+     *
+     * @param ringSize Ring buffer size (rounded up to a power of 2)
+     * @return Ring buffer that builds a Queue per subscriber
+     */
+    public static <T> MulticastRingBuffer<T> multicastRingBuffer(final int ringSize) {
+        return new MulticastRingBuffer<>(ringSize);
+    }
+
+    /**
+     * Creates a factory for subscribers of a single shared ring buffer, for use as the factory of a multicast
+     * {@link cyclops.async.adapters.Topic}
+     *
+     * @param ringSize Ring buffer size (rounded up to a power of 2)
+     * @param policy Behaviour when the slowest subscriber is a full ring behind
+     * @param strategy Strategy employed by publishers when the ring is full (for {@link SlowConsumerPolicy#BLOCK}) and by
+     *                 subscribers when there is no new data
+     * @return Ring buffer that builds a Queue per subscriber
+     */
+    public static <T> MulticastRingBuffer<T> multicastRingBuffer(final int ringSize, final SlowConsumerPolicy policy, final WaitStrategy<T> strategy) {
+        return new MulticastRingBuffer<>(ringSize, policy, strategy, strategy);
+    }
+
+    /**
+     * Creates a persistent log of memory mapped segment files in the provided directory, whose backlog spills to disk
+     * rather than the heap and survives a restart. Consumers and producers use {@link WaitStrategy#adaptive()}, and the log
+     * is bounded to {@link MappedLogQueue#DEFAULT_MAX_SEGMENTS} segments of {@link MappedLogQueue#DEFAULT_SEGMENT_BYTES}.
+     *
+     * <pre>
+     * {@code
+     *   MappedLogQueue<String> log = QueueFactories.mappedLogQueue(new File("/data/ingest"),
+     *                                                              MappedLogQueue.Serializer.java());
+     *   Queue<String> queue = log.build();
+     * }
+     * </pre>
+     *
+     * @param directory Directory for the log, reopening a directory continues from the last element read
+     * @param serializer Converts elements to and from bytes
+     * @return Persistent log that builds Queues over it
+     */
+    public static <T> MappedLogQueue<T> mappedLogQueue(final File directory, final MappedLogQueue.Serializer<T> serializer) {
+        return new MappedLogQueue<>(directory, serializer);
+    }
+
+    /**
+     * Creates a persistent log of memory mapped segment files in the provided directory, bounded to maxSegments
+     * segments of segmentBytes each.
+     *
+     * @param directory Directory for the log, reopening a directory continues from the last element read
+     * @param serializer Converts elements to and from bytes
+     * @param segmentBytes Size of each segment file
+     * @param maxSegments Maximum number of segment files, producers wait once the log is full
+     * @param strategy Strategy to be employed by producers when the log is full, or consumers when it is empty
+     * @return Persistent log that builds Queues over it
+     */
+    public static <T> MappedLogQueue<T> mappedLogQueue(final File directory, final MappedLogQueue.Serializer<T> serializer,
+                                                       final int segmentBytes, final int maxSegments, final WaitStrategy<T> strategy) {
+        return new MappedLogQueue<>(directory, serializer, segmentBytes, maxSegments, strategy, strategy);
+    }
+
 }
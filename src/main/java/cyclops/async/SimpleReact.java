@@ -3,6 +3,7 @@ package cyclops.async;
 import com.oath.cyclops.internal.react.SimpleReactStreamImpl;
 import com.oath.cyclops.internal.react.stream.ReactBuilder;
 import com.oath.cyclops.react.ThreadPools;
+import com.oath.cyclops.react.threads.ExecutorProvider;
 import com.oath.cyclops.types.futurestream.SimpleReactStream;
 import cyclops.reactive.Spouts;
 import lombok.Getter;
@@ -125,6 +126,16 @@ public class SimpleReact implements ReactBuilder {
         async = true;
     }
 
+    /**
+     * Construct a SimpleReact builder with a new task executor from the provided ExecutorProvider
+     *
+     * @param provider Creates the task executor (e.g. ExecutorProvider#virtualThreads() for blocking I/O)
+     * @param parallelism Number of tasks the executor should be able to run concurrently
+     */
+    public SimpleReact(final ExecutorProvider provider, final int parallelism) {
+        this(provider.create(parallelism));
+    }
+
     /**
      *
      * @param executor Task executor to execute tasks on
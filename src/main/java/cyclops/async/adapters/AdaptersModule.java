@@ -19,6 +19,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import cyclops.reactive.ReactiveSeq;
+import org.agrona.concurrent.Pipe;
 
 
 import com.oath.cyclops.react.async.subscription.Continueable;
@@ -259,13 +260,23 @@ public interface AdaptersModule {
         @Override
         public int drainTo(final Collection c) {
 
-            return 0;
+            return drainTo(c, Integer.MAX_VALUE);
         }
 
+        /**
+         * Agrona queues drain in bulk (a single update of the consumer position), other Queues are polled one at a time
+         */
         @Override
         public int drainTo(final Collection c, final int maxElements) {
-
-            return 0;
+            if (queue instanceof Pipe)
+                return ((Pipe) queue).drainTo(c, maxElements);
+            int count = 0;
+            Object next;
+            while (count < maxElements && (next = queue.poll()) != null) {
+                c.add(next);
+                count++;
+            }
+            return count;
         }
 
     }
@@ -0,0 +1,662 @@
+package cyclops.async.adapters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.async.wait.WaitStrategy;
+
+/**
+ * A persistent queue stored in a log of memory mapped segment files, so a backlog spills to disk rather than the heap.
+ * Only the segment being written and the segment being read are mapped, and elements are converted to and from bytes
+ * by the supplied {@link Serializer} as they are offered and read.
+ *
+ * Elements that have not been read survive a restart : opening a directory that already holds a log continues reading
+ * from the last element read (the read position is stored in the directory alongside the segments), and segments are
+ * deleted once every element in them has been read.
+ *
+ * Each call to {@link #build()} returns an async.Queue over this log, usable with {@link Queue#stream()},
+ * FutureStreams (e.g. LazyReact#fromAdapter) and Pipes. Queues built from the same log compete for its elements. A
+ * directory must only be opened by one MappedLogQueue at a time, and the log should be closed once it is no longer
+ * used.
+ *
+ * <pre>
+ * {@code
+ *   MappedLogQueue<String> log = QueueFactories.mappedLogQueue(new File("/data/ingest"),
+ *                                                              MappedLogQueue.Serializer.java());
+ *   Queue<String> queue = log.build();
+ *   queue.offer("hello");
+ *   queue.stream()
+ *        .forEach(this::process);
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the log
+ */
+public class MappedLogQueue<T> extends AbstractQueue<T> implements BlockingQueue<T>, QueueFactory<T>, AutoCloseable {
+
+    /**
+     * Converts elements to and from the bytes stored in the log
+     *
+     * @param <T> Data type of elements in the log
+     */
+    public interface Serializer<T> {
+
+        byte[] serialize(T value);
+
+        T deserialize(byte[] bytes);
+
+        /**
+         * @return Serializer that uses Java serialization
+         */
+        static <T extends Serializable> Serializer<T> java() {
+            return new Serializer<T>() {
+                @Override
+                public byte[] serialize(final T value) {
+                    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                        out.writeObject(value);
+                    } catch (final IOException e) {
+                        throw ExceptionSoftener.throwSoftenedException(e);
+                    }
+                    return bytes.toByteArray();
+                }
+
+                @Override
+                public T deserialize(final byte[] bytes) {
+                    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                        return (T) in.readObject();
+                    } catch (final IOException | ClassNotFoundException e) {
+                        throw ExceptionSoftener.throwSoftenedException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    public static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+    public static final int DEFAULT_MAX_SEGMENTS = 64;
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String READ_POSITION = "read.position";
+    private static final int HEADER = 4;
+    /**
+     * Record headers : 0 is unwritten, a positive header is the record length + 1
+     */
+    private static final int NULL_RECORD = -1;
+    private static final int END_OF_SEGMENT = -2;
+
+    private final File directory;
+    private final Serializer<T> serializer;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final WaitStrategy<T> consumerWait;
+    private final WaitStrategy<T> producerWait;
+
+    private final Object writeLock = new Object();
+    private final Object readLock = new Object();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong read = new AtomicLong();
+    private final java.util.Queue<T> signals = new ConcurrentLinkedQueue<>();
+    /**
+     * Threads blocked in put / timed offer wait on space, and in take / timed poll on data. The versions are only
+     * changed with the monitor held, and no other lock is acquired while holding either monitor.
+     */
+    private final Object space = new Object();
+    private final Object data = new Object();
+    private volatile long spaceVersion;
+    private volatile long dataVersion;
+    private volatile int waitingConsumers;
+
+    private long writeSegment;
+    private int writeOffset;
+    private MappedByteBuffer writeMapping;
+    private UnsafeBuffer writeBuffer;
+
+    private volatile long readSegment;
+    private int readOffset;
+    private MappedByteBuffer readMapping;
+    private UnsafeBuffer readBuffer;
+    private final MappedByteBuffer positionMapping;
+    private final UnsafeBuffer position;
+
+    private volatile boolean closed;
+
+    /**
+     * Open (or create) the log stored in the provided directory
+     *
+     * @param directory Directory for the segment files
+     * @param serializer Converts elements to and from bytes
+     * @param segmentBytes Size of each segment file, the largest serialized element must fit in a single segment
+     * @param maxSegments Maximum number of segment files, once the log would need more offer returns false, and put and
+     *                    the timed offer (used by async.Queue) block, until a segment has been read
+     * @param consumerWait Strategy for consumers when the log is empty
+     * @param producerWait Strategy for producers when the log is full
+     */
+    public MappedLogQueue(final File directory, final Serializer<T> serializer, final int segmentBytes, final int maxSegments,
+                          final WaitStrategy<T> consumerWait, final WaitStrategy<T> producerWait) {
+        if (segmentBytes < HEADER * 3)
+            throw new IllegalArgumentException("Segment size too small " + segmentBytes);
+        if (maxSegments < 2)
+            throw new IllegalArgumentException("At least 2 segments are required " + maxSegments);
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        this.consumerWait = consumerWait;
+        this.producerWait = producerWait;
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs())
+                throw new IOException("Unable to create log directory " + directory);
+            positionMapping = map(new File(directory, READ_POSITION), HEADER * 3);
+            position = new UnsafeBuffer(positionMapping);
+            recover();
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Open (or create) the log stored in the provided directory, with up to {@link #DEFAULT_MAX_SEGMENTS} segments of
+     * {@link #DEFAULT_SEGMENT_BYTES} each
+     *
+     * @param directory Directory for the segment files
+     * @param serializer Converts elements to and from bytes
+     */
+    public MappedLogQueue(final File directory, final Serializer<T> serializer) {
+        this(directory, serializer, DEFAULT_SEGMENT_BYTES, DEFAULT_MAX_SEGMENTS, WaitStrategy.adaptive(), WaitStrategy.adaptive());
+    }
+
+    /**
+     * Find the read position stored in the directory, delete any segments already read, and count the elements
+     * remaining to find the write position.
+     */
+    private void recover() throws IOException {
+        final long[] segments = segments();
+        final long first = segments.length == 0 ? 0 : segments[0];
+        final long last = segments.length == 0 ? 0 : segments[segments.length - 1];
+        long segment = position.getLong(0);
+        int offset = position.getInt(8);
+        if (segment < first || segment > last) {
+            segment = first;
+            offset = 0;
+        }
+        for (final long next : segments) {
+            if (next < segment)
+                delete(next);
+        }
+        readSegment = segment;
+        readOffset = offset;
+        readMapping = map(segmentFile(segment), segmentBytes);
+        readBuffer = new UnsafeBuffer(readMapping);
+        savePosition();
+
+        //the writer maps segments separately, so it can unmap them without affecting the reader
+        long count = 0;
+        MappedByteBuffer mapping = map(segmentFile(segment), segmentBytes);
+        UnsafeBuffer buffer = new UnsafeBuffer(mapping);
+        for (;;) {
+            final int header = offset <= segmentBytes - HEADER ? buffer.getInt(offset) : END_OF_SEGMENT;
+            if (header == 0)
+                break;
+            if (header == END_OF_SEGMENT) {
+                IoUtil.unmap(mapping);
+                segment++;
+                offset = 0;
+                mapping = map(segmentFile(segment), segmentBytes);
+                buffer = new UnsafeBuffer(mapping);
+                continue;
+            }
+            offset += HEADER + Math.max(0, header - 1);
+            count++;
+        }
+        writeSegment = segment;
+        writeOffset = offset;
+        writeMapping = mapping;
+        writeBuffer = buffer;
+        written.set(count);
+    }
+
+    private long[] segments() {
+        final File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        final long[] segments = new long[files == null ? 0 : files.length];
+        for (int i = 0; i < segments.length; i++) {
+            final String name = files[i].getName();
+            segments[i] = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        }
+        Arrays.sort(segments);
+        return segments;
+    }
+
+    private File segmentFile(final long segment) {
+        return new File(directory, String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    private static MappedByteBuffer map(final File file, final int size) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() < size)
+                raf.setLength(size);
+            return raf.getChannel()
+                      .map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private void delete(final long segment) throws IOException {
+        final File file = segmentFile(segment);
+        if (file.exists() && !file.delete())
+            throw new IOException("Unable to delete read segment " + file);
+    }
+
+    private void savePosition() {
+        position.putLong(0, readSegment);
+        position.putInt(8, readOffset);
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("MappedLogQueue " + directory + " is closed");
+    }
+
+    /**
+     * @return New async.Queue over this log
+     */
+    @Override
+    public Queue<T> build() {
+        return new Queue<T>(this, consumerWait, producerWait);
+    }
+
+    /**
+     * Append an element to the log
+     *
+     * @param e Element to append
+     * @return false if the log already has maxSegments segments and the element does not fit in the last of them
+     */
+    @Override
+    public boolean offer(final T e) {
+        if (Queue.isSignal(e)) {
+            signals.offer(e);
+            signalConsumers();
+            return true;
+        }
+        final byte[] bytes = e == Queue.NILL ? null : serializer.serialize(e);
+        final int length = bytes == null ? 0 : bytes.length;
+        if (length > segmentBytes - HEADER * 2)
+            throw new IllegalArgumentException("Serialized element of " + length + " bytes is larger than the log segment size "
+                    + segmentBytes);
+        synchronized (writeLock) {
+            ensureOpen();
+            if (writeOffset + HEADER + length > segmentBytes - HEADER && !nextWriteSegment())
+                return false;
+            if (bytes != null)
+                writeBuffer.putBytes(writeOffset + HEADER, bytes);
+            writeBuffer.putInt(writeOffset, bytes == null ? NULL_RECORD : length + 1);
+            writeOffset += HEADER + length;
+            written.incrementAndGet();
+        }
+        signalConsumers();
+        return true;
+    }
+
+    private void signalConsumers() {
+        if (waitingConsumers == 0)
+            return;
+        synchronized (data) {
+            dataVersion++;
+            data.notifyAll();
+        }
+    }
+
+    private void signalProducers() {
+        synchronized (space) {
+            spaceVersion++;
+            space.notifyAll();
+        }
+    }
+
+    private boolean nextWriteSegment() {
+        if (writeSegment + 1 - readSegment >= maxSegments)
+            return false;
+        try {
+            final MappedByteBuffer next = map(segmentFile(writeSegment + 1), segmentBytes);
+            //the next segment exists before readers are directed to it
+            writeBuffer.putInt(writeOffset, END_OF_SEGMENT);
+            IoUtil.unmap(writeMapping);
+            writeSegment++;
+            writeOffset = 0;
+            writeMapping = next;
+            writeBuffer = new UnsafeBuffer(next);
+            return true;
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Remove the next element from the log, without blocking (waiting is left to the async.Queue's WaitStrategy)
+     *
+     * @return Next element, or null if the log is empty
+     */
+    @Override
+    public T poll() {
+        if (read.get() >= written.get())
+            return signals.poll();
+        synchronized (readLock) {
+            ensureOpen();
+            if (read.get() >= written.get())
+                return signals.poll();
+            final T value = readRecord(true);
+            read.incrementAndGet();
+            savePosition();
+            return value;
+        }
+    }
+
+    @Override
+    public T peek() {
+        if (read.get() >= written.get())
+            return signals.peek();
+        synchronized (readLock) {
+            ensureOpen();
+            if (read.get() >= written.get())
+                return signals.peek();
+            return readRecord(false);
+        }
+    }
+
+    /**
+     * Read the record at the read position, called with the read lock held once a record is known to be available
+     */
+    private T readRecord(final boolean advance) {
+        int header = readBuffer.getInt(readOffset);
+        if (header == END_OF_SEGMENT) {
+            nextReadSegment();
+            header = readBuffer.getInt(readOffset);
+        }
+        final T value = decode(readBuffer, readOffset, header);
+        if (advance)
+            readOffset += HEADER + recordLength(header);
+        return value;
+    }
+
+    private static int recordLength(final int header) {
+        return header == NULL_RECORD ? 0 : header - 1;
+    }
+
+    private T decode(final UnsafeBuffer buffer, final int offset, final int header) {
+        if (header == NULL_RECORD)
+            return (T) Queue.NILL;
+        final byte[] bytes = new byte[recordLength(header)];
+        buffer.getBytes(offset + HEADER, bytes);
+        return serializer.deserialize(bytes);
+    }
+
+    private void nextReadSegment() {
+        try {
+            final MappedByteBuffer next = map(segmentFile(readSegment + 1), segmentBytes);
+            IoUtil.unmap(readMapping);
+            delete(readSegment);
+            readSegment++;
+            readOffset = 0;
+            readMapping = next;
+            readBuffer = new UnsafeBuffer(next);
+            savePosition();
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        signalProducers();
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> c, final int maxElements) {
+        int count = 0;
+        T next;
+        while (count < maxElements && (next = poll()) != null) {
+            c.add(next);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Append an element to the log, blocking while the log is full until a segment has been read
+     */
+    @Override
+    public void put(final T e) throws InterruptedException {
+        offer(e, -1);
+    }
+
+    /**
+     * Append an element to the log, blocking for up to timeout while the log is full
+     *
+     * @return false if the log was still full after timeout
+     */
+    @Override
+    public boolean offer(final T e, final long timeout, final TimeUnit unit) throws InterruptedException {
+        return offer(e, Math.max(0, unit.toNanos(timeout)));
+    }
+
+    /**
+     * @param nanos Maximum time to wait, or -1 to wait until there is space
+     */
+    private boolean offer(final T e, final long nanos) throws InterruptedException {
+        final long deadline = System.nanoTime() + nanos;
+        for (;;) {
+            final long observed = spaceVersion;
+            if (offer(e))
+                return true;
+            final long remaining = nanos < 0 ? 0 : deadline - System.nanoTime();
+            if (nanos >= 0 && remaining <= 0)
+                return false;
+            synchronized (space) {
+                ensureOpen();
+                if (spaceVersion == observed)
+                    TimeUnit.NANOSECONDS.timedWait(space, nanos < 0 ? Long.MAX_VALUE : remaining);
+            }
+        }
+    }
+
+    /**
+     * Remove the next element from the log, blocking until one is available
+     */
+    @Override
+    public T take() throws InterruptedException {
+        return poll(-1);
+    }
+
+    /**
+     * Remove the next element from the log, blocking for up to timeout until one is available
+     *
+     * @return Next element, or null if the log was still empty after timeout
+     */
+    @Override
+    public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return poll(Math.max(0, unit.toNanos(timeout)));
+    }
+
+    /**
+     * @param nanos Maximum time to wait, or -1 to wait until an element is available
+     */
+    private T poll(final long nanos) throws InterruptedException {
+        final long deadline = System.nanoTime() + nanos;
+        for (;;) {
+            final long observed = dataVersion;
+            final T value = poll();
+            if (value != null)
+                return value;
+            final long remaining = nanos < 0 ? 0 : deadline - System.nanoTime();
+            if (nanos >= 0 && remaining <= 0)
+                return null;
+            synchronized (data) {
+                ensureOpen();
+                waitingConsumers++;
+                try {
+                    //offers check waitingConsumers after adding, so recheck once registered as waiting
+                    if (dataVersion == observed && read.get() >= written.get() && signals.isEmpty())
+                        TimeUnit.NANOSECONDS.timedWait(data, nanos < 0 ? Long.MAX_VALUE : remaining);
+                } finally {
+                    waitingConsumers--;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Integer.MAX_VALUE, the log is bounded by the number of segments rather than the number of elements
+     */
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, written.get() - read.get()) + signals.size();
+    }
+
+    /**
+     * Discard every element in the log, deleting every segment but the one being written
+     */
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            synchronized (readLock) {
+                ensureOpen();
+                try {
+                    if (readSegment != writeSegment) {
+                        IoUtil.unmap(readMapping);
+                        for (long i = readSegment; i < writeSegment; i++) {
+                            delete(i);
+                        }
+                        readSegment = writeSegment;
+                        readMapping = map(segmentFile(writeSegment), segmentBytes);
+                        readBuffer = new UnsafeBuffer(readMapping);
+                    }
+                } catch (final IOException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+                readOffset = writeOffset;
+                read.set(written.get());
+                savePosition();
+            }
+        }
+        signals.clear();
+        signalProducers();
+    }
+
+    /**
+     * A snapshot of the elements not yet read, followed by any queued signals, taken under the read lock without
+     * consuming them. The iterator does not support remove.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        final List<T> snapshot = new ArrayList<>();
+        synchronized (readLock) {
+            ensureOpen();
+            final long end = written.get();
+            UnsafeBuffer buffer = readBuffer;
+            int offset = readOffset;
+            long segment = readSegment;
+            MappedByteBuffer mapping = null;
+            try {
+                for (long i = read.get(); i < end; i++) {
+                    int header = buffer.getInt(offset);
+                    if (header == END_OF_SEGMENT) {
+                        if (mapping != null)
+                            IoUtil.unmap(mapping);
+                        mapping = map(segmentFile(++segment), segmentBytes);
+                        buffer = new UnsafeBuffer(mapping);
+                        offset = 0;
+                        header = buffer.getInt(offset);
+                    }
+                    snapshot.add(decode(buffer, offset, header));
+                    offset += HEADER + recordLength(header);
+                }
+            } catch (final IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            } finally {
+                if (mapping != null)
+                    IoUtil.unmap(mapping);
+            }
+        }
+        snapshot.addAll(signals);
+        return Collections.unmodifiableList(snapshot)
+                          .iterator();
+    }
+
+    /**
+     * Remove the next element to be read if it is equal to o. Elements can't be removed from the middle of the log.
+     *
+     * @throws UnsupportedOperationException if o is in the log, but is not the next element to be read
+     */
+    @Override
+    public boolean remove(final Object o) {
+        synchronized (readLock) {
+            if (read.get() < written.get() || !signals.isEmpty()) {
+                if (Objects.equals(peek(), o)) {
+                    poll();
+                    return true;
+                }
+            }
+            if (!contains(o))
+                return false;
+        }
+        throw new UnsupportedOperationException("Only the next element to be read can be removed from a MappedLogQueue");
+    }
+
+    /**
+     * Unmap the log. Elements not yet read remain in the directory, and are read by the next MappedLogQueue opened on it.
+     */
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            synchronized (readLock) {
+                if (closed)
+                    return;
+                closed = true;
+                positionMapping.force();
+                writeMapping.force();
+                IoUtil.unmap(readMapping);
+                IoUtil.unmap(writeMapping);
+                IoUtil.unmap(positionMapping);
+            }
+        }
+        signalProducers();
+        synchronized (data) {
+            dataVersion++;
+            data.notifyAll();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedLogQueue[" + directory + ", size " + size() + "]";
+    }
+}
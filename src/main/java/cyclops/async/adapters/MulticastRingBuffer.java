@@ -0,0 +1,353 @@
+package cyclops.async.adapters;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.async.wait.NoWaitRetry;
+import cyclops.async.wait.WaitStrategy;
+
+/**
+ * A single ring buffer shared by every subscriber of a {@link Topic}. Each element is written once, and each subscriber
+ * reads it through its own sequence. Publishing costs the same however many subscribers there are, and the backlog is
+ * never copied per subscriber.
+ *
+ * Each call to {@link #build()} registers a new subscriber and returns an async.Queue over it. That Queue sees every
+ * element published after it was built. Each subscriber Queue supports a single consumer, which reads with
+ * {@link Queue#stream()} or in batches via drainTo. When the slowest subscriber is a full ring behind, the
+ * {@link SlowConsumerPolicy} decides what happens to new elements.
+ *
+ * <pre>
+ * {@code
+ *   Topic<String> topic = new Topic<>(QueueFactories.multicastRingBuffer(1024));
+ *   ReactiveSeq<String> first = topic.stream();
+ *   ReactiveSeq<String> second = topic.stream();
+ *   topic.offer("hello"); //written once, read by both streams
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the ring buffer
+ */
+public class MulticastRingBuffer<T> implements QueueFactory<T> {
+
+    /**
+     * What publishers do when the slowest subscriber is a full ring behind
+     */
+    public enum SlowConsumerPolicy {
+        /**
+         * Publishers wait (using the producer WaitStrategy) until the slowest subscriber frees a slot
+         */
+        BLOCK,
+        /**
+         * Publishers never wait. Subscribers that fall a full ring behind skip the elements they missed.
+         */
+        OVERWRITE,
+        /**
+         * New elements are rejected (offer returns false) until the slowest subscriber frees a slot
+         */
+        DROP
+    }
+
+    private final AtomicReferenceArray<Object> slots;
+    private final int capacity;
+    private final int mask;
+    private final SlowConsumerPolicy policy;
+    private final WaitStrategy<T> consumerWait;
+    private final WaitStrategy<T> producerWait;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private volatile long gatingCache;
+    private volatile Subscriber<T>[] subscribers = new Subscriber[0];
+
+    /**
+     * @param capacity Ring size, rounded up to a power of 2
+     * @param policy Behaviour when the slowest subscriber is a full ring behind
+     * @param consumerWait Strategy for subscribers when there is no new data
+     * @param producerWait Strategy for publishers when the ring is full (used by {@link SlowConsumerPolicy#BLOCK})
+     */
+    public MulticastRingBuffer(final int capacity, final SlowConsumerPolicy policy,
+                               final WaitStrategy<T> consumerWait, final WaitStrategy<T> producerWait) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Ring buffer capacity must be positive " + capacity);
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.policy = policy;
+        this.consumerWait = consumerWait;
+        this.producerWait = producerWait;
+    }
+
+    public MulticastRingBuffer(final int capacity) {
+        this(capacity, SlowConsumerPolicy.BLOCK, new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    /**
+     * Register a new subscriber, starting from the next element to be claimed by a publisher
+     *
+     * @return async.Queue reading from this ring buffer
+     */
+    @Override
+    public Queue<T> build() {
+        return new Queue<T>(subscribe(), consumerWait, producerWait);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public SlowConsumerPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Publish an element to all current subscribers
+     *
+     * @param value Element to publish
+     * @return false if the element was rejected by the {@link SlowConsumerPolicy#DROP} policy
+     */
+    public boolean offer(final T value) {
+        final Object item = Queue.nullSafe(value);
+        if (policy != SlowConsumerPolicy.BLOCK)
+            return tryPublish(item);
+        try {
+            return producerWait.offer(() -> tryPublish(item));
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Publish an element to all current subscribers without waiting, even under the {@link SlowConsumerPolicy#BLOCK}
+     * policy
+     *
+     * @param value Element to publish
+     * @return false if the ring was full (under the BLOCK or DROP policies)
+     */
+    public boolean tryOffer(final T value) {
+        return tryPublish(Queue.nullSafe(value));
+    }
+
+    private boolean tryPublish(final Object item) {
+        long seq;
+        do {
+            seq = claimed.get();
+            if (policy != SlowConsumerPolicy.OVERWRITE && seq - capacity >= gatingCache) {
+                final long min = minimumSequence(seq);
+                gatingCache = min;
+                if (seq - capacity >= min)
+                    return false;
+            }
+        } while (!claimed.compareAndSet(seq, seq + 1));
+
+        slots.lazySet((int) seq & mask, item);
+        //publish in claim order, so a subscriber never reads past an unwritten slot
+        while (published.get() != seq) {
+            Thread.yield();
+        }
+        published.set(seq + 1);
+        consumerWait.signal();
+        return true;
+    }
+
+    private long minimumSequence(final long defaultSequence) {
+        long min = defaultSequence;
+        for (final Subscriber<T> next : subscribers) {
+            min = Math.min(min, next.sequence);
+        }
+        return min;
+    }
+
+    Subscriber<T> subscribe() {
+        synchronized (this) {
+            final Subscriber<T> subscriber = new Subscriber<>(this, published.get());
+            final Subscriber<T>[] current = subscribers;
+            final Subscriber<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = subscriber;
+            subscribers = next;
+            //publishers that claimed slots before this subscriber was registered did not gate on it (and may have left
+            //the gating cache past published), so start after the last claimed slot rather than the last published one
+            subscriber.sequence = claimed.get();
+            return subscriber;
+        }
+    }
+
+    /**
+     * Stop tracking the subscriber reading through the provided Queue, so it no longer holds back publishers
+     *
+     * @param queue Queue built by this ring buffer
+     */
+    public void release(final Queue<T> queue) {
+        if (!(queue.getQueue() instanceof Subscriber))
+            return;
+        final Subscriber<T> subscriber = (Subscriber<T>) queue.getQueue();
+        synchronized (this) {
+            final List<Subscriber<T>> remaining = new ArrayList<>(Arrays.asList(subscribers));
+            remaining.remove(subscriber);
+            subscribers = remaining.toArray(new Subscriber[0]);
+        }
+    }
+
+    /**
+     * A subscriber's view of the ring buffer, as a BlockingQueue whose take / poll do not block (waiting is left to the
+     * async.Queue's WaitStrategy). Elements offered directly are private to this subscriber and are returned only once
+     * it has caught up with the ring, which is how async.Queue delivers its close signal.
+     */
+    static final class Subscriber<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+        private final MulticastRingBuffer<T> ring;
+        private final java.util.Queue<T> signals = new ConcurrentLinkedQueue<>();
+        volatile long sequence;
+        private volatile long skipped;
+
+        Subscriber(final MulticastRingBuffer<T> ring, final long sequence) {
+            this.ring = ring;
+            this.sequence = sequence;
+        }
+
+        /**
+         * @return Number of elements this subscriber missed under the {@link SlowConsumerPolicy#OVERWRITE} policy
+         */
+        long skipped() {
+            return skipped;
+        }
+
+        private long available() {
+            return ring.published.get();
+        }
+
+        /**
+         * @return The first sequence that is still readable, at or after seq
+         */
+        private long oldestReadable(final long seq) {
+            if (ring.policy != SlowConsumerPolicy.OVERWRITE)
+                return seq;
+            return Math.max(seq, ring.claimed.get() - ring.capacity);
+        }
+
+        @Override
+        public T poll() {
+            for (;;) {
+                final long seq = oldestReadable(sequence);
+                if (seq >= available())
+                    return signals.poll();
+                final Object value = ring.slots.get((int) seq & ring.mask);
+                if (oldestReadable(seq) != seq) {
+                    //lapped by a publisher while reading
+                    continue;
+                }
+                skipped += seq - sequence;
+                sequence = seq + 1;
+                return (T) value;
+            }
+        }
+
+        @Override
+        public T peek() {
+            for (;;) {
+                final long seq = oldestReadable(sequence);
+                if (seq >= available())
+                    return signals.peek();
+                final Object value = ring.slots.get((int) seq & ring.mask);
+                if (oldestReadable(seq) == seq)
+                    return (T) value;
+            }
+        }
+
+        @Override
+        public int drainTo(final Collection<? super T> c) {
+            return drainTo(c, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Read every available element (up to maxElements) with a single read of the published sequence and a
+         * single update of this subscriber's sequence
+         */
+        @Override
+        public int drainTo(final Collection<? super T> c, final int maxElements) {
+            if (ring.policy == SlowConsumerPolicy.OVERWRITE) {
+                int count = 0;
+                T next;
+                while (count < maxElements && sequence < available() && (next = poll()) != null) {
+                    c.add(next);
+                    count++;
+                }
+                return count;
+            }
+            final long seq = sequence;
+            final long end = Math.min(available(), seq + maxElements);
+            for (long i = seq; i < end; i++) {
+                c.add((T) ring.slots.get((int) i & ring.mask));
+            }
+            sequence = end;
+            return (int) (end - seq);
+        }
+
+        @Override
+        public boolean offer(final T e) {
+            return signals.offer(e);
+        }
+
+        @Override
+        public void put(final T e) {
+            offer(e);
+        }
+
+        @Override
+        public boolean offer(final T e, final long timeout, final TimeUnit unit) {
+            return offer(e);
+        }
+
+        @Override
+        public T take() {
+            return poll();
+        }
+
+        @Override
+        public T poll(final long timeout, final TimeUnit unit) {
+            return poll();
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return ring.capacity - ringSize();
+        }
+
+        private int ringSize() {
+            final long seq = sequence;
+            return (int) Math.min(ring.capacity, Math.max(0, available() - oldestReadable(seq)));
+        }
+
+        @Override
+        public int size() {
+            return ringSize() + signals.size();
+        }
+
+        @Override
+        public void clear() {
+            sequence = available();
+            signals.clear();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final List<T> snapshot = new ArrayList<>();
+            final long end = available();
+            for (long i = oldestReadable(sequence); i < end; i++) {
+                snapshot.add((T) ring.slots.get((int) i & ring.mask));
+            }
+            snapshot.addAll(signals);
+            return snapshot.iterator();
+        }
+    }
+}
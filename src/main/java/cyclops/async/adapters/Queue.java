@@ -270,6 +270,8 @@ public class Queue<T> implements Adapter<T> {
                 long start = System.nanoTime();
               try {
                   while (result.size() < size && checkTime(System.nanoTime(), start, toRun)) {
+                      if (drainTo(result, size - result.size()) > 0)
+                          continue;
                       try {
                           T next = source.apply(100l, TimeUnit.MICROSECONDS);
                           if (next != null) {
@@ -294,6 +296,39 @@ public class Queue<T> implements Adapter<T> {
                 .map(ListX::fromIterable);
     }
 
+    /**
+     * Stream the contents of this Queue in batches. Each batch is everything available when it is read (up to maxBatch),
+     * drained from the backing queue in bulk where it supports it (e.g. the Agrona queues), and each read only blocks
+     * when the Queue is empty.
+     *
+     * <pre>
+     * {@code
+     *   Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(1024).build();
+     *   q.streamBatches(256)
+     *    .forEach(batch -> process(batch));
+     * }
+     * </pre>
+     *
+     * @param maxBatch Maximum number of elements in each batch
+     * @return Stream of batches (never empty) of data from this Queue
+     */
+    public ReactiveSeq<ListX<T>> streamBatches(final int maxBatch) {
+        return streamBatchNoTimeout(new Subscription(), source -> () -> {
+            final List<T> result = new ArrayList<>();
+            try {
+                if (drainTo(result, maxBatch) > 0)
+                    return result;
+                result.add(source.get());
+                drainTo(result, maxBatch - 1);
+            } catch (final ClosedQueueException e) {
+                if (result.isEmpty())
+                    throw e;
+                throw new ClosedQueueException(ListX.of(result));
+            }
+            return result;
+        }).map(ListX::fromIterable);
+    }
+
     public ReactiveSeq<T> streamControl(final Continueable s, final Function<Supplier<T>, Supplier<T>> batcher) {
 
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
@@ -382,8 +417,10 @@ public class Queue<T> implements Adapter<T> {
                                 handleTimeout(timer, timeoutNanos);
 
                         }
-                        if (data != null)
+                        if (data != null) {
+                            producerWait.signal();
                             return (T) nillSafe(ensureNotPoisonPill(ensureClear(data)));
+                        }
                     }finally{
                      }
                 }
@@ -415,6 +452,7 @@ public class Queue<T> implements Adapter<T> {
                 throw ExceptionSoftener.throwSoftenedException(e);
             }
 
+            producerWait.signal();
             ensureNotPoisonPill(data);
             if (sizeSignal != null)
                 this.sizeSignal.set(queue.size());
@@ -498,6 +536,13 @@ public class Queue<T> implements Adapter<T> {
     private static class PoisonPill {
     }
 
+    /**
+     * @return true if data is one of the close or clear signals this Queue sends to connected Streams
+     */
+    static boolean isSignal(final Object data) {
+        return data instanceof PoisonPill;
+    }
+
     public T poll(final long time, final TimeUnit unit) throws QueueTimeoutException {
         return this.ensureOpen(time, unit);
     }
@@ -522,6 +567,7 @@ public class Queue<T> implements Adapter<T> {
         try {
             final boolean result = queue.add((T) nullSafe(data));
             if (result) {
+                consumerWait.signal();
                 if (sizeSignal != null)
                     this.sizeSignal.set(queue.size());
             }
@@ -549,7 +595,8 @@ public class Queue<T> implements Adapter<T> {
             throw new ClosedQueueException();
         try {
             final boolean result = producerWait.offer(() -> this.queue.offer((T) nullSafe(data), this.offerTimeout, this.offerTimeUnit));
-
+            if (result)
+                consumerWait.signal();
             if (sizeSignal != null)
                 this.sizeSignal.set(queue.size());
             return result;
@@ -561,6 +608,86 @@ public class Queue<T> implements Adapter<T> {
 
     }
 
+    /**
+     * Offer every element to this Queue, in order. Elements are offered directly to the backing queue, and the producer
+     * WaitStrategy is only used (with the offer time out) when the backing queue is full.
+     *
+     * @param data Elements to add
+     * @return Number of elements added, less than the number provided if the Queue stayed full until the offer time out
+     */
+    public int offerAll(final Iterable<? extends T> data) {
+
+        if (!open)
+            throw new ClosedQueueException();
+        int count = 0;
+        try {
+            for (final T next : data) {
+                final T item = nullSafe(next);
+                if (!queue.offer(item) && !producerWait.offer(() -> this.queue.offer(item, this.offerTimeout, this.offerTimeUnit)))
+                    break;
+                count++;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            if (count > 0)
+                consumerWait.signal();
+            if (sizeSignal != null)
+                this.sizeSignal.set(queue.size());
+        }
+        return count;
+
+    }
+
+    /**
+     * Move up to maxElements of the data currently in this Queue to the provided Collection, without blocking. Backing
+     * queues that support bulk removal (e.g. the Agrona queues) are drained in a single operation.
+     *
+     * A close signal for connected Streams ends the read that removes it : data removed before it is still added to c,
+     * further close signals removed with it are returned to the Queue for the other connected Streams, and a
+     * ClosedQueueException is thrown.
+     *
+     * @param c Collection to add data to
+     * @param maxElements Maximum number of elements to remove
+     * @return Number of elements added to c (0 if the Queue is empty)
+     * @throws ClosedQueueException if this Queue is closed and has no more data, or a close signal was removed
+     */
+    public int drainTo(final Collection<? super T> c, final int maxElements) {
+
+        if (!open && queue.size() == 0)
+            throw new ClosedQueueException();
+        if (maxElements <= 0)
+            return 0;
+        final List<T> batch = new ArrayList<>();
+        queue.drainTo(batch, maxElements);
+        if (!batch.isEmpty())
+            producerWait.signal();
+        int count = 0;
+        int pills = 0;
+        for (final T next : batch) {
+            if (next == CLEAR_PILL) {
+                this.queue.clear();
+                break;
+            }
+            if (next instanceof PoisonPill) {
+                pills++;
+                continue;
+            }
+            c.add(nillSafe(next));
+            count++;
+        }
+        if (pills > 1)
+            disconnectStreams(pills - 1);
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        if (pills > 0)
+            throw new ClosedQueueException();
+        return count;
+
+    }
+
     private boolean timeout(final SimpleTimer timer) {
 
         if (timer.getElapsedNanoseconds() >= offerTimeUnit.toNanos(this.offerTimeout))
@@ -605,6 +732,7 @@ public class Queue<T> implements Adapter<T> {
            }
 
         }
+        consumerWait.signal();
 
         return true;
     }
@@ -622,6 +750,7 @@ public class Queue<T> implements Adapter<T> {
             }
 
          }
+        consumerWait.signal();
     }
 
     public void closeAndClear() {
@@ -699,23 +828,19 @@ public class Queue<T> implements Adapter<T> {
         public Collection<T> drainToOrBlock() {
 
             final Collection<T> result = new ArrayList<>();
-            if (size() > 0)
-                queue.queue.drainTo(result);
-            else {
-                try {
-
+            try {
+                if (size() == 0 || queue.drainTo(result, Integer.MAX_VALUE) == 0)
                     result.add(queue.ensureOpen(queue.timeout, queue.timeUnit));
 
-                } catch (final ClosedQueueException e) {
+            } catch (final ClosedQueueException e) {
 
-                    queue.open = false;
-                    throw e;
-                }
+                queue.open = false;
+                if (!result.isEmpty())
+                    return result;
+                throw e;
             }
 
-            return result.stream()
-                         .filter(it -> it != POISON_PILL)
-                         .collect(Collectors.toList());
+            return result;
         }
     }
 
@@ -1,10 +1,13 @@
 package cyclops.async.adapters;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import cyclops.async.QueueFactories;
+import cyclops.async.wait.WaitStrategy;
 import lombok.Getter;
 
 /**
@@ -52,6 +55,18 @@ public class Signal<T> {
                                           new LinkedBlockingQueue<T>(), null));
     }
 
+    /**
+     * @param strategy Strategy employed by readers of the Signal while there is no new value
+     * @return Signal backed by non-blocking queues {@see WaitStrategy#adaptive() , @see WaitStrategy#signalling() }
+     */
+    public static <T> Signal<T> queueBackedSignal(final WaitStrategy<T> strategy) {
+        return new Signal<T>(
+                             new Queue<T>(
+                                          new ConcurrentLinkedQueue<T>(), strategy, strategy),
+                             new Queue<T>(
+                                          new ConcurrentLinkedQueue<T>(), strategy, strategy));
+    }
+
     /**
      * @return Signal backed by a topic
      */
@@ -60,6 +75,16 @@ public class Signal<T> {
                           new Topic<>(), new Topic<>());
     }
 
+    /**
+     * @param strategy Strategy employed by subscribers to the Signal while there is no new value
+     * @return Signal backed by a topic of non-blocking queues {@see WaitStrategy#adaptive() , @see WaitStrategy#signalling() }
+     */
+    public static <T> Signal<T> topicBackedSignal(final WaitStrategy<T> strategy) {
+        return new Signal<T>(
+                             new Topic<>(QueueFactories.unboundedNonBlockingQueue(strategy)),
+                             new Topic<>(QueueFactories.unboundedNonBlockingQueue(strategy)));
+    }
+
     /**
      * @param stream Populate this Signal from a Stream
      */
@@ -2,6 +2,7 @@ package cyclops.async.adapters;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -38,6 +39,7 @@ public class Topic<T> implements Adapter<T> {
     private final Object lock = new Object();
     private volatile int index = 0;
     private final QueueFactory<T> factory;
+    private final MulticastRingBuffer<T> ring;
 
     /**
      * Construct a new Topic
@@ -45,6 +47,7 @@ public class Topic<T> implements Adapter<T> {
     public Topic() {
         final Queue<T> q = new Queue<T>();
         factory = QueueFactories.unboundedQueue();
+        ring = null;
         distributor.addQueue(q);
     }
 
@@ -54,13 +57,41 @@ public class Topic<T> implements Adapter<T> {
      */
     public Topic(final Queue<T> q) {
         factory = QueueFactories.unboundedQueue();
+        ring = null;
         distributor.addQueue(q);
     }
+
+    /**
+     * Construct a Topic whose subscriber Queues are created by the supplied factory
+     *
+     * If the factory is a {@link MulticastRingBuffer} (e.g. {@link QueueFactories#multicastRingBuffer(int)}) each element
+     * is written once to the shared ring buffer rather than offered to every subscriber's Queue, and the first Queue should
+     * be one built by that factory.
+     *
+     * @param q Queue for the first subscriber
+     * @param factory Factory for the Queues of further subscribers
+     */
     public Topic(final Queue<T> q,QueueFactory<T> factory) {
         this.factory = factory;
+        this.ring = factory instanceof MulticastRingBuffer ? (MulticastRingBuffer<T>)factory : null;
         distributor.addQueue(q);
     }
 
+    /**
+     * Construct a Topic whose subscriber Queues are all created by the supplied factory
+     *
+     * <pre>
+     * {@code
+     *   Topic<String> topic = new Topic<>(QueueFactories.multicastRingBuffer(1024));
+     * }
+     * </pre>
+     *
+     * @param factory Factory for subscriber Queues
+     */
+    public Topic(final QueueFactory<T> factory) {
+        this(factory.build(),factory);
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic
@@ -71,7 +102,10 @@ public class Topic<T> implements Adapter<T> {
     @Synchronized("lock")
     public void disconnect(final ReactiveSeq<T> stream) {
 
-        distributor.removeQueue(streamToQueue.getOrElse(stream, new Queue<>()));
+        final Queue<T> queue = streamToQueue.getOrElse(stream, new Queue<>());
+        distributor.removeQueue(queue);
+        if (ring != null)
+            ring.release(queue);
 
         this.streamToQueue = streamToQueue.remove(stream);
         this.index--;
@@ -91,6 +125,10 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean fromStream(final Stream<T> stream) {
+        if (ring != null) {
+            stream.forEach(ring::offer);
+            return true;
+        }
         stream.collect(Collectors.toCollection(() -> distributor));
         return true;
 
@@ -152,6 +190,17 @@ public class Topic<T> implements Adapter<T> {
 
     }
 
+    /**
+     * @return Number of elements waiting to be read by the slowest subscriber
+     */
+    public int backlog() {
+        int max = 0;
+        for (final Queue<T> next : distributor.getSubscribers()) {
+            max = Math.max(max, next.size());
+        }
+        return max;
+    }
+
     /**
      * @return Track changes in size in the Topic's data
      */
@@ -175,11 +224,48 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(final T data) {
+        if (ring != null)
+            return ring.offer(data);
         fromStream(Stream.of(data));
         return true;
 
     }
 
+    /**
+     * Add a single datapoint to this Topic without waiting. Subscribers whose Queue is full (or, for a multicast ring
+     * buffer, every subscriber if the ring is full) miss it.
+     *
+     * @param data data to add
+     * @return true if every subscriber received data
+     */
+    public boolean tryOffer(final T data) {
+        if (ring != null)
+            return ring.tryOffer(data);
+        return distributor.tryAdd(data);
+    }
+
+    /**
+     * Add every element to this Topic, in order. Each subscriber's Queue receives the whole batch in a single
+     * {@link Queue#offerAll(Iterable)} call.
+     *
+     * @param data Elements to add
+     * @return Number of elements published (for a multicast ring buffer, less than the number provided if some were dropped)
+     */
+    public int offerAll(final Iterable<? extends T> data) {
+        if (ring != null) {
+            int count = 0;
+            for (final T next : data) {
+                if (ring.offer(next))
+                    count++;
+            }
+            return count;
+        }
+        final List<T> batch = new ArrayList<>();
+        data.forEach(batch::add);
+        distributor.addAll(batch);
+        return batch.size();
+    }
+
     public void addContinuation(Continuation cont) {
         distributor.subscribers.forEach(q->q.addContinuation(cont));
     }
@@ -209,9 +295,17 @@ public class Topic<T> implements Adapter<T> {
             return true;
         }
 
+        public boolean tryAdd(final T e) {
+            boolean all = true;
+            for (final Queue<T> next : subscribers) {
+                all &= next.add(e);
+            }
+            return all;
+        }
+
         @Override
         public boolean addAll(final Collection<? extends T> c) {
-            subscribers.forEach(it -> c.forEach(next -> it.offer(next)));
+            subscribers.forEach(it -> it.offerAll(c));
             return true;
         }
 
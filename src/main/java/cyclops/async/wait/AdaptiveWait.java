@@ -0,0 +1,91 @@
+package cyclops.async.wait;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Retry to take or offer element to Queue if full or data unavailable, in three phases : busy spinning for the first
+ * attempts (lowest hand off latency), then calling Thread.yield, then parking for an exponentially increasing time
+ * capped at maxParkNanos. A waiting thread therefore uses no more than one core for a short time, and very little CPU
+ * once parked.
+ *
+ * <pre>
+ * {@code
+ *    //spin 1,000 times, yield 100 times, then park from 1 micro second up to 1 milli second
+ *    QueueFactories.unboundedNonBlockingQueue(new AdaptiveWait<>(1000,100,1_000,1_000_000));
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+public class AdaptiveWait<T> implements WaitStrategy<T> {
+
+    private final int spins;
+    private final int yields;
+    private final long minParkNanos;
+    private final long maxParkNanos;
+
+    /**
+     * @param spins Number of retries without pausing
+     * @param yields Number of further retries after calling Thread.yield
+     * @param minParkNanos First park time, once spins and yields are exhausted
+     * @param maxParkNanos Maximum park time
+     */
+    public AdaptiveWait(final int spins, final int yields, final long minParkNanos, final long maxParkNanos) {
+        if (spins < 0 || yields < 0 || minParkNanos < 1 || maxParkNanos < minParkNanos)
+            throw new IllegalArgumentException("Invalid AdaptiveWait phases spins " + spins + " yields " + yields + " park "
+                    + minParkNanos + "-" + maxParkNanos + "ns");
+        this.spins = spins;
+        this.yields = yields;
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+    }
+
+    public AdaptiveWait() {
+        this(100, 10, 1_000, 1_000_000);
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops.async.wait.WaitStrategy#take(cyclops.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result;
+        long parkNanos = minParkNanos;
+        int attempt = 0;
+        while ((result = t.take()) == null) {
+            parkNanos = idle(attempt++, parkNanos);
+        }
+
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops.async.wait.WaitStrategy#offer(cyclops.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        long parkNanos = minParkNanos;
+        int attempt = 0;
+        while (!o.offer()) {
+            parkNanos = idle(attempt++, parkNanos);
+        }
+        return true;
+    }
+
+    /**
+     * @return Park time for the next attempt
+     */
+    private long idle(final int attempt, final long parkNanos) throws InterruptedException {
+        if (attempt < spins)
+            return parkNanos;
+        if (attempt - spins < yields) {
+            Thread.yield();
+            return parkNanos;
+        }
+        LockSupport.parkNanos(this, parkNanos);
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        return Math.min(maxParkNanos, parkNanos * 2);
+    }
+
+}
@@ -0,0 +1,106 @@
+package cyclops.async.wait;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Retry to take or offer element to Queue after spinning briefly, then block on a Condition until the other side
+ * signals a change (async.Queue signals consumers on offer, and producers on take). Waiting threads use no CPU, and
+ * signalling is a single atomic increment while nothing is waiting.
+ *
+ * Every waiting thread is woken by a signal and retries, so share an instance between a Queue's producers and
+ * consumers (or across Queues) only where few threads wait at once. Waits are bounded by maxBlockNanos, so data added
+ * without a signal (e.g. directly to the backing queue) is still picked up.
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+public class SignallingWait<T> implements WaitStrategy<T> {
+
+    private final int spins;
+    private final long maxBlockNanos;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    /**
+     * @param spins Number of retries before blocking
+     * @param maxBlockNanos Maximum time to block between retries, if no signal is received
+     */
+    public SignallingWait(final int spins, final long maxBlockNanos) {
+        if (spins < 0 || maxBlockNanos < 1)
+            throw new IllegalArgumentException("Invalid SignallingWait spins " + spins + " max block " + maxBlockNanos + "ns");
+        this.spins = spins;
+        this.maxBlockNanos = maxBlockNanos;
+    }
+
+    public SignallingWait() {
+        this(100, TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops.async.wait.WaitStrategy#take(cyclops.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        int attempt = 0;
+        for (;;) {
+            final long observed = version.get();
+            final T result = t.take();
+            if (result != null)
+                return result;
+            if (attempt++ >= spins)
+                block(observed);
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops.async.wait.WaitStrategy#offer(cyclops.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        int attempt = 0;
+        for (;;) {
+            final long observed = version.get();
+            if (o.offer())
+                return true;
+            if (attempt++ >= spins)
+                block(observed);
+        }
+    }
+
+    /**
+     * Wake all threads blocked in take or offer
+     */
+    @Override
+    public void signal() {
+        version.incrementAndGet();
+        if (waiting.get() == 0)
+            return;
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Block until signalled, unless there has been a signal since observed was read
+     */
+    private void block(final long observed) throws InterruptedException {
+        lock.lock();
+        waiting.incrementAndGet();
+        try {
+            if (version.get() == observed)
+                changed.awaitNanos(maxBlockNanos);
+        } finally {
+            waiting.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+}
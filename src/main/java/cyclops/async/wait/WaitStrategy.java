@@ -60,6 +60,13 @@ public interface WaitStrategy<T> {
      */
     public boolean offer(Offerable o) throws InterruptedException;
 
+    /**
+     * Notify threads waiting in take or offer that the state they are waiting on may have changed (called by async.Queue
+     * after data is added, for consumers, or removed, for producers). Polling strategies ignore signals.
+     */
+    default void signal() {
+    }
+
     /**
      * @return YieldWait strategy {@see YieldWait}
      */
@@ -88,6 +95,31 @@ public interface WaitStrategy<T> {
         return new ExponentialBackofWaitStrategy<>();
     }
 
+    /**
+     * @return AdaptiveWait strategy with the default phases {@see AdaptiveWait}
+     */
+    static <T> AdaptiveWait<T> adaptive() {
+        return new AdaptiveWait<>();
+    }
+
+    /**
+     * @param spins Number of retries without pausing
+     * @param yields Number of further retries after calling Thread.yield
+     * @param minParkNanos First park time, once spins and yields are exhausted
+     * @param maxParkNanos Maximum park time
+     * @return AdaptiveWait strategy {@see AdaptiveWait}
+     */
+    static <T> AdaptiveWait<T> adaptive(final int spins, final int yields, final long minParkNanos, final long maxParkNanos) {
+        return new AdaptiveWait<>(spins, yields, minParkNanos, maxParkNanos);
+    }
+
+    /**
+     * @return SignallingWait strategy {@see SignallingWait}
+     */
+    static <T> SignallingWait<T> signalling() {
+        return new SignallingWait<>();
+    }
+
     /**
      * @return DirectWaitStrategy {@see DirectWaitStrategy}
      */
@@ -6,7 +6,6 @@ import com.oath.cyclops.matching.Deconstruct.Deconstruct1;
 import com.oath.cyclops.types.MonadicValue;
 import com.oath.cyclops.types.Value;
 import com.oath.cyclops.types.Zippable;
-import cyclops.data.Vector;
 import cyclops.typeclasses.*;
 import com.oath.cyclops.types.foldable.To;
 import com.oath.cyclops.types.reactive.Completable;
@@ -40,6 +39,7 @@ import java.util.*;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.*;
 import java.util.stream.Stream;
 
@@ -441,10 +441,6 @@ public interface Eval<T> extends To<Eval<T>>,Function0<T>,
     public <R> Eval<R> flatMap(Function<? super T, ? extends MonadicValue<? extends R>> mapper);
 
 
-    default Vector<Function<Object, Object>> steps() {
-        return Vector.of(__ -> get());
-    }
-
     /* (non-Javadoc)
      * @see com.oath.cyclops.types.MonadicValue#coflatMap(java.util.function.Function)
      */
@@ -775,34 +771,74 @@ public interface Eval<T> extends To<Eval<T>>,Function0<T>,
         }
 
         public static class Later<T> extends Rec<T> implements Eval<T> {
+            private static final AtomicReferenceFieldUpdater<Later,Object> RESULT =
+                    AtomicReferenceFieldUpdater.newUpdater(Later.class,Object.class,"result");
+
+            private volatile Object result = UNSET;
 
             Later(final Function<Object, ? extends T> s) {
-                super(Vector.of(Rec.raw(Memoize.memoizeFunction(s))));
+                super(null,null,s);
+            }
+
+            private Later(final Rec<?> prev, final Eval<?> bound, final Function<?, ?> fn) {
+                super(prev,bound,fn);
+            }
+
+            @Override
+            Object acquire(final Claim claim) {
+                for (;;) {
+                    final Object value = result;
+                    if (value == UNSET) {
+                        if (RESULT.compareAndSet(this, UNSET, claim))
+                            return UNSET;
+                    } else if (value instanceof Claim) {
+                        final Claim other = (Claim) value;
+                        if (other.owner == claim.owner)
+                            return UNSET;
+                        other.await(this);
+                    } else {
+                        return value;
+                    }
+                }
             }
 
-            Later(final Vector<Function<Object, Object>> s) {
-                super(s);
+            @Override
+            Object store(final Object value) {
+                for (;;) {
+                    final Object current = result;
+                    if (current != UNSET && !(current instanceof Claim))
+                        return current;
+                    if (RESULT.compareAndSet(this, current, value)) {
+                        if (current instanceof Claim)
+                            ((Claim) current).signal();
+                        return value;
+                    }
+                }
+            }
 
+            void release(final Claim claim) {
+                RESULT.compareAndSet(this, claim, UNSET);
             }
 
             @Override
             public <R> Eval<R> map(final Function<? super T, ? extends R> mapper) {
 
-                return new Later<R>(
-                                    super.fns.plus(Rec.raw(Memoize.memoizeFunction(mapper))));
+                return new Later<R>(this,null,mapper);
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(super.applyRec())).steps();
 
-                return new Later<R>(Vector.of(s));
+                return new Later<R>(null,this,mapper);
 
             }
 
             @Override
             public T get() {
-                return super.get();
+                final Object value = result;
+                if (value == UNSET || value instanceof Claim)
+                    return (T) evaluate(this);
+                return (T) value;
             }
 
             /* (non-Javadoc)
@@ -844,12 +880,11 @@ public interface Eval<T> extends To<Eval<T>>,Function0<T>,
         public static class Always<T> extends Rec<T> implements Eval<T> {
 
             Always(final Function<Object, ? extends T> s) {
-                super(Vector.of(Rec.raw(s)));
+                super(null,null,s);
             }
 
-            Always(final Vector<Function<Object, Object>> s) {
-                super(s);
-
+            private Always(final Rec<?> prev, final Eval<?> bound, final Function<?, ?> fn) {
+                super(prev,bound,fn);
             }
 
 
@@ -860,22 +895,19 @@ public interface Eval<T> extends To<Eval<T>>,Function0<T>,
             @Override
             public <R> Eval<R> map(final Function<? super T, ? extends R> mapper) {
 
-                return new Always<R>(
-                                     fns.plus(Rec.raw(mapper)));
+                return new Always<R>(this,null,mapper);
 
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(apply())).steps();
 
-                return new Always<R>(
-                                     Vector.of(s));
+                return new Always<R>(null,this,mapper);
             }
 
             @Override
             public T get() {
-                return super.get();
+                return (T) evaluate(this);
             }
 
             @Override
@@ -1061,88 +1093,168 @@ public interface Eval<T> extends To<Eval<T>>,Function0<T>,
 
         }
 
-        private static class Rec<T> {
-            final Vector<Function<Object, Object>> fns;
-            private final static Object VOID = new Object();
-
-            Rec(final Vector<Function<Object, Object>> s) {
-                fns = s;
+        /**
+         * A single step of a lazy Eval: a source (supplier applied to VOID), a map (prev + mapper) or a
+         * flatMap (bound Eval + mapper). Steps are evaluated by an iterative interpreter, so neither deep map
+         * chains nor deep flatMap chains consume stack, and a whole evaluation allocates a single continuation stack
+         * rather than intermediate collections per step.
+         */
+        private static abstract class Rec<T> {
+            final static Object VOID = new Object();
+            final static Object UNSET = new Object();
+            private final static Object STORE = new Object();
+
+            final Rec<?> prev;
+            final Eval<?> bound;
+            final Function<Object, Object> fn;
+
+            Rec(final Rec<?> prev, final Eval<?> bound, final Function<?, ?> fn) {
+                this.prev = prev;
+                this.bound = bound;
+                this.fn = (Function<Object, Object>) fn;
             }
 
-
-
-            private static Function<Object, Object> raw(final Function<?, ?> fn) {
-                return (Function<Object, Object>) fn;
+            /**
+             * @param claim Claim of the evaluation that reached this step
+             * @return The memoized result of this step (waiting for another thread that is computing it), or UNSET if
+             *         the evaluation holding claim should compute it
+             */
+            Object acquire(final Claim claim) {
+                return UNSET;
             }
 
-            static interface RecFunction extends Function<Object, Object> {
-
+            /**
+             * @param value Result of this step
+             * @return The result to continue with (the first stored value, if this step memoizes)
+             */
+            Object store(final Object value) {
+                return value;
             }
 
-            public  Vector<Function<Object, Object>> steps() {
-                return fns;
-            }
-            public Trampoline<T> toTrampoline(){
-                return new Trampoline<T>() {
-                    @Override
-                    public T get() {
-                        return Rec.this.get();
-                    }
-
-                    @Override
-                    public boolean complete(){
-                        return false;
-                    }
-
-                    public Trampoline<T> bounce() {
-                        Object input = init();
-                        for (int i=0; i< fns.size();i++) {
-
-                                final Function<Object, Object> next = fns.getOrElse(i,null);
-                                if (next instanceof RecFunction) {
-                                    Vector<Function<Object, Object>> remaining = fns.subList(i+1,fns.size());
-                                    Vector<Function<Object, Object>> nextSteps = (Vector) ((RecFunction) next).apply(VOID);
-                                    nextSteps.appendAll(remaining);
-                                   return new Later(nextSteps).toTrampoline();
-                                } else {
-                                    input = next.apply(input);
-
-
+            static Object evaluate(final Rec<?> start) {
+                final Claim claim = new Claim();
+                Deque<Object> stack = null;
+                Eval<?> current = (Eval<?>) start;
+                Object applying = null;
+                try {
+                    for (;;) {
+                        Object value;
+                        if (current instanceof Rec) {
+                            final Rec<?> node = (Rec<?>) current;
+                            value = node.acquire(claim);
+                            if (value == UNSET) {
+                                if (node.prev != null) {
+                                    //walk the run of map steps back to a memoized or non-map step, then apply them in order
+                                    Rec<?> base = node.prev;
+                                    int count = 1;
+                                    while (base.prev != null && base.acquire(claim) == UNSET) {
+                                        base = base.prev;
+                                        count++;
+                                    }
+                                    final Rec<?>[] path = new Rec<?>[count];
+                                    Rec<?> step = node;
+                                    for (int i = count - 1; i >= 0; i--) {
+                                        path[i] = step;
+                                        step = step.prev;
+                                    }
+                                    if (stack == null)
+                                        stack = new ArrayDeque<>();
+                                    stack.push(path);
+                                    current = (Eval<?>) base;
+                                    continue;
                                 }
-
-
+                                if (node.bound != null) {
+                                    if (stack == null)
+                                        stack = new ArrayDeque<>();
+                                    stack.push(node);
+                                    current = node.bound;
+                                    continue;
+                                }
+                                value = node.store(node.fn.apply(VOID));
+                            }
+                        } else {
+                            value = current.get();
                         }
-                        return Trampoline.done((T) input);
 
+                        current = null;
+                        while (current == null) {
+                            if (stack == null || stack.isEmpty())
+                                return value;
+                            final Object next = stack.pop();
+                            applying = next;
+                            if (next instanceof Rec<?>[]) {
+                                for (final Rec<?> step : (Rec<?>[]) next) {
+                                    value = step.store(step.fn.apply(value));
+                                }
+                            } else if (next == STORE) {
+                                value = ((Rec<?>) stack.pop()).store(value);
+                            } else {
+                                final Rec<?> node = (Rec<?>) next;
+                                current = asEval((MonadicValue<Object>) node.fn.apply(value));
+                                if (node instanceof Later) {
+                                    stack.push(node);
+                                    stack.push(STORE);
+                                }
+                            }
+                            applying = null;
+                        }
+                    }
+                } catch (final RuntimeException | Error e) {
+                    //let another evaluation compute the steps this one had claimed
+                    claim.release(current);
+                    claim.release(applying);
+                    if (stack != null) {
+                        for (final Object next : stack) {
+                            claim.release(next);
+                        }
                     }
-                };
+                    claim.signal();
+                    throw e;
+                }
             }
 
+        }
 
-            public Object init(){
-                return VOID;
+        /**
+         * Marks the Laters an evaluation is computing, so that other threads reaching them wait for the result rather
+         * than computing it again
+         */
+        private static final class Claim {
+            final Thread owner = Thread.currentThread();
+            private volatile boolean waiting;
+
+            void await(final Later<?> later) {
+                boolean interrupted = false;
+                synchronized (this) {
+                    waiting = true;
+                    while (later.result == this) {
+                        try {
+                            wait();
+                        } catch (final InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                }
+                if (interrupted)
+                    Thread.currentThread().interrupt();
             }
-            T applyRec() {
-                Object input = init();
-                for (final Function<Object, Object> n : fns) {
-                    final Deque<Function<Object, Object>> newFns = new ArrayDeque();
-                    newFns.add(n);
-                    while (newFns.size() > 0) {
-                        final Function<Object, Object> next = newFns.pop();
-                        if (next instanceof RecFunction) {
-                            Vector v = (Vector) ((RecFunction) next).apply(VOID);
-                            for(Object t : v)
-                                newFns.add((Function)t);
-                        } else
-                            input = next.apply(input);
 
+            void signal() {
+                if (waiting) {
+                    synchronized (this) {
+                        notifyAll();
                     }
                 }
-                return (T) input;
             }
 
-            public T get() {
-                return applyRec();
+            void release(final Object step) {
+                if (step instanceof Later)
+                    ((Later<?>) step).release(this);
+                else if (step instanceof Rec<?>[]) {
+                    for (final Rec<?> next : (Rec<?>[]) step) {
+                        release(next);
+                    }
+                }
             }
 
         }
@@ -9,6 +9,7 @@ import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
+import cyclops.data.base.HashCode;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.function.Monoid;
@@ -211,13 +212,20 @@ public interface BankersQueue<T> extends ImmutableQueue<T>, Higher<bankersQueue,
         return enqueue(value);
     }
 
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static final class Cons<T> implements  BankersQueue<T>, ImmutableQueue.Some<T> {
         private static final long serialVersionUID = 1L;
         private final int sizeFront;
         private final ImmutableList<T> front;
         private final int sizeBack;
         private final ImmutableList<T> back;
+        private transient int hash;
+
+        private Cons(int sizeFront, ImmutableList<T> front, int sizeBack, ImmutableList<T> back){
+            this.sizeFront = sizeFront;
+            this.front = front;
+            this.sizeBack = sizeBack;
+            this.back = back;
+        }
 
         private Cons(ImmutableList<T> front, ImmutableList<T> back){
             this.sizeFront = front.size();
@@ -365,10 +373,12 @@ public interface BankersQueue<T> extends ImmutableQueue<T>, Higher<bankersQueue,
 
         @Override
         public int hashCode() {
-            int hashCode = 1;
-            for (T next : this)
-                hashCode = 31*hashCode + (next==null ? 0 : next.hashCode());
-            return hashCode;
+            int h = hash;
+            if(h==0){
+                h = HashCode.ordered(this);
+                hash = h;
+            }
+            return h;
         }
 
         @Override
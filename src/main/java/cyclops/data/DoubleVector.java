@@ -0,0 +1,306 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SplittableSpliterator;
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed doubles.
+ *
+ * Values are stored in 32 element double[] chunks, held in a persistent {@link Vector} of chunks, followed by a partial tail chunk.
+ * Indexed access and updates are O(log32 n) and copy only the affected chunk, appends copy only the tail and
+ * all unmodified chunks are shared between versions.
+ *
+ * <pre>
+ * {@code
+ *   DoubleVector v = DoubleVector.of(1,2,3)
+ *                          .append(4)
+ *                          .updateAt(0,10);
+ *   //[10.0,2.0,3.0,4.0]
+ *
+ *   double sum = v.doubleStream().sum();
+ *   ReactiveSeq<Double> seq = v.stream(); //primitive operations (mapToDouble, doubles) don't box
+ * }
+ * </pre>
+ */
+public final class DoubleVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int CHUNK = 32;
+    private static final DoubleVector EMPTY = new DoubleVector(Vector.empty(), new double[0], 0);
+
+    private final Vector<double[]> chunks;
+    private final double[] tail;
+    private final int size;
+    private transient int hash;
+
+    private DoubleVector(Vector<double[]> chunks, double[] tail, int size) {
+        this.chunks = chunks;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    public static DoubleVector empty(){
+        return EMPTY;
+    }
+
+    public static DoubleVector of(double... values){
+        return EMPTY.appendAll(values);
+    }
+
+    public static DoubleVector fromStream(DoubleStream stream){
+        return EMPTY.appendAll(stream.iterator());
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Double> get(int pos){
+        if(pos<0||pos>=size){
+            return Option.none();
+        }
+        return Option.some(valueAt(pos));
+    }
+
+    public double getOrElse(int pos, double alt){
+        if(pos<0||pos>=size){
+            return alt;
+        }
+        return valueAt(pos);
+    }
+
+    private double valueAt(int pos){
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            return tail[pos-tailStart];
+        }
+        return chunks.getOrElse(pos>>>5,null)[pos&(CHUNK-1)];
+    }
+
+    /**
+     * @param pos Index to update
+     * @param value New value
+     * @return DoubleVector with the value at pos replaced, or this DoubleVector if pos is out of range
+     */
+    public DoubleVector updateAt(int pos, double value){
+        if(pos<0||pos>=size){
+            return this;
+        }
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            double[] newTail = tail.clone();
+            newTail[pos-tailStart]=value;
+            return new DoubleVector(chunks,newTail,size);
+        }
+        double[] chunk = chunks.getOrElse(pos>>>5,null).clone();
+        chunk[pos&(CHUNK-1)]=value;
+        return new DoubleVector(chunks.set(pos>>>5,chunk),tail,size);
+    }
+
+    public DoubleVector append(double value){
+        if(tail.length<CHUNK){
+            double[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new DoubleVector(chunks,newTail,size+1);
+        }
+        return new DoubleVector(chunks.plus(tail),new double[]{value},size+1);
+    }
+
+    public DoubleVector appendAll(double... values){
+        return appendAll(Arrays.stream(values).iterator());
+    }
+
+    public DoubleVector appendAll(DoubleVector values){
+        if(isEmpty())
+            return values;
+        return appendAll(values.iterator());
+    }
+
+    private DoubleVector appendAll(PrimitiveIterator.OfDouble values){
+        if(!values.hasNext())
+            return this;
+        Vector.TransientVector<double[]> full = chunks.asTransient();
+        double[] chunk = Arrays.copyOf(tail,CHUNK);
+        int count = tail.length;
+        int added = 0;
+        while(values.hasNext()){
+            if(count==CHUNK){
+                full.append(chunk);
+                chunk = new double[CHUNK];
+                count = 0;
+            }
+            chunk[count++]=values.nextDouble();
+            added++;
+        }
+        return new DoubleVector(full.persistent(),count==CHUNK ? chunk : Arrays.copyOf(chunk,count),size+added);
+    }
+
+    public double[] toArray(){
+        double[] result = new double[size];
+        int[] pos = {0};
+        spliterator().forEachRemaining((DoubleConsumer) i->result[pos[0]++]=i);
+        return result;
+    }
+
+    public PrimitiveIterator.OfDouble iterator(){
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * @return Sized Spliterator that walks the double[] chunks directly and splits at chunk boundaries
+     */
+    public Spliterator.OfDouble spliterator(){
+        return new ChunkSpliterator(chunks,tail,size-tail.length,0,size);
+    }
+
+    public DoubleStream doubleStream(){
+        return StreamSupport.doubleStream(spliterator(),false);
+    }
+
+    /**
+     * @return ReactiveSeq over this DoubleVector, that is replayable and (like {@link ReactiveSeq#ofDoubles(double...)}) unboxed
+     * for primitive operations such as mapToDouble and {@link ReactiveSeq#doubles}
+     */
+    public ReactiveSeq<Double> stream(){
+        return ReactiveSeq.fromSpliterator(new ChunkSpliterator(chunks,tail,size-tail.length,0,size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o==this)
+            return true;
+        if(!(o instanceof DoubleVector))
+            return false;
+        DoubleVector other = (DoubleVector)o;
+        if(size!=other.size)
+            return false;
+        PrimitiveIterator.OfDouble a = iterator();
+        PrimitiveIterator.OfDouble b = other.iterator();
+        while(a.hasNext()){
+            if(Double.doubleToLongBits(a.nextDouble())!=Double.doubleToLongBits(b.nextDouble()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Hash code, consistent with a java.util.List of the boxed values
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if(h==0){
+            int[] result = {1};
+            spliterator().forEachRemaining((DoubleConsumer) i->result[0]=31*result[0]+Double.hashCode(i));
+            h = result[0];
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(",","[","]");
+    }
+
+    private static final class ChunkSpliterator implements Spliterator.OfDouble, CopyableSpliterator<Double>, SplittableSpliterator<Double> {
+        private final Vector<double[]> chunks;
+        private final double[] tail;
+        private final int tailStart;
+        private final int origin;
+        private final int end;
+        private int index;
+        private double[] chunk;
+
+        private ChunkSpliterator(Vector<double[]> chunks, double[] tail, int tailStart, int from, int to) {
+            this.chunks = chunks;
+            this.tail = tail;
+            this.tailStart = tailStart;
+            this.origin = from;
+            this.index = from;
+            this.end = to;
+        }
+
+        private double[] chunkAt(int pos){
+            return pos>=tailStart ? tail : chunks.getOrElse(pos>>>5,null);
+        }
+
+        private int offset(int pos){
+            return pos>=tailStart ? pos-tailStart : pos&(CHUNK-1);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(index>=end)
+                return false;
+            int offset = offset(index);
+            if(chunk==null || offset==0 || index==tailStart)
+                chunk = chunkAt(index);
+            index++;
+            action.accept(chunk[offset]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            int pos = index;
+            index = end;
+            while(pos<end){
+                double[] local = chunkAt(pos);
+                int offset = offset(pos);
+                int last = Math.min(local.length,offset+end-pos);
+                for(int i=offset;i<last;i++){
+                    action.accept(local[i]);
+                }
+                pos += last-offset;
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int mid = ((index+end)>>>1) & ~(CHUNK-1);
+            if(mid<=index || mid>=end)
+                return null;
+            ChunkSpliterator prefix = new ChunkSpliterator(chunks,tail,tailStart,index,mid);
+            index = mid;
+            chunk = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Spliterator<Double> copy() {
+            return new ChunkSpliterator(chunks,tail,tailStart,origin,end);
+        }
+
+        @Override
+        public Spliterator<Double> splittable() {
+            return index==origin ? copy() : null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package cyclops.data;
 
+import com.oath.cyclops.internal.stream.spliterators.SizedSourceSpliterator;
 import com.oath.cyclops.types.persistent.PersistentMap;
 import com.oath.cyclops.hkt.Higher2;
 import cyclops.collections.immutable.PersistentMapX;
@@ -8,9 +9,9 @@ import cyclops.control.Trampoline;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.monads.DataWitness.hashMap;
+import cyclops.data.base.CHAMP;
 import cyclops.data.base.HAMT;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 
@@ -18,20 +19,33 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
 
 
 
-@AllArgsConstructor
 public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,Higher2<hashMap,K,V>, Serializable{
 
-    private final HAMT.Node<K,V> map;
+    private final CHAMP.Node<K,V> map;
+    private transient int hash;
     private static final long serialVersionUID = 1L;
 
+    private HashMap(CHAMP.Node<K,V> map) {
+        this.map = map;
+    }
+
+    /**
+     * @deprecated HashMap is now backed by a {@link CHAMP}, the entries of the HAMT are copied into a new CHAMP
+     */
+    @Deprecated
+    public HashMap(HAMT.Node<K,V> map) {
+        this(CHAMP.<K,V>builder().putAll(ReactiveSeq.fromSpliterator(new HAMT.NodeSpliterator<>(map))).build());
+    }
+
     public static <K,V> HashMap<K,V> empty(){
-        return new HashMap<>(HAMT.empty());
+        return new HashMap<>(CHAMP.empty());
     }
     public static <K,V> HashMap<K,V> of(K k,V v){
         HashMap<K,V> res = empty();
@@ -40,21 +54,17 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromMap(Map<K,V> map){
-        HashMap<K,V> res = empty();
+        CHAMP.Builder<K,V> builder = CHAMP.builder();
         for(Map.Entry<K,V> next : map.entrySet()){
-            res = res.put(next.getKey(),next.getValue());
+            builder.put(next.getKey(),next.getValue());
         }
-        return res;
+        return new HashMap<>(builder.build());
     }
     public static <K,V> HashMap<K,V> fromMap(PersistentMap<K,V> map){
         if(map instanceof HashMap){
             return (HashMap)map;
         }
-        HashMap<K,V> res = empty();
-        for(Tuple2<K,V> next : map){
-            res = res.put(next._1(),next._2());
-        }
-        return res;
+        return new HashMap<>(CHAMP.<K,V>builder().putAll(map).build());
     }
     public static <K,V> HashMap<K,V> of(K k1,V v1,K k2, V v2){
         HashMap<K,V> res = empty();
@@ -62,7 +72,9 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromStream(Stream<Tuple2<K,V>> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.put(t2._1(),t2._2()));
+        CHAMP.Builder<K,V> builder = CHAMP.builder();
+        stream.forEach(t2->builder.put(t2._1(),t2._2()));
+        return new HashMap<>(builder.build());
     }
 
     public int size(){
@@ -81,7 +93,8 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public ReactiveSeq<Tuple2<K,V>> stream(){
-        return map.stream();
+        return ReactiveSeq.fromSpliterator(new SizedSourceSpliterator<Tuple2<K,V>>(this::spliterator,this::spliterator,
+                                                                               size(), Spliterator.DISTINCT | Spliterator.IMMUTABLE));
     }
 
     @Override
@@ -160,9 +173,9 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> removeAll(K... keys) {
-        HAMT.Node<K,V> cur = map;
+        CHAMP.Node<K,V> cur = map;
         for(K key : keys){
-            cur = map.minus(0,key.hashCode(),key);
+            cur = cur.minus(0,key.hashCode(),key);
         }
         return new HashMap<>(cur);
     }
@@ -203,27 +216,64 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
-        HashMap<K,V> res = this;
-        for(Tuple2<? extends K, ? extends V> e : map){
-            res = res.put(e._1(),e._2());
+        if(map instanceof HashMap){
+            return union((HashMap)map);
         }
-        return res;
+        return new HashMap<>(CHAMP.union(this.map,CHAMP.<K,V>builder().putAll(map).build()));
+    }
+
+    /**
+     * Merge two HashMaps structurally, sharing any part of either HashMap not affected by the other
+     *
+     * @param other HashMap whose values replace the values in this HashMap for keys present in both
+     * @return HashMap containing the entries of both HashMaps
+     */
+    public HashMap<K, V> union(HashMap<K, V> other) {
+        return new HashMap<>(CHAMP.union(map,other.map));
     }
 
+    /**
+     * @param other HashMap to merge with
+     * @param merge Combines the values for keys present in both HashMaps (the value from this HashMap is the first argument)
+     * @return HashMap containing the entries of both HashMaps
+     */
+    public HashMap<K, V> union(HashMap<K, V> other, BinaryOperator<V> merge) {
+        return new HashMap<>(CHAMP.union(map,other.map,merge));
+    }
 
+    /**
+     * @param other HashMap of keys to retain
+     * @return HashMap containing the entries from this HashMap whose keys are also present in other
+     */
+    public HashMap<K, V> intersection(HashMap<K, ?> other) {
+        return new HashMap<>(CHAMP.intersection(map,other.map));
+    }
+
+    /**
+     * @param other HashMap of keys to remove
+     * @return HashMap containing the entries from this HashMap whose keys are not present in other
+     */
+    public HashMap<K, V> difference(HashMap<K, ?> other) {
+        return new HashMap<>(CHAMP.difference(map,other.map));
+    }
 
     @Override
     public HashMap<K, V> removeAll(Iterable<? extends K> keys) {
-        HashMap<K,V> res = this;
+        CHAMP.Builder<K,K> toRemove = CHAMP.builder();
         for(K e : keys){
-            res = this.remove(e);
+            toRemove.put(e,e);
         }
-        return res;
+        return new HashMap<>(CHAMP.difference(map,toRemove.build()));
     }
 
     @Override
     public Iterator<Tuple2<K, V>> iterator() {
-        return stream().iterator();
+        return new CHAMP.NodeSpliterator<>(map);
+    }
+
+    @Override
+    public Spliterator<Tuple2<K, V>> spliterator() {
+        return new CHAMP.NodeSpliterator<>(map);
     }
 
     @Override
@@ -241,7 +291,12 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public int hashCode() {
-        return Objects.hash(map);
+        int h = hash;
+        if(h==0){
+            h = Objects.hash(map);
+            hash = h;
+        }
+        return h;
     }
 
     public static <K, V> HashMap<K,V> narrow(HashMap<? extends K, ? extends V> map) {
@@ -1,6 +1,8 @@
 package cyclops.data;
 
 
+import com.oath.cyclops.internal.stream.spliterators.KeySpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SizedSourceSpliterator;
 import com.oath.cyclops.types.Zippable;
 import com.oath.cyclops.types.persistent.PersistentSet;
 import com.oath.cyclops.hkt.Higher;
@@ -9,7 +11,9 @@ import cyclops.collections.mutable.ListX;
 import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import cyclops.monads.DataWitness.hashSet;
+import cyclops.data.base.CHAMP;
 import cyclops.data.base.HAMT;
+import cyclops.data.base.HashCode;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -19,9 +23,6 @@ import cyclops.function.Function4;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
@@ -30,27 +31,38 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Serializable {
     private static final long serialVersionUID = 1L;
-    @Getter
-    private final HAMT.Node<T,T> map;
+    private final CHAMP.Node<T,T> map;
+    private transient int hash;
+
+    private HashSet(CHAMP.Node<T,T> map) {
+        this.map = map;
+    }
+
+    /**
+     * @deprecated HashSet is now backed by a {@link CHAMP}, the values of this HashSet are copied into a new HAMT
+     */
+    @Deprecated
+    public HAMT.Node<T,T> getMap() {
+        return HAMT.<T,T>builder().putAll(ReactiveSeq.fromSpliterator(new CHAMP.NodeSpliterator<>(map))).build();
+    }
 
 
     public static <T> HashSet<T> empty(){
-        return new HashSet<T>( HAMT.empty());
+        return new HashSet<T>( CHAMP.empty());
     }
     public static <T> HashSet<T> singleton(T value){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        CHAMP.Node<T, T> tree = CHAMP.empty();
         tree = tree.plus(0,value.hashCode(),value,value);
         return new HashSet<>(tree);
     }
     public static <T> HashSet<T> of(T... values){
-        HAMT.Node<T, T> tree = HAMT.empty();
+        CHAMP.Builder<T, T> builder = CHAMP.builder();
         for(T value : values){
-            tree = tree.plus(0,value.hashCode(),value,value);
+            builder.put(value,value);
         }
-        return new HashSet<>(tree);
+        return new HashSet<>(builder.build());
     }
     public static <U, T> HashSet<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
         return fromStream(ReactiveSeq.unfold(seed,unfolder));
@@ -93,10 +105,18 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> fromStream(Stream<T> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.plus(t2));
+        CHAMP.Builder<T, T> builder = CHAMP.builder();
+        stream.forEach(value->builder.put(value,value));
+        return new HashSet<>(builder.build());
     }
     public static <T> HashSet<T> fromIterable(Iterable<T> it){
-        return ReactiveSeq.fromIterable(it).foldLeft(empty(),(m, t2)->m.plus(t2));
+        if(it instanceof HashSet)
+            return (HashSet<T>)it;
+        CHAMP.Builder<T, T> builder = CHAMP.builder();
+        for(T value : it){
+            builder.put(value,value);
+        }
+        return new HashSet<>(builder.build());
     }
 
     @Override
@@ -197,35 +217,72 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
     @Override
     public HashSet<T> plusAll(Iterable<? extends T> list) {
-        HashSet<T> res = this;
-        for(T next : list){
-            res = res.plus(next);
-        }
-        return res;
+        return union(fromIterable((Iterable<T>)list));
     }
 
 
     @Override
     public HashSet<T> removeAll(Iterable<? extends T> list) {
-        HashSet<T> res = this;
-        for(T next : list){
-            res = this.removeValue(next);
-        }
-        return res;
+        return difference(fromIterable((Iterable<T>)list));
+    }
+
+    /**
+     * @param other HashSet to merge with, sharing any part of either HashSet not affected by the other
+     * @return HashSet containing the values in either HashSet
+     */
+    public HashSet<T> union(HashSet<T> other) {
+        return new HashSet<>(CHAMP.union(map,other.map));
+    }
+
+    /**
+     * @param other HashSet of values to retain
+     * @return HashSet containing the values in both HashSets
+     */
+    public HashSet<T> intersection(HashSet<T> other) {
+        return new HashSet<>(CHAMP.intersection(map,other.map));
+    }
+
+    /**
+     * @param other HashSet of values to remove
+     * @return HashSet containing the values in this HashSet that are not in other
+     */
+    public HashSet<T> difference(HashSet<T> other) {
+        return new HashSet<>(CHAMP.difference(map,other.map));
     }
 
     @Override
     public ReactiveSeq<T> stream() {
-        return map.stream().map(t->t._1());
+        return ReactiveSeq.fromSpliterator(new SizedSourceSpliterator<Tuple2<T,T>>(()->new CHAMP.NodeSpliterator<>(map),
+                                                                                ()->new CHAMP.NodeSpliterator<>(map),
+                                                                                size(), Spliterator.DISTINCT | Spliterator.IMMUTABLE))
+                          .map(t->t._1());
     }
 
     @Override
     public Iterator<T> iterator() {
-        return stream().iterator();
+        CHAMP.NodeSpliterator<T,T> it = new CHAMP.NodeSpliterator<>(map);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return it.next()._1();
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new KeySpliterator<>(new CHAMP.NodeSpliterator<>(map));
     }
 
     @Override
     public boolean equals(Object o) {
+        if(o instanceof HashSet)
+            return size()==((HashSet)o).size() && map.equals(((HashSet)o).map);
         if(!(o instanceof PersistentSet) || o==null)
             return false;
         PersistentSet s = (PersistentSet)o;
@@ -238,10 +295,12 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
     @Override
     public int hashCode() {
-        int hashCode = 1;
-        for (T e : this)
-            hashCode = 31*hashCode + (e==null ? 0 : e.hashCode());
-        return hashCode;
+        int h = hash;
+        if(h==0){
+            h = HashCode.ordered(this);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -1,6 +1,8 @@
 package cyclops.data;
 
 
+import com.oath.cyclops.internal.stream.spliterators.IndexedSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SizedSourceSpliterator;
 import com.oath.cyclops.types.Zippable;
 import com.oath.cyclops.types.persistent.PersistentIndexed;
 import com.oath.cyclops.types.persistent.PersistentList;
@@ -11,7 +13,7 @@ import cyclops.collections.mutable.ListX;
 import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import cyclops.monads.DataWitness.intMap;
-import cyclops.control.Eval;
+import cyclops.data.base.HashCode;
 import cyclops.data.base.IntPatriciaTrie;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
@@ -20,7 +22,6 @@ import cyclops.function.Function4;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -32,7 +33,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T> {
 
 
@@ -51,7 +51,13 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
 
     private final IntPatriciaTrie.Node<T> intMap;
     private final int size;
-    private final Eval<Integer> hash = Eval.later(()->calcHash());
+    private transient int hash;
+
+    private IntMap(IntPatriciaTrie.Node<T> intMap, int size) {
+        this.intMap = intMap;
+        this.size = size;
+    }
+
     static <T> IntMap<T> fill(T t, int max){
         return IntMap.fromStream(ReactiveSeq.fill(t).take(max));
     }
@@ -128,7 +134,16 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
     }
     @Override
     public Iterator<T> iterator(){
-        return stream().iterator();
+        return intMap.iterator();
+    }
+
+    /*
+     * The trie is keyed on the low bits of the index first, so index order is not node order, and each element is
+     * looked up by index (O(log32 n)) instead.
+     */
+    @Override
+    public Spliterator<T> spliterator(){
+        return new IndexedSpliterator<T>(i->intMap.getOrElse((int)i,(int)i,null),0,size);
     }
     public IntMap<T> plus(T value){
         return new IntMap<>(intMap.put(size,size,value),size+1);
@@ -215,7 +230,8 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
         return stream().to().vectorX(Evaluation.LAZY);
     }
     public ReactiveSeq<T> stream(){
-        return intMap.stream();
+        return ReactiveSeq.fromSpliterator(new SizedSourceSpliterator<T>(this::spliterator,this::spliterator,
+                                                                         size, Spliterator.ORDERED | Spliterator.IMMUTABLE));
     }
 
     @Override
@@ -912,15 +928,14 @@ public class IntMap<T> implements ImmutableList<T>,Serializable,Higher<intMap,T>
     public String toString(){
         return stream().join(",","[","]");
     }
-    private int calcHash() {
-        int hashCode = 1;
-        for (T e : this)
-            hashCode = 31*hashCode + (e==null ? 0 : e.hashCode());
-        return hashCode;
-    }
     @Override
     public int hashCode() {
-        return hash.get();
+        int h = hash;
+        if(h==0){
+            h = HashCode.ordered(this);
+            hash = h;
+        }
+        return h;
     }
     private Object writeReplace() {
         return new Proxy(this);
@@ -0,0 +1,310 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SplittableSpliterator;
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed ints.
+ *
+ * Values are stored in 32 element int[] chunks, held in a persistent {@link Vector} of chunks, followed by a partial tail chunk.
+ * Indexed access and updates are O(log32 n) and copy only the affected chunk, appends copy only the tail and
+ * all unmodified chunks are shared between versions.
+ *
+ * <pre>
+ * {@code
+ *   IntVector v = IntVector.of(1,2,3)
+ *                          .append(4)
+ *                          .updateAt(0,10);
+ *   //[10,2,3,4]
+ *
+ *   int sum = v.intStream().sum();
+ *   ReactiveSeq<Integer> seq = v.stream(); //primitive operations (mapToInt, ints) don't box
+ * }
+ * </pre>
+ */
+public final class IntVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int CHUNK = 32;
+    private static final IntVector EMPTY = new IntVector(Vector.empty(), new int[0], 0);
+
+    private final Vector<int[]> chunks;
+    private final int[] tail;
+    private final int size;
+    private transient int hash;
+
+    private IntVector(Vector<int[]> chunks, int[] tail, int size) {
+        this.chunks = chunks;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    public static IntVector empty(){
+        return EMPTY;
+    }
+
+    public static IntVector of(int... values){
+        return EMPTY.appendAll(values);
+    }
+
+    public static IntVector range(int start, int end){
+        return fromStream(IntStream.range(start,end));
+    }
+
+    public static IntVector fromStream(IntStream stream){
+        return EMPTY.appendAll(stream.iterator());
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Integer> get(int pos){
+        if(pos<0||pos>=size){
+            return Option.none();
+        }
+        return Option.some(valueAt(pos));
+    }
+
+    public int getOrElse(int pos, int alt){
+        if(pos<0||pos>=size){
+            return alt;
+        }
+        return valueAt(pos);
+    }
+
+    private int valueAt(int pos){
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            return tail[pos-tailStart];
+        }
+        return chunks.getOrElse(pos>>>5,null)[pos&(CHUNK-1)];
+    }
+
+    /**
+     * @param pos Index to update
+     * @param value New value
+     * @return IntVector with the value at pos replaced, or this IntVector if pos is out of range
+     */
+    public IntVector updateAt(int pos, int value){
+        if(pos<0||pos>=size){
+            return this;
+        }
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            int[] newTail = tail.clone();
+            newTail[pos-tailStart]=value;
+            return new IntVector(chunks,newTail,size);
+        }
+        int[] chunk = chunks.getOrElse(pos>>>5,null).clone();
+        chunk[pos&(CHUNK-1)]=value;
+        return new IntVector(chunks.set(pos>>>5,chunk),tail,size);
+    }
+
+    public IntVector append(int value){
+        if(tail.length<CHUNK){
+            int[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new IntVector(chunks,newTail,size+1);
+        }
+        return new IntVector(chunks.plus(tail),new int[]{value},size+1);
+    }
+
+    public IntVector appendAll(int... values){
+        return appendAll(Arrays.stream(values).iterator());
+    }
+
+    public IntVector appendAll(IntVector values){
+        if(isEmpty())
+            return values;
+        return appendAll(values.iterator());
+    }
+
+    private IntVector appendAll(PrimitiveIterator.OfInt values){
+        if(!values.hasNext())
+            return this;
+        Vector.TransientVector<int[]> full = chunks.asTransient();
+        int[] chunk = Arrays.copyOf(tail,CHUNK);
+        int count = tail.length;
+        int added = 0;
+        while(values.hasNext()){
+            if(count==CHUNK){
+                full.append(chunk);
+                chunk = new int[CHUNK];
+                count = 0;
+            }
+            chunk[count++]=values.nextInt();
+            added++;
+        }
+        return new IntVector(full.persistent(),count==CHUNK ? chunk : Arrays.copyOf(chunk,count),size+added);
+    }
+
+    public int[] toArray(){
+        int[] result = new int[size];
+        int[] pos = {0};
+        spliterator().forEachRemaining((IntConsumer) i->result[pos[0]++]=i);
+        return result;
+    }
+
+    public PrimitiveIterator.OfInt iterator(){
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * @return Sized Spliterator that walks the int[] chunks directly and splits at chunk boundaries
+     */
+    public Spliterator.OfInt spliterator(){
+        return new ChunkSpliterator(chunks,tail,size-tail.length,0,size);
+    }
+
+    public IntStream intStream(){
+        return StreamSupport.intStream(spliterator(),false);
+    }
+
+    /**
+     * @return ReactiveSeq over this IntVector, that is replayable and (like {@link ReactiveSeq#ofInts(int...)}) unboxed
+     * for primitive operations such as mapToInt and {@link ReactiveSeq#ints}
+     */
+    public ReactiveSeq<Integer> stream(){
+        return ReactiveSeq.fromSpliterator(new ChunkSpliterator(chunks,tail,size-tail.length,0,size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o==this)
+            return true;
+        if(!(o instanceof IntVector))
+            return false;
+        IntVector other = (IntVector)o;
+        if(size!=other.size)
+            return false;
+        PrimitiveIterator.OfInt a = iterator();
+        PrimitiveIterator.OfInt b = other.iterator();
+        while(a.hasNext()){
+            if(a.nextInt()!=b.nextInt())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Hash code, consistent with a java.util.List of the boxed values
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if(h==0){
+            int[] result = {1};
+            spliterator().forEachRemaining((IntConsumer) i->result[0]=31*result[0]+Integer.hashCode(i));
+            h = result[0];
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(",","[","]");
+    }
+
+    private static final class ChunkSpliterator implements Spliterator.OfInt, CopyableSpliterator<Integer>, SplittableSpliterator<Integer> {
+        private final Vector<int[]> chunks;
+        private final int[] tail;
+        private final int tailStart;
+        private final int origin;
+        private final int end;
+        private int index;
+        private int[] chunk;
+
+        private ChunkSpliterator(Vector<int[]> chunks, int[] tail, int tailStart, int from, int to) {
+            this.chunks = chunks;
+            this.tail = tail;
+            this.tailStart = tailStart;
+            this.origin = from;
+            this.index = from;
+            this.end = to;
+        }
+
+        private int[] chunkAt(int pos){
+            return pos>=tailStart ? tail : chunks.getOrElse(pos>>>5,null);
+        }
+
+        private int offset(int pos){
+            return pos>=tailStart ? pos-tailStart : pos&(CHUNK-1);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if(index>=end)
+                return false;
+            int offset = offset(index);
+            if(chunk==null || offset==0 || index==tailStart)
+                chunk = chunkAt(index);
+            index++;
+            action.accept(chunk[offset]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int pos = index;
+            index = end;
+            while(pos<end){
+                int[] local = chunkAt(pos);
+                int offset = offset(pos);
+                int last = Math.min(local.length,offset+end-pos);
+                for(int i=offset;i<last;i++){
+                    action.accept(local[i]);
+                }
+                pos += last-offset;
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int mid = ((index+end)>>>1) & ~(CHUNK-1);
+            if(mid<=index || mid>=end)
+                return null;
+            ChunkSpliterator prefix = new ChunkSpliterator(chunks,tail,tailStart,index,mid);
+            index = mid;
+            chunk = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Spliterator<Integer> copy() {
+            return new ChunkSpliterator(chunks,tail,tailStart,origin,end);
+        }
+
+        @Override
+        public Spliterator<Integer> splittable() {
+            return index==origin ? copy() : null;
+        }
+    }
+}
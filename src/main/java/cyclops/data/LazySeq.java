@@ -17,14 +17,13 @@ import cyclops.control.Trampoline;
 import cyclops.control.Either;
 import cyclops.monads.DataWitness.lazySeq;
 import cyclops.data.tuple.Tuple4;
+import cyclops.data.base.HashCode;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.function.Memoize;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -965,11 +964,16 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
 
 
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Cons<T>  implements LazySeq<T>, ImmutableList.Some<T> {
         private static final long serialVersionUID = 1L;
         public final T head;
         public final Supplier<LazySeq<T>> tail;
+        private transient int hash;
+
+        private Cons(T head, Supplier<LazySeq<T>> tail){
+            this.head = head;
+            this.tail = tail;
+        }
 
         public static <T> Cons<T> cons(T value, Supplier<LazySeq<T>> tail){
             return new Cons<>(value,Memoize.memoizeSupplier(tail));
@@ -1095,10 +1099,12 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
         @Override
         public int hashCode() {
-            int hashCode = 1;
-            for (T next : this)
-                hashCode = 31*hashCode + (next==null ? 0 : next.hashCode());
-            return hashCode;
+            int h = hash;
+            if(h==0){
+                h = HashCode.ordered(this);
+                hash = h;
+            }
+            return h;
         }
 
         @Override
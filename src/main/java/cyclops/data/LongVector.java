@@ -0,0 +1,310 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SplittableSpliterator;
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent Vector of unboxed longs.
+ *
+ * Values are stored in 32 element long[] chunks, held in a persistent {@link Vector} of chunks, followed by a partial tail chunk.
+ * Indexed access and updates are O(log32 n) and copy only the affected chunk, appends copy only the tail and
+ * all unmodified chunks are shared between versions.
+ *
+ * <pre>
+ * {@code
+ *   LongVector v = LongVector.of(1,2,3)
+ *                          .append(4)
+ *                          .updateAt(0,10);
+ *   //[10,2,3,4]
+ *
+ *   long sum = v.longStream().sum();
+ *   ReactiveSeq<Long> seq = v.stream(); //primitive operations (mapToLong, longs) don't box
+ * }
+ * </pre>
+ */
+public final class LongVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int CHUNK = 32;
+    private static final LongVector EMPTY = new LongVector(Vector.empty(), new long[0], 0);
+
+    private final Vector<long[]> chunks;
+    private final long[] tail;
+    private final int size;
+    private transient int hash;
+
+    private LongVector(Vector<long[]> chunks, long[] tail, int size) {
+        this.chunks = chunks;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    public static LongVector empty(){
+        return EMPTY;
+    }
+
+    public static LongVector of(long... values){
+        return EMPTY.appendAll(values);
+    }
+
+    public static LongVector range(long start, long end){
+        return fromStream(LongStream.range(start,end));
+    }
+
+    public static LongVector fromStream(LongStream stream){
+        return EMPTY.appendAll(stream.iterator());
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size==0;
+    }
+
+    public Option<Long> get(int pos){
+        if(pos<0||pos>=size){
+            return Option.none();
+        }
+        return Option.some(valueAt(pos));
+    }
+
+    public long getOrElse(int pos, long alt){
+        if(pos<0||pos>=size){
+            return alt;
+        }
+        return valueAt(pos);
+    }
+
+    private long valueAt(int pos){
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            return tail[pos-tailStart];
+        }
+        return chunks.getOrElse(pos>>>5,null)[pos&(CHUNK-1)];
+    }
+
+    /**
+     * @param pos Index to update
+     * @param value New value
+     * @return LongVector with the value at pos replaced, or this LongVector if pos is out of range
+     */
+    public LongVector updateAt(int pos, long value){
+        if(pos<0||pos>=size){
+            return this;
+        }
+        int tailStart = size-tail.length;
+        if(pos>=tailStart){
+            long[] newTail = tail.clone();
+            newTail[pos-tailStart]=value;
+            return new LongVector(chunks,newTail,size);
+        }
+        long[] chunk = chunks.getOrElse(pos>>>5,null).clone();
+        chunk[pos&(CHUNK-1)]=value;
+        return new LongVector(chunks.set(pos>>>5,chunk),tail,size);
+    }
+
+    public LongVector append(long value){
+        if(tail.length<CHUNK){
+            long[] newTail = Arrays.copyOf(tail,tail.length+1);
+            newTail[tail.length]=value;
+            return new LongVector(chunks,newTail,size+1);
+        }
+        return new LongVector(chunks.plus(tail),new long[]{value},size+1);
+    }
+
+    public LongVector appendAll(long... values){
+        return appendAll(Arrays.stream(values).iterator());
+    }
+
+    public LongVector appendAll(LongVector values){
+        if(isEmpty())
+            return values;
+        return appendAll(values.iterator());
+    }
+
+    private LongVector appendAll(PrimitiveIterator.OfLong values){
+        if(!values.hasNext())
+            return this;
+        Vector.TransientVector<long[]> full = chunks.asTransient();
+        long[] chunk = Arrays.copyOf(tail,CHUNK);
+        int count = tail.length;
+        int added = 0;
+        while(values.hasNext()){
+            if(count==CHUNK){
+                full.append(chunk);
+                chunk = new long[CHUNK];
+                count = 0;
+            }
+            chunk[count++]=values.nextLong();
+            added++;
+        }
+        return new LongVector(full.persistent(),count==CHUNK ? chunk : Arrays.copyOf(chunk,count),size+added);
+    }
+
+    public long[] toArray(){
+        long[] result = new long[size];
+        int[] pos = {0};
+        spliterator().forEachRemaining((LongConsumer) i->result[pos[0]++]=i);
+        return result;
+    }
+
+    public PrimitiveIterator.OfLong iterator(){
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * @return Sized Spliterator that walks the long[] chunks directly and splits at chunk boundaries
+     */
+    public Spliterator.OfLong spliterator(){
+        return new ChunkSpliterator(chunks,tail,size-tail.length,0,size);
+    }
+
+    public LongStream longStream(){
+        return StreamSupport.longStream(spliterator(),false);
+    }
+
+    /**
+     * @return ReactiveSeq over this LongVector, that is replayable and (like {@link ReactiveSeq#ofLongs(long...)}) unboxed
+     * for primitive operations such as mapToLong and {@link ReactiveSeq#longs}
+     */
+    public ReactiveSeq<Long> stream(){
+        return ReactiveSeq.fromSpliterator(new ChunkSpliterator(chunks,tail,size-tail.length,0,size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o==this)
+            return true;
+        if(!(o instanceof LongVector))
+            return false;
+        LongVector other = (LongVector)o;
+        if(size!=other.size)
+            return false;
+        PrimitiveIterator.OfLong a = iterator();
+        PrimitiveIterator.OfLong b = other.iterator();
+        while(a.hasNext()){
+            if(a.nextLong()!=b.nextLong())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Hash code, consistent with a java.util.List of the boxed values
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if(h==0){
+            int[] result = {1};
+            spliterator().forEachRemaining((LongConsumer) i->result[0]=31*result[0]+Long.hashCode(i));
+            h = result[0];
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(",","[","]");
+    }
+
+    private static final class ChunkSpliterator implements Spliterator.OfLong, CopyableSpliterator<Long>, SplittableSpliterator<Long> {
+        private final Vector<long[]> chunks;
+        private final long[] tail;
+        private final int tailStart;
+        private final int origin;
+        private final int end;
+        private int index;
+        private long[] chunk;
+
+        private ChunkSpliterator(Vector<long[]> chunks, long[] tail, int tailStart, int from, int to) {
+            this.chunks = chunks;
+            this.tail = tail;
+            this.tailStart = tailStart;
+            this.origin = from;
+            this.index = from;
+            this.end = to;
+        }
+
+        private long[] chunkAt(int pos){
+            return pos>=tailStart ? tail : chunks.getOrElse(pos>>>5,null);
+        }
+
+        private int offset(int pos){
+            return pos>=tailStart ? pos-tailStart : pos&(CHUNK-1);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if(index>=end)
+                return false;
+            int offset = offset(index);
+            if(chunk==null || offset==0 || index==tailStart)
+                chunk = chunkAt(index);
+            index++;
+            action.accept(chunk[offset]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            int pos = index;
+            index = end;
+            while(pos<end){
+                long[] local = chunkAt(pos);
+                int offset = offset(pos);
+                int last = Math.min(local.length,offset+end-pos);
+                for(int i=offset;i<last;i++){
+                    action.accept(local[i]);
+                }
+                pos += last-offset;
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int mid = ((index+end)>>>1) & ~(CHUNK-1);
+            if(mid<=index || mid>=end)
+                return null;
+            ChunkSpliterator prefix = new ChunkSpliterator(chunks,tail,tailStart,index,mid);
+            index = mid;
+            chunk = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Spliterator<Long> copy() {
+            return new ChunkSpliterator(chunks,tail,tailStart,origin,end);
+        }
+
+        @Override
+        public Spliterator<Long> splittable() {
+            return index==origin ? copy() : null;
+        }
+    }
+}
@@ -0,0 +1,537 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.internal.stream.spliterators.SizedSourceSpliterator;
+import com.oath.cyclops.types.persistent.PersistentIndexed;
+import cyclops.control.Option;
+import cyclops.data.base.HashCode;
+import cyclops.data.base.RRBTree;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * A persistent indexed sequence backed by a Relaxed Radix Balanced tree ({@link RRBTree}).
+ *
+ * Like {@link Vector} it offers effectively constant time indexed access and updates, but it also supports
+ * concatenation, slicing (take / drop / subList / splitAt), prepending and positional insertion and removal in O(log n)
+ * by rebuilding only the edges of the tree affected, rather than copying the whole sequence.
+ *
+ * <pre>
+ * {@code
+ *   RRBVector<Integer> v = RRBVector.range(0,1_000_000);
+ *   RRBVector<Integer> spliced = v.take(1000)
+ *                                 .appendAll(RRBVector.of(-1,-2))
+ *                                 .appendAll(v.drop(500_000))
+ *                                 .insertAt(10,-3);
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of the elements
+ */
+public class RRBVector<T> implements ImmutableList<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final RRBTree<T> tree;
+    private transient int hash;
+
+    private RRBVector(RRBTree<T> tree) {
+        this.tree = tree;
+    }
+
+    public static <T> RRBVector<T> empty(){
+        return new RRBVector<>(RRBTree.empty());
+    }
+
+    public static <T> RRBVector<T> of(T... values){
+        return new RRBVector<>(RRBTree.fromIterator(ReactiveSeq.of(values).iterator()));
+    }
+
+    public static <T> RRBVector<T> fromIterable(Iterable<T> it){
+        if(it instanceof RRBVector){
+            return (RRBVector<T>)it;
+        }
+        return new RRBVector<>(RRBTree.fromIterator(it.iterator()));
+    }
+
+    public static <T> RRBVector<T> fromStream(Stream<T> stream){
+        return new RRBVector<>(RRBTree.fromIterator(stream.iterator()));
+    }
+
+    public static RRBVector<Integer> range(final int start, final int end) {
+        return fromStream(ReactiveSeq.range(start,end));
+    }
+
+    public static RRBVector<Long> rangeLong(final long start, final long end) {
+        return fromStream(ReactiveSeq.rangeLong(start,end));
+    }
+
+    public static <T> RRBVector<T> fill(T t, int max){
+        return fromStream(ReactiveSeq.fill(t).take(max));
+    }
+
+    public static <T> RRBVector<T> generate(Supplier<T> s, int max){
+        return fromStream(ReactiveSeq.generate(s).limit(max));
+    }
+
+    public static <T> RRBVector<T> iterate(final T seed, final UnaryOperator<T> f, int max) {
+        return fromStream(ReactiveSeq.iterate(seed,f).limit(max));
+    }
+
+    public static <U, T> RRBVector<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
+        return fromStream(ReactiveSeq.unfold(seed,unfolder));
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tree.size()==0;
+    }
+
+    @Override
+    public Option<T> get(int pos) {
+        if(pos<0||pos>=size())
+            return Option.none();
+        return Option.some(tree.getOrElse(pos,null));
+    }
+
+    @Override
+    public T getOrElse(int pos, T alt) {
+        return tree.getOrElse(pos,alt);
+    }
+
+    @Override
+    public T getOrElseGet(int pos, Supplier<? extends T> alt) {
+        if(pos<0||pos>=size())
+            return alt.get();
+        return tree.getOrElse(pos,null);
+    }
+
+    public RRBVector<T> set(int pos, T value){
+        RRBTree<T> updated = tree.set(pos,value);
+        return updated==tree ? this : new RRBVector<>(updated);
+    }
+
+    @Override
+    public RRBVector<T> updateAt(int pos, T value) {
+        return set(pos,value);
+    }
+
+    @Override
+    public RRBVector<T> append(T value) {
+        return new RRBVector<>(tree.append(value));
+    }
+
+    @Override
+    public RRBVector<T> plus(T value) {
+        return append(value);
+    }
+
+    @Override
+    public RRBVector<T> append(T... values) {
+        return appendAll(of(values));
+    }
+
+    /**
+     * Appending another RRBVector concatenates the two trees in O(log n)
+     */
+    @Override
+    public RRBVector<T> appendAll(Iterable<? extends T> values) {
+        return new RRBVector<>(tree.concat(fromIterable((Iterable<T>)values).tree));
+    }
+
+    @Override
+    public RRBVector<T> plusAll(Iterable<? extends T> values) {
+        return appendAll(values);
+    }
+
+    @Override
+    public RRBVector<T> prepend(T value) {
+        return new RRBVector<>(tree.prepend(value));
+    }
+
+    @Override
+    public RRBVector<T> prependAll(Iterable<? extends T> values) {
+        return new RRBVector<>(fromIterable((Iterable<T>)values).tree.concat(tree));
+    }
+
+    @Override
+    public RRBVector<T> prepend(Iterable<? extends T> values) {
+        return prependAll(values);
+    }
+
+    @Override
+    public RRBVector<T> prependAll(T... values) {
+        return prependAll(of(values));
+    }
+
+    @Override
+    public RRBVector<T> insertAt(int pos, T value) {
+        if(pos<=0)
+            return prepend(value);
+        if(pos>=size())
+            return append(value);
+        return new RRBVector<>(tree.take(pos).append(value).concat(tree.drop(pos)));
+    }
+
+    @Override
+    public RRBVector<T> insertAt(int pos, T... values) {
+        return insertAt(pos,of(values));
+    }
+
+    @Override
+    public RRBVector<T> insertAt(int pos, Iterable<? extends T> values) {
+        if(pos<=0)
+            return prependAll(values);
+        if(pos>=size())
+            return appendAll(values);
+        return new RRBVector<>(tree.take(pos).concat(fromIterable((Iterable<T>)values).tree).concat(tree.drop(pos)));
+    }
+
+    public RRBVector<T> plusAll(int pos, Iterable<? extends T> values){
+        return insertAt(pos,values);
+    }
+
+    @Override
+    public RRBVector<T> removeAt(int pos) {
+        if(pos<0||pos>=size())
+            return this;
+        return new RRBVector<>(tree.take(pos).concat(tree.drop(pos+1)));
+    }
+
+    @Override
+    public RRBVector<T> removeAt(long pos) {
+        return removeAt((int)Math.min(pos,Integer.MAX_VALUE));
+    }
+
+    @Override
+    public RRBVector<T> deleteBetween(int start, int end) {
+        if(start>=end||start>=size()||end<=0)
+            return this;
+        return new RRBVector<>(tree.take(start).concat(tree.drop(end)));
+    }
+
+    @Override
+    public RRBVector<T> removeValue(T value) {
+        return (RRBVector<T>)removeFirst(i->Objects.equals(i,value));
+    }
+
+    @Override
+    public RRBVector<T> take(long num) {
+        return new RRBVector<>(tree.take((int)Math.min(num,Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public RRBVector<T> drop(long num) {
+        return new RRBVector<>(tree.drop((int)Math.min(num,Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public RRBVector<T> limit(long num) {
+        return take(num);
+    }
+
+    @Override
+    public RRBVector<T> skip(long num) {
+        return drop(num);
+    }
+
+    @Override
+    public RRBVector<T> takeRight(int num) {
+        return drop(size()-Math.max(num,0));
+    }
+
+    @Override
+    public RRBVector<T> dropRight(int num) {
+        return take(size()-Math.max(num,0));
+    }
+
+    @Override
+    public RRBVector<T> limitLast(int num) {
+        return takeRight(num);
+    }
+
+    @Override
+    public RRBVector<T> skipLast(int num) {
+        return dropRight(num);
+    }
+
+    @Override
+    public RRBVector<T> subList(int start, int end) {
+        return drop(start).take(end-Math.max(start,0));
+    }
+
+    @Override
+    public RRBVector<T> slice(long from, long to) {
+        long start = Math.max(0,from);
+        return drop(start).take(Math.max(0,to-start));
+    }
+
+    @Override
+    public Tuple2<ImmutableList<T>, ImmutableList<T>> splitAt(int n) {
+        return Tuple.tuple(take(n),drop(n));
+    }
+
+    @Override
+    public ImmutableList<T> reverse() {
+        return unitStream(stream().reverse());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return tree.spliterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return tree.spliterator();
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return ReactiveSeq.fromSpliterator(new SizedSourceSpliterator<T>(this::spliterator,this::spliterator,
+                                                                         size(), Spliterator.ORDERED | Spliterator.IMMUTABLE));
+    }
+
+    @Override
+    public RRBVector<T> filter(Predicate<? super T> fn) {
+        return fromStream(stream().filter(fn));
+    }
+
+    @Override
+    public <R> RRBVector<R> map(Function<? super T, ? extends R> fn) {
+        return fromStream(stream().map(fn));
+    }
+
+    @Override
+    public <R> RRBVector<R> flatMap(Function<? super T, ? extends ImmutableList<? extends R>> fn) {
+        return fromStream(stream().flatMapI(fn));
+    }
+
+    @Override
+    public <R> RRBVector<R> flatMapI(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return fromStream(stream().flatMapI(fn));
+    }
+
+    @Override
+    public <R> R fold(Function<? super Some<T>, ? extends R> fn1, Function<? super None<T>, ? extends R> fn2) {
+        return isEmpty() ? fn2.apply(RRBVectorNone.empty()) : fn1.apply(new RRBVectorSome<>(this));
+    }
+
+    @Override
+    public RRBVector<T> onEmpty(T value) {
+        return isEmpty() ? of(value) : this;
+    }
+
+    @Override
+    public RRBVector<T> onEmptyGet(Supplier<? extends T> supplier) {
+        return isEmpty() ? of(supplier.get()) : this;
+    }
+
+    @Override
+    public ImmutableList<T> onEmptySwitch(Supplier<? extends ImmutableList<T>> supplier) {
+        return isEmpty() ? supplier.get() : this;
+    }
+
+    @Override
+    public <R> RRBVector<R> unitStream(Stream<R> stream) {
+        return fromStream(stream);
+    }
+
+    @Override
+    public <R> RRBVector<R> unitIterable(Iterable<R> it) {
+        return fromIterable(it);
+    }
+
+    @Override
+    public RRBVector<T> emptyUnit() {
+        return empty();
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(",","[","]");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(!(o instanceof PersistentIndexed) || o==null)
+            return false;
+        return equalToDirectAccess((Iterable<T>)o);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if(h==0){
+            h = HashCode.ordered(this);
+            hash = h;
+        }
+        return h;
+    }
+
+    static final class RRBVectorSome<T> extends RRBVector<T> implements ImmutableList.Some<T> {
+
+        RRBVectorSome(RRBVector<T> vec) {
+            super(vec.tree);
+        }
+
+        @Override
+        public ImmutableList<T> tail() {
+            return drop(1);
+        }
+
+        @Override
+        public T head() {
+            return getOrElse(0,null);
+        }
+
+        @Override
+        public Some<T> reverse() {
+            return new RRBVectorSome<>((RRBVector<T>)super.reverse());
+        }
+
+        @Override
+        public Tuple2<T, ImmutableList<T>> unapply() {
+            return Tuple.tuple(head(),tail());
+        }
+    }
+
+    static final class RRBVectorNone<T> implements ImmutableList.None<T> {
+        static final RRBVectorNone Instance = new RRBVectorNone();
+
+        static <T> RRBVectorNone<T> empty(){
+            return Instance;
+        }
+
+        @Override
+        public <R> ImmutableList<R> unitStream(Stream<R> stream) {
+            return RRBVector.fromStream(stream);
+        }
+
+        @Override
+        public <R> ImmutableList<R> unitIterable(Iterable<R> it) {
+            return RRBVector.fromIterable(it);
+        }
+
+        @Override
+        public ImmutableList<T> emptyUnit() {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> drop(long num) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> take(long num) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> prepend(T value) {
+            return RRBVector.of(value);
+        }
+
+        @Override
+        public ImmutableList<T> prependAll(Iterable<? extends T> value) {
+            return RRBVector.<T>empty().prependAll(value);
+        }
+
+        @Override
+        public ImmutableList<T> append(T value) {
+            return RRBVector.of(value);
+        }
+
+        @Override
+        public ImmutableList<T> appendAll(Iterable<? extends T> value) {
+            return RRBVector.<T>empty().appendAll(value);
+        }
+
+        @Override
+        public ImmutableList<T> reverse() {
+            return empty();
+        }
+
+        @Override
+        public Option<T> get(int pos) {
+            return Option.none();
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            return alt;
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<? extends T> alt) {
+            return alt.get();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public ReactiveSeq<T> stream() {
+            return ReactiveSeq.empty();
+        }
+
+        @Override
+        public ImmutableList<T> filter(Predicate<? super T> fn) {
+            return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> map(Function<? super T, ? extends R> fn) {
+            return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> flatMap(Function<? super T, ? extends ImmutableList<? extends R>> fn) {
+            return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> flatMapI(Function<? super T, ? extends Iterable<? extends R>> fn) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> onEmpty(T value) {
+            return RRBVector.of(value);
+        }
+
+        @Override
+        public ImmutableList<T> onEmptyGet(Supplier<? extends T> supplier) {
+            return RRBVector.of(supplier.get());
+        }
+
+        @Override
+        public ImmutableList<T> onEmptySwitch(Supplier<? extends ImmutableList<T>> supplier) {
+            return supplier.get();
+        }
+    }
+}
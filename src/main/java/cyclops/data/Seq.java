@@ -1,6 +1,8 @@
 package cyclops.data;
 
 
+import com.oath.cyclops.internal.stream.spliterators.IteratableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SizedSourceSpliterator;
 import com.oath.cyclops.types.persistent.PersistentIndexed;
 import com.oath.cyclops.types.persistent.PersistentList;
 import com.oath.cyclops.hkt.Higher;
@@ -103,7 +105,10 @@ public interface Seq<T> extends ImmutableList<T>,
     }
 
     default ReactiveSeq<T> stream(){
-        return ReactiveSeq.fromIterable(this);
+        int size = size();
+        return ReactiveSeq.fromSpliterator(new SizedSourceSpliterator<T>(() -> new IteratableSpliterator<T>(this),
+                                                                         this::spliterator,
+                                                                         size, Spliterator.ORDERED | Spliterator.IMMUTABLE));
     }
     default LinkedListX<T> linkedListX(){
         return LinkedListX.fromIterable(this);
@@ -305,6 +310,14 @@ public interface Seq<T> extends ImmutableList<T>,
         };
     }
 
+    /*
+     * A linked list can't be split at its nodes without walking them, so the sized Spliterator hands off array batches
+     */
+    @Override
+    default Spliterator<T> spliterator(){
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
     @Override
     default Seq<T> replaceFirst(T currentElement, T newElement) {
         return (Seq<T>)ImmutableList.super.replaceFirst(currentElement,newElement);
@@ -21,6 +21,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
@@ -37,7 +38,7 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
 
 
     public ReactiveSeq<Tuple2<K,V>> stream(){
-        return map.stream();
+        return ReactiveSeq.fromSpliterator(spliterator());
     }
 
     public static <K,V> TreeMap<K,V> empty(Comparator<K> comp){
@@ -240,7 +241,12 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
 
     @Override
     public Iterator<Tuple2<K, V>> iterator() {
-        return stream().iterator();
+        return new RedBlackTree.TreeSpliterator<>(map);
+    }
+
+    @Override
+    public Spliterator<Tuple2<K, V>> spliterator() {
+        return new RedBlackTree.TreeSpliterator<>(map);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package cyclops.data;
 
 
+import com.oath.cyclops.internal.stream.spliterators.KeySpliterator;
 import com.oath.cyclops.types.Zippable;
 import com.oath.cyclops.types.persistent.PersistentSet;
 import com.oath.cyclops.hkt.Higher;
@@ -9,6 +10,7 @@ import cyclops.collections.mutable.ListX;
 import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import cyclops.monads.DataWitness.treeSet;
+import cyclops.data.base.HashCode;
 import cyclops.data.base.RedBlackTree;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
@@ -34,6 +36,7 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     private final RedBlackTree.Tree<T,T> map;
     private final Comparator<? super T> comp;
+    private transient int hash;
 
     private static final long serialVersionUID = 1L;
 
@@ -225,7 +228,23 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public Iterator<T> iterator() {
-        return stream().iterator();
+        RedBlackTree.TreeSpliterator<T,T> it = new RedBlackTree.TreeSpliterator<>(map);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return it.next()._1();
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new KeySpliterator<>(new RedBlackTree.TreeSpliterator<>(map),comp);
     }
 
     @Override
@@ -280,11 +299,12 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public int hashCode() {
-        int result = 1;
-        for (Object element : this)
-            result = 31 * result + (element == null ? 0 : element.hashCode());
-
-        return result;
+        int h = hash;
+        if(h==0){
+            h = HashCode.ordered(this);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -9,6 +9,7 @@ import cyclops.collections.mutable.ListX;
 import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import cyclops.monads.DataWitness.trieSet;
+import cyclops.data.base.HashCode;
 import cyclops.data.base.HashedPatriciaTrie;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -19,8 +20,6 @@ import cyclops.function.Function4;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
@@ -29,12 +28,17 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TrieSet<T> implements ImmutableSet<T>,
                                          Higher<trieSet,T>,
                                          Serializable{
     private static final long serialVersionUID = 1L;
     private final HashedPatriciaTrie.Node<T,T> map;
+    private transient int hash;
+
+    private TrieSet(HashedPatriciaTrie.Node<T,T> map) {
+        this.map = map;
+    }
+
     public static <T> TrieSet<T> empty(){
         return new TrieSet<T>( HashedPatriciaTrie.empty());
     }
@@ -182,10 +186,12 @@ public final class TrieSet<T> implements ImmutableSet<T>,
 
     @Override
     public int hashCode() {
-        int hashCode = 1;
-        for (T e : this)
-            hashCode = 31*hashCode + (e==null ? 0 : e.hashCode());
-        return hashCode;
+        int h = hash;
+        if(h==0){
+            h = HashCode.ordered(this);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
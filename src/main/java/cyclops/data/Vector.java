@@ -10,12 +10,13 @@ import cyclops.collections.mutable.ListX;
 import cyclops.control.Option;
 import cyclops.control.Trampoline;
 import cyclops.monads.DataWitness.vector;
+import com.oath.cyclops.internal.stream.spliterators.SizedSourceSpliterator;
 import cyclops.data.base.BAMT;
+import cyclops.data.base.HashCode;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple4;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
-import cyclops.function.Memoize;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
@@ -30,7 +31,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor
 public class Vector<T> implements ImmutableList<T>,
                                   Serializable,
                                  Higher<vector,T> {
@@ -38,7 +38,13 @@ public class Vector<T> implements ImmutableList<T>,
     private final BAMT.NestedArray<T> root;
     private final BAMT.ActiveTail<T> tail;
     private final int size;
-    private final Supplier<Integer> hash = Memoize.memoizeSupplier(() -> calcHash());
+    private transient int hash;
+
+    public Vector(BAMT.NestedArray<T> root, BAMT.ActiveTail<T> tail, int size) {
+        this.root = root;
+        this.tail = tail;
+        this.size = size;
+    }
 
     @Override
     public Vector<T> plusAll(Iterable<? extends T> list) {
@@ -88,7 +94,12 @@ public class Vector<T> implements ImmutableList<T>,
   }
     @Override
     public Iterator<T> iterator(){
-        return stream().iterator();
+        return new BAMT.LeafSpliterator<T>(root,tail,size);
+    }
+
+    @Override
+    public Spliterator<T> spliterator(){
+        return new BAMT.LeafSpliterator<T>(root,tail,size);
     }
 
     @Override
@@ -196,18 +207,42 @@ public class Vector<T> implements ImmutableList<T>,
         if(it instanceof Vector){
             return (Vector<T>)it;
         }
-        Vector<T> res = empty();
-        for(T next : it){
-            res = res.plus(next);
-        }
-        return res;
+        return Vector.<T>transientVector().appendAll(it).persistent();
     }
     public static <T> Vector<T> of(T... value){
-        Vector<T> res = empty();
+        TransientVector<T> res = transientVector();
         for(T next : value){
-            res = res.plus(next);
+            res.append(next);
         }
-        return res;
+        return res.persistent();
+    }
+
+    /**
+     * @return A new empty TransientVector for efficiently bulk loading a Vector
+     */
+    public static <T> TransientVector<T> transientVector(){
+        return new TransientVector<>(new BAMT.Zero<>(),BAMT.ActiveTail.emptyTail(),0);
+    }
+
+    /**
+     * Create a mutable TransientVector that starts with the contents of this Vector. This Vector is not modified
+     * by any operations on the TransientVector.
+     *
+     * <pre>
+     * {@code
+     *   Vector<Integer> vec = Vector.of(1,2,3);
+     *   Vector<Integer> bigger = vec.asTransient()
+     *                               .append(4)
+     *                               .appendAll(ListX.of(5,6,7))
+     *                               .persistent();
+     *   //[1,2,3,4,5,6,7]
+     * }
+     * </pre>
+     *
+     * @return A TransientVector populated from this Vector
+     */
+    public TransientVector<T> asTransient(){
+        return new TransientVector<>(root,tail,size);
     }
 
 
@@ -218,7 +253,8 @@ public class Vector<T> implements ImmutableList<T>,
         return stream().to().vectorX(Evaluation.LAZY);
     }
     public ReactiveSeq<T> stream(){
-        return ReactiveSeq.concat(root.stream(),tail.stream());
+        return ReactiveSeq.fromSpliterator(new SizedSourceSpliterator<T>(this::spliterator,this::spliterator,
+                                                                         size, Spliterator.ORDERED | Spliterator.IMMUTABLE));
     }
 
     public Vector<T> filter(Predicate<? super T> pred){
@@ -689,6 +725,69 @@ public class Vector<T> implements ImmutableList<T>,
             return new Vector<T>(root.append(tail),BAMT.ActiveTail.tail(t),size+1);
         }
     }
+    /**
+     * A mutable, single owner builder for Vectors. Elements are appended in place into arrays owned by this TransientVector
+     * rather than copying a path through the Vector per element. Arrays shared with the Vector it was created from are never modified.
+     *
+     * Once {@link #persistent()} has been called the TransientVector can no longer be used.
+     *
+     * @param <T> Data type of the elements
+     */
+    public static final class TransientVector<T> {
+        private final BAMT.TransientNestedArray<T> root;
+        private Object[] tail;
+        private int tailSize;
+        private int size;
+
+        private TransientVector(BAMT.NestedArray<T> root, BAMT.ActiveTail<T> tail, int size) {
+            this.root = BAMT.TransientNestedArray.of(this,root);
+            this.tail = Arrays.copyOf(tail.getNestedArrayAt(0),BAMT.NestedArray.SIZE,Object[].class);
+            this.tailSize = tail.size();
+            this.size = size;
+        }
+
+        public TransientVector<T> append(T value){
+            ensureEditable();
+            if(tailSize==BAMT.NestedArray.SIZE){
+                root.append(tail);
+                tail = new Object[BAMT.NestedArray.SIZE];
+                tailSize = 0;
+            }
+            tail[tailSize++]=value;
+            size++;
+            return this;
+        }
+
+        public TransientVector<T> appendAll(Iterable<? extends T> values){
+            for(T next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return size;
+        }
+
+        /**
+         * Freeze this TransientVector into a Vector, after which this TransientVector may no longer be used.
+         *
+         * @return Vector with the elements appended to this TransientVector
+         */
+        public Vector<T> persistent(){
+            ensureEditable();
+            BAMT.NestedArray<T> frozen = root.persistent();
+            Object[] active = Arrays.copyOf(tail,tailSize);
+            tail = null;
+            return new Vector<T>(frozen,new BAMT.ActiveTail<>((T[])active),size);
+        }
+
+        private void ensureEditable(){
+            if(tail==null)
+                throw new IllegalStateException("Transient used after persistent() call");
+        }
+    }
+
     @AllArgsConstructor
     private static final class Proxy<T> implements Serializable {
 
@@ -710,12 +809,12 @@ public class Vector<T> implements ImmutableList<T>,
         private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
             s.defaultReadObject();
             final int size = s.readInt();
-            Vector<T> res = empty();
+            TransientVector<T> res = transientVector();
             for (int i = 0; i < size; i++) {
                 T n = (T) s.readObject();
-                res = res.append(n);
+                res.append(n);
             }
-            v=res;
+            v=res.persistent();
         }
     }
 
@@ -748,11 +847,9 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(tail.size()==1){
-            return new Vector<>(this.root,BAMT.ActiveTail.emptyTail(),size()-1).drop(num-1);
-        }
         if(tail.size()>0){
-            return new Vector<>(this.root,tail.dropRight(num),size()-(Math.max(tail.size(),num))).dropRight(num-tail.size());
+            int dropped = Math.min(tail.size(),num);
+            return new Vector<>(this.root,tail.dropRight(dropped),size()-dropped).dropRight(num-dropped);
         }
         return unitStream(stream().dropRight(num));
     }
@@ -763,7 +860,7 @@ public class Vector<T> implements ImmutableList<T>,
         if(num>=size())
             return empty();
         if(size()<32){
-            return new Vector<>(this.root,tail.drop((int)num),size()-1);
+            return new Vector<>(this.root,tail.drop((int)num),size()-(int)num);
         }
         return unitStream(stream().drop(num));
     }
@@ -797,12 +894,10 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(Iterable<? extends T> value) {
-        Vector<T> vec = this;
-
-        for(T next : value){
-            vec = vec.plus(next);
+        if(isEmpty() && value instanceof Vector){
+            return (Vector<T>)value;
         }
-        return vec;
+        return asTransient().appendAll(value).persistent();
     }
     public Vector<T> subList(int start, int end){
         return drop(start).take(end-start);
@@ -1018,14 +1113,13 @@ public class Vector<T> implements ImmutableList<T>,
 
     }
 
-    private int calcHash() {
-        int hashCode = 1;
-        for (T e : this)
-            hashCode = 31*hashCode + (e==null ? 0 : e.hashCode());
-        return hashCode;
-    }
     @Override
     public int hashCode() {
-       return hash.get();
+        int h = hash;
+        if(h==0){
+            h = HashCode.ordered(this);
+            hash = h;
+        }
+        return h;
     }
 }
@@ -5,6 +5,10 @@ import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -70,6 +74,274 @@ public class BAMT<T> {
         }
     }
 
+    /**
+     * A mutable view over a NestedArray for bulk loading full (32 element) leaves without path copying.
+     *
+     * Nodes on the right spine are copied into 32 wide nodes owned by this transient when it is created, nodes shared
+     * with the source NestedArray are never written to. Each new leaf is written in place, growing the tree a level at a time.
+     * {@link #persistent()} trims the right spine back to exact length arrays and invalidates this transient.
+     *
+     * @param <T> Data type of the leaves
+     */
+    public static final class TransientNestedArray<T>{
+        private static final int MAX_DEPTH = 6;
+
+        private Object owner;
+        private Object[] root;
+        private int depth;
+        private int leaves;
+
+        private TransientNestedArray(Object owner, Object[] root, int depth, int leaves) {
+            this.owner = owner;
+            this.root = root;
+            this.depth = depth;
+            this.leaves = leaves;
+        }
+
+        public static <T> TransientNestedArray<T> empty(Object owner){
+            return new TransientNestedArray<>(owner,null,0,0);
+        }
+        public static <T> TransientNestedArray<T> of(Object owner,NestedArray<T> array){
+            Object[] node;
+            int depth;
+            if(array instanceof One){
+                node = ((One<T>)array).array;
+                depth = 1;
+            } else if(array instanceof Two){
+                node = ((Two<T>)array).array;
+                depth = 2;
+            } else if(array instanceof Three){
+                node = ((Three<T>)array).array;
+                depth = 3;
+            } else if(array instanceof Four){
+                node = ((Four<T>)array).array;
+                depth = 4;
+            } else if(array instanceof Five){
+                node = ((Five<T>)array).array;
+                depth = 5;
+            } else if(array instanceof Six){
+                node = ((Six<T>)array).array;
+                depth = 6;
+            } else {
+                return empty(owner);
+            }
+            int leaves = countLeaves(node, depth);
+            return new TransientNestedArray<>(owner,ownSpine(node,depth,leaves),depth,leaves);
+        }
+
+        public int leaves(){
+            return leaves;
+        }
+
+        /**
+         * Append a full (32 element) leaf, the leaf array is not copied and must not be modified afterwards
+         */
+        public TransientNestedArray<T> append(Object[] leaf){
+            ensureEditable();
+            if(depth==0){
+                root = leaf;
+                depth = 1;
+                leaves = 1;
+                return this;
+            }
+            if(leaves==capacity(depth)){
+                if(depth==MAX_DEPTH)
+                    return this; //BAMT is full
+                Object[] newRoot = newNode(depth+1);
+                newRoot[0] = root;
+                root = newRoot;
+                depth++;
+            }
+            int index = leaves;
+            Object[] node = root;
+            for(int level=depth;level>2;level--){
+                int i = (index >>> (NestedArray.BITS_IN_INDEX*(level-2))) & (NestedArray.SIZE-1);
+                Object[] child = (Object[])node[i];
+                if(child==null){
+                    child = newNode(level-1);
+                    node[i]=child;
+                }
+                node = child;
+            }
+            node[NestedArray.mask(index)] = leaf;
+            leaves++;
+            return this;
+        }
+
+        public NestedArray<T> persistent(){
+            ensureEditable();
+            owner = null;
+            Object[] node = depth==0 ? null : trim(root,depth,leaves);
+            root = null;
+            switch(depth){
+                case 0:
+                    return new Zero<>();
+                case 1:
+                    return One.one((T[])node);
+                case 2:
+                    return Two.two((Object[][])node);
+                case 3:
+                    return Three.three((Object[][][])node);
+                case 4:
+                    return Four.four((Object[][][][])node);
+                case 5:
+                    return Five.five((Object[][][][][])node);
+                default:
+                    return Six.six((Object[][][][][][])node);
+            }
+        }
+
+        private void ensureEditable(){
+            if(owner==null)
+                throw new IllegalStateException("Transient used after persistent() call");
+        }
+
+        private static int capacity(int depth){
+            return 1 << (NestedArray.BITS_IN_INDEX*(depth-1));
+        }
+        private static Object[] newNode(int level){
+            switch(level){
+                case 2:
+                    return new Object[NestedArray.SIZE][];
+                case 3:
+                    return new Object[NestedArray.SIZE][][];
+                case 4:
+                    return new Object[NestedArray.SIZE][][][];
+                case 5:
+                    return new Object[NestedArray.SIZE][][][][];
+                default:
+                    return new Object[NestedArray.SIZE][][][][][];
+            }
+        }
+        private static int countLeaves(Object[] node, int level){
+            if(level==1)
+                return 1;
+            return (node.length-1)*capacity(level-1) + countLeaves((Object[])last(node),level-1);
+        }
+        private static Object[] ownSpine(Object[] node, int level, int leaves){
+            if(level==1 || leaves==capacity(level))
+                return node;
+            Object[] owned = Arrays.copyOf(node,NestedArray.SIZE);
+            int lastIndex = node.length-1;
+            owned[lastIndex] = ownSpine((Object[])owned[lastIndex],level-1,leaves-lastIndex*capacity(level-1));
+            return owned;
+        }
+        private static Object[] trim(Object[] node, int level, int leaves){
+            if(level==1)
+                return node;
+            int perChild = capacity(level-1);
+            int children = (leaves+perChild-1)/perChild;
+            Object[] trimmed = node.length==children ? node : Arrays.copyOf(node,children);
+            int lastIndex = children-1;
+            Object[] lastChild = (Object[])trimmed[lastIndex];
+            Object[] lastTrimmed = trim(lastChild,level-1,leaves-lastIndex*perChild);
+            if(lastTrimmed!=lastChild)
+                trimmed[lastIndex] = lastTrimmed;
+            return trimmed;
+        }
+    }
+
+    /**
+     * Spliterator and Iterator over a root NestedArray of full 32 element leaves followed by an ActiveTail (the layout used
+     * by Vector). Walks one leaf array at a time, reports its exact size and splits at leaf boundaries.
+     *
+     * @param <T> Data type of the elements
+     */
+    public static final class LeafSpliterator<T> implements Spliterator<T>, Iterator<T> {
+        private final NestedArray<T> root;
+        private final Object[] tail;
+        private final int tailStart;
+        private int index;
+        private final int end;
+        private Object[] leaf;
+
+        /**
+         * @param root Root of full leaves
+         * @param tail Trailing partial leaf
+         * @param size Total number of elements in root and tail
+         */
+        public LeafSpliterator(NestedArray<T> root, ActiveTail<T> tail, int size) {
+            this(root, tail.array, size - tail.array.length, 0, size);
+        }
+
+        private LeafSpliterator(NestedArray<T> root, Object[] tail, int tailStart, int from, int to) {
+            this.root = root;
+            this.tail = tail;
+            this.tailStart = tailStart;
+            this.index = from;
+            this.end = to;
+        }
+
+        private Object[] leafAt(int pos) {
+            return pos >= tailStart ? tail : ((PopulatedArray<T>) root).getNestedArrayAt(pos);
+        }
+
+        private int offset(int pos) {
+            return pos >= tailStart ? pos - tailStart : pos & 0x01f;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < end;
+        }
+
+        @Override
+        public T next() {
+            if (index >= end)
+                throw new NoSuchElementException();
+            int offset = offset(index);
+            if (leaf == null || offset == 0 || index == tailStart)
+                leaf = leafAt(index);
+            index++;
+            return (T) leaf[offset];
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= end)
+                return false;
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            int pos = index;
+            index = end;
+            while (pos < end) {
+                Object[] local = leafAt(pos);
+                int offset = offset(pos);
+                int last = Math.min(local.length, offset + end - pos);
+                for (int i = offset; i < last; i++) {
+                    action.accept((T) local[i]);
+                }
+                pos += last - offset;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = ((index + end) >>> 1) & ~0x01f;
+            if (mid <= index || mid >= end)
+                return null;
+            LeafSpliterator<T> prefix = new LeafSpliterator<>(root, tail, tailStart, index, mid);
+            prefix.leaf = leaf;
+            index = mid;
+            leaf = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+
     @AllArgsConstructor
     public static class ActiveTail<T> implements PopulatedArray<T>{
         private final int bitShiftDepth =0;
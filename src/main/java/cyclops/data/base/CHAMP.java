@@ -0,0 +1,907 @@
+package cyclops.data.base;
+
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Compressed Hash-Array Mapped Prefix-tree (CHAMP).
+ *
+ * Each BitmapIndexedNode stores its entries inline, as alternating keys and values at the front of a single array,
+ * followed by its sub-nodes. Separate bitmaps record which of the 32 hash slots hold an entry and which hold a sub-node.
+ * Compared with {@link HAMT} there is no per entry node or Tuple2 wrapper, and deletion keeps the trie canonical
+ * (a sub-node always holds at least two entries), so two CHAMPs with the same entries have the same structure and
+ * equality can be checked node by node.
+ *
+ * Hash collisions are only stored in CollisionNodes once all 32 bits of the hash have been consumed.
+ */
+public final class CHAMP<K, V> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+  static final int BITS_IN_INDEX = 5;
+  static final int HASH_CODE_LENGTH = 32;
+  static final int MASK = (1 << BITS_IN_INDEX) - 1;
+
+  public static <K,V> Node<K,V> empty(){
+    return BitmapIndexedNode.EMPTY;
+  }
+
+  public static <K,V> Builder<K,V> builder(){
+    return new Builder<>();
+  }
+
+  public interface Node<K,V> extends Serializable {
+
+    default Node<K,V> put(K key, V value){
+      return plus(0,key.hashCode(),key,value);
+    }
+    default Option<V> get(K key){
+      return get(0,key.hashCode(),key);
+    }
+    default V getOrElse(K key, V alt){
+      return getOrElse(0,key.hashCode(),key,alt);
+    }
+    default boolean containsKey(K key){
+      return get(key).isPresent();
+    }
+    default Node<K,V> minus(K key){
+      return minus(0,key.hashCode(),key);
+    }
+    Node<K,V> plus(int bitShiftDepth, int hash, K key, V value);
+    Option<V> get(int bitShiftDepth, int hash, K key);
+    V getOrElse(int bitShiftDepth, int hash, K key, V alt);
+    V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt);
+    Node<K,V> minus(int bitShiftDepth, int hash, K key);
+    int size();
+  }
+
+  static int mask(int hash, int shift){
+    return (hash >>> shift) & MASK;
+  }
+
+  static int bitpos(int mask){
+    return 1 << mask;
+  }
+
+  static int hash(Object key){
+    return key.hashCode();
+  }
+
+  /**
+   * @return Node holding the two (distinct) entries, nesting until their hashes diverge
+   */
+  static <K,V> Node<K,V> mergeTwo(K key0, V value0, int hash0, K key1, V value1, int hash1, int shift){
+    if(shift>=HASH_CODE_LENGTH)
+      return new CollisionNode<>(hash0,new Object[]{key0,key1},new Object[]{value0,value1});
+    int mask0 = mask(hash0,shift);
+    int mask1 = mask(hash1,shift);
+    if(mask0!=mask1){
+      Object[] content = mask0<mask1 ? new Object[]{key0,value0,key1,value1} : new Object[]{key1,value1,key0,value0};
+      return new BitmapIndexedNode<>(bitpos(mask0) | bitpos(mask1),0,2,content);
+    }
+    Node<K,V> node = mergeTwo(key0,value0,hash0,key1,value1,hash1,shift+BITS_IN_INDEX);
+    return new BitmapIndexedNode<>(0,bitpos(mask0),2,new Object[]{node});
+  }
+
+  /**
+   * Merge two CHAMPs node by node. Sub-nodes present in only one input are shared with the result as-is,
+   * and when neither input is changed by the merge that input is returned.
+   *
+   * @param a First CHAMP
+   * @param b Second CHAMP, whose values replace those of a for keys present in both
+   * @return CHAMP containing the keys of both a and b
+   */
+  public static <K,V> Node<K,V> union(Node<K,V> a, Node<K,V> b){
+    return union(a,b,0,null);
+  }
+
+  /**
+   * @param a First CHAMP
+   * @param b Second CHAMP
+   * @param merge Combines the values for keys present in both a (first argument) and b (second argument)
+   * @return CHAMP containing the keys of both a and b
+   */
+  public static <K,V> Node<K,V> union(Node<K,V> a, Node<K,V> b, BinaryOperator<V> merge){
+    return union(a,b,0,merge);
+  }
+
+  /**
+   * @param a CHAMP to retain entries from
+   * @param b CHAMP of keys to retain
+   * @return CHAMP containing the entries of a whose keys are also present in b
+   */
+  public static <K,V> Node<K,V> intersection(Node<K,V> a, Node<K,?> b){
+    return intersection(a,b,0);
+  }
+
+  /**
+   * @param a CHAMP to remove entries from
+   * @param b CHAMP of keys to remove
+   * @return CHAMP containing the entries of a whose keys are not present in b
+   */
+  public static <K,V> Node<K,V> difference(Node<K,V> a, Node<K,?> b){
+    return difference(a,b,0);
+  }
+
+  private static <K,V> Node<K,V> union(Node<K,V> a, Node<K,V> b, int shift, BinaryOperator<V> merge){
+    if(a.size()==0)
+      return b;
+    if(b.size()==0 || (a==b && merge==null))
+      return a;
+    if(a instanceof CollisionNode){
+      CollisionNode<K,V> right = (CollisionNode<K,V>)b;
+      Node<K,V> result = a;
+      for(int i=0;i<right.keys.length;i++){
+        K key = (K)right.keys[i];
+        V value = (V)right.values[i];
+        if(merge!=null){
+          Option<V> existing = a.get(shift,right.hash,key);
+          if(existing.isPresent())
+            value = merge.apply(existing.orElse(null),value);
+        }
+        result = result.plus(shift,right.hash,key,value);
+      }
+      return result;
+    }
+    BitmapIndexedNode<K,V> left = (BitmapIndexedNode<K,V>)a;
+    BitmapIndexedNode<K,V> right = (BitmapIndexedNode<K,V>)b;
+    int bits = left.dataMap | left.nodeMap | right.dataMap | right.nodeMap;
+    NodeAssembler<K,V> result = new NodeAssembler<>(Integer.bitCount(bits));
+    boolean sameAsLeft = true;
+    boolean sameAsRight = true;
+    for(int remaining=bits;remaining!=0;remaining&=remaining-1){
+      int bit = remaining & -remaining;
+      if((left.dataMap & bit)!=0){
+        int l = left.dataIndex(bit);
+        K key = left.keyAt(l);
+        V value = left.valueAt(l);
+        if((right.dataMap & bit)!=0){
+          int r = right.dataIndex(bit);
+          K rightKey = right.keyAt(r);
+          V rightValue = right.valueAt(r);
+          if(Objects.equals(key,rightKey)){
+            V merged = merge==null ? rightValue : merge.apply(value,rightValue);
+            sameAsLeft &= merged==value;
+            sameAsRight &= merged==rightValue;
+            result.data(bit,key,merged);
+          }else{
+            sameAsLeft = sameAsRight = false;
+            result.node(bit,mergeTwo(key,value,hash(key),rightKey,rightValue,hash(rightKey),shift+BITS_IN_INDEX));
+          }
+        }else if((right.nodeMap & bit)!=0){
+          Node<K,V> node = right.nodeAt(right.nodeIndex(bit));
+          int hash = hash(key);
+          Option<V> existing = node.get(shift+BITS_IN_INDEX,hash,key);
+          Node<K,V> merged = !existing.isPresent() ? node.plus(shift+BITS_IN_INDEX,hash,key,value)
+                                : merge==null ? node
+                                : node.plus(shift+BITS_IN_INDEX,hash,key,merge.apply(value,existing.orElse(null)));
+          sameAsLeft = false;
+          sameAsRight &= merged==node;
+          result.node(bit,merged);
+        }else{
+          sameAsRight = false;
+          result.data(bit,key,value);
+        }
+      }else if((left.nodeMap & bit)!=0){
+        Node<K,V> node = left.nodeAt(left.nodeIndex(bit));
+        if((right.dataMap & bit)!=0){
+          int r = right.dataIndex(bit);
+          K key = right.keyAt(r);
+          V value = right.valueAt(r);
+          int hash = hash(key);
+          if(merge!=null){
+            Option<V> existing = node.get(shift+BITS_IN_INDEX,hash,key);
+            if(existing.isPresent())
+              value = merge.apply(existing.orElse(null),value);
+          }
+          Node<K,V> merged = node.plus(shift+BITS_IN_INDEX,hash,key,value);
+          sameAsLeft &= merged==node;
+          sameAsRight = false;
+          result.node(bit,merged);
+        }else if((right.nodeMap & bit)!=0){
+          Node<K,V> rightNode = right.nodeAt(right.nodeIndex(bit));
+          Node<K,V> merged = union(node,rightNode,shift+BITS_IN_INDEX,merge);
+          sameAsLeft &= merged==node;
+          sameAsRight &= merged==rightNode;
+          result.node(bit,merged);
+        }else{
+          sameAsRight = false;
+          result.node(bit,node);
+        }
+      }else if((right.dataMap & bit)!=0){
+        sameAsLeft = false;
+        int r = right.dataIndex(bit);
+        result.data(bit,right.keyAt(r),right.valueAt(r));
+      }else{
+        sameAsLeft = false;
+        result.node(bit,right.nodeAt(right.nodeIndex(bit)));
+      }
+    }
+    if(sameAsLeft)
+      return left;
+    if(sameAsRight)
+      return right;
+    return result.build();
+  }
+
+  private static <K,V> Node<K,V> intersection(Node<K,V> a, Node<K,?> b, int shift){
+    if(a.size()==0 || b.size()==0)
+      return BitmapIndexedNode.EMPTY;
+    if(a==b)
+      return a;
+    if(a instanceof CollisionNode){
+      CollisionNode<K,V> left = (CollisionNode<K,V>)a;
+      return left.retain(key->b.get(shift,left.hash,key).isPresent());
+    }
+    BitmapIndexedNode<K,V> left = (BitmapIndexedNode<K,V>)a;
+    BitmapIndexedNode<K,?> right = (BitmapIndexedNode<K,?>)b;
+    int bits = (left.dataMap | left.nodeMap) & (right.dataMap | right.nodeMap);
+    NodeAssembler<K,V> result = new NodeAssembler<>(Integer.bitCount(bits));
+    for(int remaining=bits;remaining!=0;remaining&=remaining-1){
+      int bit = remaining & -remaining;
+      if((left.dataMap & bit)!=0){
+        int l = left.dataIndex(bit);
+        K key = left.keyAt(l);
+        boolean present = (right.dataMap & bit)!=0 ? Objects.equals(key,right.keyAt(right.dataIndex(bit)))
+                                                   : right.nodeAt(right.nodeIndex(bit)).get(shift+BITS_IN_INDEX,hash(key),key).isPresent();
+        if(present)
+          result.data(bit,key,left.valueAt(l));
+      }else{
+        Node<K,V> node = left.nodeAt(left.nodeIndex(bit));
+        if((right.dataMap & bit)!=0){
+          K key = right.keyAt(right.dataIndex(bit));
+          Option<V> value = node.get(shift+BITS_IN_INDEX,hash(key),key);
+          if(value.isPresent())
+            result.data(bit,key,value.orElse(null));
+        }else{
+          result.child(bit,intersection(node,right.nodeAt(right.nodeIndex(bit)),shift+BITS_IN_INDEX));
+        }
+      }
+    }
+    return result.size==left.size ? left : result.build();
+  }
+
+  private static <K,V> Node<K,V> difference(Node<K,V> a, Node<K,?> b, int shift){
+    if(a.size()==0 || b.size()==0)
+      return a;
+    if(a==b)
+      return BitmapIndexedNode.EMPTY;
+    if(a instanceof CollisionNode){
+      CollisionNode<K,V> left = (CollisionNode<K,V>)a;
+      return left.retain(key->!b.get(shift,left.hash,key).isPresent());
+    }
+    BitmapIndexedNode<K,V> left = (BitmapIndexedNode<K,V>)a;
+    BitmapIndexedNode<K,?> right = (BitmapIndexedNode<K,?>)b;
+    int rightBits = right.dataMap | right.nodeMap;
+    if(((left.dataMap | left.nodeMap) & rightBits)==0)
+      return left;
+    NodeAssembler<K,V> result = new NodeAssembler<>(Integer.bitCount(left.dataMap | left.nodeMap));
+    for(int remaining=left.dataMap | left.nodeMap;remaining!=0;remaining&=remaining-1){
+      int bit = remaining & -remaining;
+      if((left.dataMap & bit)!=0){
+        int l = left.dataIndex(bit);
+        K key = left.keyAt(l);
+        boolean present = (right.dataMap & bit)!=0 ? Objects.equals(key,right.keyAt(right.dataIndex(bit)))
+                        : (right.nodeMap & bit)!=0 && right.nodeAt(right.nodeIndex(bit)).get(shift+BITS_IN_INDEX,hash(key),key).isPresent();
+        if(!present)
+          result.data(bit,key,left.valueAt(l));
+      }else{
+        Node<K,V> node = left.nodeAt(left.nodeIndex(bit));
+        if((right.dataMap & bit)!=0){
+          K key = right.keyAt(right.dataIndex(bit));
+          result.child(bit,node.minus(shift+BITS_IN_INDEX,hash(key),key));
+        }else if((right.nodeMap & bit)!=0){
+          result.child(bit,difference(node,right.nodeAt(right.nodeIndex(bit)),shift+BITS_IN_INDEX));
+        }else{
+          result.node(bit,node);
+        }
+      }
+    }
+    return result.size==left.size ? left : result.build();
+  }
+
+  /**
+   * Collects the entries and sub-nodes of a new BitmapIndexedNode in ascending bit order.
+   */
+  private static final class NodeAssembler<K,V> {
+    private final Object[] data;
+    private final Node<K,V>[] nodes;
+    private int dataMap;
+    private int nodeMap;
+    private int dataCount;
+    private int nodeCount;
+    private int size;
+
+    NodeAssembler(int capacity) {
+      data = new Object[capacity*2];
+      nodes = new Node[capacity];
+    }
+
+    void data(int bit, K key, V value){
+      dataMap |= bit;
+      data[dataCount++] = key;
+      data[dataCount++] = value;
+      size++;
+    }
+
+    void node(int bit, Node<K,V> node){
+      nodeMap |= bit;
+      nodes[nodeCount++] = node;
+      size += node.size();
+    }
+
+    /**
+     * Add a sub-node that may have shrunk : an empty node is dropped and a single entry is inlined.
+     */
+    void child(int bit, Node<K,V> node){
+      if(node.size()==1){
+        BitmapIndexedNode<K,V> single = (BitmapIndexedNode<K,V>)node;
+        data(bit,single.keyAt(0),single.valueAt(0));
+      }else if(node.size()>1){
+        node(bit,node);
+      }
+    }
+
+    Node<K,V> build(){
+      if(size==0)
+        return BitmapIndexedNode.EMPTY;
+      Object[] content = Arrays.copyOf(data,dataCount+nodeCount);
+      System.arraycopy(nodes,0,content,dataCount,nodeCount);
+      return new BitmapIndexedNode<>(dataMap,nodeMap,size,content);
+    }
+  }
+
+  public static final class BitmapIndexedNode<K,V> implements Node<K,V> {
+    private static final long serialVersionUID = 1L;
+    static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(0,0,0,new Object[0]);
+
+    final int dataMap;
+    final int nodeMap;
+    private final int size;
+    /**
+     * Keys and values alternate for each entry in dataMap order, followed by the sub-nodes in nodeMap order
+     */
+    private final Object[] content;
+
+    BitmapIndexedNode(int dataMap, int nodeMap, int size, Object[] content) {
+      this.dataMap = dataMap;
+      this.nodeMap = nodeMap;
+      this.size = size;
+      this.content = content;
+    }
+
+    int dataIndex(int bit){
+      return Integer.bitCount(dataMap & (bit - 1));
+    }
+
+    int nodeIndex(int bit){
+      return Integer.bitCount(nodeMap & (bit - 1));
+    }
+
+    int dataArity(){
+      return Integer.bitCount(dataMap);
+    }
+
+    K keyAt(int index){
+      return (K)content[2*index];
+    }
+
+    V valueAt(int index){
+      return (V)content[2*index+1];
+    }
+
+    Node<K,V> nodeAt(int index){
+      return (Node<K,V>)content[2*dataArity()+index];
+    }
+
+    int nodeArity(){
+      return Integer.bitCount(nodeMap);
+    }
+
+    @Override
+    public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+      int bit = bitpos(mask(hash,bitShiftDepth));
+      if((dataMap & bit)!=0){
+        int index = dataIndex(bit);
+        K current = keyAt(index);
+        if(Objects.equals(current,key)){
+          if(valueAt(index)==value)
+            return this;
+          Object[] updated = content.clone();
+          updated[2*index+1] = value;
+          return new BitmapIndexedNode<>(dataMap,nodeMap,size,updated);
+        }
+        Node<K,V> node = mergeTwo(current,valueAt(index),hash(current),key,value,hash,bitShiftDepth+BITS_IN_INDEX);
+        return dataToNode(bit,index,node);
+      }
+      if((nodeMap & bit)!=0){
+        int index = nodeIndex(bit);
+        Node<K,V> node = nodeAt(index);
+        Node<K,V> updatedNode = node.plus(bitShiftDepth+BITS_IN_INDEX,hash,key,value);
+        if(updatedNode==node)
+          return this;
+        Object[] updated = content.clone();
+        updated[2*dataArity()+index] = updatedNode;
+        return new BitmapIndexedNode<>(dataMap,nodeMap,size-node.size()+updatedNode.size(),updated);
+      }
+      int index = 2*dataIndex(bit);
+      Object[] added = new Object[content.length+2];
+      System.arraycopy(content,0,added,0,index);
+      added[index] = key;
+      added[index+1] = value;
+      System.arraycopy(content,index,added,index+2,content.length-index);
+      return new BitmapIndexedNode<>(dataMap | bit,nodeMap,size+1,added);
+    }
+
+    private Node<K,V> dataToNode(int bit, int dataIndex, Node<K,V> node){
+      int from = 2*dataIndex;
+      int to = 2*(dataArity()-1)+nodeIndex(bit);
+      Object[] migrated = new Object[content.length-1];
+      System.arraycopy(content,0,migrated,0,from);
+      System.arraycopy(content,from+2,migrated,from,to-from);
+      migrated[to] = node;
+      System.arraycopy(content,to+2,migrated,to+1,content.length-to-2);
+      return new BitmapIndexedNode<>(dataMap ^ bit,nodeMap | bit,size+node.size()-1,migrated);
+    }
+
+    private Node<K,V> nodeToData(int bit, int nodeIndex, K key, V value){
+      int from = 2*dataArity()+nodeIndex;
+      int to = 2*dataIndex(bit);
+      Object[] migrated = new Object[content.length+1];
+      System.arraycopy(content,0,migrated,0,to);
+      migrated[to] = key;
+      migrated[to+1] = value;
+      System.arraycopy(content,to,migrated,to+2,from-to);
+      System.arraycopy(content,from+1,migrated,from+2,content.length-from-1);
+      return new BitmapIndexedNode<>(dataMap | bit,nodeMap ^ bit,size-1,migrated);
+    }
+
+    @Override
+    public Option<V> get(int bitShiftDepth, int hash, K key) {
+      int bit = bitpos(mask(hash,bitShiftDepth));
+      if((dataMap & bit)!=0){
+        int index = dataIndex(bit);
+        return Objects.equals(keyAt(index),key) ? Option.of(valueAt(index)) : Option.none();
+      }
+      if((nodeMap & bit)!=0)
+        return nodeAt(nodeIndex(bit)).get(bitShiftDepth+BITS_IN_INDEX,hash,key);
+      return Option.none();
+    }
+
+    @Override
+    public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+      int bit = bitpos(mask(hash,bitShiftDepth));
+      if((dataMap & bit)!=0){
+        int index = dataIndex(bit);
+        return Objects.equals(keyAt(index),key) ? valueAt(index) : alt;
+      }
+      if((nodeMap & bit)!=0)
+        return nodeAt(nodeIndex(bit)).getOrElse(bitShiftDepth+BITS_IN_INDEX,hash,key,alt);
+      return alt;
+    }
+
+    @Override
+    public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+      int bit = bitpos(mask(hash,bitShiftDepth));
+      if((dataMap & bit)!=0){
+        int index = dataIndex(bit);
+        return Objects.equals(keyAt(index),key) ? valueAt(index) : alt.get();
+      }
+      if((nodeMap & bit)!=0)
+        return nodeAt(nodeIndex(bit)).getOrElseGet(bitShiftDepth+BITS_IN_INDEX,hash,key,alt);
+      return alt.get();
+    }
+
+    @Override
+    public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+      int bit = bitpos(mask(hash,bitShiftDepth));
+      if((dataMap & bit)!=0){
+        int index = dataIndex(bit);
+        if(!Objects.equals(keyAt(index),key))
+          return this;
+        int from = 2*index;
+        Object[] removed = new Object[content.length-2];
+        System.arraycopy(content,0,removed,0,from);
+        System.arraycopy(content,from+2,removed,from,content.length-from-2);
+        return new BitmapIndexedNode<>(dataMap ^ bit,nodeMap,size-1,removed);
+      }
+      if((nodeMap & bit)!=0){
+        int index = nodeIndex(bit);
+        Node<K,V> node = nodeAt(index);
+        Node<K,V> updatedNode = node.minus(bitShiftDepth+BITS_IN_INDEX,hash,key);
+        if(updatedNode==node)
+          return this;
+        if(updatedNode.size()==1){
+          //canonical form : a sub-node with a single entry is inlined into its parent
+          BitmapIndexedNode<K,V> single = (BitmapIndexedNode<K,V>)updatedNode;
+          return nodeToData(bit,index,single.keyAt(0),single.valueAt(0));
+        }
+        Object[] updated = content.clone();
+        updated[2*dataArity()+index] = updatedNode;
+        return new BitmapIndexedNode<>(dataMap,nodeMap,size-1,updated);
+      }
+      return this;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if(this==o)
+        return true;
+      if(!(o instanceof BitmapIndexedNode))
+        return false;
+      BitmapIndexedNode<?,?> other = (BitmapIndexedNode<?,?>)o;
+      return dataMap==other.dataMap && nodeMap==other.nodeMap && size==other.size && Arrays.equals(content,other.content);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(content);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder s = new StringBuilder("{d:" + Integer.toBinaryString(dataMap) + ",n:" + Integer.toBinaryString(nodeMap) + ",s:" + size);
+      int data = dataArity();
+      for(int i=0;i<data;i++){
+        s.append(",[k:"+keyAt(i)+",v:"+valueAt(i)+"]");
+      }
+      for(int i=0;i<nodeArity();i++){
+        s.append(","+nodeAt(i));
+      }
+      return s.append("}").toString();
+    }
+  }
+
+  public static final class CollisionNode<K,V> implements Node<K,V> {
+    private static final long serialVersionUID = 1L;
+    private final int hash;
+    private final Object[] keys;
+    private final Object[] values;
+
+    CollisionNode(int hash, Object[] keys, Object[] values) {
+      this.hash = hash;
+      this.keys = keys;
+      this.values = values;
+    }
+
+    private int indexOf(Object key){
+      for(int i=0;i<keys.length;i++){
+        if(Objects.equals(keys[i],key))
+          return i;
+      }
+      return -1;
+    }
+
+    @Override
+    public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+      int index = indexOf(key);
+      if(index>=0){
+        if(values[index]==value)
+          return this;
+        Object[] updated = values.clone();
+        updated[index] = value;
+        return new CollisionNode<>(hash,keys,updated);
+      }
+      Object[] addedKeys = Arrays.copyOf(keys,keys.length+1);
+      Object[] addedValues = Arrays.copyOf(values,values.length+1);
+      addedKeys[keys.length] = key;
+      addedValues[values.length] = value;
+      return new CollisionNode<>(hash,addedKeys,addedValues);
+    }
+
+    @Override
+    public Option<V> get(int bitShiftDepth, int hash, K key) {
+      int index = this.hash==hash ? indexOf(key) : -1;
+      return index>=0 ? Option.of((V)values[index]) : Option.none();
+    }
+
+    @Override
+    public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+      int index = this.hash==hash ? indexOf(key) : -1;
+      return index>=0 ? (V)values[index] : alt;
+    }
+
+    @Override
+    public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+      int index = this.hash==hash ? indexOf(key) : -1;
+      return index>=0 ? (V)values[index] : alt.get();
+    }
+
+    @Override
+    public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+      int index = this.hash==hash ? indexOf(key) : -1;
+      if(index<0)
+        return this;
+      return retain(k->!Objects.equals(k,key));
+    }
+
+    /**
+     * @return Node with the entries whose keys match the predicate, a single remaining entry is returned as a
+     * BitmapIndexedNode so the parent can inline it
+     */
+    Node<K,V> retain(java.util.function.Predicate<? super K> predicate){
+      Object[] retainedKeys = new Object[keys.length];
+      Object[] retainedValues = new Object[values.length];
+      int count = 0;
+      for(int i=0;i<keys.length;i++){
+        if(predicate.test((K)keys[i])){
+          retainedKeys[count] = keys[i];
+          retainedValues[count++] = values[i];
+        }
+      }
+      if(count==keys.length)
+        return this;
+      if(count==0)
+        return BitmapIndexedNode.EMPTY;
+      if(count==1)
+        return new BitmapIndexedNode<>(bitpos(mask(hash,0)),0,1,new Object[]{retainedKeys[0],retainedValues[0]});
+      return new CollisionNode<>(hash,Arrays.copyOf(retainedKeys,count),Arrays.copyOf(retainedValues,count));
+    }
+
+    @Override
+    public int size() {
+      return keys.length;
+    }
+
+    /**
+     * Entries are compared irrespective of the order in which they collided
+     */
+    @Override
+    public boolean equals(Object o) {
+      if(this==o)
+        return true;
+      if(!(o instanceof CollisionNode))
+        return false;
+      CollisionNode<?,?> other = (CollisionNode<?,?>)o;
+      if(hash!=other.hash || keys.length!=other.keys.length)
+        return false;
+      for(int i=0;i<keys.length;i++){
+        int index = other.indexOf(keys[i]);
+        if(index<0 || !Objects.equals(values[i],other.values[index]))
+          return false;
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = hash;
+      for(int i=0;i<keys.length;i++){
+        result += Objects.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+      }
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder s = new StringBuilder("[COLLISION : h:"+hash);
+      for(int i=0;i<keys.length;i++){
+        s.append(",(" + keys[i] + "," + values[i] + ")");
+      }
+      return s.append("]").toString();
+    }
+  }
+
+  /**
+   * Spliterator and Iterator that walks CHAMP nodes directly, visiting the inline entries of each node before its
+   * sub-nodes and tracking the exact number of remaining entries. Splits hand off whole sub-nodes.
+   *
+   * @param <K> Key type
+   * @param <V> Value type
+   */
+  public static final class NodeSpliterator<K,V> implements Spliterator<Tuple2<K,V>>, Iterator<Tuple2<K,V>> {
+    private final ArrayDeque<Node<K,V>> stack = new ArrayDeque<>();
+    private Object[] entries;
+    private int cursor;
+    private int end;
+    private long remaining;
+
+    public NodeSpliterator(Node<K,V> root) {
+      if(root.size()>0)
+        stack.push(root);
+      remaining = root.size();
+    }
+
+    private NodeSpliterator() {
+    }
+
+    private void expand(Node<K,V> node){
+      cursor = 0;
+      if(node instanceof CollisionNode){
+        CollisionNode<K,V> collision = (CollisionNode<K,V>)node;
+        Object[] flat = new Object[collision.keys.length*2];
+        for(int i=0;i<collision.keys.length;i++){
+          flat[2*i] = collision.keys[i];
+          flat[2*i+1] = collision.values[i];
+        }
+        entries = flat;
+        end = flat.length;
+        return;
+      }
+      BitmapIndexedNode<K,V> bitmap = (BitmapIndexedNode<K,V>)node;
+      entries = bitmap.content;
+      end = 2*bitmap.dataArity();
+      for(int i=bitmap.content.length-1;i>=end;i--){
+        stack.push((Node<K,V>)bitmap.content[i]);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      while(cursor>=end){
+        Node<K,V> node = stack.poll();
+        if(node==null)
+          return false;
+        expand(node);
+      }
+      return true;
+    }
+
+    @Override
+    public Tuple2<K,V> next() {
+      if(!hasNext())
+        throw new NoSuchElementException();
+      Tuple2<K,V> result = Tuple.tuple((K)entries[cursor],(V)entries[cursor+1]);
+      cursor += 2;
+      remaining--;
+      return result;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Tuple2<K,V>> action) {
+      while(hasNext()){
+        action.accept(next());
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Tuple2<K,V>> action) {
+      if(!hasNext())
+        return false;
+      action.accept(next());
+      return true;
+    }
+
+    @Override
+    public Spliterator<Tuple2<K,V>> trySplit() {
+      while(cursor>=end && stack.size()==1){
+        expand(stack.pop());
+      }
+      int keep = cursor<end ? 0 : 1;
+      if(stack.size()<=keep)
+        return null;
+      long target = remaining/2;
+      NodeSpliterator<K,V> split = new NodeSpliterator<>();
+      while(stack.size()>keep && (split.remaining==0 || split.remaining<target)){
+        Node<K,V> last = stack.pollLast();
+        split.stack.push(last);
+        split.remaining += last.size();
+      }
+      remaining -= split.remaining;
+      return split;
+    }
+
+    @Override
+    public long estimateSize() {
+      return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+  }
+
+  /**
+   * Builds a CHAMP from a batch of entries in a single pass, partitioning the entries by each 5 bit slice of their
+   * hash in turn so that every node is allocated exactly once. Later entries replace earlier entries with the same key.
+   *
+   * @param <K> Key type
+   * @param <V> Value type
+   */
+  public static final class Builder<K,V> {
+    private int[] hashes = new int[16];
+    private Object[] keys = new Object[16];
+    private Object[] values = new Object[16];
+    private int size;
+
+    private Builder() {
+    }
+
+    public Builder<K,V> put(K key, V value){
+      if(size==hashes.length){
+        int capacity = size*2;
+        hashes = Arrays.copyOf(hashes,capacity);
+        keys = Arrays.copyOf(keys,capacity);
+        values = Arrays.copyOf(values,capacity);
+      }
+      hashes[size] = hash(key);
+      keys[size] = key;
+      values[size] = value;
+      size++;
+      return this;
+    }
+
+    public Builder<K,V> putAll(Iterable<? extends Tuple2<? extends K,? extends V>> entries){
+      for(Tuple2<? extends K,? extends V> next : entries){
+        put(next._1(),next._2());
+      }
+      return this;
+    }
+
+    /**
+     * @return CHAMP of the entries added so far (the Builder can continue to be used afterwards)
+     */
+    public Node<K,V> build(){
+      if(size==0)
+        return BitmapIndexedNode.EMPTY;
+      int[] order = new int[size];
+      for(int i=0;i<size;i++){
+        order[i]=i;
+      }
+      return build(order,new int[size],0,size,0);
+    }
+
+    private boolean sameKey(int[] order, int from, int to){
+      Object key = keys[order[from]];
+      int hash = hashes[order[from]];
+      for(int i=from+1;i<to;i++){
+        if(hashes[order[i]]!=hash || !Objects.equals(keys[order[i]],key))
+          return false;
+      }
+      return true;
+    }
+
+    private Node<K,V> build(int[] order, int[] scratch, int from, int to, int shift){
+      if(shift>=HASH_CODE_LENGTH){
+        Node<K,V> node = new CollisionNode<>(hashes[order[from]],new Object[]{keys[order[from]]},new Object[]{values[order[from]]});
+        for(int i=from+1;i<to;i++){
+          node = node.plus(shift,hashes[order[i]],(K)keys[order[i]],(V)values[order[i]]);
+        }
+        return node;
+      }
+      int[] starts = new int[MASK+2];
+      for(int i=from;i<to;i++){
+        starts[mask(hashes[order[i]],shift)+1]++;
+      }
+      starts[0] = from;
+      for(int m=0;m<=MASK;m++){
+        starts[m+1] += starts[m];
+      }
+      int[] next = Arrays.copyOf(starts,MASK+1);
+      for(int i=from;i<to;i++){
+        scratch[next[mask(hashes[order[i]],shift)]++] = order[i];
+      }
+      System.arraycopy(scratch,from,order,from,to-from);
+      NodeAssembler<K,V> result = new NodeAssembler<>(MASK+1);
+      for(int m=0;m<=MASK;m++){
+        int start = starts[m];
+        int end = starts[m+1];
+        if(end==start)
+          continue;
+        if(sameKey(order,start,end))
+          result.data(bitpos(m),(K)keys[order[end-1]],(V)values[order[end-1]]);
+        else
+          result.node(bitpos(m),build(order,scratch,start,end,shift+BITS_IN_INDEX));
+      }
+      return result.build();
+    }
+  }
+}
@@ -13,8 +13,14 @@ import cyclops.data.tuple.Tuple2;
 import lombok.EqualsAndHashCode;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 
@@ -32,6 +38,305 @@ public final class HAMT<K, V>  implements Serializable {
     return EmptyNode.Instance;
   }
 
+  public static <K,V> Builder<K,V> builder(){
+    return new Builder<>();
+  }
+
+  /**
+   * Merge two HAMTs node by node. Sub-tries present in only one input are shared with the result as-is,
+   * and when neither input is changed by the merge that input is returned. (HashMap and HashSet are backed by a
+   * {@link CHAMP}, and use {@link CHAMP#union} rather than the HAMT bulk operations.)
+   *
+   * @param a First HAMT
+   * @param b Second HAMT, whose values replace those of a for keys present in both
+   * @return HAMT containing the keys of both a and b
+   */
+  public static <K,V> Node<K,V> union(Node<K,V> a, Node<K,V> b){
+    return union(a,b,0,null);
+  }
+
+  /**
+   * @param a First HAMT
+   * @param b Second HAMT
+   * @param merge Combines the values for keys present in both a (first argument) and b (second argument)
+   * @return HAMT containing the keys of both a and b
+   */
+  public static <K,V> Node<K,V> union(Node<K,V> a, Node<K,V> b, BinaryOperator<V> merge){
+    return union(a,b,0,merge);
+  }
+
+  /**
+   * @param a HAMT to retain entries from
+   * @param b HAMT of keys to retain
+   * @return HAMT containing the entries of a whose keys are also present in b
+   */
+  public static <K,V> Node<K,V> intersection(Node<K,V> a, Node<K,?> b){
+    return intersection(a,b,0);
+  }
+
+  /**
+   * @param a HAMT to remove entries from
+   * @param b HAMT of keys to remove
+   * @return HAMT containing the entries of a whose keys are not present in b
+   */
+  public static <K,V> Node<K,V> difference(Node<K,V> a, Node<K,?> b){
+    return difference(a,b,0);
+  }
+
+  private static <K,V> Node<K,V> union(Node<K,V> a, Node<K,V> b, int shift, BinaryOperator<V> merge){
+    if(a.size()==0)
+      return b;
+    if(b.size()==0 || (a==b && merge==null))
+      return a;
+    if(a instanceof BitsetNode && b instanceof BitsetNode){
+      BitsetNode<K,V> left = (BitsetNode<K,V>)a;
+      BitsetNode<K,V> right = (BitsetNode<K,V>)b;
+      int bits = left.bitset | right.bitset;
+      Node<K,V>[] nodes = new Node[Integer.bitCount(bits)];
+      boolean sameAsLeft = bits==left.bitset;
+      boolean sameAsRight = bits==right.bitset;
+      int i = 0;
+      for(int remaining=bits;remaining!=0;remaining&=remaining-1){
+        int bit = remaining & -remaining;
+        Node<K,V> l = left.absent(bit) ? null : left.findNode(bit);
+        Node<K,V> r = right.absent(bit) ? null : right.findNode(bit);
+        Node<K,V> node = l==null ? r : r==null ? l : union(l,r,shift+BITS_IN_INDEX,merge);
+        sameAsLeft &= node==l;
+        sameAsRight &= node==r;
+        nodes[i++] = node;
+      }
+      if(sameAsLeft)
+        return left;
+      if(sameAsRight)
+        return right;
+      return new BitsetNode<>(bits,BitsetNode.size(nodes),nodes);
+    }
+    if(b instanceof BitsetNode){
+      int hash = leafHash(a);
+      Node<K,V> result = b;
+      for(Tuple2<K,V> next : entries(a)){
+        Option<V> existing = b.get(shift,hash,next._1());
+        if(!existing.isPresent())
+          result = result.plus(shift,hash,next._1(),next._2());
+        else if(merge!=null)
+          result = result.plus(shift,hash,next._1(),merge.apply(next._2(),existing.orElse(null)));
+      }
+      return result;
+    }
+    int hash = leafHash(b);
+    Node<K,V> result = a;
+    for(Tuple2<K,V> next : entries(b)){
+      V value = next._2();
+      if(merge!=null){
+        Option<V> existing = a.get(shift,hash,next._1());
+        if(existing.isPresent())
+          value = merge.apply(existing.orElse(null),value);
+      }
+      result = result.plus(shift,hash,next._1(),value);
+    }
+    return result;
+  }
+
+  private static <K,V> Node<K,V> intersection(Node<K,V> a, Node<K,?> b, int shift){
+    if(a.size()==0 || b.size()==0)
+      return EmptyNode.Instance;
+    if(a==b)
+      return a;
+    if(a instanceof BitsetNode && b instanceof BitsetNode){
+      BitsetNode<K,V> left = (BitsetNode<K,V>)a;
+      BitsetNode<K,?> right = (BitsetNode<K,?>)b;
+      int bits = left.bitset & right.bitset;
+      Node<K,V>[] nodes = new Node[Integer.bitCount(bits)];
+      int kept = 0;
+      int i = 0;
+      boolean sameAsLeft = bits==left.bitset;
+      for(int remaining=bits;remaining!=0;remaining&=remaining-1){
+        int bit = remaining & -remaining;
+        Node<K,V> l = left.findNode(bit);
+        Node<K,V> node = intersection(l,right.findNode(bit),shift+BITS_IN_INDEX);
+        sameAsLeft &= node==l;
+        if(node.size()>0){
+          kept |= bit;
+          nodes[i++] = node;
+        }
+      }
+      return sameAsLeft ? left : BitsetNode.of(kept,Arrays.copyOf(nodes,i));
+    }
+    if(b instanceof BitsetNode){
+      int hash = leafHash(a);
+      ImmutableList<Tuple2<K,V>> entries = entries(a);
+      ImmutableList<Tuple2<K,V>> retained = entries.filter(t->b.get(shift,hash,t._1()).isPresent());
+      return retained.size()==entries.size() ? a : leaf(hash,retained);
+    }
+    int hash = leafHash(b);
+    Node<K,V> result = EmptyNode.Instance;
+    for(Tuple2<K,?> next : entries(b)){
+      Option<V> value = a.get(shift,hash,next._1());
+      if(value.isPresent())
+        result = result.plus(shift,hash,next._1(),value.orElse(null));
+    }
+    return result.size()==a.size() ? a : result;
+  }
+
+  private static <K,V> Node<K,V> difference(Node<K,V> a, Node<K,?> b, int shift){
+    if(a.size()==0 || b.size()==0)
+      return a;
+    if(a==b)
+      return EmptyNode.Instance;
+    if(a instanceof BitsetNode && b instanceof BitsetNode){
+      BitsetNode<K,V> left = (BitsetNode<K,V>)a;
+      BitsetNode<K,?> right = (BitsetNode<K,?>)b;
+      if((left.bitset & right.bitset)==0)
+        return left;
+      Node<K,V>[] nodes = new Node[left.nodes.length];
+      int kept = 0;
+      int i = 0;
+      boolean sameAsLeft = true;
+      for(int remaining=left.bitset;remaining!=0;remaining&=remaining-1){
+        int bit = remaining & -remaining;
+        Node<K,V> l = left.findNode(bit);
+        Node<K,V> node = right.absent(bit) ? l : difference(l,right.findNode(bit),shift+BITS_IN_INDEX);
+        sameAsLeft &= node==l;
+        if(node.size()>0){
+          kept |= bit;
+          nodes[i++] = node;
+        }
+      }
+      return sameAsLeft ? left : BitsetNode.of(kept,Arrays.copyOf(nodes,i));
+    }
+    if(b instanceof BitsetNode){
+      int hash = leafHash(a);
+      ImmutableList<Tuple2<K,V>> entries = entries(a);
+      ImmutableList<Tuple2<K,V>> retained = entries.filter(t->!b.get(shift,hash,t._1()).isPresent());
+      return retained.size()==entries.size() ? a : leaf(hash,retained);
+    }
+    int hash = leafHash(b);
+    Node<K,V> result = a;
+    for(Tuple2<K,?> next : entries(b)){
+      result = result.minus(shift,hash,next._1());
+    }
+    return result;
+  }
+
+  private static int leafHash(Node<?,?> leaf){
+    return leaf instanceof ValueNode ? ((ValueNode<?,?>)leaf).hash : ((CollisionNode<?,?>)leaf).hash;
+  }
+
+  private static <K,V> ImmutableList<Tuple2<K,V>> entries(Node<K,V> leaf){
+    return leaf instanceof ValueNode ? Seq.of(((ValueNode<K,V>)leaf).unapply()) : ((CollisionNode<K,V>)leaf).bucket;
+  }
+
+  private static <K,V> Node<K,V> leaf(int hash, ImmutableList<Tuple2<K,V>> entries){
+    if(entries.size()==0)
+      return EmptyNode.Instance;
+    if(entries.size()==1){
+      Tuple2<K,V> entry = entries.getOrElse(0,null);
+      return new ValueNode<>(hash,entry._1(),entry._2());
+    }
+    return new CollisionNode<>(hash,entries);
+  }
+
+  /**
+   * Builds a HAMT from a batch of entries in a single pass. Entries are partitioned by each 5 bit slice of their
+   * hash in turn, so every node is allocated exactly once rather than a path of nodes being copied per insertion.
+   * Later entries replace earlier entries with the same key, and the resulting HAMT has the same structure as one built
+   * by inserting the entries in order.
+   *
+   * <pre>
+   * {@code
+   *   HAMT.Node<String,Integer> node = HAMT.<String,Integer>builder()
+   *                                        .put("a",1)
+   *                                        .put("b",2)
+   *                                        .build();
+   * }
+   * </pre>
+   *
+   * @param <K> Key type
+   * @param <V> Value type
+   */
+  public static final class Builder<K,V> {
+    private int[] hashes = new int[16];
+    private Object[] keys = new Object[16];
+    private Object[] values = new Object[16];
+    private int size;
+
+    private Builder() {
+    }
+
+    public Builder<K,V> put(K key, V value){
+      if(size==hashes.length){
+        int capacity = size*2;
+        hashes = Arrays.copyOf(hashes,capacity);
+        keys = Arrays.copyOf(keys,capacity);
+        values = Arrays.copyOf(values,capacity);
+      }
+      hashes[size] = key.hashCode();
+      keys[size] = key;
+      values[size] = value;
+      size++;
+      return this;
+    }
+
+    public Builder<K,V> putAll(Iterable<? extends Tuple2<? extends K,? extends V>> entries){
+      for(Tuple2<? extends K,? extends V> next : entries){
+        put(next._1(),next._2());
+      }
+      return this;
+    }
+
+    /**
+     * @return HAMT of the entries added so far (the Builder can continue to be used afterwards)
+     */
+    public Node<K,V> build(){
+      if(size==0)
+        return EmptyNode.Instance;
+      int[] order = new int[size];
+      for(int i=0;i<size;i++){
+        order[i]=i;
+      }
+      return build(order,new int[size],0,size,0);
+    }
+
+    private Node<K,V> build(int[] order, int[] scratch, int from, int to, int shift){
+      int first = hashes[order[from]];
+      boolean sameHash = true;
+      for(int i=from+1;i<to && sameHash;i++){
+        sameHash = hashes[order[i]]==first;
+      }
+      if(sameHash){
+        Node<K,V> node = EmptyNode.Instance;
+        for(int i=from;i<to;i++){
+          int next = order[i];
+          node = node.plus(shift,first,(K)keys[next],(V)values[next]);
+        }
+        return node;
+      }
+      int[] starts = new int[SIZE+1];
+      for(int i=from;i<to;i++){
+        starts[BitsetNode.mask(hashes[order[i]],shift)+1]++;
+      }
+      int bitset = 0;
+      starts[0] = from;
+      for(int m=0;m<SIZE;m++){
+        if(starts[m+1]>0)
+          bitset |= BitsetNode.bitpos(m);
+        starts[m+1] += starts[m];
+      }
+      int[] next = Arrays.copyOf(starts,SIZE);
+      for(int i=from;i<to;i++){
+        scratch[next[BitsetNode.mask(hashes[order[i]],shift)]++] = order[i];
+      }
+      System.arraycopy(scratch,from,order,from,to-from);
+      Node<K,V>[] nodes = new Node[Integer.bitCount(bitset)];
+      int pos = 0;
+      for(int m=0;m<SIZE;m++){
+        if(starts[m+1]>starts[m])
+          nodes[pos++] = build(order,scratch,starts[m],starts[m+1],shift+BITS_IN_INDEX);
+      }
+      return new BitsetNode<>(bitset,BitsetNode.size(nodes),nodes);
+    }
+  }
+
   public interface Node<K,V> extends Serializable{
 
 
@@ -62,6 +367,121 @@ public final class HAMT<K, V>  implements Serializable {
   }
 
 
+  /**
+   * Spliterator and Iterator that walks HAMT nodes directly, tracking the exact number of remaining entries.
+   * Splits hand off whole sub-tries, expanding a single remaining BitsetNode into its children first.
+   *
+   * @param <K> Key type
+   * @param <V> Value type
+   */
+  public static final class NodeSpliterator<K,V> implements Spliterator<Tuple2<K,V>>, Iterator<Tuple2<K,V>> {
+    private final ArrayDeque<Node<K,V>> stack = new ArrayDeque<>();
+    private Iterator<Tuple2<K,V>> bucket;
+    private Tuple2<K,V> next;
+    private long remaining;
+
+    public NodeSpliterator(Node<K,V> root) {
+      if(root.size()>0)
+        stack.push(root);
+      remaining = root.size();
+    }
+
+    private NodeSpliterator() {
+    }
+
+    private Tuple2<K,V> advance() {
+      if(bucket!=null){
+        if(bucket.hasNext())
+          return bucket.next();
+        bucket = null;
+      }
+      Node<K,V> node;
+      while((node=stack.poll())!=null){
+        if(node instanceof ValueNode){
+          ValueNode<K,V> value = (ValueNode<K,V>)node;
+          return Tuple.tuple(value.key,value.value);
+        }
+        if(node instanceof BitsetNode){
+          Node<K,V>[] nodes = ((BitsetNode<K,V>)node).nodes;
+          for(int i=nodes.length-1;i>=0;i--){
+            stack.push(nodes[i]);
+          }
+        }
+        else if(node instanceof CollisionNode){
+          Iterator<Tuple2<K,V>> it = ((CollisionNode<K,V>)node).bucket.iterator();
+          if(it.hasNext()){
+            bucket = it;
+            return it.next();
+          }
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if(next==null)
+        next = advance();
+      return next!=null;
+    }
+
+    @Override
+    public Tuple2<K,V> next() {
+      if(!hasNext())
+        throw new NoSuchElementException();
+      Tuple2<K,V> result = next;
+      next = null;
+      remaining--;
+      return result;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Tuple2<K,V>> action) {
+      while(hasNext()){
+        action.accept(next());
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Tuple2<K,V>> action) {
+      if(!hasNext())
+        return false;
+      action.accept(next());
+      return true;
+    }
+
+    @Override
+    public Spliterator<Tuple2<K,V>> trySplit() {
+      while(stack.size()==1 && stack.peek() instanceof BitsetNode){
+        Node<K,V>[] nodes = ((BitsetNode<K,V>)stack.pop()).nodes;
+        for(int i=nodes.length-1;i>=0;i--){
+          stack.push(nodes[i]);
+        }
+      }
+      if(stack.size()<2)
+        return null;
+      long target = remaining/2;
+      NodeSpliterator<K,V> split = new NodeSpliterator<>();
+      while(stack.size()>1 && split.remaining<target){
+        Node<K,V> last = stack.pollLast();
+        split.stack.push(last);
+        split.remaining += last.size();
+      }
+      remaining -= split.remaining;
+      return split;
+    }
+
+    @Override
+    public long estimateSize() {
+      return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+  }
+
   public static final class EmptyNode<K,V> implements Node<K,V>{
     private static final long serialVersionUID = 1L;
     static final EmptyNode Instance = new EmptyNode();
@@ -237,10 +657,10 @@ public final class HAMT<K, V>  implements Serializable {
       int newBitset = posThis | posThat;
       if(mask1==mask2) { //collision
         Node<K,V> merged = merge(bitShiftDepth+BITS_IN_INDEX,thatHash,that);
-        return new BitsetNode<>(newBitset,2,new Node[]{merged});
+        return new BitsetNode<>(newBitset,merged.size(),new Node[]{merged});
       }
       Node<K,V>[] ordered = mask1<mask2 ? new Node[]{this,that} : new Node[]{that,this};
-      return new BitsetNode<>(newBitset,2,ordered);
+      return new BitsetNode<>(newBitset,size+that.size(),ordered);
     }
 
     @Override
@@ -264,7 +684,8 @@ public final class HAMT<K, V>  implements Serializable {
     @Override
     public Node<K, V> minus(int bitShiftDepth,int hash, K key) {
       if(this.hash==hash){
-        return new CollisionNode<>(hash,bucket.filter(t->!Objects.equals(key,t._1())));
+        ImmutableList<Tuple2<K,V>> filtered = bucket.filter(t->!Objects.equals(key,t._1()));
+        return filtered.size()==size ? this : leaf(hash,filtered);
       }
       return this;
     }
@@ -359,35 +780,38 @@ public final class HAMT<K, V>  implements Serializable {
 
     @Override
     public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
-      if(nodes.length==0)
-        return this;
       int bitPos = bitpos(hash, bitShiftDepth);
+      if(absent(bitPos))
+        return this;
       int arrayPos = index(bitPos);
-      Node<K,V> node = (absent(bitPos) ? EmptyNode.Instance : nodes[arrayPos]).minus(bitShiftDepth +BITS_IN_INDEX,hash,key);
-
+      Node<K,V> node = nodes[arrayPos].minus(bitShiftDepth +BITS_IN_INDEX,hash,key);
+      if(node==nodes[arrayPos])
+        return this;
       if(node instanceof EmptyNode){
         int removedBit = bitset & ~bitPos;
-
         Node<K, V>[] removedNodes = new Node[nodes.length - 1];
         System.arraycopy(nodes, 0, removedNodes, 0, arrayPos);
         System.arraycopy(nodes, arrayPos + 1, removedNodes, arrayPos, nodes.length - arrayPos - 1);
-        if(removedNodes.length==1) {
-          return removedNodes[0];
-        }
-        return new BitsetNode<>(removedBit, size(removedNodes), removedNodes);
+        return of(removedBit, removedNodes);
       }else{
-        int removedBit = bitset & ~bitPos;
-
-
-        Node<K, V>[] removedNodes = new Node[nodes.length];
-        System.arraycopy(nodes, 0, removedNodes, 0, nodes.length);
-
-
+        Node<K, V>[] removedNodes = Arrays.copyOf(nodes, nodes.length);
         removedNodes[arrayPos] = node;
-        return new BitsetNode<>(bitset, size(removedNodes), removedNodes);
+        return of(bitset, removedNodes);
       }
     }
 
+    /**
+     * Canonical node for the supplied children : a lone ValueNode or CollisionNode does not depend on its position
+     * in the trie and replaces its parent, whereas a lone BitsetNode is indexed by the next hash slice and must stay nested.
+     */
+    static <K,V> Node<K,V> of(int bitset, Node<K,V>[] nodes){
+      if(nodes.length==0)
+        return EmptyNode.Instance;
+      if(nodes.length==1 && !(nodes[0] instanceof BitsetNode))
+        return nodes[0];
+      return new BitsetNode<>(bitset, size(nodes), nodes);
+    }
+
     @Override
     public int size() {
       return size;
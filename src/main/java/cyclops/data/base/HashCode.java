@@ -0,0 +1,41 @@
+package cyclops.data.base;
+
+/**
+ * Hash code support shared by the persistent data types in cyclops.data
+ *
+ * Persistent types cache their hash code in a plain transient int field, using the racy single-check idiom (as
+ * java.lang.String does). Instances are immutable, so every thread computes the same value and int writes are atomic -
+ * no locks, volatile reads or per-instance memoizing objects are required. A hash of 0 is simply recomputed.
+ *
+ * <pre>
+ * {@code
+ *   private transient int hash;
+ *
+ *   public int hashCode() {
+ *       int h = hash;
+ *       if (h == 0) {
+ *           h = HashCode.ordered(this);
+ *           hash = h;
+ *       }
+ *       return h;
+ *   }
+ * }
+ * </pre>
+ */
+public final class HashCode {
+
+    private HashCode(){}
+
+    /**
+     * Hash code of a sequence of values, consistent with java.util.List#hashCode
+     *
+     * @param values Values to hash in iteration order
+     * @return Hash code
+     */
+    public static int ordered(Iterable<?> values){
+        int hashCode = 1;
+        for (Object e : values)
+            hashCode = 31*hashCode + (e==null ? 0 : e.hashCode());
+        return hashCode;
+    }
+}
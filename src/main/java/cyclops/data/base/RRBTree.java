@@ -0,0 +1,520 @@
+package cyclops.data.base;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A Relaxed Radix Balanced tree : a 32-way trie of leaf arrays, where branch nodes may hold fewer than 32 (full) children.
+ * Branches record the cumulative sizes of their children, so lookups take the radix guess and scan forward a few slots.
+ *
+ * Relaxing the packing means trees can be concatenated, sliced, prepended to and spliced by rebuilding only the
+ * nodes along the affected edges - O(log n) rather than O(n). Concatenation rebalances the nodes along the seam so that each
+ * level uses at most {@link #EXTRAS} more nodes than a fully packed tree would, keeping lookups effectively O(log32 n).
+ *
+ * Nodes are Object[] arrays of elements (leaves, height 0) or {@link Branch}es of nodes one level lower.
+ *
+ * @param <T> Data type of the elements
+ */
+public final class RRBTree<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+    static final int EXTRAS = 2;
+
+    private static final RRBTree EMPTY = new RRBTree<>(new Object[0], 0, 0);
+
+    private final Object root;
+    private final int height;
+    private final int size;
+
+    private RRBTree(Object root, int height, int size) {
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    static final class Branch implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Object[] children;
+        final int[] sizes;
+
+        Branch(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+    }
+
+    public static <T> RRBTree<T> empty(){
+        return EMPTY;
+    }
+
+    /**
+     * Build a fully packed tree
+     */
+    public static <T> RRBTree<T> fromIterator(Iterator<? extends T> it){
+        if(!it.hasNext())
+            return empty();
+        Object[] nodes = new Object[WIDTH];
+        int count = 0;
+        int size = 0;
+        while(it.hasNext()){
+            Object[] leaf = new Object[WIDTH];
+            int filled = 0;
+            while(filled<WIDTH && it.hasNext()){
+                leaf[filled++] = it.next();
+            }
+            if(count==nodes.length)
+                nodes = Arrays.copyOf(nodes,count*2);
+            nodes[count++] = filled==WIDTH ? leaf : Arrays.copyOf(leaf,filled);
+            size += filled;
+        }
+        int height = 0;
+        while(count>1){
+            int parents = (count+WIDTH-1)/WIDTH;
+            Object[] next = new Object[parents];
+            for(int i=0;i<parents;i++){
+                next[i] = branch(Arrays.copyOfRange(nodes,i*WIDTH,Math.min(count,(i+1)*WIDTH)),height);
+            }
+            nodes = next;
+            count = parents;
+            height++;
+        }
+        return new RRBTree<>(nodes[0],height,size);
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public T getOrElse(int pos, T alt){
+        if(pos<0||pos>=size)
+            return alt;
+        Object node = root;
+        for(int h=height;h>0;h--){
+            Branch b = (Branch)node;
+            int slot = slot(b,h,pos);
+            if(slot>0)
+                pos -= b.sizes[slot-1];
+            node = b.children[slot];
+        }
+        return (T)((Object[])node)[pos];
+    }
+
+    public RRBTree<T> set(int pos, T value){
+        if(pos<0||pos>=size)
+            return this;
+        return new RRBTree<>(set(root,height,pos,value),height,size);
+    }
+
+    public RRBTree<T> append(T value){
+        Object node = appendValue(root,height,value);
+        if(node!=null)
+            return new RRBTree<>(node,height,size+1);
+        return new RRBTree<>(new Branch(new Object[]{root,path(height,value)},new int[]{size,size+1}),height+1,size+1);
+    }
+
+    public RRBTree<T> prepend(T value){
+        Object node = prependValue(root,height,value);
+        if(node!=null)
+            return new RRBTree<>(node,height,size+1);
+        return new RRBTree<>(new Branch(new Object[]{path(height,value),root},new int[]{1,size+1}),height+1,size+1);
+    }
+
+    /**
+     * @return The first num elements
+     */
+    public RRBTree<T> take(int num){
+        if(num<=0)
+            return empty();
+        if(num>=size)
+            return this;
+        return collapse(take(root,height,num),height,num);
+    }
+
+    /**
+     * @return All but the first num elements
+     */
+    public RRBTree<T> drop(int num){
+        if(num<=0)
+            return this;
+        if(num>=size)
+            return empty();
+        return collapse(drop(root,height,num),height,size-num);
+    }
+
+    public RRBTree<T> concat(RRBTree<T> other){
+        if(other.size==0)
+            return this;
+        if(size==0)
+            return other;
+        if(other.size<=WIDTH && other.height==0){
+            RRBTree<T> result = this;
+            for(Object next : (Object[])other.root){
+                result = result.append((T)next);
+            }
+            return result;
+        }
+        Branch merged = concat(root,height,other.root,other.height,true);
+        return collapse(merged,Math.max(height,other.height)+1,size+other.size);
+    }
+
+    public LeafSpliterator<T> spliterator(){
+        return new LeafSpliterator<>(this,0,size);
+    }
+
+    private static <T> RRBTree<T> collapse(Object node, int height, int size){
+        while(height>0 && ((Branch)node).children.length==1){
+            node = ((Branch)node).children[0];
+            height--;
+        }
+        return new RRBTree<>(node,height,size);
+    }
+
+    private static int slot(Branch b, int height, int pos){
+        int shift = BITS*height;
+        int slot = shift>=Integer.SIZE-1 ? 0 : Math.min(pos>>>shift,b.sizes.length-1);
+        while(b.sizes[slot]<=pos){
+            slot++;
+        }
+        return slot;
+    }
+
+    private static int sizeOf(Object node, int height){
+        if(height==0)
+            return ((Object[])node).length;
+        int[] sizes = ((Branch)node).sizes;
+        return sizes[sizes.length-1];
+    }
+
+    private static Object[] slots(Object node, int height){
+        return height==0 ? (Object[])node : ((Branch)node).children;
+    }
+
+    private static Branch branch(Object[] children, int childHeight){
+        int[] sizes = new int[children.length];
+        int total = 0;
+        for(int i=0;i<children.length;i++){
+            total += sizeOf(children[i],childHeight);
+            sizes[i] = total;
+        }
+        return new Branch(children,sizes);
+    }
+
+    private static Object path(int height, Object value){
+        Object node = new Object[]{value};
+        for(int h=0;h<height;h++){
+            node = new Branch(new Object[]{node},new int[]{1});
+        }
+        return node;
+    }
+
+    private static Object set(Object node, int height, int pos, Object value){
+        if(height==0){
+            Object[] leaf = ((Object[])node).clone();
+            leaf[pos] = value;
+            return leaf;
+        }
+        Branch b = (Branch)node;
+        int slot = slot(b,height,pos);
+        Object[] children = b.children.clone();
+        children[slot] = set(children[slot],height-1,slot==0 ? pos : pos-b.sizes[slot-1],value);
+        return new Branch(children,b.sizes);
+    }
+
+    private static Object appendValue(Object node, int height, Object value){
+        if(height==0){
+            Object[] leaf = (Object[])node;
+            if(leaf.length==WIDTH)
+                return null;
+            Object[] result = Arrays.copyOf(leaf,leaf.length+1);
+            result[leaf.length] = value;
+            return result;
+        }
+        Branch b = (Branch)node;
+        int last = b.children.length-1;
+        Object child = appendValue(b.children[last],height-1,value);
+        if(child!=null){
+            Object[] children = b.children.clone();
+            children[last] = child;
+            int[] sizes = b.sizes.clone();
+            sizes[last]++;
+            return new Branch(children,sizes);
+        }
+        if(b.children.length==WIDTH)
+            return null;
+        Object[] children = Arrays.copyOf(b.children,last+2);
+        children[last+1] = path(height-1,value);
+        int[] sizes = Arrays.copyOf(b.sizes,last+2);
+        sizes[last+1] = sizes[last]+1;
+        return new Branch(children,sizes);
+    }
+
+    private static Object prependValue(Object node, int height, Object value){
+        if(height==0){
+            Object[] leaf = (Object[])node;
+            if(leaf.length==WIDTH)
+                return null;
+            Object[] result = new Object[leaf.length+1];
+            result[0] = value;
+            System.arraycopy(leaf,0,result,1,leaf.length);
+            return result;
+        }
+        Branch b = (Branch)node;
+        Object child = prependValue(b.children[0],height-1,value);
+        if(child!=null){
+            Object[] children = b.children.clone();
+            children[0] = child;
+            int[] sizes = new int[b.sizes.length];
+            for(int i=0;i<sizes.length;i++){
+                sizes[i] = b.sizes[i]+1;
+            }
+            return new Branch(children,sizes);
+        }
+        if(b.children.length==WIDTH)
+            return null;
+        Object[] children = new Object[b.children.length+1];
+        children[0] = path(height-1,value);
+        System.arraycopy(b.children,0,children,1,b.children.length);
+        int[] sizes = new int[children.length];
+        sizes[0] = 1;
+        for(int i=0;i<b.sizes.length;i++){
+            sizes[i+1] = b.sizes[i]+1;
+        }
+        return new Branch(children,sizes);
+    }
+
+    private static Object take(Object node, int height, int num){
+        if(num==sizeOf(node,height))
+            return node;
+        if(height==0)
+            return Arrays.copyOf((Object[])node,num);
+        Branch b = (Branch)node;
+        int slot = slot(b,height,num-1);
+        Object[] children = Arrays.copyOf(b.children,slot+1);
+        children[slot] = take(children[slot],height-1,slot==0 ? num : num-b.sizes[slot-1]);
+        int[] sizes = Arrays.copyOf(b.sizes,slot+1);
+        sizes[slot] = num;
+        return new Branch(children,sizes);
+    }
+
+    private static Object drop(Object node, int height, int num){
+        if(num==0)
+            return node;
+        if(height==0){
+            Object[] leaf = (Object[])node;
+            return Arrays.copyOfRange(leaf,num,leaf.length);
+        }
+        Branch b = (Branch)node;
+        int slot = slot(b,height,num);
+        int length = b.children.length-slot;
+        Object[] children = new Object[length];
+        System.arraycopy(b.children,slot,children,0,length);
+        children[0] = drop(children[0],height-1,slot==0 ? num : num-b.sizes[slot-1]);
+        int[] sizes = new int[length];
+        for(int i=0;i<length;i++){
+            sizes[i] = b.sizes[slot+i]-num;
+        }
+        return new Branch(children,sizes);
+    }
+
+    /*
+     * Concatenate the sub-trees left and right, returning a Branch one level above the taller of the two holding
+     * one or two nodes.
+     */
+    private static Branch concat(Object left, int leftHeight, Object right, int rightHeight, boolean top){
+        if(leftHeight>rightHeight){
+            Branch l = (Branch)left;
+            Branch middle = concat(l.children[l.children.length-1],leftHeight-1,right,rightHeight,false);
+            return rebalance(l,middle,null,leftHeight);
+        }
+        if(leftHeight<rightHeight){
+            Branch r = (Branch)right;
+            Branch middle = concat(left,leftHeight,r.children[0],rightHeight-1,false);
+            return rebalance(null,middle,r,rightHeight);
+        }
+        if(leftHeight==0){
+            Object[] l = (Object[])left;
+            Object[] r = (Object[])right;
+            if(top && l.length+r.length<=WIDTH){
+                Object[] merged = Arrays.copyOf(l,l.length+r.length);
+                System.arraycopy(r,0,merged,l.length,r.length);
+                return branch(new Object[]{merged},0);
+            }
+            return branch(new Object[]{l,r},0);
+        }
+        Branch l = (Branch)left;
+        Branch r = (Branch)right;
+        Branch middle = concat(l.children[l.children.length-1],leftHeight-1,r.children[0],rightHeight-1,false);
+        return rebalance(l,middle,r,leftHeight);
+    }
+
+    /*
+     * Merge the children of left (except its last), middle and right (except its first) - all at height-1 - redistributing
+     * their contents so that no more than EXTRAS nodes above the optimal are used, and return them in a Branch at height+1
+     */
+    private static Branch rebalance(Branch left, Branch middle, Branch right, int height){
+        int leftCount = left==null ? 0 : left.children.length-1;
+        int rightCount = right==null ? 0 : right.children.length-1;
+        Object[] all = new Object[leftCount+middle.children.length+rightCount];
+        if(left!=null)
+            System.arraycopy(left.children,0,all,0,leftCount);
+        System.arraycopy(middle.children,0,all,leftCount,middle.children.length);
+        if(right!=null)
+            System.arraycopy(right.children,1,all,leftCount+middle.children.length,rightCount);
+
+        int childHeight = height-1;
+        int[] plan = new int[all.length];
+        int total = 0;
+        for(int i=0;i<all.length;i++){
+            plan[i] = slots(all[i],childHeight).length;
+            total += plan[i];
+        }
+        int optimal = (total+WIDTH-1)/WIDTH;
+        int count = all.length;
+        int i = 0;
+        while(optimal+EXTRAS<count){
+            while(plan[i]>WIDTH-EXTRAS/2){
+                i++;
+            }
+            int remaining = plan[i];
+            while(remaining>0){
+                int min = Math.min(remaining+plan[i+1],WIDTH);
+                plan[i] = min;
+                remaining = remaining+plan[i+1]-min;
+                i++;
+            }
+            System.arraycopy(plan,i+1,plan,i,count-i-1);
+            count--;
+            i--;
+        }
+        Object[] nodes = count==all.length ? all : redistribute(all,childHeight,plan,count);
+        if(nodes.length<=WIDTH)
+            return branch(new Object[]{branch(nodes,childHeight)},height);
+        return branch(new Object[]{branch(Arrays.copyOfRange(nodes,0,WIDTH),childHeight),
+                                   branch(Arrays.copyOfRange(nodes,WIDTH,nodes.length),childHeight)},height);
+    }
+
+    private static Object[] redistribute(Object[] all, int height, int[] plan, int count){
+        Object[] result = new Object[count];
+        int source = 0;
+        int offset = 0;
+        for(int k=0;k<count;k++){
+            int required = plan[k];
+            if(offset==0 && slots(all[source],height).length==required){
+                result[k] = all[source++];
+                continue;
+            }
+            Object[] contents = new Object[required];
+            int filled = 0;
+            while(filled<required){
+                Object[] next = slots(all[source],height);
+                int copied = Math.min(required-filled,next.length-offset);
+                System.arraycopy(next,offset,contents,filled,copied);
+                filled += copied;
+                offset += copied;
+                if(offset==next.length){
+                    source++;
+                    offset = 0;
+                }
+            }
+            result[k] = height==0 ? contents : branch(contents,height-1);
+        }
+        return result;
+    }
+
+    /**
+     * Sized Spliterator and Iterator over a range of an RRBTree, that locates each leaf once and splits by index
+     *
+     * @param <T> Data type of the elements
+     */
+    public static final class LeafSpliterator<T> implements Spliterator<T>, Iterator<T> {
+        private final RRBTree<T> tree;
+        private int index;
+        private final int end;
+        private Object[] leaf;
+        private int leafStart;
+
+        private LeafSpliterator(RRBTree<T> tree, int from, int to) {
+            this.tree = tree;
+            this.index = from;
+            this.end = to;
+        }
+
+        private void locate(int pos){
+            Object node = tree.root;
+            int start = 0;
+            for(int h=tree.height;h>0;h--){
+                Branch b = (Branch)node;
+                int slot = slot(b,h,pos-start);
+                if(slot>0)
+                    start += b.sizes[slot-1];
+                node = b.children[slot];
+            }
+            leaf = (Object[])node;
+            leafStart = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<end;
+        }
+
+        @Override
+        public T next() {
+            if(index>=end)
+                throw new NoSuchElementException();
+            if(leaf==null || index-leafStart>=leaf.length)
+                locate(index);
+            return (T)leaf[index++ - leafStart];
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if(index>=end)
+                return false;
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while(index<end){
+                if(leaf==null || index-leafStart>=leaf.length)
+                    locate(index);
+                int last = Math.min(leaf.length,end-leafStart);
+                for(int i=index-leafStart;i<last;i++){
+                    action.accept((T)leaf[i]);
+                }
+                index = leafStart+last;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index+end)>>>1;
+            if(end-index<WIDTH*2)
+                return null;
+            LeafSpliterator<T> prefix = new LeafSpliterator<>(tree,index,mid);
+            index = mid;
+            leaf = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end-index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+}
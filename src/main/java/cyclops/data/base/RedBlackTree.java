@@ -15,8 +15,16 @@ import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple5;
 import lombok.experimental.Wither;
 
+import com.oath.cyclops.internal.stream.spliterators.CopyableSpliterator;
+import com.oath.cyclops.internal.stream.spliterators.SplittableSpliterator;
+
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -117,6 +125,138 @@ public interface RedBlackTree extends Serializable{
         }
     }
 
+    /**
+     * In-order Spliterator and Iterator that walks the tree nodes directly, using a stack of the nodes on the left spine
+     * still to be visited. Splits hand off the smaller keys (all stacked nodes but the shallowest, along with their right subtrees),
+     * so encounter order is preserved. Node sizes aren't cached, so the size is an estimate based on the tree depth.
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    public static final class TreeSpliterator<K,V> implements CopyableSpliterator<Tuple2<K,V>>, SplittableSpliterator<Tuple2<K,V>>,
+                                                               Iterator<Tuple2<K,V>> {
+        private final Tree<K,V> root;
+        private final Comparator<? super K> comp;
+        private final ArrayDeque<Node<K,V>> stack = new ArrayDeque<>();
+        private Tuple2<K,V> next;
+        private long estimate;
+        private boolean started;
+
+        public TreeSpliterator(Tree<K,V> root) {
+            this.root = root;
+            this.comp = root.comparator();
+            int depth = pushLeft(root);
+            this.estimate = depth==0 ? 0 : (1L << Math.min(62,depth)) - 1;
+        }
+
+        private TreeSpliterator(Comparator<? super K> comp, Tuple2<K,V> next, long estimate) {
+            this.root = null;
+            this.comp = comp;
+            this.next = next;
+            this.estimate = estimate;
+        }
+
+        private int pushLeft(Tree<K,V> tree) {
+            int depth = 0;
+            while(!tree.isEmpty()){
+                Node<K,V> node = (Node<K,V>)tree;
+                stack.push(node);
+                tree = node.left;
+                depth++;
+            }
+            return depth;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(next==null){
+                Node<K,V> node = stack.poll();
+                if(node==null)
+                    return false;
+                pushLeft(node.right);
+                next = Tuple.tuple(node.key,node.value);
+            }
+            return true;
+        }
+
+        @Override
+        public Tuple2<K,V> next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            started = true;
+            Tuple2<K,V> result = next;
+            next = null;
+            if(estimate>0)
+                estimate--;
+            return result;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Tuple2<K,V>> action) {
+            while(hasNext()){
+                action.accept(next());
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple2<K,V>> action) {
+            if(!hasNext())
+                return false;
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<Tuple2<K,V>> trySplit() {
+            if(next!=null || stack.isEmpty())
+                return null;
+            Tuple2<K,V> head = null;
+            if(stack.size()==1){
+                Node<K,V> node = stack.peek();
+                if(node.right.isEmpty())
+                    return null;
+                stack.pop();
+                head = Tuple.tuple(node.key,node.value);
+                pushLeft(node.right);
+            }
+            long half = estimate >>> 1;
+            TreeSpliterator<K,V> prefix = new TreeSpliterator<>(comp, head, half);
+            while(stack.size()>1){
+                prefix.stack.addLast(stack.pollFirst());
+            }
+            estimate -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Tuple2<K,V>> getComparator() {
+            return comp==null ? null : (a,b)->comp.compare(a._1(),b._1());
+        }
+
+        /**
+         * @return Spliterator over the whole tree, replaying it from the start
+         */
+        @Override
+        public Spliterator<Tuple2<K,V>> copy() {
+            return root==null ? this : new TreeSpliterator<>(root);
+        }
+
+        @Override
+        public Spliterator<Tuple2<K,V>> splittable() {
+            return started || root==null ? null : new TreeSpliterator<>(root);
+        }
+    }
+
     @AllArgsConstructor
     @Wither
     public static final class Node<K,V> implements Tree<K,V>, Deconstruct5<Boolean,Tree<K,V>,Tree<K,V>, K,V> {
@@ -257,8 +397,7 @@ public interface RedBlackTree extends Serializable{
             return comp;
         }
         public ReactiveSeq<Tuple2<K,V>> stream(){
-            ReactiveSeq<Tuple2<K, V>> current = ReactiveSeq.of(Tuple.tuple(key, value));
-            return ReactiveSeq.concat(left.stream(),current,right.stream());
+            return ReactiveSeq.fromSpliterator(new TreeSpliterator<>(this));
         }
 
         @Override
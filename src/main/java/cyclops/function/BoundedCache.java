@@ -0,0 +1,394 @@
+package cyclops.function;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A size bounded, lock striped Cacheable for use with Memoize
+ *
+ * Keys are spread over a fixed number of independently locked segments, each of which holds at most its share of the
+ * maximum size. Values are computed outside of the segment lock, so a slow computation never blocks lookups of other keys.
+ * Concurrent first misses for the same key may each compute a value, the first value stored wins and is returned to all callers.
+ *
+ * <pre>
+ * {@code
+ *   BoundedCache<Integer> cache = BoundedCache.<Integer>tinyLfu(10_000)
+ *                                             .withExpireAfterWrite(10, TimeUnit.MINUTES);
+ *
+ *   Function2<Integer,Integer,Integer> add = Memoize.memoizeBiFunction((a,b)->a+b, cache);
+ *
+ *   cache.stats(); //Stats(hits=..,misses=..,evictions=..,size=..)
+ * }
+ * </pre>
+ *
+ * @param <OUT> Type of cached values
+ */
+public final class BoundedCache<OUT> implements Cacheable<OUT>, SoftenedCacheable<OUT> {
+
+    /**
+     * Determines which entry is removed when a segment is full
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evict the least recently used entry
+         */
+        LRU,
+        /**
+         * Evict the least frequently used of the oldest entries
+         */
+        LFU,
+        /**
+         * Evict the least recently used entry, but only admit a new entry if it is used more often than the entry it would
+         * replace (frequencies are approximated by a decaying count-min sketch shared by all segments)
+         */
+        TINY_LFU
+    }
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MIN_SEGMENT_SIZE = 8;
+    private static final int LFU_SAMPLE_SIZE = 8;
+
+    @Getter
+    private final EvictionPolicy evictionPolicy;
+    @Getter
+    private final int maximumSize;
+    private final int concurrencyLevel;
+    private final long expireAfterWriteNanos;
+    private final Segment<OUT>[] segments;
+    private final int segmentShift;
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private BoundedCache(EvictionPolicy evictionPolicy, int maximumSize, int concurrencyLevel, long expireAfterWriteNanos) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("Maximum size must be at least 1, but was " + maximumSize);
+        this.evictionPolicy = Objects.requireNonNull(evictionPolicy);
+        this.maximumSize = maximumSize;
+        this.concurrencyLevel = concurrencyLevel;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+
+        int count = 1;
+        while (count < concurrencyLevel && count * 2 * MIN_SEGMENT_SIZE <= maximumSize)
+            count = count * 2;
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            int capacity = maximumSize / count + (i < maximumSize % count ? 1 : 0);
+            segments[i] = new Segment<>(capacity, evictionPolicy != EvictionPolicy.LFU);
+        }
+        this.sketch = evictionPolicy == EvictionPolicy.TINY_LFU ? new FrequencySketch(maximumSize) : null;
+    }
+
+    /**
+     * @param evictionPolicy Policy for choosing which entry to evict
+     * @param maximumSize Maximum number of cached entries
+     * @param <OUT> Type of cached values
+     * @return Empty BoundedCache
+     */
+    public static <OUT> BoundedCache<OUT> of(EvictionPolicy evictionPolicy, int maximumSize) {
+        return new BoundedCache<>(evictionPolicy, maximumSize, DEFAULT_CONCURRENCY_LEVEL, 0);
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached entries
+     * @param <OUT> Type of cached values
+     * @return Empty BoundedCache that evicts the least recently used entries
+     */
+    public static <OUT> BoundedCache<OUT> lru(int maximumSize) {
+        return of(EvictionPolicy.LRU, maximumSize);
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached entries
+     * @param <OUT> Type of cached values
+     * @return Empty BoundedCache that evicts the least frequently used entries
+     */
+    public static <OUT> BoundedCache<OUT> lfu(int maximumSize) {
+        return of(EvictionPolicy.LFU, maximumSize);
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached entries
+     * @param <OUT> Type of cached values
+     * @return Empty BoundedCache that evicts the least recently used entries, guarded by a frequency based admission filter
+     */
+    public static <OUT> BoundedCache<OUT> tinyLfu(int maximumSize) {
+        return of(EvictionPolicy.TINY_LFU, maximumSize);
+    }
+
+    /**
+     * @param duration Time after which a cached value is recomputed
+     * @param unit Unit of duration
+     * @return Empty BoundedCache with the same settings, whose entries expire after the specified time
+     */
+    public BoundedCache<OUT> withExpireAfterWrite(long duration, TimeUnit unit) {
+        return new BoundedCache<>(evictionPolicy, maximumSize, concurrencyLevel, unit.toNanos(duration));
+    }
+
+    /**
+     * @param concurrencyLevel Upper bound on the number of lock stripes
+     * @return Empty BoundedCache with the same settings, striped over at most concurrencyLevel segments
+     */
+    public BoundedCache<OUT> withConcurrencyLevel(int concurrencyLevel) {
+        return new BoundedCache<>(evictionPolicy, maximumSize, concurrencyLevel, expireAfterWriteNanos);
+    }
+
+    @Override
+    public SoftenedCacheable<OUT> soften() {
+        return this;
+    }
+
+    @Override
+    public OUT computeIfAbsent(Object key, Function<Object, OUT> fn) {
+        int hash = spread(Objects.hashCode(key));
+        Segment<OUT> segment = segmentFor(hash);
+        long now = expireAfterWriteNanos > 0 ? System.nanoTime() : 0L;
+        if (sketch != null)
+            sketch.increment(hash);
+
+        Entry<OUT> entry = segment.get(key, now, expireAfterWriteNanos);
+        if (entry != null) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        OUT value = fn.apply(key);
+        return segment.put(this, key, hash, value, now);
+    }
+
+    /**
+     * Remove the cached value for the specified key, if present
+     *
+     * @param key Key to remove
+     */
+    public void invalidate(Object key) {
+        segmentFor(spread(Objects.hashCode(key))).remove(key);
+    }
+
+    /**
+     * Remove all cached values
+     */
+    public void invalidateAll() {
+        for (Segment<OUT> segment : segments)
+            segment.clear();
+    }
+
+    /**
+     * @return Number of cached entries (may include expired entries that have not yet been removed)
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<OUT> segment : segments)
+            size += segment.size();
+        return size;
+    }
+
+    /**
+     * @return Snapshot of the hit, miss and eviction counts for this cache
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private Segment<OUT> segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private boolean admit(int candidateHash, int victimHash) {
+        return sketch == null || sketch.frequency(candidateHash) > sketch.frequency(victimHash);
+    }
+
+    private static int spread(int h) {
+        h = h * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Cache statistics
+     */
+    @AllArgsConstructor
+    @Getter
+    @ToString
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long size;
+
+        /**
+         * @return Proportion of lookups served from the cache, or 1.0 if there have been no lookups
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Entry<OUT> {
+        final OUT value;
+        final int hash;
+        final long writeTime;
+        int frequency;
+
+        Entry(OUT value, int hash, long writeTime) {
+            this.value = value;
+            this.hash = hash;
+            this.writeTime = writeTime;
+        }
+
+        boolean isExpired(long now, long expireAfterWriteNanos) {
+            return expireAfterWriteNanos > 0 && now - writeTime >= expireAfterWriteNanos;
+        }
+    }
+
+    private static final class Segment<OUT> extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+        private final boolean accessOrder;
+        private final LinkedHashMap<Object, Entry<OUT>> map;
+
+        Segment(int capacity, boolean accessOrder) {
+            this.capacity = capacity;
+            this.accessOrder = accessOrder;
+            this.map = new LinkedHashMap<>(Math.min(capacity, 1024) * 4 / 3 + 1, 0.75f, accessOrder);
+        }
+
+        Entry<OUT> get(Object key, long now, long expireAfterWriteNanos) {
+            lock();
+            try {
+                Entry<OUT> entry = map.get(key);
+                if (entry == null)
+                    return null;
+                if (entry.isExpired(now, expireAfterWriteNanos)) {
+                    map.remove(key);
+                    return null;
+                }
+                entry.frequency++;
+                return entry;
+            } finally {
+                unlock();
+            }
+        }
+
+        OUT put(BoundedCache<OUT> cache, Object key, int hash, OUT value, long now) {
+            lock();
+            try {
+                Entry<OUT> present = map.get(key);
+                if (present != null && !present.isExpired(now, cache.expireAfterWriteNanos))
+                    return present.value;
+                if (present == null && map.size() >= capacity) {
+                    Object victim = victim();
+                    if (!cache.admit(hash, map.get(victim).hash))
+                        return value;
+                    map.remove(victim);
+                    cache.evictions.increment();
+                }
+                map.put(key, new Entry<>(value, hash, now));
+                return value;
+            } finally {
+                unlock();
+            }
+        }
+
+        private Object victim() {
+            Iterator<Map.Entry<Object, Entry<OUT>>> it = map.entrySet().iterator();
+            Map.Entry<Object, Entry<OUT>> victim = it.next();
+            if (accessOrder)
+                return victim.getKey();
+            for (int i = 1; i < LFU_SAMPLE_SIZE && it.hasNext(); i++) {
+                Map.Entry<Object, Entry<OUT>> next = it.next();
+                if (next.getValue().frequency < victim.getValue().frequency)
+                    victim = next;
+            }
+            return victim.getKey();
+        }
+
+        void remove(Object key) {
+            lock();
+            try {
+                map.remove(key);
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            lock();
+            try {
+                map.clear();
+            } finally {
+                unlock();
+            }
+        }
+
+        int size() {
+            lock();
+            try {
+                return map.size();
+            } finally {
+                unlock();
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 rows of saturating 4 bit counters. Counts are halved periodically so that the sketch tracks
+     * recent rather than all time popularity. Updates are unsynchronized, lost increments only reduce accuracy.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = { 0x97CB3127, 0xB13F4B7D, 0x8E1D5A3B, 0xCA6B2F59 };
+        private static final int MAX_COUNT = 15;
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new byte[width * SEEDS.length];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++)
+                frequency = Math.min(frequency, table[indexOf(hash, row)]);
+            return frequency;
+        }
+
+        void increment(int hash) {
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = indexOf(hash, row);
+                if (table[index] < MAX_COUNT)
+                    table[index]++;
+            }
+            if (++additions >= sampleSize)
+                reset();
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = hash * SEEDS[row];
+            h += h >>> 16;
+            return row * (mask + 1) + (h & mask);
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++)
+                table[i] = (byte) (table[i] >>> 1);
+            additions = additions / 2;
+        }
+    }
+}
@@ -4,14 +4,17 @@ import static cyclops.data.tuple.Tuple.tuple;
 
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import cyclops.async.Future;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
@@ -31,8 +34,7 @@ public class Memoize {
      * @return Memoised Supplier
      */
     public static <T> Function0<T> memoizeSupplier(final Supplier<T> s) {
-        final Map<Object, T> lazy = new ConcurrentHashMap<>();
-        return () -> lazy.computeIfAbsent("k", a -> s.get());
+        return new MemoizedSupplier<>(s);
     }
 
     /**
@@ -43,9 +45,8 @@ public class Memoize {
      * @return Memoised Supplier
      */
     public static <T> Function0<T> memoizeSupplier(final Supplier<T> s, final Cacheable<T> cache) {
-
-        return () -> cache.soften()
-                          .computeIfAbsent("k", a -> s.get());
+        final SoftenedCacheable<T> softened = cache.soften();
+        return () -> softened.computeIfAbsent("k", a -> s.get());
     }
     /**
      * Memoize a Supplier and update the cached values asynchronously using the provided Scheduled Executor Service
@@ -84,9 +85,8 @@ public class Memoize {
      * @return Memoised Callable
      */
     public static <T> Callable<T> memoizeCallable(final Callable<T> s, final Cacheable<T> cache) {
-
-        return () -> cache.soften()
-                          .computeIfAbsent("k", a -> {
+        final SoftenedCacheable<T> softened = cache.soften();
+        return () -> softened.computeIfAbsent("k", a -> {
 
                               return ExceptionSoftener.softenCallable(s)
                                                       .get();
@@ -101,13 +101,7 @@ public class Memoize {
      * @return Memoised Callable
      */
     public static <T> Callable<T> memoizeCallable(final Callable<T> s) {
-        final Map<Object, T> lazy = new ConcurrentHashMap<>();
-        return () -> lazy.computeIfAbsent("k", a -> {
-
-            return ExceptionSoftener.softenCallable(s)
-                                    .get();
-
-        });
+        return new MemoizedSupplier<>(ExceptionSoftener.softenCallable(s))::get;
     }
 
     public static Runnable memoizeRunnable(final Runnable r) {
@@ -189,6 +183,136 @@ public class Memoize {
         return t -> lazy.computeIfAbsent(t, fn);
     }
 
+    /**
+     * Memoize a Function that returns a Future. Concurrent calls for the same key share a single in-flight call to the
+     * underlying function, and the completed result is cached. Failed calls are not cached, the next call for that key retries.
+     * Does not support null keys
+     *
+     * <pre>
+     * {@code
+     *   Function1<Long, Future<User>> users = Memoize.memoizeFutureFunction(id -> Future.of(()->remote.load(id), ex));
+     *
+     *   users.apply(10l); //calls remote.load(10l)
+     *   users.apply(10l); //same Future, no further call
+     * }
+     * </pre>
+     *
+     * @param fn Function to Memoize
+     * @param <T> Input Type of Function
+     * @param <R> Result type of the returned Future
+     * @return Memoized function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeFutureFunction(final Function<T, Future<R>> fn) {
+        return new SingleFlight<T, R>(fn, Long.MAX_VALUE)::apply;
+    }
+
+    /**
+     * Memoize a Function that returns a Future, coalescing concurrent calls for the same key, and refresh the cached
+     * values ahead of use at a fixed rate using the provided Scheduled Executor Service. While a refresh is in progress
+     * callers continue to receive the previous value, unless it is older than maxStalenessMillis, in which case they receive the
+     * refreshed Future.
+     * Does not support null keys
+     *
+     * @param fn Function to Memoize
+     * @param ex Scheduled Executor Service
+     * @param updateRateInMillis Time in millis between async refreshes
+     * @param maxStalenessMillis Maximum age in millis of a cached value that may be returned (Long.MAX_VALUE for no limit)
+     * @param <T> Input Type of Function
+     * @param <R> Result type of the returned Future
+     * @return Memoized asynchronously refreshing function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeFutureFunctionAsync(final Function<T, Future<R>> fn, ScheduledExecutorService ex,
+                                                                           long updateRateInMillis, long maxStalenessMillis) {
+        final SingleFlight<T, R> flight = new SingleFlight<>(fn, maxStalenessMillis);
+        ReactiveSeq.generate(()->{
+            flight.refreshAll();
+            return null;
+        }).scheduleFixedRate(updateRateInMillis,ex);
+
+        return flight::apply;
+    }
+
+    /**
+     * Memoize a Function that returns a Future, coalescing concurrent calls for the same key, and refresh the cached
+     * values ahead of use on a cron schedule. While a refresh is in progress callers continue to receive the previous value,
+     * unless it is older than maxStalenessMillis, in which case they receive the refreshed Future.
+     * Does not support null keys
+     *
+     * @param fn Function to Memoize
+     * @param ex Scheduled Executor Service
+     * @param cron Cron expression for refreshing cached values asynchronously
+     * @param maxStalenessMillis Maximum age in millis of a cached value that may be returned (Long.MAX_VALUE for no limit)
+     * @param <T> Input Type of Function
+     * @param <R> Result type of the returned Future
+     * @return Memoized asynchronously refreshing function
+     */
+    public static <T, R> Function1<T, Future<R>> memoizeFutureFunctionAsync(final Function<T, Future<R>> fn, ScheduledExecutorService ex,
+                                                                           String cron, long maxStalenessMillis) {
+        final SingleFlight<T, R> flight = new SingleFlight<>(fn, maxStalenessMillis);
+        ReactiveSeq.generate(()->{
+            flight.refreshAll();
+            return null;
+        }).schedule(cron,ex);
+
+        return flight::apply;
+    }
+
+    /**
+     * Memoize a Function that returns a CompletableFuture. Concurrent calls for the same key share a single in-flight call
+     * to the underlying function, and the completed result is cached. Each caller receives its own dependent CompletableFuture,
+     * so completing or cancelling it does not affect other callers.
+     * Does not support null keys
+     *
+     * @param fn Function to Memoize
+     * @param <T> Input Type of Function
+     * @param <R> Result type of the returned CompletableFuture
+     * @return Memoized function
+     */
+    public static <T, R> Function1<T, CompletableFuture<R>> memoizeCompletableFutureFunction(final Function<T, CompletableFuture<R>> fn) {
+        final Function1<T, Future<R>> memoized = memoizeFutureFunction(t -> Future.of(fn.apply(t)));
+        return t -> memoized.apply(t).getFuture().thenApply(Function.identity());
+    }
+
+    /**
+     * Memoize a Function that returns a CompletableFuture, coalescing concurrent calls for the same key, and refresh the
+     * cached values ahead of use at a fixed rate
+     * Does not support null keys
+     *
+     * @see #memoizeFutureFunctionAsync(Function, ScheduledExecutorService, long, long)
+     * @param fn Function to Memoize
+     * @param ex Scheduled Executor Service
+     * @param updateRateInMillis Time in millis between async refreshes
+     * @param maxStalenessMillis Maximum age in millis of a cached value that may be returned (Long.MAX_VALUE for no limit)
+     * @param <T> Input Type of Function
+     * @param <R> Result type of the returned CompletableFuture
+     * @return Memoized asynchronously refreshing function
+     */
+    public static <T, R> Function1<T, CompletableFuture<R>> memoizeCompletableFutureFunctionAsync(final Function<T, CompletableFuture<R>> fn, ScheduledExecutorService ex,
+                                                                                                 long updateRateInMillis, long maxStalenessMillis) {
+        final Function1<T, Future<R>> memoized = memoizeFutureFunctionAsync(t -> Future.of(fn.apply(t)), ex, updateRateInMillis, maxStalenessMillis);
+        return t -> memoized.apply(t).getFuture().thenApply(Function.identity());
+    }
+
+    /**
+     * Memoize a Function that returns a CompletableFuture, coalescing concurrent calls for the same key, and refresh the
+     * cached values ahead of use on a cron schedule
+     * Does not support null keys
+     *
+     * @see #memoizeFutureFunctionAsync(Function, ScheduledExecutorService, String, long)
+     * @param fn Function to Memoize
+     * @param ex Scheduled Executor Service
+     * @param cron Cron expression for refreshing cached values asynchronously
+     * @param maxStalenessMillis Maximum age in millis of a cached value that may be returned (Long.MAX_VALUE for no limit)
+     * @param <T> Input Type of Function
+     * @param <R> Result type of the returned CompletableFuture
+     * @return Memoized asynchronously refreshing function
+     */
+    public static <T, R> Function1<T, CompletableFuture<R>> memoizeCompletableFutureFunctionAsync(final Function<T, CompletableFuture<R>> fn, ScheduledExecutorService ex,
+                                                                                                 String cron, long maxStalenessMillis) {
+        final Function1<T, Future<R>> memoized = memoizeFutureFunctionAsync(t -> Future.of(fn.apply(t)), ex, cron, maxStalenessMillis);
+        return t -> memoized.apply(t).getFuture().thenApply(Function.identity());
+    }
+
 
     /**
      * Convert a Function into one that caches it's result
@@ -199,8 +323,20 @@ public class Memoize {
      */
     public static <T, R> Function1<T, R> memoizeFunction(final Function<T, R> fn, final Cacheable<R> cache) {
         LazyImmutable<R> nullR = LazyImmutable.def();
-        return t -> t==null? nullR.computeIfAbsent(()->fn.apply(null)) : (R)cache.soften()
-                         .computeIfAbsent(t, (Function) fn);
+        final SoftenedCacheable<R> softened = cache.soften();
+        return t -> t==null? nullR.computeIfAbsent(()->fn.apply(null)) : (R)softened.computeIfAbsent(t, (Function) fn);
+    }
+
+    /**
+     * Convert a Function into one that caches up to maximumSize results, evicting the least recently used
+     *
+     * @param fn Function to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised Function
+     * @see BoundedCache
+     */
+    public static <T, R> Function1<T, R> memoizeFunction(final Function<T, R> fn, final int maximumSize) {
+        return memoizeFunction(fn, BoundedCache.lru(maximumSize));
     }
 
     /**
@@ -253,6 +389,18 @@ public class Memoize {
         return (t1, t2) -> memoise2.apply(tuple(t1, t2));
     }
 
+    /**
+     * Convert a BiFunction into one that caches up to maximumSize results, evicting the least recently used
+     *
+     * @param fn BiFunction to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised BiFunction
+     * @see BoundedCache
+     */
+    public static <T1, T2, R> Function2<T1, T2, R> memoizeBiFunction(final BiFunction<T1, T2, R> fn, final int maximumSize) {
+        return memoizeBiFunction(fn, BoundedCache.lru(maximumSize));
+    }
+
     /**
      * Convert a TriFunction into one that caches it's result
      *
@@ -288,6 +436,17 @@ public class Memoize {
         val memoise2 = memoizeFunction((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple._1(), triple._2(), triple._3()), cache);
         return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
     }
+    /**
+     * Convert a TriFunction into one that caches up to maximumSize results, evicting the least recently used
+     *
+     * @param fn TriFunction to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised TriFunction
+     * @see BoundedCache
+     */
+    public static <T1, T2, T3, R> Function3<T1, T2, T3, R> memoizeTriFunction(final Function3<T1, T2, T3, R> fn, final int maximumSize) {
+        return memoizeTriFunction(fn, BoundedCache.lru(maximumSize));
+    }
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -338,6 +497,18 @@ public class Memoize {
         val memoise2 = memoizeFunction((final Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad._1(), quad._2(), quad._3(), quad._4()), cache);
         return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
     }
+    /**
+     * Convert a QuadFunction into one that caches up to maximumSize results, evicting the least recently used
+     *
+     * @param fn QuadFunction to memoise
+     * @param maximumSize Maximum number of results to cache
+     * @return Memoised QuadFunction
+     * @see BoundedCache
+     */
+    public static <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> memoizeQuadFunction(final Function4<T1, T2, T3, T4, R> fn,
+                                                                                       final int maximumSize) {
+        return memoizeQuadFunction(fn, BoundedCache.lru(maximumSize));
+    }
     /**
      * Memoize a function and update the cached values asynchronously using the provided Scheduled Executor Service
      * Does not support null keys
@@ -377,4 +548,94 @@ public class Memoize {
         return (t) -> t==null? nullR.computeIfAbsent(()->p.test(null)) : memoised.apply(t);
     }
 
+    /**
+     * Computes its value at most once, on first access. Holds no per instance map, only the value and a volatile flag
+     */
+    private static final class MemoizedSupplier<T> implements Function0<T> {
+        private Supplier<T> supplier;
+        private T value;
+        private volatile boolean done;
+
+        MemoizedSupplier(final Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public T get() {
+            if (!done) {
+                synchronized (this) {
+                    if (!done) {
+                        value = supplier.get();
+                        supplier = null;
+                        done = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Per key single-flight state for memoized Future returning functions. Each key holds the last successful result and at
+     * most one call in progress, which all callers that need a fresh value share.
+     */
+    private static final class SingleFlight<T, R> {
+        private final Function<T, Future<R>> fn;
+        private final long maxStalenessNanos;
+        private final Map<T, Flight<R>> flights = new ConcurrentHashMap<>();
+
+        SingleFlight(final Function<T, Future<R>> fn, final long maxStalenessMillis) {
+            this.fn = fn;
+            this.maxStalenessNanos = maxStalenessMillis >= Long.MAX_VALUE / 1_000_000 ? Long.MAX_VALUE
+                                                                                      : TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+        }
+
+        Future<R> apply(final T key) {
+            final Flight<R> flight = flights.computeIfAbsent(key, k -> new Flight<>());
+            final Future<R> current = flight.current;
+            if (current == null || System.nanoTime() - flight.completedAt > maxStalenessNanos)
+                return flight.call(key, fn);
+            return current;
+        }
+
+        void refreshAll() {
+            flights.forEach((k, flight) -> flight.call(k, fn));
+        }
+    }
+
+    private static final class Flight<R> {
+        private final AtomicReference<Future<R>> inFlight = new AtomicReference<>(null);
+        private volatile Future<R> current;
+        private volatile long completedAt;
+
+        <T> Future<R> call(final T key, final Function<T, Future<R>> fn) {
+            final Future<R> running = inFlight.get();
+            if (running != null)
+                return running;
+            final CompletableFuture<R> result = new CompletableFuture<>();
+            final Future<R> flight = Future.of(result);
+            if (!inFlight.compareAndSet(null, flight))
+                return inFlight.get();
+
+            Future<R> call;
+            try {
+                call = fn.apply(key);
+            } catch (final Throwable t) {
+                call = Future.ofError(t);
+            }
+            call.getFuture().whenComplete((value, error) -> {
+                if (error == null) {
+                    current = Future.ofResult(value);
+                    completedAt = System.nanoTime();
+                    inFlight.set(null);
+                    result.complete(value);
+                } else {
+                    inFlight.set(null);
+                    result.completeExceptionally(error);
+                }
+            });
+            return flight;
+        }
+    }
+
 }
@@ -7,8 +7,12 @@ import com.oath.cyclops.internal.stream.spliterators.*;
 import com.oath.cyclops.react.ThreadPools;
 
 import com.oath.cyclops.types.Zippable;
+import com.oath.cyclops.types.stream.BloomFilter;
+import com.oath.cyclops.types.stream.FanOutPolicy;
 import com.oath.cyclops.types.stream.HeadAndTail;
 import com.oath.cyclops.types.stream.HotStream;
+import com.oath.cyclops.types.stream.SlidingWindow;
+import com.oath.cyclops.types.stream.SpillPolicy;
 import com.oath.cyclops.types.stream.PausableHotStream;
 import cyclops.control.*;
 import cyclops.typeclasses.*;
@@ -16,6 +20,11 @@ import cyclops.typeclasses.Active;
 import cyclops.typeclasses.Enumeration;
 import cyclops.typeclasses.InstanceDefinitions;
 import com.oath.cyclops.internal.stream.OneShotStreamX;
+import com.oath.cyclops.internal.stream.fanout.FanOutBuffer;
+import com.oath.cyclops.internal.stream.spill.ExternalDistinct;
+import com.oath.cyclops.internal.stream.spill.ExternalSort;
+import com.oath.cyclops.internal.stream.spill.SpillFiles;
+import com.oath.cyclops.internal.stream.window.TimedWindow;
 import com.oath.cyclops.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
 import com.oath.cyclops.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
@@ -967,33 +976,24 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
 
     }
+    /**
+     * Perform a terminal operation on a parallel JDK Stream over the elements of this ReactiveSeq.
+     * Array, List, range and sized collection (e.g. Vector, Seq) backed sources are split directly across the ForkJoinPool,
+     * other sources are handed off in batches.
+     *
+     * <pre>
+     * {@code
+     *   int sum = ReactiveSeq.range(0,1_000_000)
+     *                        .foldParallel(s->s.mapToInt(i->i).sum());
+     * }
+     * </pre>
+     *
+     * @param fn Terminal operation to apply to a parallel Stream
+     * @return Result of fn
+     */
     default <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
 
-
-        Queue<T> queue = QueueFactories.<T>unboundedNonBlockingQueue().build().withTimeout(1);
-
-
-        AtomicReference<Continuation> ref = new AtomicReference<>(null);
-        Continuation cont =
-                new Continuation(()->{
-
-                    if(ref.get()==null && ref.compareAndSet(null,Continuation.empty())){
-                        try {
-                            //use the first consuming thread to tell this Stream onto the Queue
-                            this.spliterator().forEachRemaining(queue::offer);
-                        }finally {
-                            queue.close();
-                        }
-
-                    }
-
-
-                        return Continuation.empty();
-                    });
-        ;
-
-        queue.addContinuation(cont);
-        return fn.apply(queue.jdkStream().parallel());
+        return fn.apply(StreamSupport.stream(SplittableSpliterator.parallel(this.spliterator()),true));
 
     }
     default <R> R foldParallel(ForkJoinPool fj,Function<? super Stream<T>,? extends R> fn){
@@ -1144,6 +1144,52 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate();
     Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(Supplier<Deque<T>> bufferFactory);
 
+    /**
+     * Duplicate a Stream so both copies share a single pass over it. Only the elements between the slower and the
+     * faster copy are buffered, within the limits of the supplied policy. Closing a copy stops buffering for it, close
+     * both copies to delete the spill file if either is not read to the end.
+     *
+     * <pre>
+     * {@code
+     *  Tuple2<ReactiveSeq<Record>, ReactiveSeq<Record>> copies = records.duplicate(FanOutPolicy.spillToDisk(100_000, Serializer.java()));
+     *  copies._1().zip(copies._2().map(this::enrich));
+     * }
+     * </pre>
+     *
+     * @param policy Limits on buffering (on the heap, with backpressure or spilling to disk)
+     * @return duplicated reactiveStream
+     */
+    default Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(FanOutPolicy<T> policy){
+        ListX<FanOutBuffer.Copy<T>> copies = FanOutBuffer.copies(this::iterator, 2, policy, this::close);
+        return Tuple.tuple(copies.get(0).stream(), copies.get(1).stream());
+    }
+
+    /**
+     * Triplicate a Stream so all three copies share a single pass over it
+     *
+     * @see #duplicate(FanOutPolicy)
+     * @param policy Limits on buffering (on the heap, with backpressure or spilling to disk)
+     * @return triplicated reactiveStream
+     */
+    default Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(FanOutPolicy<T> policy){
+        ListX<FanOutBuffer.Copy<T>> copies = FanOutBuffer.copies(this::iterator, 3, policy, this::close);
+        return Tuple.tuple(copies.get(0).stream(), copies.get(1).stream(),
+                copies.get(2).stream());
+    }
+
+    /**
+     * Make four copies of a Stream that share a single pass over it
+     *
+     * @see #duplicate(FanOutPolicy)
+     * @param policy Limits on buffering (on the heap, with backpressure or spilling to disk)
+     * @return Tuple4 containing 4 duplicated ReactiveSeqs
+     */
+    default Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(FanOutPolicy<T> policy){
+        ListX<FanOutBuffer.Copy<T>> copies = FanOutBuffer.copies(this::iterator, 4, policy, this::close);
+        return Tuple.tuple(copies.get(0).stream(), copies.get(1).stream(),
+                copies.get(2).stream(), copies.get(3).stream());
+    }
+
     /**
      * Split a Stream at it's head (similar to headAndTail)
      *
@@ -1176,6 +1222,26 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(int where);
 
+    /**
+     * Split at supplied location, sharing a single pass over this Stream. If the first Stream is consumed before the
+     * second, no elements are buffered at all, otherwise the elements before where are buffered within the limits of
+     * the supplied policy
+     *
+     * <pre>
+     * {@code
+     * ReactiveSeq.of(1,2,3)
+     *            .splitAt(1,FanOutPolicy.onHeap())
+     *
+     *  //ReactiveSeq[1], ReactiveSeq[2,3]
+     * }
+     *
+     * </pre>
+     */
+    default Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(int where, FanOutPolicy<T> policy){
+        ListX<FanOutBuffer.Copy<T>> split = FanOutBuffer.split(this::iterator, where, policy, this::close);
+        return Tuple.tuple(split.get(0).stream(), split.get(1).stream());
+    }
+
     /**
      * Split reactiveStream at point where predicate no longer holds
      *
@@ -1449,6 +1515,204 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<VectorX<T>> sliding(int windowSize, int increment);
 
+    /**
+     * Create a sliding window over this Sequence, maintained incrementally by the supplied SlidingWindow : each
+     * element is added to the window as it arrives, the window's result is emitted once it holds windowSize elements
+     * and then the oldest increment elements are evicted. As with {@link #sliding(int, int)} a final, partial window is
+     * emitted if it contains elements that were not part of an emitted window.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingWindow(3, 1, () -> SlidingWindow.reduce(3, Monoids.intSum));
+     *  //[6, 9, 12]
+     * }
+     * </pre>
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param window Creates the window state for each Stream
+     * @return ReactiveSeq with a result for each window
+     */
+    default <R> ReactiveSeq<R> slidingWindow(int windowSize, int increment, Supplier<? extends SlidingWindow<T, ? extends R>> window){
+        return ReactiveSeq.fromSpliterator(new SlidingSpliterator<>(spliterator(), window, windowSize, increment));
+    }
+
+    /**
+     * Create a sliding view over this Sequence without copying each window. The List passed to the function is a read
+     * only view of the window held in a ring buffer, and is only valid until the function returns.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingView(2, 1, w -> w.get(1) - w.get(0));
+     *  //[1, 1, 1, 1]
+     * }
+     * </pre>
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param fn Function to apply to a view of each window
+     * @return ReactiveSeq with the result of fn for each window
+     */
+    default <R> ReactiveSeq<R> slidingView(int windowSize, int increment, Function<? super List<T>, ? extends R> fn){
+        return slidingWindow(windowSize, increment, () -> SlidingWindow.<T>views(windowSize).map(fn));
+    }
+
+    /**
+     * Combine the elements of each sliding window using the supplied Monoid. Totals are maintained incrementally (in
+     * amortized constant time per element, however large the window) rather than by reducing each window. If the
+     * Monoid is a {@link cyclops.function.Group} (e.g. Groups.intSum) evicted elements are removed from the total
+     * using its inverse.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingReduce(2, 1, Monoids.intSum);
+     *  //[3, 5, 7, 9]
+     * }
+     * </pre>
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param monoid Combines the elements of each window, oldest first
+     * @return ReactiveSeq with the combined value of each window
+     */
+    default ReactiveSeq<T> slidingReduce(int windowSize, int increment, Monoid<T> monoid){
+        return slidingWindow(windowSize, increment, () -> SlidingWindow.reduce(windowSize, monoid));
+    }
+
+    /**
+     * Map each element using the Reducer and combine the results for each sliding window, incrementally (see
+     * {@link #slidingReduce(int, int, Monoid)})
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param reducer Maps and combines the elements of each window, oldest first
+     * @return ReactiveSeq with the combined value of each window
+     */
+    default <R> ReactiveSeq<R> slidingFoldMap(int windowSize, int increment, Reducer<R, ? super T> reducer){
+        return this.<R>map(reducer.conversion()).slidingReduce(windowSize, increment, reducer);
+    }
+
+    /**
+     * The smallest element in each sliding window, maintained incrementally with a monotonic deque
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(4, 2, 5, 3, 6)
+     *             .slidingMin(2, 1, Comparator.naturalOrder());
+     *  //[2, 2, 3, 3]
+     * }
+     * </pre>
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param comparator Orders the elements in each window
+     * @return ReactiveSeq with the smallest element of each window
+     */
+    default ReactiveSeq<T> slidingMin(int windowSize, int increment, Comparator<? super T> comparator){
+        return slidingWindow(windowSize, increment, () -> SlidingWindow.min(windowSize, comparator));
+    }
+
+    /**
+     * The largest element in each sliding window, maintained incrementally with a monotonic deque
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param comparator Orders the elements in each window
+     * @return ReactiveSeq with the largest element of each window
+     */
+    default ReactiveSeq<T> slidingMax(int windowSize, int increment, Comparator<? super T> comparator){
+        return slidingWindow(windowSize, increment, () -> SlidingWindow.max(windowSize, comparator));
+    }
+
+    /**
+     * The mean value of each sliding window, maintained incrementally
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4)
+     *             .slidingAverage(2, 1, i -> i);
+     *  //[1.5, 2.5, 3.5]
+     * }
+     * </pre>
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param fn Value of each element
+     * @return ReactiveSeq with the mean of each window
+     */
+    default ReactiveSeq<Double> slidingAverage(int windowSize, int increment, ToDoubleFunction<? super T> fn){
+        return slidingWindow(windowSize, increment, () -> SlidingWindow.average(windowSize, fn));
+    }
+
+    /**
+     * An approximate quantile (e.g. the 99th percentile) of each sliding window, from a {@link com.oath.cyclops.types.stream.QuantileSketch}
+     * maintained incrementally
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.range(0, 10_000)
+     *             .slidingQuantile(1000, 100, i -> i, 0.99, 0.01);
+     *  //99th percentile of each window of 1000, to within 1%
+     * }
+     * </pre>
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to evict after each window
+     * @param fn Value of each element
+     * @param quantile Quantile between 0 and 1
+     * @param relativeAccuracy Relative accuracy of each result (e.g. 0.01 for 1%)
+     * @return ReactiveSeq with the approximate quantile of each window
+     */
+    default ReactiveSeq<Double> slidingQuantile(int windowSize, int increment, ToDoubleFunction<? super T> fn,
+                                                double quantile, double relativeAccuracy){
+        return slidingWindow(windowSize, increment, () -> SlidingWindow.quantile(windowSize, fn, quantile, relativeAccuracy));
+    }
+
+    /**
+     * Create a sliding window over the elements received in the last time period. As each element arrives elements
+     * received time or longer ago are evicted, the new element is added and the window's result is emitted.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.generate(()->latency())
+     *             .slidingByTime(1, TimeUnit.SECONDS, () -> SlidingWindow.quantile(1000, l -> l, 0.99, 0.01));
+     *  //99th percentile latency over the last second, updated with every element
+     * }
+     * </pre>
+     *
+     * @param time Length of the window
+     * @param unit Time unit of the window length
+     * @param window Creates the window state for each Stream
+     * @return ReactiveSeq with a result for each element
+     */
+    default <R> ReactiveSeq<R> slidingByTime(long time, TimeUnit unit, Supplier<? extends SlidingWindow<T, ? extends R>> window){
+        return slidingByTime(unit.toNanos(time), t -> System.nanoTime(), window);
+    }
+
+    /**
+     * Create a sliding window over the elements whose timestamp is within span of the latest element (event time).
+     * Timestamps should be non decreasing.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(new Trade(1000,10.0), new Trade(1500,11.0), new Trade(2600,12.0))
+     *             .slidingByTime(1000, Trade::getTimeMillis, () -> SlidingWindow.average(16, Trade::getPrice));
+     *  //[10.0, 10.5, 12.0]
+     * }
+     * </pre>
+     *
+     * @param span Length of the window, in the units of timestamp
+     * @param timestamp Time of each element
+     * @param window Creates the window state for each Stream
+     * @return ReactiveSeq with a result for each element
+     */
+    default <R> ReactiveSeq<R> slidingByTime(long span, ToLongFunction<? super T> timestamp, Supplier<? extends SlidingWindow<T, ? extends R>> window){
+        return ReactiveSeq.deferred(() -> this.map(new TimedWindow<T, R>(window.get(), span, timestamp)));
+    }
+
     /**
      * Group elements in a Stream
      *
@@ -1732,6 +1996,49 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<T> distinct();
 
+    /**
+     * Distinct for Streams with more distinct elements than fit on the heap. The first maxInMemory distinct elements
+     * are emitted in encounter order as for {@link #distinct()}, the remaining elements are split between partition
+     * files by hash and each partition is deduped once this Stream is exhausted (so they are emitted grouped by
+     * partition rather than in encounter order). Partition files are deleted once they have been read, close the
+     * returned Stream to delete them if it is not read to the end (e.g. after limit or findFirst).
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,2,3,1).distinct(SpillPolicy.of(2,Serializer.java()));
+     *  //[1,2,3]
+     * }
+     * </pre>
+     *
+     * @param policy Number of distinct elements to hold on the heap, temporary files and serialization
+     * @return Stream of distinct elements
+     */
+    default ReactiveSeq<T> distinct(SpillPolicy<T> policy){
+        SpillFiles files = new SpillFiles();
+        return coflatMap(r -> (Iterable<T>)() -> ExternalDistinct.distinct(r.iterator(), policy, files))
+                .flatMapI(i -> i)
+                .onClose(files::close);
+    }
+
+    /**
+     * Approximate distinct in fixed memory, backed by a {@link BloomFilter}. Repeated elements are always removed, but a
+     * small fraction (falsePositiveRate) of distinct elements are removed as well.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.range(0,1_000_000).map(i->i%1000).distinctApproximately(1000,0.001);
+     *  //up to 1000 elements, almost certainly all of 0 to 999
+     * }
+     * </pre>
+     *
+     * @param expectedDistinct Number of distinct elements expected
+     * @param falsePositiveRate Rate at which distinct elements are removed (while there are no more than expectedDistinct)
+     * @return Stream with repeated elements removed
+     */
+    default ReactiveSeq<T> distinctApproximately(long expectedDistinct, double falsePositiveRate){
+        return ReactiveSeq.deferred(() -> this.filter(new BloomFilter(expectedDistinct, falsePositiveRate)::add));
+    }
+
     /**
      * Scan left using supplied Monoid
      *
@@ -1849,6 +2156,40 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Sort a Stream too large to fit on the heap with an external merge sort : runs of maxInMemory elements are sorted
+     * and written to a temporary file, and then merged (fanIn runs at a time). A Stream with no more than maxInMemory
+     * elements is sorted on the heap. The temporary file is deleted once it has been read, close the returned Stream to
+     * delete it if it is not read to the end (e.g. after limit or findFirst).
+     *
+     * <pre>
+     * {@code
+     * 	assertThat(ReactiveSeq.of(4,3,6,7).sorted((a,b) -> b-a,SpillPolicy.of(2,Serializer.java())).toList(),equalTo(Arrays.asList(7,6,4,3)));
+     * }
+     * </pre>
+     *
+     * @param c Comparator to sort with
+     * @param policy Run size, fan in, temporary files and serialization
+     * @return Sorted Stream
+     */
+    default ReactiveSeq<T> sorted(Comparator<? super T> c, SpillPolicy<T> policy){
+        SpillFiles files = new SpillFiles();
+        return coflatMap(r -> ExternalSort.sort(r.iterator(), c, policy, files))
+                .flatMapI(i -> i)
+                .onClose(files::close);
+    }
+
+    /**
+     * Sort a Stream of Comparable elements too large to fit on the heap into their natural order
+     *
+     * @see #sorted(Comparator, SpillPolicy)
+     * @param policy Run size, fan in, temporary files and serialization
+     * @return Sorted Stream
+     */
+    default ReactiveSeq<T> sorted(SpillPolicy<T> policy){
+        return sorted((Comparator<? super T>)Comparator.naturalOrder(), policy);
+    }
+
     /* (non-Javadoc)
      * @see com.oath.cyclops.types.traversable.Traversable#takeWhile(java.util.function.Predicate)
      */
@@ -2785,10 +3126,12 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     public ReactiveSeq<T> reverse();
 
-    /*
-     * (non-Javadoc)
+    /**
+     * Register a handler to run when this Stream, or a Stream derived from it, is closed. Handlers run once, on the
+     * first call to close after they were registered (as for a JDK Stream, closing a Stream also runs the handlers of
+     * the Stream it was derived from).
      *
-     * @see java.util.reactiveStream.BaseStream#onClose(java.lang.Runnable)
+     * @see java.util.stream.BaseStream#onClose(java.lang.Runnable)
      */
     @Override
     public ReactiveSeq<T> onClose(Runnable closeHandler);
@@ -0,0 +1,31 @@
+package com.oath.cyclops.internal.stream.spliterators.push.fused;
+
+import com.oath.cyclops.internal.stream.spliterators.push.*;
+
+public class FusedOperatorTest extends AbstractOperatorTest {
+
+
+    private static Operator<Integer> fused(Operator<Integer> source){
+        return FusedOperator.filter(FusedOperator.map(source, i->i*2), i->i>Integer.MIN_VALUE);
+    }
+
+    public Operator<Integer> createEmpty(){
+       return fused(new ArrayOfValuesOperator<>());
+    }
+    public Operator<Integer> createOne(){
+        return fused(new SingleValueOperator<>(1));
+    }
+
+    public Operator<Integer> createThree(){
+        return fused(new ArrayOfValuesOperator<>(1,2,3));
+    }
+    public Operator<Integer> createTwoAndError(){
+        return fused(Fixtures.twoAndErrorSource);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return fused(Fixtures.threeErrorsSource);
+    }
+
+
+
+}
@@ -0,0 +1,36 @@
+package com.oath.cyclops.internal.stream.spliterators.push.fused;
+
+
+import cyclops.collections.mutable.ListX;
+import cyclops.reactive.Spouts;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.Test;
+
+@Test
+public class FusedTckPublisherTest extends PublisherVerification<Long>{
+
+	public FusedTckPublisherTest(){
+		  super(new TestEnvironment(300L));
+	}
+
+
+	@Override
+	public Publisher<Long> createPublisher(long elements) {
+
+		return Spouts.fromIterable(ListX.fill(Math.min(elements,10_000),10l))
+					 .map(i->i*2)
+					 .filter(i->i>0)
+					 .map(i->i+1);
+
+	}
+
+	@Override
+	public Publisher<Long> createFailedPublisher() {
+		return null; //not possible to forEachAsync to failed Stream
+
+	}
+
+
+}
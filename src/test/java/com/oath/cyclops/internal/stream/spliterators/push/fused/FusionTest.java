@@ -0,0 +1,88 @@
+package com.oath.cyclops.internal.stream.spliterators.push.fused;
+
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class FusionTest {
+
+    @Test
+    public void mapFilterMap(){
+        assertThat(Spouts.of(1,2,3,4,5,6)
+                         .map(i->i*10)
+                         .filter(i->i%20==0)
+                         .map(i->"v"+i)
+                         .toList(),contains("v20","v40","v60"));
+    }
+    @Test
+    public void filterFilter(){
+        assertThat(Spouts.range(0,30)
+                         .filter(i->i%2==0)
+                         .filter(i->i%3==0)
+                         .toList(),contains(0,6,12,18,24));
+    }
+    @Test
+    public void matchesStream(){
+        List<String> expected = IntStream.range(0,1000).boxed()
+                                         .filter(i->i%3!=0)
+                                         .map(i->i*7)
+                                         .filter(i->i%2==0)
+                                         .map(i->i+"!")
+                                         .skip(10)
+                                         .limit(50)
+                                         .collect(Collectors.toList());
+        ReactiveSeq<String> fused = Spouts.range(0,1000)
+                                          .filter(i->i%3!=0)
+                                          .map(i->i*7)
+                                          .filter(i->i%2==0)
+                                          .map(i->i+"!")
+                                          .skip(10)
+                                          .limit(50);
+        assertThat(fused.toList(),equalTo(expected));
+        List<String> requested = new ArrayList<>();
+        fused.forEachSubscribe(requested::add,e->{}).request(1000);
+        assertThat(requested,equalTo(expected));
+    }
+    @Test
+    public void sharedStagesAreNotModified(){
+        ReactiveSeq<Integer> doubled = Spouts.of(1,2,3).map(i->i*2);
+        ReactiveSeq<Integer> plusOne = doubled.map(i->i+1);
+        ReactiveSeq<Integer> even = doubled.filter(i->i>2);
+        assertThat(plusOne.toList(),contains(3,5,7));
+        assertThat(even.toList(),contains(4,6));
+        assertThat(doubled.toList(),contains(2,4,6));
+    }
+    @Test
+    public void rangeLimitAndSkip(){
+        assertThat(Spouts.range(0,100).skip(10).limit(3).toList(),contains(10,11,12));
+        assertThat(Spouts.range(0,5).limit(10).toList(),contains(0,1,2,3,4));
+        assertThat(Spouts.range(0,5).skip(10).toList().size(),equalTo(0));
+        assertThat(Spouts.rangeLong(0,100).skip(98).toList(),contains(98l,99l));
+        assertThat(Spouts.range(0,Integer.MAX_VALUE).limit(Long.MAX_VALUE).limit(2).toList(),contains(0,1));
+    }
+    @Test
+    public void limitLimitSkipSkip(){
+        assertThat(Spouts.of(1,2,3,4,5,6).limit(5).limit(3).toList(),contains(1,2,3));
+        assertThat(Spouts.of(1,2,3,4,5,6).skip(1).skip(2).toList(),contains(4,5,6));
+    }
+    @Test
+    public void errorInFusedStage(){
+        List<Throwable> errors = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        Spouts.of(1,2,3)
+              .map(i->{ if(i==2) throw new RuntimeException("boom"); return i; })
+              .filter(i->true)
+              .forEach(values::add,errors::add);
+        assertThat(values,contains(1,3));
+        assertThat(errors.size(),equalTo(1));
+    }
+}
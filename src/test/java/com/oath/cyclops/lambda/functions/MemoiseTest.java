@@ -11,6 +11,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -23,6 +24,8 @@ import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
 
+import cyclops.async.Future;
+import cyclops.control.Try;
 import cyclops.function.Memoize;
 
 import lombok.val;
@@ -153,4 +156,58 @@ public class MemoiseTest {
 		return a+b+c+d;
 	}
 
+	@Test
+	public void testMemoiseFutureFunctionCoalescesCalls(){
+		CompletableFuture<Integer> remote = new CompletableFuture<>();
+		Function<Integer,Future<Integer>> cached = Memoize.memoizeFutureFunction(a->{++called; return Future.of(remote);});
+
+		Future<Integer> f1 = cached.apply(1);
+		Future<Integer> f2 = cached.apply(1);
+		assertThat(called,equalTo(1));
+		remote.complete(10);
+		assertThat(f1.get(),equalTo(Try.success(10)));
+		assertThat(f2.get(),equalTo(Try.success(10)));
+		assertThat(cached.apply(1).get(),equalTo(Try.success(10)));
+		assertThat(called,equalTo(1));
+	}
+	@Test
+	public void testMemoiseFutureFunctionRetriesFailures(){
+		Function<Integer,Future<Integer>> cached = Memoize.memoizeFutureFunction(a->++called==1 ? Future.ofError(new RuntimeException()) : Future.ofResult(a));
+
+		assertTrue(cached.apply(1).isFailed());
+		assertThat(cached.apply(1).get(),equalTo(Try.success(1)));
+		assertThat(cached.apply(1).get(),equalTo(Try.success(1)));
+		assertThat(called,equalTo(2));
+	}
+	@Test
+	public void testMemoiseCompletableFutureFunction() throws Exception {
+		Function<Integer,CompletableFuture<Integer>> cached = Memoize.memoizeCompletableFutureFunction(a->{++called; return CompletableFuture.completedFuture(a*2);});
+
+		assertThat(cached.apply(2).get(),equalTo(4));
+		cached.apply(2).cancel(true);
+		assertThat(cached.apply(2).get(),equalTo(4));
+		assertThat(called,equalTo(1));
+	}
+	@Test
+	public void testMemoiseFutureFunctionAsyncRefreshes() throws InterruptedException {
+		AtomicInteger value = new AtomicInteger(0);
+		Function<Integer,Future<Integer>> cached = Memoize.memoizeFutureFunctionAsync(a->Future.ofResult(value.incrementAndGet()), ex, 100, Long.MAX_VALUE);
+		int current = cached.apply(1).orElse(-1);
+		for(int i=0;i<5;i++){
+			Thread.sleep(150);
+			int next = cached.apply(1).orElse(-1);
+			assertTrue(current!=next);
+			current=next;
+		}
+	}
+	@Test
+	public void testMemoiseFutureFunctionBoundedStaleness() throws InterruptedException {
+		Function<Integer,Future<Integer>> cached = Memoize.memoizeFutureFunctionAsync(a->Future.ofResult(++called), ex, 1_000_000, 50);
+		Thread.sleep(50);
+		assertThat(cached.apply(1).orElse(-1),equalTo(1));
+		assertThat(cached.apply(1).orElse(-1),equalTo(1));
+		Thread.sleep(100);
+		assertThat(cached.apply(1).orElse(-1),equalTo(2));
+	}
+
 }
@@ -6,12 +6,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import org.junit.Before;
@@ -19,6 +21,8 @@ import org.junit.Test;
 
 import com.oath.cyclops.internal.react.async.future.FinalPipeline;
 import com.oath.cyclops.internal.react.async.future.PipelineBuilder;
+import com.oath.cyclops.internal.react.exceptions.SimpleReactCompletionException;
+import cyclops.async.wait.WaitStrategy;
 
 import io.netty.util.internal.chmv8.ForkJoinPool;
 
@@ -521,4 +525,66 @@ public class FastFutureTest {
 
 	}
 
+	@Test
+	public void joinParksUntilCompletedOnAnotherThread() {
+		for (int i = 0; i < TIMES; i++) {
+			FastFuture<Integer> f = new FastFuture<>();
+			int value = i;
+			new Thread(() -> f.set(value)).start();
+			assertThat(f.join(), equalTo(i));
+		}
+	}
+
+	@Test
+	public void awaitReleasesEveryWaiter() throws InterruptedException {
+		FastFuture<Integer> f = new FastFuture<>();
+		CountDownLatch released = new CountDownLatch(4);
+		for (int i = 0; i < 4; i++) {
+			new Thread(() -> {
+				f.await();
+				released.countDown();
+			}).start();
+		}
+		Thread.sleep(50);
+		assertFalse(f.isDone());
+		f.set(10);
+		assertTrue(released.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void failureIsVisibleToJoinAndListeners() {
+		RuntimeException error = new RuntimeException("boo!");
+		FastFuture<Integer> f = FastFuture.failedFuture(error);
+		assertTrue(f.isDone());
+		assertTrue(f.isCompletedExceptionally());
+		f.onComplete(event -> failed = event.exception);
+		assertThat(failed, equalTo(error));
+		try {
+			f.join();
+		} catch (SimpleReactCompletionException e) {
+			assertThat(e.getCause(), equalTo(error));
+			return;
+		}
+		fail("join should rethrow the failure");
+	}
+
+	@Test
+	public void joinUsesWaitStrategy() throws InterruptedException {
+		FastFuture.setWaitStrategy(WaitStrategy.signalling());
+		try {
+			for (int i = 0; i < 1000; i++) {
+				FastFuture<Integer> f = new FastFuture<>();
+				int value = i;
+				new Thread(() -> f.set(value)).start();
+				assertThat(f.join(), equalTo(i));
+			}
+			FastFuture.setWaitStrategy(WaitStrategy.adaptive());
+			FastFuture<Integer> f = new FastFuture<>();
+			new Thread(() -> f.set(10)).start();
+			assertThat(f.join(), equalTo(10));
+		} finally {
+			FastFuture.setWaitStrategy(null);
+		}
+	}
+
 }
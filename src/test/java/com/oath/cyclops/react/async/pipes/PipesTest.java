@@ -9,15 +9,20 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.oath.cyclops.types.reactive.QueueBasedSubscriber;
 import cyclops.async.*;
 import cyclops.async.adapters.Queue;
+import cyclops.async.adapters.Topic;
 import cyclops.control.Eval;
 import cyclops.control.Maybe;
 import cyclops.control.Option;
@@ -31,6 +36,8 @@ import cyclops.collections.mutable.ListX;
 
 
 import lombok.val;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import reactor.core.publisher.Flux;
 public class PipesTest {
     Pipes<String,String> pipes;
@@ -373,5 +380,116 @@ public class PipesTest {
         queue.close();
         assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,2,3,4)));
     }
-}
 
+    @Test
+    public void pushAllRecordsMetrics(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        pipes.register("numbers", 100);
+        assertThat(pipes.pushAll("numbers",Arrays.asList(1,2,3)),equalTo(3));
+        pipes.push("numbers",4);
+        Pipes.PipeMetrics metrics = pipes.metrics("numbers").orElse(null);
+        assertThat(metrics.getPushed(),equalTo(4l));
+        assertThat(metrics.getDepth(),equalTo(4));
+        assertThat(metrics.getDropped(),equalTo(0l));
+        assertTrue(metrics.getThroughput()>0);
+        assertFalse(pipes.metrics("unknown").isPresent());
+    }
+
+    @Test
+    public void tryPushDropsWhenFull(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        pipes.register("numbers", 2);
+        assertTrue(pipes.tryPush("numbers",1));
+        assertTrue(pipes.tryPush("numbers",2));
+        assertFalse(pipes.tryPush("numbers",3));
+        assertThat(pipes.metrics("numbers").orElse(null).getDropped(),equalTo(1l));
+        assertThat(pipes.oneValue("numbers").orElse(null),equalTo(1));
+    }
+
+    @Test
+    public void tryPushToFullTopicDoesNotWait(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        Topic<Integer> topic = new Topic<>(QueueFactories.<Integer>boundedNonBlockingQueue(2).build(),
+                                           QueueFactories.boundedNonBlockingQueue(2));
+        pipes.register("numbers", topic);
+        assertTrue(pipes.tryPush("numbers",1));
+        assertTrue(pipes.tryPush("numbers",2));
+        assertFalse(pipes.tryPush("numbers",3));
+        assertThat(pipes.metrics("numbers").orElse(null).getDropped(),equalTo(1l));
+    }
+
+    @Test
+    public void pushAllIteratesOnce(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        pipes.register("numbers", 100);
+        Iterator<Integer> values = Arrays.asList(1,2,3,4).iterator();
+        AtomicInteger iterations = new AtomicInteger();
+        Iterable<Integer> oneShot = ()->{
+            if(iterations.incrementAndGet()>1)
+                throw new IllegalStateException("Iterated twice");
+            return values;
+        };
+        assertThat(pipes.pushAll("numbers",oneShot),equalTo(4));
+        assertThat(pipes.metrics("numbers").orElse(null).getPushed(),equalTo(4l));
+        assertThat(pipes.metrics("numbers").orElse(null).getDropped(),equalTo(0l));
+    }
+
+    @Test
+    public void subscribeToReadsOnlyWhatIsRequested(){
+        Pipes<String,Integer> pipes = Pipes.of();
+        Queue<Integer> queue = pipes.register("numbers", 100);
+        pipes.pushAll("numbers",Arrays.asList(1,2,3,4,5));
+        List<Integer> received = new ArrayList<>();
+        pipes.subscribeTo("numbers",new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(2);
+            }
+            @Override
+            public void onNext(Integer value) {
+                received.add(value);
+            }
+            @Override
+            public void onError(Throwable t) {
+            }
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertThat(received,equalTo(Arrays.asList(1,2)));
+        assertThat(queue.size(),equalTo(3));
+        assertThat(pipes.metrics("numbers").orElse(null).getDelivered(),equalTo(2l));
+    }
+
+    @Test
+    public void subscribeToAsyncRequestsOneAtATime() throws InterruptedException{
+        Pipes<String,Integer> pipes = Pipes.of();
+        Queue<Integer> queue = pipes.register("numbers", 100);
+        List<Integer> received = new ArrayList<>();
+        CountDownLatch complete = new CountDownLatch(1);
+        pipes.subscribeTo("numbers",new Subscriber<Integer>() {
+            Subscription sub;
+            @Override
+            public void onSubscribe(Subscription s) {
+                sub = s;
+                s.request(1);
+            }
+            @Override
+            public void onNext(Integer value) {
+                received.add(value);
+                sub.request(1);
+            }
+            @Override
+            public void onError(Throwable t) {
+            }
+            @Override
+            public void onComplete() {
+                complete.countDown();
+            }
+        },ForkJoinPool.commonPool());
+        pipes.pushAll("numbers",Arrays.asList(1,2,3));
+        queue.close();
+        assertTrue(complete.await(10,TimeUnit.SECONDS));
+        assertThat(received,equalTo(Arrays.asList(1,2,3)));
+    }
+}
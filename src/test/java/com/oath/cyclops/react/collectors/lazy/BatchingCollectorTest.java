@@ -1,5 +1,8 @@
 package com.oath.cyclops.react.collectors.lazy;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -8,6 +11,7 @@ import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import org.junit.Before;
@@ -46,7 +50,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 	@Test
 	public void testAcceptMock50() {
@@ -56,7 +60,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 
 	@Test
@@ -67,7 +71,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(999)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 
 	@Test
@@ -78,7 +82,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(0)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 
 	@Test
@@ -89,8 +93,83 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(990)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 
+	@Test
+	public void completedFuturesAreNotTracked() {
+		BatchingCollector<Long> collector = new BatchingCollector<Long>(new MaxActive(2,1), LazyReact.sequentialBuilder().of(1l)).withResults(new ArrayList<>());
+		for(int i=0;i<1000;i++){
+			collector.accept(FastFuture.completedFuture(10l));
+		}
+		assertThat(collector.getResults().size(),is(1000));
+		assertThat(collector.getInFlight(),is(0));
+		assertThat(collector.getThrottleEvents(),is(0l));
+	}
+	@Test
+	public void throttlesUntilEnoughFuturesComplete() {
+		BatchingCollector<Integer> collector = new BatchingCollector<Integer>(new MaxActive(4,2), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<5;i++){
+			futures.add(new FastFuture<>());
+		}
+		for(int i=0;i<4;i++){
+			collector.accept(futures.get(i));
+		}
+		assertThat(collector.getInFlight(),is(4));
+
+		new Thread(()->{
+			sleep(50);
+			for(int i=0;i<3;i++){
+				futures.get(i).set(i);
+			}
+		}).start();
+		collector.accept(futures.get(4));
+
+		assertThat(collector.getInFlight(),is(2));
+		assertThat(collector.getThrottleEvents(),is(1l));
+		assertThat(collector.getThrottledNanos()>0,is(true));
+		assertThat(collector.getResults(),equalTo(futures.subList(0,3)));
+		assertThat(collector.getAllResults(),equalTo(futures));
+	}
+	@Test
+	public void collectsFuturesAsTheyComplete() {
+		BatchingCollector<Integer> collector = new BatchingCollector<Integer>(new MaxActive(10,5), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		FastFuture<Integer> running = new FastFuture<>();
+		collector.accept(running);
+		running.set(1);
+		collector.accept(FastFuture.completedFuture(2));
+
+		assertThat(collector.getInFlight(),is(0));
+		assertThat(collector.getResults().size(),is(2));
+	}
+
+	@Test
+	public void laterOnCompleteCallbacksDontHideCompletions() {
+		BatchingCollector<Integer> collector = new BatchingCollector<Integer>(new MaxActive(1,0), LazyReact.sequentialBuilder().of(1)).withResults(new ArrayList<>());
+		FastFuture<Integer> first = new FastFuture<>();
+		FastFuture<Integer> second = new FastFuture<>();
+		collector.accept(first);
+		first.toCompletableFuture();
+		second.onComplete(c->{});
+
+		new Thread(()->{
+			sleep(50);
+			first.set(1);
+			second.set(2);
+		}).start();
+		collector.accept(second);
+
+		assertThat(collector.getInFlight(),is(0));
+		assertThat(collector.getResults().size(),is(2));
+	}
+
+	private void sleep(int millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
 
 }
@@ -7,8 +7,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.junit.Test;
@@ -64,6 +68,58 @@ public class ReactPoolTest {
 		}
 	}
 	@Test
+	public void testElasticExecutorProvider(){
+		List<Integer> parallelism = new ArrayList<>();
+		ReactPool<LazyReact> pool = ReactPool.elasticPool(p->{
+											parallelism.add(p);
+											return ExecutorProvider.platform().create(p);
+										},4,LazyReact::new);
+		List<String> result = pool.react( (er) -> er.ofAsync(()->"hello",()->"world").block() );
+		assertThat(result.size(),is(2));
+		assertThat(parallelism,is(asList(4)));
+	}
+	@Test
+	public void platformSequentialExecutorUsesDaemonThreads() throws InterruptedException {
+		CountDownLatch ran = new CountDownLatch(1);
+		List<Boolean> daemon = new ArrayList<>();
+		ExecutorProvider.platform().create(1).execute(()->{
+			daemon.add(Thread.currentThread().isDaemon());
+			ran.countDown();
+		});
+		assertThat(ran.await(10, TimeUnit.SECONDS),is(true));
+		assertThat(daemon,is(asList(true)));
+	}
+	@Test
+	public void virtualThreadsRunBlockingTasksConcurrently() throws InterruptedException {
+		int tasks = Runtime.getRuntime().availableProcessors()*8;
+		CountDownLatch started = new CountDownLatch(tasks);
+		CountDownLatch finished = new CountDownLatch(tasks);
+		Executor executor = ExecutorProvider.virtualThreads().create(tasks);
+		for(int i=0;i<tasks;i++){
+			executor.execute(()->{
+				started.countDown();
+				try {
+					started.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				finished.countDown();
+			});
+		}
+		assertThat(finished.await(10, TimeUnit.SECONDS),is(true));
+	}
+	@Test
+	public void maxActiveIndependentOfThreads(){
+		LazyReact react = new LazyReact(ExecutorProvider.virtualThreads(),1000);
+		assertThat(react.getMaxActive().getMaxActive(),is(1000));
+		assertThat(react.getMaxActive().getReduceTo(),is(900));
+		assertThat(new LazyReact(2,50).getMaxActive().getMaxActive(),is(50));
+		assertThat(new LazyReact(ExecutorProvider.virtualThreads(),100)
+						.ofAsync(()->"hello",()->"world")
+						.toList()
+						.size(),is(2));
+	}
+	@Test
 	public void testUnbounded(){
 
 		ReactPool<LazyReact> pool = ReactPool.unboundedPool(asList(new LazyReact(),new LazyReact()));
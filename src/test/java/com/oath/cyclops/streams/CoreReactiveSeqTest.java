@@ -14,6 +14,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -60,6 +61,25 @@ public  class CoreReactiveSeqTest {
         }).toList(), CoreMatchers.equalTo(ListX.of(1,2)));
     }
     @Test
+    public void closeRunsHandlersOnce(){
+        AtomicInteger closed = new AtomicInteger(0);
+        ReactiveSeq<Integer> seq = of(1,2,3).onClose(closed::incrementAndGet);
+        ReactiveSeq<Integer> mapped = seq.map(i->i*2);
+        mapped.close();
+        seq.close();
+        mapped.close();
+        assertThat(closed.get(),equalTo(1));
+    }
+    @Test
+    public void closeRunsHandlersAddedAfterClose(){
+        AtomicInteger closed = new AtomicInteger(0);
+        ReactiveSeq<Integer> seq = of(1,2,3).onClose(closed::incrementAndGet);
+        seq.close();
+        seq.onClose(closed::incrementAndGet);
+        seq.close();
+        assertThat(closed.get(),equalTo(2));
+    }
+    @Test
     public void subscribeErrorOnComplete(){
         List<Integer> result = new ArrayList<>();
         AtomicBoolean onComplete = new AtomicBoolean(false);
@@ -0,0 +1,172 @@
+package com.oath.cyclops.streams;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import com.oath.cyclops.types.stream.SpillPolicy;
+import cyclops.async.adapters.MappedLogQueue;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExternalMemoryTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	File dir;
+	List<Integer> values;
+
+	@Before
+	public void setup() throws Exception{
+		dir = folder.newFolder();
+		values = new ArrayList<>();
+		Random random = new Random(0);
+		for(int i=0;i<10_000;i++){
+			values.add(random.nextInt(2_000));
+		}
+	}
+
+	private <T extends java.io.Serializable> SpillPolicy<T> policy(int maxInMemory){
+		return SpillPolicy.of(maxInMemory, MappedLogQueue.Serializer.<T>java())
+						  .withDirectory(dir);
+	}
+
+	@Test
+	public void sortedInMemory(){
+		assertThat(ReactiveSeq.of(4,3,6,7).sorted(policy(10)).toList(),contains(3,4,6,7));
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void sortedSpills(){
+		List<Integer> expected = new ArrayList<>(values);
+		expected.sort(Comparator.naturalOrder());
+		assertThat(ReactiveSeq.fromIterable(values).sorted(policy(100)).toList(),equalTo(expected));
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void sortedMultipleMergePasses(){
+		List<Integer> expected = new ArrayList<>(values);
+		expected.sort(Comparator.reverseOrder());
+		assertThat(Spouts.fromIterable(values).sorted(Comparator.reverseOrder(),this.<Integer>policy(50).withFanIn(3)).toList(),
+				equalTo(expected));
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void sortedIsStable(){
+		List<Tuple2<Integer,Integer>> pairs = ReactiveSeq.fromIterable(values)
+														 .zipWithIndex()
+														 .map(t->Tuple.tuple(t._1(),t._2().intValue()))
+														 .toList();
+		List<Tuple2<Integer,Integer>> sorted = ReactiveSeq.fromIterable(pairs)
+														  .sorted(Comparator.comparing((Tuple2<Integer,Integer> t)->t._1()),this.<Tuple2<Integer,Integer>>policy(64).withFanIn(4))
+														  .toList();
+		for(int i=1;i<sorted.size();i++){
+			Tuple2<Integer,Integer> prev = sorted.get(i-1);
+			Tuple2<Integer,Integer> next = sorted.get(i);
+			if(prev._1().equals(next._1()))
+				assertThat(next._2(),greaterThan(prev._2()));
+		}
+	}
+	@Test
+	public void sortedIsReplayable(){
+		ReactiveSeq<Integer> sorted = ReactiveSeq.of(5,1,4,2,3).sorted(policy(2));
+		assertThat(sorted.toList(),contains(1,2,3,4,5));
+		assertThat(sorted.toList(),contains(1,2,3,4,5));
+	}
+	@Test
+	public void sortedClosedEarlyDeletesSpillFiles(){
+		List<Integer> expected = new ArrayList<>(values);
+		expected.sort(Comparator.naturalOrder());
+		try(ReactiveSeq<Integer> sorted = ReactiveSeq.fromIterable(values).sorted(policy(100)).limit(10)){
+			assertThat(sorted.toList(),equalTo(expected.subList(0,10)));
+			assertThat(dir.list().length,greaterThan(0));
+		}
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void sortedSpoutsClosedEarlyDeletesSpillFiles(){
+		try(ReactiveSeq<Integer> sorted = Spouts.fromIterable(values).sorted(this.<Integer>policy(50).withFanIn(3))){
+			assertThat(sorted.findFirst().get(),equalTo(Collections.min(values)));
+			assertThat(dir.list().length,greaterThan(0));
+		}
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void sortedCopyClosedEarlyKeepsSpillFilesForOtherCopies(){
+		List<Integer> expected = new ArrayList<>(values);
+		expected.sort(Comparator.naturalOrder());
+		Tuple2<ReactiveSeq<Integer>,ReactiveSeq<Integer>> copies = ReactiveSeq.fromIterable(values).sorted(policy(100)).duplicate();
+		try(ReactiveSeq<Integer> first = copies._1().limit(5)){
+			assertThat(first.toList(),equalTo(expected.subList(0,5)));
+		}
+		assertThat(dir.list().length,greaterThan(0));
+		try(ReactiveSeq<Integer> second = copies._2().limit(10)){
+			assertThat(second.toList(),equalTo(expected.subList(0,10)));
+		}
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void distinctInMemoryKeepsOrder(){
+		assertThat(ReactiveSeq.of(3,1,3,2,1).distinct(policy(10)).toList(),contains(3,1,2));
+	}
+	@Test
+	public void distinctSpills(){
+		List<Integer> expected = values.stream().distinct().collect(Collectors.toList());
+		List<Integer> distinct = ReactiveSeq.fromIterable(values).distinct(this.<Integer>policy(100).withPartitions(4)).toList();
+		assertThat(distinct.size(),equalTo(expected.size()));
+		assertThat(distinct,containsInAnyOrder(expected.toArray()));
+		assertThat(distinct.subList(0,100),equalTo(expected.subList(0,100)));
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void distinctSpillsSpouts(){
+		List<Integer> distinct = Spouts.fromIterable(values).distinct(policy(10)).toList();
+		assertThat(distinct,containsInAnyOrder(values.stream().distinct().toArray()));
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void distinctClosedEarlyDeletesPartitionFiles(){
+		try(ReactiveSeq<Integer> distinct = ReactiveSeq.fromIterable(values).distinct(this.<Integer>policy(100).withPartitions(4))){
+			assertThat(distinct.limit(150).toList().size(),equalTo(150));
+			assertThat(dir.list().length,greaterThan(0));
+		}
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void distinctApproximately(){
+		assertThat(ReactiveSeq.of(1,2,2,3,1).distinctApproximately(100,0.0001).toList(),contains(1,2,3));
+		assertThat(Spouts.of(1,2,2,3,1).distinctApproximately(100,0.0001).toList(),contains(1,2,3));
+	}
+	@Test
+	public void distinctApproximatelyIsReplayable(){
+		ReactiveSeq<Integer> distinct = ReactiveSeq.of(1,2,2,3,1).distinctApproximately(100,0.0001);
+		assertThat(distinct.toList(),contains(1,2,3));
+		assertThat(distinct.toList(),contains(1,2,3));
+	}
+	@Test
+	public void distinctApproximatelyLarge(){
+		long count = ReactiveSeq.range(0,100_000)
+								.map(i->i%10_000)
+								.distinctApproximately(10_000,0.001)
+								.count();
+		assertThat(count>9_950 && count<=10_000,equalTo(true));
+	}
+}
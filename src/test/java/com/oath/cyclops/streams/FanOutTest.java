@@ -0,0 +1,201 @@
+package com.oath.cyclops.streams;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.oath.cyclops.internal.stream.fanout.FanOutBuffer;
+import com.oath.cyclops.types.stream.FanOutPolicy;
+import cyclops.collections.mutable.ListX;
+import cyclops.async.adapters.MappedLogQueue;
+import cyclops.data.tuple.Tuple2;
+import cyclops.data.tuple.Tuple3;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FanOutTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void duplicateSharesOnePass(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,100)
+																			 .peek(i->pulled.incrementAndGet())
+																			 .duplicate();
+		assertThat(copies._1().zip(copies._2(),(a,b)->a+b).sumInt(i->i),equalTo(9900));
+		assertThat(pulled.get(),equalTo(100));
+	}
+	@Test
+	public void duplicateSharesOnePassSpouts(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = Spouts.range(0,100)
+																		 .peek(i->pulled.incrementAndGet())
+																		 .duplicate();
+		assertThat(copies._1().toList().size(),equalTo(100));
+		assertThat(copies._2().toList().size(),equalTo(100));
+		assertThat(pulled.get(),equalTo(100));
+	}
+	@Test
+	public void duplicateIsReplayable(){
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.of(1,2,3).duplicate();
+		assertThat(copies._1().toList(),contains(1,2,3));
+		assertThat(copies._1().toList(),contains(1,2,3));
+		assertThat(copies._2().toList(),contains(1,2,3));
+		assertThat(copies._2().toList(),contains(1,2,3));
+	}
+	@Test
+	public void triplicateSpouts(){
+		Tuple3<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = Spouts.of(1,2,3).triplicate();
+		assertThat(copies._3().toList(),contains(1,2,3));
+		assertThat(copies._1().toList(),contains(1,2,3));
+		assertThat(copies._2().toList(),contains(1,2,3));
+	}
+	@Test
+	public void splitAtInOrderIsSinglePass(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> split = ReactiveSeq.range(0,10)
+																			 .peek(i->pulled.incrementAndGet())
+																			 .splitAt(4);
+		assertThat(split._1().toList(),contains(0,1,2,3));
+		assertThat(split._2().toList(),contains(4,5,6,7,8,9));
+		assertThat(pulled.get(),equalTo(10));
+	}
+	@Test
+	public void splitAtSuffixFirst(){
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> split = Spouts.range(0,10).splitAt(4);
+		assertThat(split._2().toList(),contains(4,5,6,7,8,9));
+		assertThat(split._1().toList(),contains(0,1,2,3));
+	}
+	@Test
+	public void splitAtPastEnd(){
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> split = ReactiveSeq.of(1,2,3).splitAt(5);
+		assertThat(split._1().toList(),contains(1,2,3));
+		assertThat(split._2().toList().size(),equalTo(0));
+	}
+	@Test
+	public void partitionSharesOnePass(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> partition = ReactiveSeq.range(0,6)
+																				 .peek(i->pulled.incrementAndGet())
+																				 .partition(i->i%2==0);
+		assertThat(partition._1().toList(),contains(0,2,4));
+		assertThat(partition._2().toList(),contains(1,3,5));
+		assertThat(pulled.get(),equalTo(6));
+	}
+	@Test
+	public void spillToDisk() throws Exception{
+		File dir = folder.newFolder();
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,10_000)
+																			 .duplicate(FanOutPolicy.spillToDisk(100, MappedLogQueue.Serializer.<Integer>java())
+																									.withDirectory(dir));
+		List<Integer> behind = copies._1().zip(copies._2().skip(5_000),(a,b)->b-a).toList();
+		assertThat(behind.size(),equalTo(5_000));
+		assertThat(behind.stream().allMatch(i->i==5_000),equalTo(true));
+	}
+	@Test
+	public void spillToDiskSequential() throws Exception{
+		File dir = folder.newFolder();
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = Spouts.range(0,1_000)
+																		 .duplicate(FanOutPolicy.spillToDisk(10, MappedLogQueue.Serializer.<Integer>java())
+																								.withDirectory(dir));
+		assertThat(copies._1().sumInt(i->i),equalTo(499_500));
+		assertThat(copies._2().sumInt(i->i),equalTo(499_500));
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void closingCopiesDeletesSpillFile() throws Exception{
+		File dir = folder.newFolder();
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,10_000)
+																			 .duplicate(FanOutPolicy.spillToDisk(10, MappedLogQueue.Serializer.<Integer>java())
+																									.withDirectory(dir));
+		try(ReactiveSeq<Integer> first = copies._1(); ReactiveSeq<Integer> second = copies._2()){
+			assertThat(first.limit(100).toList().size(),equalTo(100));
+			assertThat(dir.list().length,equalTo(1));
+		}
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void closedCopyIsNoLongerBuffered() throws Exception{
+		File dir = folder.newFolder();
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = Spouts.range(0,1_000)
+																		 .duplicate(FanOutPolicy.spillToDisk(10, MappedLogQueue.Serializer.<Integer>java())
+																								.withDirectory(dir));
+		try(ReactiveSeq<Integer> first = copies._1().limit(10)){
+			assertThat(first.toList(),contains(0,1,2,3,4,5,6,7,8,9));
+		}
+		assertThat(copies._2().sumInt(i->i),equalTo(499_500));
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void replayedCopyKeepsSpillFileWhileSiblingCloses() throws Exception{
+		File dir = folder.newFolder();
+		ListX<FanOutBuffer.Copy<Integer>> copies = FanOutBuffer.copies(()->ReactiveSeq.range(0,1_000).iterator(), 2,
+																		FanOutPolicy.spillToDisk(10, MappedLogQueue.Serializer.<Integer>java())
+																					.withDirectory(dir), ()->{});
+		copies.get(0).close();
+		copies.get(1).close();
+
+		Iterator<Integer> first = copies.get(0).iterator();
+		Iterator<Integer> second = copies.get(1).iterator();
+		for(int i=0;i<100;i++){
+			first.next();
+		}
+		assertThat(second.next(),equalTo(0));
+		copies.get(1).close();
+		assertThat(dir.list().length,equalTo(1));
+		long rest = 0;
+		while(first.hasNext()){
+			rest += first.next();
+		}
+		assertThat(rest,equalTo(494_550L));
+		copies.get(0).close();
+		assertThat(dir.list(),emptyArray());
+	}
+	@Test
+	public void splitAtSpillToDisk() throws Exception{
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> split = ReactiveSeq.range(0,1_000)
+																			 .splitAt(500,FanOutPolicy.spillToDisk(10, MappedLogQueue.Serializer.<Integer>java())
+																									  .withDirectory(folder.newFolder()));
+		assertThat(split._2().sumInt(i->i),equalTo(374_750));
+		assertThat(split._1().sumInt(i->i),equalTo(124_750));
+	}
+	@Test
+	public void backpressureStopsWaitingForAbandonedCopy() throws Exception{
+		ListX<FanOutBuffer.Copy<Integer>> copies = FanOutBuffer.copies(()->ReactiveSeq.range(0,1_000).iterator(), 2,
+																		FanOutPolicy.backpressure(10,200,TimeUnit.MILLISECONDS), ()->{});
+		Iterator<Integer> abandoned = copies.get(1).iterator();
+		Thread reader = new Thread(abandoned::next);
+		reader.start();
+		reader.join();
+
+		long start = System.nanoTime();
+		assertThat(ReactiveSeq.fromIterable(copies.get(0)).sumInt(i->i),equalTo(499_500));
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-start)<2_000,equalTo(true));
+	}
+	@Test
+	public void backpressureAcrossThreads() throws Exception{
+		Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,100_000)
+																			 .duplicate(FanOutPolicy.backpressure(100,1,TimeUnit.SECONDS));
+		CompletableFuture<Long> fast = CompletableFuture.supplyAsync(()->copies._1().collect(Collectors.summingLong(i->i)));
+		CompletableFuture<Long> slow = CompletableFuture.supplyAsync(()->copies._2().peek(i->{
+			if(i%10_000==0)
+				Thread.yield();
+		}).collect(Collectors.summingLong(i->i)));
+		assertThat(fast.get(),equalTo(4_999_950_000L));
+		assertThat(slow.get(),equalTo(4_999_950_000L));
+	}
+}
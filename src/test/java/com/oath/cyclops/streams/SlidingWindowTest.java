@@ -0,0 +1,169 @@
+package com.oath.cyclops.streams;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.oath.cyclops.types.stream.SlidingWindow;
+import cyclops.collections.immutable.VectorX;
+import cyclops.companion.Groups;
+import cyclops.companion.Monoids;
+import cyclops.companion.Reducers;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.Test;
+
+public class SlidingWindowTest {
+
+	@Test
+	public void slidingReduce(){
+		assertThat(ReactiveSeq.of(1,2,3,4,5).slidingReduce(2,1,Monoids.intSum).toList(),contains(3,5,7,9));
+	}
+	@Test
+	public void slidingReduceIncrement(){
+		assertThat(ReactiveSeq.of(1,2,3,4,5,6).slidingReduce(3,2,Monoids.intSum).toList(),contains(6,12,11));
+	}
+	@Test
+	public void slidingReduceIsOrdered(){
+		assertThat(ReactiveSeq.of("a","b","c","d").slidingReduce(3,1,Monoids.stringConcat).toList(),contains("abc","bcd"));
+	}
+	@Test
+	public void slidingReduceShortStream(){
+		assertThat(ReactiveSeq.of(1,2).slidingReduce(3,1,Monoids.intSum).toList(),contains(3));
+	}
+	@Test
+	public void slidingReduceEmpty(){
+		assertThat(ReactiveSeq.<Integer>of().slidingReduce(3,1,Monoids.intSum).toList().size(),equalTo(0));
+	}
+	@Test
+	public void slidingReduceLargeWindow(){
+		List<Long> expected = new ArrayList<>();
+		for(long i=999;i<10_000;i++)
+			expected.add(i*(i+1)/2 - (i-1000)*(i-999)/2);
+		assertThat(ReactiveSeq.range(0,10_000).map(Long::valueOf).slidingReduce(1000,1,Monoids.longSum).toList(),
+				equalTo(expected));
+	}
+	@Test
+	public void slidingReduceMatchesSliding(){
+		for(int size=1;size<6;size++){
+			for(int increment=1;increment<8;increment++){
+				List<Integer> expected = ReactiveSeq.range(0,23).sliding(size,increment)
+												.map(w->w.stream().mapToInt(i->i).sum()).toList();
+				assertThat(ReactiveSeq.range(0,23).slidingReduce(size,increment,Monoids.intSum).toList(),equalTo(expected));
+				assertThat(Spouts.range(0,23).slidingReduce(size,increment,Monoids.intSum).toList(),equalTo(expected));
+			}
+		}
+	}
+	@Test
+	public void slidingFoldMap(){
+		assertThat(ReactiveSeq.of(1,2,3,4).slidingFoldMap(2,1,Reducers.toCountInt()).toList(),contains(2,2,2));
+	}
+	@Test
+	public void slidingView(){
+		assertThat(ReactiveSeq.of(1,3,6,10).slidingView(2,1,w->w.get(1)-w.get(0)).toList(),contains(2,3,4));
+	}
+	@Test
+	public void slidingViewCopy(){
+		assertThat(ReactiveSeq.of(1,2,3,4,5).slidingView(3,2,VectorX::fromIterable).toList(),
+				contains(asList(1,2,3),asList(3,4,5)));
+	}
+	@Test
+	public void slidingWindowSpouts(){
+		assertThat(Spouts.of(1,2,3,4,5).slidingReduce(2,1,Monoids.intSum).toList(),contains(3,5,7,9));
+		assertThat(Spouts.of(1,2,3,4,5).slidingView(2,1,w->w.get(0)*w.get(1)).toList(),contains(2,6,12,20));
+	}
+	@Test
+	public void slidingWindowPerStream(){
+		ReactiveSeq<Integer> stream = Spouts.of(1,2,3).slidingWindow(2,1,()->SlidingWindow.reduce(2,Monoids.intSum));
+		assertThat(stream.toList(),contains(3,5));
+		assertThat(stream.toList(),contains(3,5));
+	}
+	@Test
+	public void slidingLargeWindow(){
+		List<VectorX<Integer>> windows = ReactiveSeq.range(0,2000).sliding(1000,500).toList();
+		assertThat(windows.size(),equalTo(3));
+		assertThat(windows.get(1).getOrElse(0,-1),equalTo(500));
+		assertThat(windows.get(1).getOrElse(999,-1),equalTo(1499));
+		assertThat(windows.get(2).size(),equalTo(1000));
+		assertThat(Spouts.range(0,2000).sliding(1000,500).map(w->w.getOrElse(999,-1)).toList(),contains(999,1499,1999));
+	}
+	@Test
+	public void snapshotsAreIndependent(){
+		List<VectorX<Integer>> windows = ReactiveSeq.of(1,2,3,4).slidingWindow(2,1,()->SlidingWindow.<Integer>snapshots(2))
+														.collect(Collectors.toList());
+		assertThat(windows,contains(asList(1,2),asList(2,3),asList(3,4)));
+	}
+	@Test
+	public void slidingReduceGroup(){
+		assertThat(ReactiveSeq.of(1,2,3,4,5).slidingReduce(2,1,Groups.intSum).toList(),contains(3,5,7,9));
+		assertThat(Spouts.range(0,23).slidingReduce(5,3,Groups.intSum).toList(),
+				equalTo(ReactiveSeq.range(0,23).slidingReduce(5,3,Monoids.intSum).toList()));
+	}
+	@Test
+	public void slidingMin(){
+		assertThat(ReactiveSeq.of(4,2,5,3,6).slidingMin(2,1,Comparator.naturalOrder()).toList(),contains(2,2,3,3));
+		assertThat(Spouts.of(4,2,5,3,6).slidingMin(3,1,Comparator.naturalOrder()).toList(),contains(2,2,3));
+	}
+	@Test
+	public void slidingMax(){
+		assertThat(ReactiveSeq.of(4,2,5,3,6).slidingMax(2,1,Comparator.naturalOrder()).toList(),contains(4,5,5,6));
+		assertThat(ReactiveSeq.of(9,8,7,6,5).slidingMax(2,2,Comparator.naturalOrder()).toList(),contains(9,7,5));
+	}
+	@Test
+	public void slidingMinMatchesSliding(){
+		List<Integer> values = ReactiveSeq.iterate(7,i->(i*31+11)%97).limit(500).toList();
+		for(int size=1;size<20;size+=3){
+			List<Integer> expected = ReactiveSeq.fromIterable(values).sliding(size,1)
+												.map(w->w.stream().min(Comparator.naturalOrder()).get()).toList();
+			assertThat(ReactiveSeq.fromIterable(values).slidingMin(size,1,Comparator.naturalOrder()).toList(),equalTo(expected));
+		}
+	}
+	@Test
+	public void slidingAverage(){
+		assertThat(ReactiveSeq.of(1,2,3,4).slidingAverage(2,1,i->i).toList(),contains(1.5,2.5,3.5));
+		assertThat(Spouts.of(1,2,3,4).slidingAverage(3,1,i->i).toList(),contains(2.0,3.0));
+	}
+	@Test
+	public void slidingQuantile(){
+		List<Double> p99 = ReactiveSeq.range(0,10_000).slidingQuantile(1000,1000,i->i,0.99,0.01).toList();
+		assertThat(p99.size(),equalTo(10));
+		for(int i=0;i<10;i++){
+			double expected = i*1000 + 989;
+			assertThat(p99.get(i),closeTo(expected,expected*0.01));
+		}
+	}
+	@Test
+	public void slidingByEventTime(){
+		List<Double> averages = ReactiveSeq.of(new long[]{1000,10},new long[]{1500,11},new long[]{2600,12},new long[]{2700,14})
+											.slidingByTime(1000,t->t[0],()->SlidingWindow.<long[]>average(16,t->t[1]))
+											.toList();
+		assertThat(averages,contains(10.0,10.5,12.0,13.0));
+		assertThat(Spouts.of(0,10,20,30,40).slidingByTime(25,t->t,()->SlidingWindow.max(4,Comparator.<Integer>naturalOrder()))
+							.toList(),contains(0,10,20,30,40));
+		assertThat(Spouts.of(0,10,20,30,40).slidingByTime(25,t->t,()->SlidingWindow.reduce(4,Groups.intSum))
+							.toList(),contains(0,10,30,60,90));
+	}
+	@Test
+	public void slidingByTime(){
+		List<Integer> counts = ReactiveSeq.of(1,2,3,4,5)
+										 .slidingByTime(1,TimeUnit.HOURS,()->SlidingWindow.<Integer>views(1).map(List::size))
+										 .toList();
+		assertThat(counts,contains(1,2,3,4,5));
+	}
+	@Test
+	public void slidingByTimeExpires(){
+		List<Integer> counts = Spouts.of(1,2,3)
+									 .peek(i->{ try{ Thread.sleep(20); }catch(InterruptedException e){ } })
+									 .slidingByTime(1,TimeUnit.NANOSECONDS,()->SlidingWindow.<Integer>views(1).map(List::size))
+									 .toList();
+		assertThat(counts,contains(1,1,1));
+	}
+}
@@ -0,0 +1,45 @@
+package com.oath.cyclops.types.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class BloomFilterTest {
+
+	@Test
+	public void addedValuesAreAlwaysSeen(){
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for(int i=0;i<10_000;i++){
+			filter.add(i);
+		}
+		for(int i=0;i<10_000;i++){
+			assertThat(filter.mightContain(i),equalTo(true));
+			assertThat(filter.add(i),equalTo(false));
+		}
+	}
+	@Test
+	public void falsePositiveRate(){
+		BloomFilter filter = new BloomFilter(100_000, 0.01);
+		for(int i=0;i<100_000;i++){
+			filter.add("value"+i);
+		}
+		int falsePositives = 0;
+		for(int i=0;i<100_000;i++){
+			if(filter.mightContain("other"+i))
+				falsePositives++;
+		}
+		assertThat(falsePositives,lessThan(1_500));
+	}
+	@Test
+	public void nullValues(){
+		BloomFilter filter = new BloomFilter(10, 0.01);
+		assertThat(filter.add(null),equalTo(true));
+		assertThat(filter.add(null),equalTo(false));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidRate(){
+		new BloomFilter(10, 1);
+	}
+}
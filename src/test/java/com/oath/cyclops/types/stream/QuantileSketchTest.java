@@ -0,0 +1,85 @@
+package com.oath.cyclops.types.stream;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class QuantileSketchTest {
+
+	@Test
+	public void quantilesWithinRelativeAccuracy(){
+		QuantileSketch sketch = new QuantileSketch(0.01);
+		Random random = new Random(0);
+		double[] values = new double[10_000];
+		for(int i=0;i<values.length;i++){
+			values[i] = Math.exp(random.nextGaussian()*3) * (random.nextBoolean() ? 1 : -1);
+			sketch.add(values[i]);
+		}
+		Arrays.sort(values);
+		for(double q : new double[]{0,0.1,0.5,0.9,0.99,1}){
+			double expected = values[(int)(q*(values.length-1))];
+			assertThat(sketch.quantile(q),closeTo(expected,Math.abs(expected)*0.0101));
+		}
+		assertThat(sketch.count(),equalTo(10_000l));
+	}
+	@Test
+	public void zero(){
+		QuantileSketch sketch = new QuantileSketch(0.01);
+		sketch.add(0);
+		sketch.add(0);
+		sketch.add(5);
+		assertThat(sketch.quantile(0.5),equalTo(0d));
+		assertThat(sketch.quantile(1),closeTo(5,0.05));
+	}
+	@Test
+	public void empty(){
+		assertTrue(Double.isNaN(new QuantileSketch(0.01).quantile(0.5)));
+	}
+	@Test
+	public void merge(){
+		QuantileSketch all = new QuantileSketch(0.02);
+		QuantileSketch evens = new QuantileSketch(0.02);
+		QuantileSketch odds = new QuantileSketch(0.02);
+		for(int i=1;i<=1000;i++){
+			all.add(i);
+			(i%2==0 ? evens : odds).add(i);
+		}
+		evens.merge(odds);
+		assertThat(evens.count(),equalTo(1000l));
+		assertThat(evens.quantile(0.9),equalTo(all.quantile(0.9)));
+	}
+	@Test
+	public void remove(){
+		QuantileSketch sketch = new QuantileSketch(0.01);
+		for(int i=1;i<=100;i++)
+			sketch.add(i);
+		for(int i=1;i<=50;i++)
+			sketch.remove(i);
+		assertThat(sketch.count(),equalTo(50l));
+		assertThat(sketch.quantile(0),closeTo(51,0.52));
+	}
+	@Test
+	public void copyIsIndependent(){
+		QuantileSketch sketch = new QuantileSketch(0.01);
+		sketch.add(10);
+		QuantileSketch copy = sketch.copy();
+		sketch.add(1000);
+		sketch.add(1000);
+		assertThat(copy.count(),equalTo(1l));
+		assertThat(copy.quantile(1),closeTo(10,0.1));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void mergeDifferentAccuracy(){
+		new QuantileSketch(0.01).merge(new QuantileSketch(0.02));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void nan(){
+		new QuantileSketch(0.01).add(Double.NaN);
+	}
+}
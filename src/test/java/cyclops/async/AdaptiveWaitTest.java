@@ -0,0 +1,67 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import cyclops.async.adapters.Queue;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.junit.Test;
+
+import cyclops.async.wait.WaitStrategy.Offerable;
+import cyclops.async.wait.WaitStrategy.Takeable;
+import cyclops.async.wait.AdaptiveWait;
+
+public class AdaptiveWaitTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{ 
+		called++;
+		if(called<100)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{ 
+		called++;
+		if(called<100)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+		called =0;
+		String result = new AdaptiveWait<String>().take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		boolean result = new AdaptiveWait<String>().offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new AdaptiveWait<>(),
+									new AdaptiveWait<>());
+		
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+	@Test
+	public void parksOnceSpinsAndYieldsAreExhausted() throws InterruptedException {
+		called =0;
+		long start = System.nanoTime();
+		String result = new AdaptiveWait<String>(10,10,1_000_000,1_000_000).take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertTrue(System.nanoTime()-start >= TimeUnit.MILLISECONDS.toNanos(40));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void rejectsInvalidPhases(){
+		new AdaptiveWait<String>(10,10,1000,10);
+	}
+
+}
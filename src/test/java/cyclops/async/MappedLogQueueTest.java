@@ -0,0 +1,198 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import cyclops.async.adapters.MappedLogQueue;
+import cyclops.async.adapters.Queue;
+import cyclops.async.wait.WaitStrategy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedLogQueueTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	MappedLogQueue.Serializer<String> serializer = MappedLogQueue.Serializer.java();
+
+	private MappedLogQueue<String> open(File dir, int segmentBytes, int maxSegments){
+		return QueueFactories.mappedLogQueue(dir, serializer, segmentBytes, maxSegments, WaitStrategy.adaptive());
+	}
+
+	@Test
+	public void streamThroughQueue() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 256, 100)){
+			Queue<String> q = log.build();
+			for(int i=0;i<50;i++)
+				q.offer("hello"+i);
+			q.offer(null);
+			q.close();
+			List<String> result = q.stream().collect(Collectors.toList());
+			assertThat(result.size(),equalTo(51));
+			assertThat(result.get(0),equalTo("hello0"));
+			assertThat(result.get(49),equalTo("hello49"));
+			assertNull(result.get(50));
+		}
+	}
+
+	@Test
+	public void unreadElementsSurviveRestart() throws IOException {
+		File dir = folder.newFolder();
+		try(MappedLogQueue<String> log = open(dir, 256, 100)){
+			for(int i=0;i<40;i++)
+				log.offer("value"+i);
+			for(int i=0;i<15;i++)
+				assertThat(log.poll(),equalTo("value"+i));
+		}
+		try(MappedLogQueue<String> log = open(dir, 256, 100)){
+			assertThat(log.size(),equalTo(25));
+			List<String> rest = new ArrayList<>();
+			log.drainTo(rest);
+			assertThat(rest.get(0),equalTo("value15"));
+			assertThat(rest.get(24),equalTo("value39"));
+			assertNull(log.poll());
+			log.offer("more");
+		}
+		try(MappedLogQueue<String> log = open(dir, 256, 100)){
+			assertThat(log.poll(),equalTo("more"));
+		}
+	}
+
+	@Test
+	public void readSegmentsAreDeleted() throws IOException {
+		File dir = folder.newFolder();
+		try(MappedLogQueue<String> log = open(dir, 256, 100)){
+			for(int i=0;i<100;i++)
+				log.offer("value"+i);
+			assertTrue(dir.list().length > 2);
+			while(log.poll()!=null);
+			//the read position and the segment being written
+			assertThat(dir.list().length,equalTo(2));
+		}
+	}
+
+	@Test
+	public void offerFailsWhenAllSegmentsAreFull() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 256, 2)){
+			int accepted = 0;
+			while(log.offer("value"+accepted))
+				accepted++;
+			assertTrue(accepted > 0);
+			assertFalse(log.offer("rejected"));
+			while(log.poll()!=null);
+			assertTrue(log.offer("accepted"));
+		}
+	}
+
+	@Test
+	public void putBlocksUntilSpaceIsFree() throws Exception {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 256, 2)){
+			Thread producer = new Thread(()->{
+				try {
+					for(int i=0;i<1000;i++)
+						log.put("value"+i);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			producer.start();
+			for(int i=0;i<1000;i++)
+				assertThat(log.take(),equalTo("value"+i));
+			producer.join();
+			assertThat(log.size(),equalTo(0));
+		}
+	}
+
+	@Test
+	public void timedOfferAndPollWait() throws Exception {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 256, 2)){
+			assertNull(log.poll(10, TimeUnit.MILLISECONDS));
+			while(log.offer("value"));
+			long start = System.nanoTime();
+			assertFalse(log.offer("rejected",10, TimeUnit.MILLISECONDS));
+			assertTrue(System.nanoTime()-start >= TimeUnit.MILLISECONDS.toNanos(10));
+		}
+	}
+
+	@Test
+	public void iterationDoesNotConsume() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 256, 100)){
+			for(int i=0;i<40;i++)
+				log.offer("value"+i);
+			List<String> all = new ArrayList<>();
+			log.forEach(all::add);
+			assertThat(all.size(),equalTo(40));
+			assertThat(all.get(39),equalTo("value39"));
+			assertTrue(log.contains("value25"));
+			assertFalse(log.contains("missing"));
+			assertThat(log.toArray().length,equalTo(40));
+			assertTrue(log.remove("value0"));
+			assertThat(log.size(),equalTo(39));
+			assertThat(log.poll(),equalTo("value1"));
+		}
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void removeFromMiddleOfLog() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 256, 100)){
+			log.offer("first");
+			log.offer("second");
+			log.remove("second");
+		}
+	}
+
+	@Test
+	public void clearDiscardsBacklog() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 256, 100)){
+			for(int i=0;i<100;i++)
+				log.offer("value"+i);
+			log.clear();
+			assertThat(log.size(),equalTo(0));
+			log.offer("next");
+			assertThat(log.poll(),equalTo("next"));
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void elementLargerThanSegment() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 64, 100)){
+			char[] large = new char[100];
+			Arrays.fill(large,'a');
+			log.offer(new String(large));
+		}
+	}
+
+	@Test
+	public void futureStreamFromLog() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 1024, 100)){
+			Queue<String> q = log.build();
+			q.offer("a");
+			q.offer("b");
+			q.close();
+			assertThat(new LazyReact().fromAdapter(q).map(String::toUpperCase).toList().size(),equalTo(2));
+		}
+	}
+
+	@Test
+	public void pipesOverLog() throws IOException {
+		try(MappedLogQueue<String> log = open(folder.newFolder(), 1024, 100)){
+			Pipes<String,String> pipes = Pipes.of();
+			pipes.register("ingest",log.build());
+			pipes.push("ingest","hello");
+			assertThat(pipes.oneValue("ingest").orElse(null),equalTo("hello"));
+		}
+	}
+}
@@ -9,7 +9,10 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -21,6 +24,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import cyclops.async.adapters.Queue;
+import cyclops.collections.mutable.ListX;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -520,6 +525,82 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void offerAllThenDrainTo(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(16).build();
+		assertThat(queue.offerAll(Arrays.asList(1,null,3,4)),is(4));
+
+		List<Integer> batch = new ArrayList<>();
+		assertThat(queue.drainTo(batch,3),is(3));
+		assertThat(batch,equalTo(Arrays.asList(1,null,3)));
+		assertThat(queue.size(),is(1));
+	}
+	@Test
+	public void offerAllStopsWhenFull(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(2).build()
+											.withOfferTimeout(1)
+											.withOfferTimeUnit(TimeUnit.MILLISECONDS);
+		assertThat(queue.offerAll(Arrays.asList(1,2,3)),is(2));
+	}
+	@Test
+	public void drainToSkipsCloseSignalThenReportsClosed(){
+		Queue<Integer> queue = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+		queue.stream();
+		queue.offerAll(Arrays.asList(1,2));
+		queue.close();
+
+		List<Integer> batch = new ArrayList<>();
+		assertThat(queue.drainTo(batch,10),is(2));
+		assertThat(batch,equalTo(Arrays.asList(1,2)));
+		try{
+			queue.drainTo(batch,10);
+			fail("expected ClosedQueueException");
+		}catch(Queue.ClosedQueueException e){
+
+		}
+	}
+	@Test
+	public void streamBatches(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(16).build();
+		queue.offerAll(Arrays.asList(1,2,3,4,5));
+		queue.close();
+
+		List<List<Integer>> batches = queue.streamBatches(2)
+											.<List<Integer>>map(ArrayList::new)
+											.toList();
+		assertThat(batches,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4),Arrays.asList(5))));
+	}
+	@Test
+	public void streamBatchesWaitsForData(){
+		Queue<Integer> queue = QueueFactories.<Integer>unboundedQueue().build();
+		new Thread(() -> {
+			for(int i=0;i<100;i++) {
+				queue.offer(i);
+			}
+			queue.close();
+		}).start();
+
+		List<Integer> flattened = queue.streamBatches(8)
+										.peek(l->assertThat(l.size()>0 && l.size()<=8,is(true)))
+										.flatMap(l->l.stream())
+										.toList();
+		assertThat(flattened,equalTo(ReactiveSeq.range(0,100).toList()));
+	}
+	@Test
+	public void streamBatchesLeavesCloseSignalsForOtherStreams(){
+		Queue<Integer> queue = QueueFactories.<Integer>unboundedQueue().build();
+		ReactiveSeq<ListX<Integer>> batches = queue.streamBatches(64);
+		ReactiveSeq<Integer> single = queue.stream();
+		queue.offerAll(Arrays.asList(1,2,3,4,5));
+		queue.disconnectStreams(2);
+
+		List<Integer> flattened = batches.flatMap(l->l.stream())
+										.toList();
+		assertThat(flattened,equalTo(Arrays.asList(1,2,3,4,5)));
+		assertThat(queue.size(),equalTo(1));
+		assertThat(single.toList(),equalTo(Arrays.asList()));
+	}
+
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
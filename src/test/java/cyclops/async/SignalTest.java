@@ -7,6 +7,7 @@ import static org.junit.Assert.assertThat;
 import java.util.stream.Stream;
 
 import cyclops.async.adapters.Signal;
+import cyclops.async.wait.WaitStrategy;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -167,4 +168,25 @@ public class SignalTest {
 		}
 
 	}
+	@Test
+	public void signalWithWaitStrategy(){
+		Signal<Integer> q = Signal.queueBackedSignal(WaitStrategy.signalling());
+		new Thread(() -> q.fromStream(Stream.of(1,1,1,2,2))).start();
+
+		int sum  = q.getDiscrete().stream().limit(2).map(it -> it*100).reduce(0, (acc,n) -> acc+n);
+
+		assertThat(sum,is(300));
+	}
+
+	@Test
+	public void topicSignalWithWaitStrategy(){
+		Signal<Integer> q = Signal.topicBackedSignal(WaitStrategy.adaptive());
+		Stream<Integer> stage =q.getDiscrete().stream().limit(2);
+		new Thread(() -> q.fromStream(Stream.of(1,1,1,2,2))).start();
+
+		int sum  = stage.map(it -> it*100).reduce(0, (acc,n) -> acc+n);
+
+		assertThat(sum,is(300));
+	}
+
 }
@@ -0,0 +1,84 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import cyclops.async.adapters.Queue;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.junit.Test;
+
+import cyclops.async.wait.WaitStrategy.Offerable;
+import cyclops.async.wait.WaitStrategy.Takeable;
+import cyclops.async.wait.SignallingWait;
+
+public class SignallingWaitTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{ 
+		called++;
+		if(called<100)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{ 
+		called++;
+		if(called<100)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+		called =0;
+		String result = new SignallingWait<String>().take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		boolean result = new SignallingWait<String>().offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(100));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new SignallingWait<>(),
+									new SignallingWait<>());
+		
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+	@Test
+	public void offerWakesBlockedConsumer() throws InterruptedException {
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new SignallingWait<>(0,TimeUnit.SECONDS.toNanos(60)),
+									new SignallingWait<>(0,TimeUnit.SECONDS.toNanos(60)));
+		new Thread(()->{
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+			q.offer("hello");
+		}).start();
+		long start = System.nanoTime();
+		assertThat(q.get(),equalTo("hello"));
+		assertTrue(System.nanoTime()-start < TimeUnit.SECONDS.toNanos(30));
+	}
+	@Test
+	public void closeWakesBlockedConsumer() throws InterruptedException {
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new SignallingWait<>(0,TimeUnit.SECONDS.toNanos(60)),
+									new SignallingWait<>(0,TimeUnit.SECONDS.toNanos(60)));
+		CountDownLatch finished = new CountDownLatch(1);
+		new Thread(()->{
+			q.stream().forEach(System.out::println);
+			finished.countDown();
+		}).start();
+		Thread.sleep(50);
+		q.close();
+		assertTrue(finished.await(30,TimeUnit.SECONDS));
+	}
+
+}
@@ -13,10 +13,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import cyclops.async.QueueFactories;
 import cyclops.async.SimpleReact;
+import cyclops.async.adapters.MulticastRingBuffer.SlowConsumerPolicy;
+import cyclops.async.wait.WaitStrategy;
 import cyclops.reactive.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -282,6 +286,98 @@ public class TopicTest {
     }
 	}
 
+	@Test
+	public void multicastSubscribersGetSameMessages() {
+		Topic<String> topic = new Topic<>(QueueFactories.multicastRingBuffer(16));
+
+		Stream<String> data1 = topic.stream();
+		Stream<String> data2 = topic.stream();
+		topic.fromStream(Stream.of("hello", "world"));
+
+		assertThat(data1.limit(1).findFirst().get(), is("hello"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+	@Test
+	public void multicastCloseCompletesStreamsAfterBacklog() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(16));
+		ReactiveSeq<Integer> s1 = topic.stream();
+		ReactiveSeq<Integer> s2 = topic.stream();
+		topic.offer(1);
+		topic.offer(null);
+		topic.offer(3);
+		topic.close();
+
+		assertThat(s1.toList(), is(Arrays.asList(1,null,3)));
+		assertThat(s2.toList(), is(Arrays.asList(1,null,3)));
+	}
+	@Test
+	public void multicastDropPolicyRejectsWhenSlowestSubscriberIsFull() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(4, SlowConsumerPolicy.DROP, WaitStrategy.noWaitRetry()));
+		Queue<Integer> subscriber = topic.getDistributor().getSubscribers().getOrElse(0,null);
+		for(int i=0;i<4;i++){
+			assertThat(topic.offer(i), is(true));
+		}
+		assertThat(topic.offer(4), is(false));
+
+		List<Integer> batch = new ArrayList<>();
+		subscriber.getQueue().drainTo(batch);
+		assertThat(batch, is(Arrays.asList(0,1,2,3)));
+		assertThat(topic.offer(4), is(true));
+	}
+	@Test
+	public void multicastOverwritePolicySkipsMissedElements() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.multicastRingBuffer(4, SlowConsumerPolicy.OVERWRITE, WaitStrategy.noWaitRetry()));
+		ReactiveSeq<Integer> s1 = topic.stream();
+		for(int i=0;i<10;i++){
+			assertThat(topic.offer(i), is(true));
+		}
+		topic.close();
+
+		assertThat(s1.toList(), is(Arrays.asList(6,7,8,9)));
+	}
+	@Test
+	public void multicastSubscribeWhilePublishingNeverOverwritesUnreadElements() throws InterruptedException {
+		MulticastRingBuffer<Integer> ring = QueueFactories.multicastRingBuffer(4, SlowConsumerPolicy.BLOCK, WaitStrategy.yieldWait());
+		int perPublisher = 20000;
+		AtomicInteger finished = new AtomicInteger(0);
+		List<Thread> publishers = new ArrayList<>();
+		for(int p=0;p<2;p++){
+			int id = p;
+			Thread publisher = new Thread(()->{
+				for(int i=0;i<perPublisher;i++){
+					ring.offer(i*2+id);
+				}
+				finished.incrementAndGet();
+			});
+			publisher.setDaemon(true);
+			publishers.add(publisher);
+			publisher.start();
+		}
+		while(finished.get()<2){
+			Queue<Integer> subscriber = ring.build();
+			int[] last = {-1,-1};
+			for(int read=0;read<50;){
+				Integer next = subscriber.getQueue().poll();
+				if(next==null){
+					if(finished.get()==2)
+						break;
+					Thread.yield();
+					continue;
+				}
+				int id = next % 2;
+				if(last[id]!=-1)
+					assertThat(next/2, is(last[id]+1));
+				last[id] = next/2;
+				read++;
+			}
+			ring.release(subscriber);
+		}
+		for(Thread publisher : publishers){
+			publisher.join();
+		}
+	}
+
 
 
 	private Collection<String> extract1(List<Collection<String>> result) {
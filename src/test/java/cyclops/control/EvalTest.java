@@ -8,6 +8,10 @@ import org.junit.Before;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -189,6 +193,81 @@ public class EvalTest {
 		assertThat(Eval.always(()->1).map(i->i+2)
 						.flatMap(i->Eval.now(i*3)).get(),equalTo(9));
 	}
+	@Test
+	public void laterCachesIntermediateSteps(){
+		count = 0;
+		Eval<Integer> shared = Eval.later(()->1).map(i->{
+			count++;
+			return i+1;
+		});
+		assertThat(shared.map(i->i*10).get(),equalTo(20));
+		assertThat(shared.flatMap(i->Eval.now(i*100)).get(),equalTo(200));
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void laterComputesSharedStepsOnceAcrossThreads() throws Exception {
+		ExecutorService exec = Executors.newFixedThreadPool(2);
+		try {
+			for(int i=0;i<1000;i++){
+				AtomicInteger supplied = new AtomicInteger(0);
+				AtomicInteger mapped = new AtomicInteger(0);
+				Eval<Integer> shared = Eval.later(()->supplied.incrementAndGet()).map(x->{
+					mapped.incrementAndGet();
+					return x+1;
+				});
+				CountDownLatch start = new CountDownLatch(1);
+				java.util.concurrent.Future<Integer> tens = exec.submit(()->{
+					start.await();
+					return shared.map(x->x*10).get();
+				});
+				java.util.concurrent.Future<Integer> hundreds = exec.submit(()->{
+					start.await();
+					return shared.map(x->x*100).get();
+				});
+				start.countDown();
+				assertThat(tens.get(),equalTo(20));
+				assertThat(hundreds.get(),equalTo(200));
+				assertThat(supplied.get(),equalTo(1));
+				assertThat(mapped.get(),equalTo(1));
+			}
+		} finally {
+			exec.shutdown();
+		}
+	}
+	@Test
+	public void laterRetriesAfterFailure(){
+		AtomicInteger calls = new AtomicInteger(0);
+		Eval<Integer> eval = Eval.later(()->{
+			if(calls.incrementAndGet()==1)
+				throw new IllegalStateException();
+			return 1;
+		}).map(i->i+1);
+		try {
+			eval.get();
+		} catch (IllegalStateException e) {
+		}
+		assertThat(eval.get(),equalTo(2));
+		assertThat(calls.get(),equalTo(2));
+	}
+	@Test
+	public void deepMapChainIsStackSafe(){
+		Eval<Integer> always = Eval.always(()->0);
+		Eval<Integer> later = Eval.later(()->0);
+		for(int i=0;i<100_000;i++){
+			always = always.map(this::addOne);
+			later = later.map(this::addOne);
+		}
+		assertThat(always.get(),equalTo(100_000));
+		assertThat(later.get(),equalTo(100_000));
+	}
+	@Test
+	public void deepLeftNestedFlatMapIsStackSafe(){
+		Eval<Integer> eval = Eval.later(()->0);
+		for(int i=0;i<100_000;i++){
+			eval = eval.flatMap(x->Eval.now(x+1));
+		}
+		assertThat(eval.get(),equalTo(100_000));
+	}
 	public int addOne(Integer i){
 		return i+1;
 	}
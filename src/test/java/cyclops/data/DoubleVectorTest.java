@@ -0,0 +1,33 @@
+package cyclops.data;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DoubleVectorTest {
+
+    @Test
+    public void appendGetUpdate(){
+        DoubleVector v = DoubleVector.empty();
+        for(int i=0;i<1000;i++){
+            v = v.append(i/2d);
+        }
+        assertThat(v.size(),equalTo(1000));
+        assertThat(v.getOrElse(999,-1),equalTo(499.5));
+        assertThat(v.updateAt(500,-1).getOrElse(500,0),equalTo(-1d));
+        assertThat(v.getOrElse(500,0),equalTo(250d));
+    }
+
+    @Test
+    public void streams(){
+        DoubleVector v = DoubleVector.fromStream(IntStream.range(0,10_000).asDoubleStream());
+        assertThat(v.doubleStream().sum(),equalTo(49_995_000d));
+        assertThat(StreamSupport.doubleStream(v.spliterator(),true).sum(),equalTo(49_995_000d));
+        assertThat(v.stream().mapToDouble(i->i).sum(),equalTo(49_995_000d));
+        assertThat(DoubleVector.of(Double.NaN),equalTo(DoubleVector.of(Double.NaN)));
+    }
+}
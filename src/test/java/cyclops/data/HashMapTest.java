@@ -1,10 +1,13 @@
 package cyclops.data;
 
 import com.oath.cyclops.types.persistent.PersistentMap;
+import cyclops.data.tuple.Tuple;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Test;
 
 
 import java.util.ArrayList;
+import java.util.stream.StreamSupport;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
@@ -73,4 +76,70 @@ public class HashMapTest {
         System.out.println(v.size());
     }
 
+    @Test
+    public void spliteratorIsSizedAndSplits(){
+        HashMap<Integer,Integer> map = HashMap.empty();
+        for(int i=0;i<10_000;i++){
+            map = map.put(i,i);
+        }
+        assertThat(map.spliterator().estimateSize(),equalTo(10_000L));
+        assertThat(StreamSupport.stream(map.spliterator(),true).mapToLong(t->t._1()).sum(),equalTo(49_995_000L));
+        assertThat(map.stream().foldParallel(s->s.count()),equalTo(10_000L));
+        assertThat(map.stream().count(),equalTo(10_000L));
+    }
+
+    @Test
+    public void bulkBuildMatchesIncrementalPuts(){
+        HashMap<Integer,Integer> incremental = HashMap.empty();
+        java.util.Map<Integer,Integer> source = new java.util.HashMap<>();
+        for(int i=0;i<10_000;i++){
+            incremental = incremental.put(i*31,i);
+            source.put(i*31,i);
+        }
+        assertThat(HashMap.fromMap(source),equalTo(incremental));
+        assertThat(HashMap.fromStream(ReactiveSeq.range(0,10_000).map(i->Tuple.tuple(i*31,i))),equalTo(incremental));
+        assertThat(HashMap.fromStream(ReactiveSeq.of(Tuple.tuple(1,1),Tuple.tuple(1,2))),equalTo(HashMap.of(1,2)));
+    }
+
+    @Test
+    public void unionIntersectionDifference(){
+        HashMap<Integer,Integer> evens = HashMap.fromStream(ReactiveSeq.range(0,10_000).filter(i->i%2==0).map(i->Tuple.tuple(i,i)));
+        HashMap<Integer,Integer> threes = HashMap.fromStream(ReactiveSeq.range(0,10_000).filter(i->i%3==0).map(i->Tuple.tuple(i,-i)));
+
+        HashMap<Integer,Integer> union = evens.union(threes);
+        assertThat(union.size(),equalTo(5_000+3_334-1_667));
+        assertThat(union.getOrElse(6,null),equalTo(-6));
+        assertThat(union.getOrElse(4,null),equalTo(4));
+        assertThat(evens.union(threes,(a,b)->a).getOrElse(6,null),equalTo(6));
+        assertThat(evens.putAll(threes),equalTo(union));
+
+        HashMap<Integer,Integer> both = evens.intersection(threes);
+        assertThat(both.size(),equalTo(1_667));
+        assertThat(both.getOrElse(6,null),equalTo(6));
+        assertThat(both.containsKey(4),equalTo(false));
+
+        HashMap<Integer,Integer> difference = evens.difference(threes);
+        assertThat(difference.size(),equalTo(5_000-1_667));
+        assertThat(difference.containsKey(6),equalTo(false));
+        assertThat(difference.containsKey(4),equalTo(true));
+        assertThat(evens.removeAll(threes.stream().map(t->t._1())),equalTo(difference));
+    }
+
+    @Test
+    public void unionSharesUnchangedMaps(){
+        HashMap<Integer,Integer> map = HashMap.fromStream(ReactiveSeq.range(0,1_000).map(i->Tuple.tuple(i,i)));
+        assertThat(map.union(HashMap.empty()).equals(map),equalTo(true));
+        assertThat(map.union(map),equalTo(map));
+        assertThat(map.intersection(map),equalTo(map));
+        assertThat(map.difference(map).isEmpty(),equalTo(true));
+    }
+
+    @Test
+    public void removeAllRemovesEveryKey(){
+        HashMap<Integer,Integer> map = HashMap.of(1,1,2,2).put(3,3);
+        assertThat(map.removeAll(1,2),equalTo(HashMap.of(3,3)));
+        assertThat(map.removeAll(Vector.of(1,2)),equalTo(HashMap.of(3,3)));
+        assertThat(map.remove(4),equalTo(map));
+    }
+
 }
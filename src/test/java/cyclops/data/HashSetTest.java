@@ -3,13 +3,18 @@ package cyclops.data;
 import cyclops.control.Option;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.basetests.BaseImmutableSetTest;
+import org.junit.Test;
 
 import java.util.Optional;
+import java.util.stream.StreamSupport;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
 public class HashSetTest extends BaseImmutableSetTest{
     @Override
     protected <T> ImmutableSet<T> fromStream(Stream<T> s) {
@@ -51,5 +56,20 @@ public class HashSetTest extends BaseImmutableSetTest{
         return HashSet.unfold(seed,unfolder);
     }
 
+    @Test
+    public void spliteratorIsSizedAndSplits(){
+        HashSet<Integer> set = HashSet.empty();
+        for(int i=0;i<10_000;i++){
+            set = set.add(i);
+        }
+        assertThat(set.spliterator().estimateSize(),equalTo(10_000L));
+        assertThat(StreamSupport.stream(set.spliterator(),true).mapToLong(i->i).sum(),equalTo(49_995_000L));
+    }
+    @Test
+    public void deprecatedGetMapCopiesIntoHAMT(){
+        HashSet<Integer> set = HashSet.of(1,2,3);
+        assertThat(set.getMap().size(),equalTo(3));
+        assertThat(set.getMap().get(0,2,2).orElse(null),equalTo(2));
+    }
 
 }
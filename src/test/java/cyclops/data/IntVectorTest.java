@@ -0,0 +1,84 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntVectorTest {
+
+    @Test
+    public void empty(){
+        assertThat(IntVector.empty().size(),equalTo(0));
+        assertThat(IntVector.empty().isEmpty(),equalTo(true));
+        assertThat(IntVector.empty().get(0),equalTo(Option.none()));
+        assertThat(IntVector.empty().toArray().length,equalTo(0));
+    }
+
+    @Test
+    public void getAndAppend(){
+        for(int size : new int[]{1,31,32,33,1025,40_000}) {
+            IntVector v = IntVector.empty();
+            for (int i = 0; i < size; i++) {
+                v = v.append(i);
+            }
+            assertThat(v.size(), equalTo(size));
+            assertThat(v, equalTo(IntVector.range(0, size)));
+            for (int i = 0; i < size; i++) {
+                assertThat(v.getOrElse(i, -1), equalTo(i));
+            }
+            assertThat(v.get(size), equalTo(Option.none()));
+            assertThat(v.getOrElse(-1, -1), equalTo(-1));
+        }
+    }
+
+    @Test
+    public void updateAtShares(){
+        IntVector v = IntVector.range(0,100);
+        IntVector updated = v.updateAt(10,-1)
+                             .updateAt(99,-2);
+        assertThat(updated.getOrElse(10,0),equalTo(-1));
+        assertThat(updated.getOrElse(99,0),equalTo(-2));
+        assertThat(v.getOrElse(10,0),equalTo(10));
+        assertThat(v.getOrElse(99,0),equalTo(99));
+        assertThat(v.updateAt(100,1),equalTo(v));
+    }
+
+    @Test
+    public void appendAll(){
+        IntVector v = IntVector.range(0,50);
+        assertThat(v.appendAll(IntVector.range(50,100)),equalTo(IntVector.range(0,100)));
+        assertThat(v.appendAll(),equalTo(v));
+        assertThat(IntVector.of(1,2,3).appendAll(4,5),equalTo(IntVector.of(1,2,3,4,5)));
+    }
+
+    @Test
+    public void streams(){
+        IntVector v = IntVector.range(0,10_000);
+        assertThat(v.intStream().sum(),equalTo(49_995_000));
+        assertThat(StreamSupport.intStream(v.spliterator(),true).asLongStream().sum(),equalTo(49_995_000L));
+        assertThat(v.spliterator().estimateSize(),equalTo(10_000L));
+        assertThat(v.toArray(),equalTo(IntStream.range(0,10_000).toArray()));
+
+        ReactiveSeq<Integer> seq = v.stream();
+        assertThat(seq.mapToInt(i->i).sum(),equalTo(49_995_000));
+        assertThat(seq.count(),equalTo(10_000L));
+        assertThat(seq.foldParallel(s->s.mapToLong(i->i).sum()),equalTo(49_995_000L));
+    }
+
+    @Test
+    public void equalsAndHashCode(){
+        assertThat(IntVector.of(1,2,3),equalTo(IntVector.of(1,2,3)));
+        assertThat(IntVector.of(1,2,3).equals(IntVector.of(1,2)),equalTo(false));
+        assertThat(IntVector.of(1,2,3).hashCode(),equalTo(Arrays.asList(1,2,3).hashCode()));
+        assertThat(IntVector.range(0,100).hashCode(),equalTo(IntStream.range(0,100).boxed().collect(Collectors.toList()).hashCode()));
+        assertThat(IntVector.of(1,2,3).toString(),equalTo("[1,2,3]"));
+    }
+}
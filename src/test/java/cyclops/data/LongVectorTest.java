@@ -0,0 +1,34 @@
+package cyclops.data;
+
+import org.junit.Test;
+
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LongVectorTest {
+
+    @Test
+    public void appendGetUpdate(){
+        LongVector v = LongVector.empty();
+        for(long i=0;i<1000;i++){
+            v = v.append(i*Integer.MAX_VALUE);
+        }
+        assertThat(v.size(),equalTo(1000));
+        assertThat(v.getOrElse(999,-1),equalTo(999L*Integer.MAX_VALUE));
+        assertThat(v.updateAt(500,-1).getOrElse(500,0),equalTo(-1L));
+        assertThat(v.getOrElse(500,0),equalTo(500L*Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void streams(){
+        LongVector v = LongVector.range(0,10_000);
+        assertThat(v.longStream().sum(),equalTo(49_995_000L));
+        assertThat(StreamSupport.longStream(v.spliterator(),true).sum(),equalTo(49_995_000L));
+        assertThat(v.stream().mapToLong(i->i).sum(),equalTo(49_995_000L));
+        assertThat(v.toArray(),equalTo(LongStream.range(0,10_000).toArray()));
+        assertThat(v,equalTo(LongVector.fromStream(LongStream.range(0,10_000))));
+    }
+}
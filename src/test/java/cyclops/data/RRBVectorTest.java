@@ -0,0 +1,112 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class RRBVectorTest {
+
+    private static void assertSame(RRBVector<Integer> vec, List<Integer> expected){
+        assertThat(vec.size(),equalTo(expected.size()));
+        for(int i=0;i<expected.size();i++){
+            assertThat(vec.getOrElse(i,null),equalTo(expected.get(i)));
+        }
+        assertThat(vec.stream().toList(),equalTo(expected));
+        assertThat(StreamSupport.stream(vec.spliterator(),true).collect(Collectors.toList()),equalTo(expected));
+    }
+
+    @Test
+    public void basics(){
+        RRBVector<Integer> vec = RRBVector.of(1,2,3);
+        assertThat(vec.get(0),equalTo(Option.some(1)));
+        assertThat(vec.get(3),equalTo(Option.none()));
+        assertThat(vec.append(4).prepend(0),equalTo(RRBVector.range(0,5)));
+        assertThat(vec.updateAt(1,10),equalTo(RRBVector.of(1,10,3)));
+        assertThat(vec,equalTo(Vector.of(1,2,3)));
+        assertThat(vec.hashCode(),equalTo(Vector.of(1,2,3).hashCode()));
+        assertThat(RRBVector.empty().isEmpty(),equalTo(true));
+        assertThat(vec.toString(),equalTo("[1,2,3]"));
+    }
+
+    @Test
+    public void splice(){
+        RRBVector<Integer> vec = RRBVector.range(0,10_000);
+        assertThat(vec.insertAt(5_000,-1).getOrElse(5_000,null),equalTo(-1));
+        assertThat(vec.insertAt(5_000,-1).size(),equalTo(10_001));
+        assertThat(vec.removeAt(5_000).getOrElse(5_000,null),equalTo(5_001));
+        assertThat(vec.insertAt(100,RRBVector.of(-1,-2)).getOrElse(101,null),equalTo(-2));
+        assertThat(vec.deleteBetween(100,9_900),equalTo(RRBVector.range(0,100).appendAll(RRBVector.range(9_900,10_000))));
+        assertThat(vec.subList(1_000,2_000),equalTo(RRBVector.range(1_000,2_000)));
+        assertThat(vec.takeRight(10),equalTo(RRBVector.range(9_990,10_000)));
+        assertThat(vec.dropRight(9_990),equalTo(RRBVector.range(0,10)));
+        assertThat(vec.splitAt(10)._1(),equalTo(RRBVector.range(0,10)));
+        assertThat(vec.prependAll(RRBVector.range(-100,0)),equalTo(RRBVector.range(-100,10_000)));
+    }
+
+    @Test
+    public void randomOperationsMatchArrayList(){
+        Random random = new Random(42);
+        int next = 0;
+        for(int round=0;round<20;round++){
+            List<Integer> expected = new ArrayList<>();
+            int size = random.nextInt(5_000);
+            for(int i=0;i<size;i++){
+                expected.add(next++);
+            }
+            RRBVector<Integer> vec = RRBVector.fromIterable(expected);
+            for(int step=0;step<20;step++){
+                int pos = random.nextInt(expected.size()+1);
+                switch(random.nextInt(6)){
+                    case 0:
+                        vec = vec.take(pos);
+                        expected = new ArrayList<>(expected.subList(0,pos));
+                        break;
+                    case 1:
+                        vec = vec.drop(pos);
+                        expected = new ArrayList<>(expected.subList(pos,expected.size()));
+                        break;
+                    case 2:
+                        List<Integer> other = new ArrayList<>();
+                        int added = random.nextInt(3_000);
+                        for(int i=0;i<added;i++){
+                            other.add(next++);
+                        }
+                        vec = vec.appendAll(RRBVector.fromIterable(other));
+                        expected.addAll(other);
+                        break;
+                    case 3:
+                        vec = vec.insertAt(pos,next);
+                        expected.add(pos,next++);
+                        break;
+                    case 4:
+                        vec = vec.prepend(next);
+                        expected.add(0,next++);
+                        break;
+                    default:
+                        vec = vec.removeAt(pos);
+                        if(pos<expected.size())
+                            expected.remove(pos);
+                }
+                assertSame(vec,expected);
+            }
+        }
+    }
+
+    @Test
+    public void manySmallConcatenations(){
+        RRBVector<Integer> vec = RRBVector.empty();
+        for(int i=0;i<100_000;i+=37){
+            vec = vec.appendAll(RRBVector.range(i,Math.min(100_000,i+37)));
+        }
+        assertSame(vec,ReactiveSeq.range(0,100_000).toList());
+    }
+}
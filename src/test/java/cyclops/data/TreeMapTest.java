@@ -1,9 +1,15 @@
 package cyclops.data;
 
 import cyclops.companion.PersistentMapXs;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Test;
 
 import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
 
 /**
  * Created by johnmcclean on 02/09/2017.
@@ -21,4 +27,15 @@ public class TreeMapTest {
 
         System.out.println(map.put(10,"boo!").elementAt(10).orElse(null));
     }
+    @Test
+    public void spliteratorSplitsInOrder(){
+        TreeMap<Integer,Integer> map = TreeMap.empty(Comparator.naturalOrder());
+        for(int i=1000;i>0;i--){
+            map = map.put(i,i);
+        }
+        assertThat(StreamSupport.stream(map.spliterator(),true).map(t->t._1()).collect(Collectors.toList()),
+                   equalTo(ReactiveSeq.range(1,1001).toList()));
+        assertThat(map.stream().map(t->t._1()).toList(),equalTo(ReactiveSeq.range(1,1001).toList()));
+    }
+
 }
\ No newline at end of file
@@ -6,10 +6,14 @@ import cyclops.companion.Monoids;
 import cyclops.control.Option;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.basetests.BaseImmutableSortedSetTest;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -98,4 +102,15 @@ public class TreeSetTest extends BaseImmutableSortedSetTest{
 
     }
 
+    @Test
+    public void spliteratorSplitsInOrder(){
+        TreeSet<Integer> set = TreeSet.empty(Comparator.naturalOrder());
+        for(int i=1000;i>0;i--){
+            set = set.plus(i);
+        }
+        assertThat(set.spliterator().hasCharacteristics(Spliterator.SORTED),equalTo(true));
+        assertThat(StreamSupport.stream(set.spliterator(),true).collect(Collectors.toList()),
+                   equalTo(ReactiveSeq.range(1,1001).toList()));
+    }
+
 }
@@ -4,13 +4,16 @@ import cyclops.data.base.BAMT;
 import cyclops.data.tuple.Tuple2;
 import cyclops.control.Option;
 import cyclops.data.basetests.BaseImmutableListTest;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
@@ -232,4 +235,75 @@ public class VectorTest extends BaseImmutableListTest {
 
 
 
+    @Test
+    public void transientVector3Pow(){
+        int p  = Double.valueOf(Math.pow(2,15)).intValue()+17;
+        Vector.TransientVector<Integer> builder = Vector.transientVector();
+        for(int i=0;i<p;i++){
+            builder.append(i);
+        }
+        Vector<Integer> ints = builder.persistent();
+        assertThat(ints.size(),equalTo(p));
+        for(int i=0;i<p;i++){
+            assertThat(ints.get(i),equalTo(Option.some(i)));
+        }
+        assertThat(ints.plus(-1).get(p),equalTo(Option.some(-1)));
+    }
+    @Test
+    public void transientVectorMatchesPlus(){
+        for(int p : new int[]{0,1,31,32,33,64,1024,1025,1056,2000,32*1024+33}){
+            Vector<Integer> plus = Vector.empty();
+            for(int i=0;i<p;i++){
+                plus = plus.plus(i);
+            }
+            Vector<Integer> bulk = Vector.fromStream(ReactiveSeq.range(0,p));
+            assertThat(bulk.size(),equalTo(p));
+            assertThat(bulk,equalTo(plus));
+            assertThat(bulk.plus(p).get(p),equalTo(Option.some(p)));
+        }
+    }
+    @Test
+    public void transientDoesNotModifySource(){
+        for(int p : new int[]{5,32,40,1024,1030,1060}){
+            Vector<Integer> source = Vector.fromStream(ReactiveSeq.range(0,p));
+            Vector<Integer> larger = source.asTransient()
+                                           .appendAll(ReactiveSeq.range(p,p+2000))
+                                           .persistent();
+
+            assertThat(source.size(),equalTo(p));
+            assertThat(source,equalTo(Vector.fromStream(ReactiveSeq.range(0,p))));
+            assertThat(larger.size(),equalTo(p+2000));
+            for(int i=0;i<p+2000;i++){
+                assertThat(larger.get(i),equalTo(Option.some(i)));
+            }
+            assertThat(source.appendAll(ReactiveSeq.range(p,p+10)),equalTo(Vector.fromStream(ReactiveSeq.range(0,p+10))));
+        }
+    }
+    @Test(expected = IllegalStateException.class)
+    public void transientUsedAfterPersistent(){
+        Vector.TransientVector<Integer> builder = Vector.transientVector();
+        builder.append(1);
+        builder.persistent();
+        builder.append(2);
+    }
+
+    @Test
+    public void spliteratorIsSizedAndSplits(){
+        for(int size : new int[]{0,1,31,32,33,1000,40_000}) {
+            Vector<Integer> v = Vector.range(0, size);
+            assertThat(v.spliterator().estimateSize(), equalTo((long) size));
+            assertThat(StreamSupport.stream(v.spliterator(), true).collect(Collectors.toList()),
+                       equalTo(ReactiveSeq.range(0, size).toList()));
+            assertThat(v.stream().foldParallel(s -> s.mapToLong(i -> i).sum()), equalTo((long) size * (size - 1) / 2));
+        }
+    }
+    @Test
+    public void dropSizes(){
+        Vector<Integer> v = Vector.range(0,100);
+        assertThat(v.drop(10).size(),equalTo(90));
+        assertThat(v.dropRight(10).size(),equalTo(90));
+        assertThat(v.dropRight(10),equalTo(Vector.range(0,90)));
+        assertThat(v.dropRight(50),equalTo(Vector.range(0,50)));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+import cyclops.data.base.CHAMP.Node;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.*;
+
+public class CHAMPTest {
+
+  static final class Collider {
+    final int hash;
+    final int id;
+
+    Collider(int hash, int id) {
+      this.hash = hash;
+      this.id = id;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Collider && ((Collider)o).id==id;
+    }
+  }
+
+  @Test
+  public void empty() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    assertThat(node.size(),equalTo(0));
+    assertThat(node.get(1),equalTo(Option.none()));
+  }
+
+  @Test
+  public void putGetRemove() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<10_000;i++){
+      node = node.put(i,i);
+    }
+    assertThat(node.size(),equalTo(10_000));
+    for(int i=0;i<10_000;i++){
+      assertThat(node.get(i),equalTo(Option.some(i)));
+    }
+    for(int i=0;i<10_000;i+=2){
+      node = node.minus(i);
+    }
+    assertThat(node.size(),equalTo(5_000));
+    assertFalse(node.containsKey(2));
+    assertTrue(node.containsKey(3));
+  }
+
+  @Test
+  public void collisions() throws Exception {
+    Node<Collider, Integer> node = CHAMP.<Collider, Integer>empty();
+    for(int i=0;i<100;i++){
+      node = node.put(new Collider(i%3,i),i);
+    }
+    assertThat(node.size(),equalTo(100));
+    assertThat(node.getOrElse(new Collider(1,49),-1),equalTo(49));
+    node = node.put(new Collider(1,49),-49);
+    assertThat(node.getOrElse(new Collider(1,49),-1),equalTo(-49));
+    for(int i=0;i<99;i++){
+      node = node.minus(new Collider(i%3,i));
+    }
+    assertThat(node.size(),equalTo(1));
+    assertThat(node,equalTo(CHAMP.<Collider,Integer>empty().put(new Collider(0,99),99)));
+  }
+
+  @Test
+  public void deletionIsCanonical() throws Exception {
+    Random random = new Random(0);
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    Map<Integer,Integer> expected = new java.util.HashMap<>();
+    for(int i=0;i<5_000;i++){
+      int key = random.nextInt(2_000);
+      if(random.nextBoolean()){
+        node = node.put(key,i);
+        expected.put(key,i);
+      }else{
+        node = node.minus(key);
+        expected.remove(key);
+      }
+    }
+    Node<Integer, Integer> fresh = CHAMP.<Integer, Integer>empty();
+    for(Map.Entry<Integer,Integer> e : expected.entrySet()){
+      fresh = fresh.put(e.getKey(),e.getValue());
+    }
+    assertThat(node,equalTo(fresh));
+    assertThat(node.hashCode(),equalTo(fresh.hashCode()));
+  }
+
+  @Test
+  public void builderMatchesPuts() throws Exception {
+    CHAMP.Builder<Collider, Integer> builder = CHAMP.builder();
+    Node<Collider, Integer> node = CHAMP.<Collider, Integer>empty();
+    for(int i=0;i<1_000;i++){
+      int id = i%500;
+      Collider key = new Collider(id%7==0 ? 42 : id*31, id);
+      builder.put(key,i);
+      node = node.put(key,i);
+    }
+    assertThat(builder.build(),equalTo(node));
+  }
+
+  @Test
+  public void setOperations() throws Exception {
+    CHAMP.Builder<Integer, Integer> evens = CHAMP.builder();
+    CHAMP.Builder<Integer, Integer> threes = CHAMP.builder();
+    for(int i=0;i<3_000;i++){
+      if(i%2==0)
+        evens.put(i,i);
+      if(i%3==0)
+        threes.put(i,-i);
+    }
+    Node<Integer, Integer> a = evens.build();
+    Node<Integer, Integer> b = threes.build();
+    assertThat(CHAMP.union(a,b).size(),equalTo(2_000));
+    assertThat(CHAMP.union(a,b).getOrElse(6,0),equalTo(-6));
+    assertThat(CHAMP.union(a,b,(x,y)->x).getOrElse(6,0),equalTo(6));
+    assertThat(CHAMP.intersection(a,b).size(),equalTo(500));
+    assertThat(CHAMP.difference(a,b).size(),equalTo(1_000));
+    assertTrue(CHAMP.union(a,a)==a);
+    assertTrue(CHAMP.difference(a,CHAMP.empty())==a);
+  }
+
+  @Test
+  public void spliterator() throws Exception {
+    Node<Integer, Integer> node = CHAMP.<Integer, Integer>empty();
+    for(int i=0;i<10_000;i++){
+      node = node.put(i,i);
+    }
+    assertThat(new CHAMP.NodeSpliterator<>(node).estimateSize(),equalTo(10_000L));
+    assertThat(StreamSupport.stream(new CHAMP.NodeSpliterator<>(node),true).mapToLong(t->t._1()).sum(),equalTo(49_995_000L));
+  }
+}
@@ -0,0 +1,111 @@
+package cyclops.function;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+
+public class BoundedCacheTest {
+
+    @Test
+    public void cachesResults(){
+        AtomicInteger called = new AtomicInteger(0);
+        BoundedCache<Integer> cache = BoundedCache.lru(10);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i->i+called.incrementAndGet(),cache);
+
+        assertThat(fn.apply(1),equalTo(2));
+        assertThat(fn.apply(1),equalTo(2));
+        assertThat(called.get(),equalTo(1));
+        assertThat(cache.stats().getHits(),equalTo(1L));
+        assertThat(cache.stats().getMisses(),equalTo(1L));
+    }
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed(){
+        AtomicInteger called = new AtomicInteger(0);
+        BoundedCache<Integer> cache = BoundedCache.lru(2);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i->{called.incrementAndGet(); return i;},cache);
+
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(1);
+        fn.apply(3);
+        assertThat(cache.size(),equalTo(2L));
+        assertThat(cache.stats().getEvictions(),equalTo(1L));
+
+        fn.apply(1);
+        assertThat(called.get(),equalTo(3));
+        fn.apply(2);
+        assertThat(called.get(),equalTo(4));
+    }
+
+    @Test
+    public void lfuEvictsLeastFrequentlyUsed(){
+        AtomicInteger called = new AtomicInteger(0);
+        BoundedCache<Integer> cache = BoundedCache.lfu(2);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i->{called.incrementAndGet(); return i;},cache);
+
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(3);
+        fn.apply(1);
+        assertThat(called.get(),equalTo(3));
+    }
+
+    @Test
+    public void tinyLfuRejectsOneHitWonders(){
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(1);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i->i,cache);
+
+        for(int i=0;i<10;i++)
+            fn.apply(1);
+        fn.apply(2);
+        fn.apply(1);
+        assertThat(cache.stats().getEvictions(),equalTo(0L));
+        assertThat(cache.stats().getHits(),equalTo(10L));
+    }
+
+    @Test
+    public void sizeIsBounded(){
+        BoundedCache<Integer> cache = BoundedCache.lru(100);
+        Function2<Integer,Integer,Integer> fn = Memoize.memoizeBiFunction((a,b)->a+b,cache);
+
+        for(int i=0;i<10_000;i++)
+            assertThat(fn.apply(i,i),equalTo(i+i));
+        assertThat(cache.size(),lessThanOrEqualTo(100L));
+    }
+
+    @Test
+    public void maximumSizeOverloads(){
+        AtomicInteger called = new AtomicInteger(0);
+        Function3<Integer,Integer,Integer,Integer> fn3 = Memoize.memoizeTriFunction((a,b,c)->a+b+c+called.incrementAndGet(),10);
+        Function4<Integer,Integer,Integer,Integer,Integer> fn4 = Memoize.memoizeQuadFunction((a,b,c,d)->a+b+c+d+called.incrementAndGet(),10);
+
+        assertThat(fn3.apply(1,2,3),equalTo(7));
+        assertThat(fn3.apply(1,2,3),equalTo(7));
+        assertThat(fn4.apply(1,2,3,4),equalTo(12));
+        assertThat(fn4.apply(1,2,3,4),equalTo(12));
+        assertThat(called.get(),equalTo(2));
+    }
+
+    @Test
+    public void expiresAfterWrite() throws InterruptedException {
+        AtomicInteger called = new AtomicInteger(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>lru(10)
+                                                  .withExpireAfterWrite(10, TimeUnit.MILLISECONDS);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i->called.incrementAndGet(),cache);
+
+        assertThat(fn.apply(1),equalTo(1));
+        assertThat(fn.apply(1),equalTo(1));
+        Thread.sleep(20);
+        assertThat(fn.apply(1),equalTo(2));
+    }
+
+}
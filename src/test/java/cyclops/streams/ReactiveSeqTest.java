@@ -628,6 +628,33 @@ public class ReactiveSeqTest {
                     .count(), equalTo(1000L));
         }
     }
+    @Test
+    public void foldParallelSplittableSources(){
+        List<Integer> expected = IntStream.range(0, 10_000).map(i -> i * 2).boxed().collect(Collectors.toList());
+        Integer[] array = IntStream.range(0, 10_000).boxed().toArray(Integer[]::new);
+
+        assertThat(ReactiveSeq.range(0, 10_000).foldParallel(s -> s.map(i -> i * 2).collect(Collectors.toList())), equalTo(expected));
+        assertThat(ReactiveSeq.rangeLong(0, 10_000).foldParallel(s -> s.mapToLong(i -> i).sum()), equalTo(49995000L));
+        assertThat(ReactiveSeq.of(array).foldParallel(s -> s.map(i -> i * 2).collect(Collectors.toList())), equalTo(expected));
+        assertThat(ReactiveSeq.fromList(Arrays.asList(array)).foldParallel(s -> s.map(i -> i * 2).collect(Collectors.toList())), equalTo(expected));
+        assertThat(cyclops.data.Vector.of(array).stream().foldParallel(s -> s.map(i -> i * 2).collect(Collectors.toList())), equalTo(expected));
+        assertThat(cyclops.data.Seq.of(array).stream().foldParallel(s -> s.map(i -> i * 2).collect(Collectors.toList())), equalTo(expected));
+    }
+    @Test
+    public void foldParallelUnsizedSource(){
+        List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        assertThat(ReactiveSeq.iterate(0, i -> i + 1).limit(10_000).foldParallel(s -> s.collect(Collectors.toList())), equalTo(expected));
+        assertThat(ReactiveSeq.range(0, 10_000).filter(i -> i % 2 == 0).foldParallel(s -> s.count()), equalTo(5_000L));
+    }
+    @Test
+    public void foldParallelIsReplayable(){
+        ReactiveSeq<Integer> range = ReactiveSeq.range(0, 1000);
+
+        assertThat(range.foldParallel(s -> s.count()), equalTo(1000L));
+        assertThat(range.foldParallel(s -> s.count()), equalTo(1000L));
+        assertThat(range.count(), equalTo(1000L));
+    }
 
     @Test
     public void testLimit(){